@@ -33,6 +33,7 @@ export const options = {
             ],
         },
     },
+    summaryTrendStats: ['avg', 'p(95)', 'p(99)', 'max'],  // 가상 스레드 A/B 비교용 p99 출력
     thresholds: {
         http_req_duration: ['p(99)<5000'],  // 99% 요청이 5초 이내
         http_req_failed: ['rate<0.2'],       // 에러율 20% 미만 (스파이크는 관대하게)
@@ -3,6 +3,7 @@ package com.festin.app.booth.adapter.in.initializer;
 import com.festin.app.booth.application.port.out.BoothCachePort;
 import com.festin.app.booth.application.port.out.BoothRepositoryPort;
 import com.festin.app.booth.application.port.out.dto.BoothInfo;
+import com.festin.app.booth.domain.model.BoothStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -16,6 +17,12 @@ import java.util.List;
  *
  * Redis가 primary store이므로 서버 재시작 시
  * DB의 OPEN 부스를 Redis에 미리 적재한다.
+ *
+ * 부스별 개별 명령(6회 × N) 대신 청크 Pipeline으로 일괄 적재
+ * (소요 시간은 festin.booth.cache.bulk_load 메트릭으로 노출)
+ *
+ * 대학별 부스 ID 목록은 운영 종료 부스까지 포함해야 하므로 전체 부스로 적재
+ * (DB 조회는 전체 부스 1회, 메타 HASH 저장과 카탈로그 무효화도 1회)
  */
 @Slf4j
 @Component
@@ -27,22 +34,21 @@ public class BoothCacheInitializer implements ApplicationRunner {
 
     @Override
     public void run(ApplicationArguments args) {
-        List<BoothInfo> openBooths = boothRepositoryPort.findAllOpenBoothInfo();
+        List<BoothInfo> allBooths = boothRepositoryPort.findAllBoothInfo();
 
-        if (openBooths.isEmpty()) {
-            log.warn("[BoothCacheInitializer] OPEN 상태 부스 없음 - Redis 초기화 생략");
+        if (allBooths.isEmpty()) {
+            log.warn("[BoothCacheInitializer] 부스 없음 - Redis 초기화 생략");
             return;
         }
 
-        for (BoothInfo info : openBooths) {
-            boothCachePort.addBoothId(info.id());
-            boothCachePort.setName(info.id(), info.name());
-            boothCachePort.setDescription(info.id(), info.description());
-            boothCachePort.setUniversityName(info.id(), info.universityName());
-            boothCachePort.setStatus(info.id(), info.status());
-            boothCachePort.setCapacity(info.id(), info.capacity());
-        }
+        long openCount = allBooths.stream()
+                .filter(info -> info.status() == BoothStatus.OPEN)
+                .count();
+
+        long startTime = System.currentTimeMillis();
+        boothCachePort.bulkLoadAll(allBooths);
 
-        log.info("[BoothCacheInitializer] Redis 초기화 완료 - {} 개 부스 적재", openBooths.size());
+        log.info("[BoothCacheInitializer] Redis 초기화 완료 - OPEN {} 개 부스 적재, 대학별 목록 {} 개 부스, 소요: {}ms",
+                openCount, allBooths.size(), System.currentTimeMillis() - startTime);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package com.festin.app.booth.adapter.in.web;
 
 import com.festin.app.booth.adapter.in.web.dto.BoothDetailResponse;
-import com.festin.app.booth.adapter.in.web.dto.BoothListResponse;
 import com.festin.app.booth.adapter.in.web.dto.BoothStatusResponse;
 import com.festin.app.booth.adapter.in.web.dto.CompleteResponse;
 import com.festin.app.booth.adapter.in.web.dto.EntranceResponse;
@@ -9,7 +8,6 @@ import com.festin.app.booth.application.port.in.GetBoothDetailUseCase;
 import com.festin.app.booth.application.port.in.GetBoothListUseCase;
 import com.festin.app.booth.application.port.in.GetBoothStatusUseCase;
 import com.festin.app.booth.application.port.in.dto.BoothDetailResult;
-import com.festin.app.booth.application.port.in.dto.BoothListResult;
 import com.festin.app.booth.application.port.in.dto.BoothStatusResult;
 import com.festin.app.waiting.adapter.in.web.dto.CalledListResponse;
 import com.festin.app.waiting.application.port.in.CompleteExperienceUseCase;
@@ -19,9 +17,12 @@ import com.festin.app.waiting.application.port.in.result.CalledListResult;
 import com.festin.app.waiting.application.port.in.result.CompleteResult;
 import com.festin.app.waiting.application.port.in.result.EntranceResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 /**
  * 부스 관리 Controller
  *
@@ -44,21 +45,33 @@ public class BoothController {
     private final GetCalledListUseCase getCalledListUseCase;
     private final ConfirmEntranceUseCase confirmEntranceUseCase;
     private final CompleteExperienceUseCase completeExperienceUseCase;
+    private final BoothListSnapshotRefresher boothListSnapshotRefresher;
 
     /**
      * 부스 목록 조회
      *
      * GET /api/v1/booths?universityId={universityId}
      *
+     * 전체 조회는 백그라운드에서 미리 직렬화된 스냅샷을 그대로 응답
+     * - ETag 포함, If-None-Match 일치 시 304 Not Modified (HttpEntityMethodProcessor가 처리)
+     *
      * @param universityId 대학 ID (Query Parameter, optional)
-     * @return 200 OK - 부스 목록
+     * @return 200 OK - 부스 목록 (BoothListResponse JSON), 304 Not Modified
      */
     @GetMapping
-    public ResponseEntity<BoothListResponse> getBoothList(
+    public ResponseEntity<byte[]> getBoothList(
             @RequestParam(required = false) Long universityId
     ) {
-        BoothListResult result = getBoothListUseCase.getBoothList(universityId);
-        return ResponseEntity.ok(BoothListResponse.from(result));
+        Optional<BoothListSnapshot> cached = universityId == null
+                ? boothListSnapshotRefresher.current()
+                : Optional.empty();
+        BoothListSnapshot snapshot = cached.orElseGet(() ->
+                boothListSnapshotRefresher.serialize(getBoothListUseCase.getBoothList(universityId)));
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
     /**
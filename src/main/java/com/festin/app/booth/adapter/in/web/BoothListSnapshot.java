@@ -0,0 +1,13 @@
+package com.festin.app.booth.adapter.in.web;
+
+/**
+ * 직렬화된 부스 목록 스냅샷
+ *
+ * @param body BoothListResponse JSON 바이트 (그대로 응답 본문으로 사용)
+ * @param etag 본문 SHA-256 기반 strong ETag (따옴표 포함)
+ */
+public record BoothListSnapshot(
+        byte[] body,
+        String etag
+) {
+}
@@ -0,0 +1,96 @@
+package com.festin.app.booth.adapter.in.web;
+
+import com.festin.app.booth.adapter.in.web.dto.BoothListResponse;
+import com.festin.app.booth.application.port.in.GetBoothListUseCase;
+import com.festin.app.booth.application.port.in.dto.BoothListResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 부스 목록 스냅샷 갱신기
+ *
+ * 문제:
+ * - GET /api/v1/booths는 가장 많이 호출되는 공개 API
+ * - 매 요청마다 SMEMBERS + 정렬, Pipeline 2회, 예상 대기 시간 계산, JSON 직렬화 반복
+ *
+ * 해결:
+ * - 백그라운드에서 주기적으로(기본 300ms) 전체 목록을 재계산하여 직렬화된 바이트 + ETag로 보관
+ * - Controller는 보관된 바이트를 그대로 응답 (If-None-Match 일치 시 304)
+ * - 내용이 바뀌지 않았으면 스냅샷 교체 없음 (ETag 유지)
+ *
+ * 정합성:
+ * - 최대 갱신 주기만큼 지연된 목록을 응답할 수 있음
+ * - 대학별 필터 조회는 스냅샷을 사용하지 않음
+ *
+ * 비활성화: festin.booth.list-snapshot.enabled=false (요청마다 계산)
+ */
+@Slf4j
+@Component
+public class BoothListSnapshotRefresher {
+
+    private final GetBoothListUseCase getBoothListUseCase;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private volatile BoothListSnapshot current;
+
+    public BoothListSnapshotRefresher(
+            GetBoothListUseCase getBoothListUseCase,
+            ObjectMapper objectMapper,
+            @Value("${festin.booth.list-snapshot.enabled:true}") boolean enabled
+    ) {
+        this.getBoothListUseCase = getBoothListUseCase;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 현재 스냅샷 (비활성화 또는 최초 갱신 전이면 empty)
+     */
+    public Optional<BoothListSnapshot> current() {
+        return enabled ? Optional.ofNullable(current) : Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${festin.booth.list-snapshot.refresh-ms:300}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            BoothListSnapshot refreshed = serialize(getBoothListUseCase.getBoothList(null));
+            BoothListSnapshot previous = current;
+            if (previous == null || !previous.etag().equals(refreshed.etag())) {
+                current = refreshed;
+            }
+        } catch (Exception e) {
+            // 갱신 실패 시 이전 스냅샷 유지
+            log.error("[부스 목록 스냅샷] 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 조회 결과 → 직렬화된 스냅샷
+     */
+    public BoothListSnapshot serialize(BoothListResult result) {
+        byte[] body = objectMapper.writeValueAsBytes(BoothListResponse.from(result));
+        return new BoothListSnapshot(body, etagOf(body));
+    }
+
+    private String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+}
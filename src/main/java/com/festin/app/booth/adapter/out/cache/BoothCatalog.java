@@ -0,0 +1,117 @@
+package com.festin.app.booth.adapter.out.cache;
+
+import com.festin.app.booth.application.port.out.BoothCachePort.BoothMeta;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 부스 카탈로그 스냅샷 (불변)
+ *
+ * 책임:
+ * - 부스 메타 정보(이름, 정원, 상태 등)를 JVM 메모리에 보관
+ * - 거의 변하지 않는 정보를 Redis 왕복 없이 조회
+ *
+ * 구조:
+ * - 정렬된 long[] (primitive 부스 ID) + 같은 인덱스의 Entry[]
+ * - 이진 탐색으로 조회 (박싱 없음)
+ * - 변경 시 새 스냅샷을 만들어 교체 (copy-on-write)
+ *   → 읽기 스레드는 잠금 없이 항상 일관된 스냅샷을 봄
+ *
+ * 버전:
+ * - 항목 제거(무효화) 시마다 증가
+ * - Redis 조회 전 버전을 기억해 두고, 적재 시점에 버전이 같을 때만 반영
+ *   → 조회 도중 무효화된 오래된 값이 다시 들어오는 것을 방지
+ */
+final class BoothCatalog {
+
+    static final BoothCatalog EMPTY = new BoothCatalog(new long[0], new Entry[0], 0L);
+
+    private final long[] ids;
+    private final Entry[] entries;
+    private final long version;
+
+    private BoothCatalog(long[] ids, Entry[] entries, long version) {
+        this.ids = ids;
+        this.entries = entries;
+        this.version = version;
+    }
+
+    /**
+     * 카탈로그 항목
+     *
+     * @param meta 부스 메타 정보
+     * @param loadedAtMillis Redis에서 읽어온 시각 (최대 유지 시간 판단용)
+     */
+    record Entry(BoothMeta meta, long loadedAtMillis) {
+    }
+
+    Entry get(long boothId) {
+        int index = Arrays.binarySearch(ids, boothId);
+        return index >= 0 ? entries[index] : null;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * 항목 추가/교체한 새 스냅샷
+     */
+    BoothCatalog with(Collection<Entry> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+
+        long[] newIds = Arrays.copyOf(ids, ids.length + added.size());
+        Entry[] newEntries = Arrays.copyOf(entries, entries.length + added.size());
+        int size = ids.length;
+
+        for (Entry entry : added) {
+            long boothId = entry.meta().boothId();
+            int index = Arrays.binarySearch(newIds, 0, size, boothId);
+            if (index >= 0) {
+                newEntries[index] = entry;
+                continue;
+            }
+
+            int insertAt = -index - 1;
+            System.arraycopy(newIds, insertAt, newIds, insertAt + 1, size - insertAt);
+            System.arraycopy(newEntries, insertAt, newEntries, insertAt + 1, size - insertAt);
+            newIds[insertAt] = boothId;
+            newEntries[insertAt] = entry;
+            size++;
+        }
+
+        return new BoothCatalog(Arrays.copyOf(newIds, size), Arrays.copyOf(newEntries, size), version);
+    }
+
+    /**
+     * 전체 항목 제거한 새 스냅샷
+     */
+    BoothCatalog cleared() {
+        return new BoothCatalog(new long[0], new Entry[0], version + 1);
+    }
+
+    /**
+     * 항목 제거한 새 스냅샷
+     */
+    BoothCatalog without(long boothId) {
+        int index = Arrays.binarySearch(ids, boothId);
+        if (index < 0) {
+            return new BoothCatalog(ids, entries, version + 1);
+        }
+
+        long[] newIds = new long[ids.length - 1];
+        Entry[] newEntries = new Entry[entries.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, index);
+        System.arraycopy(entries, 0, newEntries, 0, index);
+        System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+        System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+        return new BoothCatalog(newIds, newEntries, version + 1);
+    }
+}
@@ -0,0 +1,139 @@
+package com.festin.app.booth.adapter.out.cache;
+
+import com.festin.app.booth.application.port.out.BoothCachePort.BoothMeta;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 부스 카탈로그 캐시
+ *
+ * 책임:
+ * - BoothCatalog 스냅샷을 원자적으로 교체 (AtomicReference)
+ * - 부스 메타 변경 시 Redis Pub/Sub으로 모든 인스턴스에 무효화 전파
+ *
+ * 무효화 흐름:
+ * 1. RedisBoothAdapter.setStatus/setCapacity/setName 등 → Redis HSET
+ * 2. 로컬 스냅샷에서 즉시 제거 + booth:catalog:invalidate 채널에 boothId 발행
+ * 3. 다른 인스턴스도 메시지 수신 시 제거 → 다음 조회에서 Redis로부터 재적재
+ * - 일괄 적재(bulkLoad) 후에는 부스별 메시지 대신 "*" 1건으로 전체 무효화
+ *
+ * 안전장치:
+ * - Pub/Sub은 유실 가능 (연결 끊김 등) → 항목은 최대 유지 시간이 지나면 miss로 취급
+ */
+@Slf4j
+@Component
+public class BoothCatalogCache implements MessageListener {
+
+    static final String INVALIDATE_CHANNEL = "booth:catalog:invalidate";
+    private static final String INVALIDATE_ALL = "*";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long maxAgeMillis;
+
+    private final AtomicReference<BoothCatalog> snapshot = new AtomicReference<>(BoothCatalog.EMPTY);
+
+    public BoothCatalogCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${festin.booth.catalog.max-age-ms:30000}") long maxAgeMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 카탈로그 조회 (최대 유지 시간 초과 시 empty)
+     */
+    public Optional<BoothMeta> get(long boothId) {
+        BoothCatalog.Entry entry = snapshot.get().get(boothId);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAtMillis() > maxAgeMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.meta());
+    }
+
+    /**
+     * 현재 스냅샷 버전 (Redis 조회 직전에 기억)
+     */
+    public long version() {
+        return snapshot.get().version();
+    }
+
+    /**
+     * Redis에서 읽어온 메타 정보 적재
+     *
+     * 조회 시작 이후 무효화가 있었다면(버전 변경) 적재하지 않음
+     *
+     * @param metas 메타 정보 목록
+     * @param readVersion Redis 조회 직전의 스냅샷 버전
+     */
+    public void putAll(Collection<BoothMeta> metas, long readVersion) {
+        if (metas.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<BoothCatalog.Entry> entries = metas.stream()
+                .map(meta -> new BoothCatalog.Entry(meta, now))
+                .toList();
+        snapshot.updateAndGet(current -> current.version() == readVersion ? current.with(entries) : current);
+    }
+
+    /**
+     * 로컬 제거 + 다른 인스턴스에 무효화 전파
+     */
+    public void invalidate(long boothId) {
+        evict(boothId);
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(boothId));
+    }
+
+    /**
+     * 전체 무효화 (일괄 적재 후)
+     */
+    public void invalidateAll() {
+        clear();
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, INVALIDATE_ALL);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (INVALIDATE_ALL.equals(body)) {
+            clear();
+            return;
+        }
+        try {
+            evict(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("[Booth Catalog] 잘못된 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    private void evict(long boothId) {
+        snapshot.updateAndGet(current -> current.without(boothId));
+    }
+
+    private void clear() {
+        snapshot.updateAndGet(BoothCatalog::cleared);
+    }
+}
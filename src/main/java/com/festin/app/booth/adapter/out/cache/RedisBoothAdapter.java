@@ -1,18 +1,25 @@
 package com.festin.app.booth.adapter.out.cache;
 
 import com.festin.app.booth.application.port.out.BoothCachePort;
+import com.festin.app.booth.application.port.out.dto.BoothInfo;
 import com.festin.app.booth.domain.model.Booth;
 import com.festin.app.booth.domain.model.BoothStatus;
+import com.festin.app.common.redis.RedisReadCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis Booth Adapter
@@ -26,12 +33,34 @@ import java.util.Set;
  *   - name: 부스 이름
  *   - capacity: 최대 정원
  *   - status: 운영 상태 (OPEN/CLOSED)
+ *   - universityId: 대학 ID
+ * - booth:ids (SET) - 전체 부스 ID 목록
+ * - booth:university:{universityId} (SET) - 대학별 부스 ID 목록 (대학 필터 조회용 보조 인덱스, 운영 상태 무관)
+ *
+ * 부스 카탈로그 (BoothCatalogCache):
+ * - getBooth / getName / getBoothMetas는 JVM 메모리 스냅샷 우선 조회 (Redis 왕복 0회)
+ * - miss 시 HGETALL 1회로 적재
+ * - 메타 정보 변경(set*) 시 Pub/Sub으로 모든 인스턴스에 무효화 전파
+ *
+ * 단건 HGET / GET 조회는 RedisReadCoalescer가 활성화되어 있으면 다른 요청과 묶어 Pipeline으로 전송
  */
 @Component
 @RequiredArgsConstructor
 public class RedisBoothAdapter implements BoothCachePort {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final BoothCatalogCache boothCatalogCache;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요청 간 읽기 명령 묶음 처리 (festin.redis.read-coalescer.enabled=true일 때만 존재)
+     */
+    private final Optional<RedisReadCoalescer> readCoalescer;
+
+    /**
+     * 일괄 적재 시 Pipeline 1회당 부스 수
+     */
+    private static final int BULK_LOAD_CHUNK_SIZE = 500;
 
     private static final String BOOTH_KEY_PREFIX = "booth:";
     private static final String CURRENT_KEY_SUFFIX = ":current";
@@ -42,22 +71,17 @@ public class RedisBoothAdapter implements BoothCachePort {
     private static final String FIELD_CAPACITY = "capacity";
     private static final String FIELD_STATUS = "status";
     private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_UNIVERSITY_ID = "universityId";
     private static final String FIELD_UNIVERSITY_NAME = "universityName";
 
     // 부스 ID 목록 관리용 키
     private static final String BOOTH_IDS_KEY = "booth:ids";
+    private static final String UNIVERSITY_BOOTH_IDS_KEY_PREFIX = "booth:university:";
 
     @Override
     public Optional<Booth> getBooth(Long boothId) {
-        Optional<BoothStatus> status = getStatus(boothId);
-        Optional<Integer> capacity = getCapacity(boothId);
-        Optional<String> name = getName(boothId);
-
-        if (status.isEmpty() || capacity.isEmpty() || name.isEmpty()) {
-            return Optional.empty();
-        }
-
-        return Optional.of(Booth.of(boothId, name.get(), capacity.get(), status.get()));
+        return getCatalogMeta(boothId)
+                .map(meta -> Booth.of(boothId, meta.name(), meta.capacity(), meta.status()));
     }
 
     @Override
@@ -77,7 +101,9 @@ public class RedisBoothAdapter implements BoothCachePort {
     @Override
     public int getCurrentCount(Long boothId) {
         String key = BOOTH_KEY_PREFIX + boothId + CURRENT_KEY_SUFFIX;
-        String value = redisTemplate.opsForValue().get(key);
+        String value = readCoalescer
+                .map(coalescer -> coalescer.get(key))
+                .orElseGet(() -> redisTemplate.opsForValue().get(key));
         return value != null ? Integer.parseInt(value) : 0;
     }
 
@@ -85,12 +111,13 @@ public class RedisBoothAdapter implements BoothCachePort {
     public void setStatus(Long boothId, BoothStatus status) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
         redisTemplate.opsForHash().put(key, FIELD_STATUS, status.name());
+        boothCatalogCache.invalidate(boothId);
     }
 
     @Override
     public Optional<BoothStatus> getStatus(Long boothId) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
-        Object value = redisTemplate.opsForHash().get(key, FIELD_STATUS);
+        Object value = hGet(key, FIELD_STATUS);
 
         if (value == null) {
             return Optional.empty();
@@ -103,12 +130,13 @@ public class RedisBoothAdapter implements BoothCachePort {
     public void setCapacity(Long boothId, int capacity) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
         redisTemplate.opsForHash().put(key, FIELD_CAPACITY, String.valueOf(capacity));
+        boothCatalogCache.invalidate(boothId);
     }
 
     @Override
     public Optional<Integer> getCapacity(Long boothId) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
-        Object value = redisTemplate.opsForHash().get(key, FIELD_CAPACITY);
+        Object value = hGet(key, FIELD_CAPACITY);
 
         if (value == null) {
             return Optional.empty();
@@ -121,30 +149,25 @@ public class RedisBoothAdapter implements BoothCachePort {
     public void setName(Long boothId, String name) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
         redisTemplate.opsForHash().put(key, FIELD_NAME, name);
+        boothCatalogCache.invalidate(boothId);
     }
 
     @Override
     public Optional<String> getName(Long boothId) {
-        String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
-        Object value = redisTemplate.opsForHash().get(key, FIELD_NAME);
-
-        if (value == null) {
-            return Optional.empty();
-        }
-
-        return Optional.of(value.toString());
+        return getCatalogMeta(boothId).map(BoothMeta::name);
     }
 
     @Override
     public void setDescription(Long boothId, String description) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
         redisTemplate.opsForHash().put(key, FIELD_DESCRIPTION, description);
+        boothCatalogCache.invalidate(boothId);
     }
 
     @Override
     public Optional<String> getDescription(Long boothId) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
-        Object value = redisTemplate.opsForHash().get(key, FIELD_DESCRIPTION);
+        Object value = hGet(key, FIELD_DESCRIPTION);
 
         if (value == null) {
             return Optional.empty();
@@ -157,12 +180,13 @@ public class RedisBoothAdapter implements BoothCachePort {
     public void setUniversityName(Long boothId, String universityName) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
         redisTemplate.opsForHash().put(key, FIELD_UNIVERSITY_NAME, universityName);
+        boothCatalogCache.invalidate(boothId);
     }
 
     @Override
     public Optional<String> getUniversityName(Long boothId) {
         String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
-        Object value = redisTemplate.opsForHash().get(key, FIELD_UNIVERSITY_NAME);
+        Object value = hGet(key, FIELD_UNIVERSITY_NAME);
 
         if (value == null) {
             return Optional.empty();
@@ -177,10 +201,25 @@ public class RedisBoothAdapter implements BoothCachePort {
             return Map.of();
         }
 
-        // Pipeline으로 모든 부스의 메타 정보 한 번에 조회
+        // 1. 카탈로그 스냅샷에서 조회
+        Map<Long, BoothMeta> metaMap = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long boothId : boothIds) {
+            boothCatalogCache.get(boothId).ifPresentOrElse(
+                    meta -> metaMap.put(boothId, meta),
+                    () -> missedIds.add(boothId)
+            );
+        }
+
+        if (missedIds.isEmpty()) {
+            return metaMap;
+        }
+
+        // 2. miss만 Pipeline으로 한 번에 조회
+        long readVersion = boothCatalogCache.version();
         List<Object> results = redisTemplate.executePipelined(
                 (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                    for (Long boothId : boothIds) {
+                    for (Long boothId : missedIds) {
                         byte[] key = (BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX).getBytes();
                         connection.hGetAll(key);
                     }
@@ -188,30 +227,71 @@ public class RedisBoothAdapter implements BoothCachePort {
                 });
 
         // 결과 매핑
-        Map<Long, BoothMeta> metaMap = new HashMap<>();
-        for (int i = 0; i < boothIds.size(); i++) {
-            Long boothId = boothIds.get(i);
+        List<BoothMeta> completeMetas = new ArrayList<>();
+        for (int i = 0; i < missedIds.size(); i++) {
+            Long boothId = missedIds.get(i);
             @SuppressWarnings("unchecked")
             Map<Object, Object> data = (Map<Object, Object>) results.get(i);
 
             if (data != null && !data.isEmpty()) {
-                String name = getStringValue(data, FIELD_NAME);
-                String description = getStringValue(data, FIELD_DESCRIPTION);
-                String universityName = getStringValue(data, FIELD_UNIVERSITY_NAME);
-                String statusStr = getStringValue(data, FIELD_STATUS);
-                String capacityStr = getStringValue(data, FIELD_CAPACITY);
-
-                BoothStatus status = statusStr != null ? BoothStatus.valueOf(statusStr) : null;
-                int capacity = capacityStr != null ? Integer.parseInt(capacityStr) : 0;
-
-                metaMap.put(boothId, new BoothMeta(
-                        boothId, name, description, universityName, status, capacity
-                ));
+                BoothMeta meta = toMeta(boothId, data);
+                metaMap.put(boothId, meta);
+                if (isComplete(data)) {
+                    completeMetas.add(meta);
+                }
             }
         }
+
+        // 3. 카탈로그에 적재
+        boothCatalogCache.putAll(completeMetas, readVersion);
         return metaMap;
     }
 
+    /**
+     * 카탈로그 조회 → miss 시 HGETALL 1회로 적재
+     *
+     * 필수 필드(name, status, capacity)가 모두 있는 경우만 반환
+     */
+    private Optional<BoothMeta> getCatalogMeta(Long boothId) {
+        Optional<BoothMeta> cached = boothCatalogCache.get(boothId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long readVersion = boothCatalogCache.version();
+        String key = BOOTH_KEY_PREFIX + boothId + META_KEY_SUFFIX;
+        Map<Object, Object> data = redisTemplate.opsForHash().entries(key);
+
+        if (!isComplete(data)) {
+            return Optional.empty();
+        }
+
+        BoothMeta meta = toMeta(boothId, data);
+        boothCatalogCache.putAll(List.of(meta), readVersion);
+        return Optional.of(meta);
+    }
+
+    private boolean isComplete(Map<Object, Object> data) {
+        return data.get(FIELD_NAME) != null
+                && data.get(FIELD_STATUS) != null
+                && data.get(FIELD_CAPACITY) != null;
+    }
+
+    private BoothMeta toMeta(Long boothId, Map<Object, Object> data) {
+        String name = getStringValue(data, FIELD_NAME);
+        String description = getStringValue(data, FIELD_DESCRIPTION);
+        String universityIdStr = getStringValue(data, FIELD_UNIVERSITY_ID);
+        String universityName = getStringValue(data, FIELD_UNIVERSITY_NAME);
+        String statusStr = getStringValue(data, FIELD_STATUS);
+        String capacityStr = getStringValue(data, FIELD_CAPACITY);
+
+        Long universityId = universityIdStr != null ? Long.parseLong(universityIdStr) : null;
+        BoothStatus status = statusStr != null ? BoothStatus.valueOf(statusStr) : null;
+        int capacity = capacityStr != null ? Integer.parseInt(capacityStr) : 0;
+
+        return new BoothMeta(boothId, name, description, universityId, universityName, status, capacity);
+    }
+
     private String getStringValue(Map<Object, Object> data, String field) {
         Object value = data.get(field);
         return value != null ? value.toString() : null;
@@ -219,7 +299,16 @@ public class RedisBoothAdapter implements BoothCachePort {
 
     @Override
     public List<Long> getAllBoothIds() {
-        Set<String> ids = redisTemplate.opsForSet().members(BOOTH_IDS_KEY);
+        return getSortedIds(BOOTH_IDS_KEY);
+    }
+
+    @Override
+    public List<Long> getBoothIdsByUniversity(Long universityId) {
+        return getSortedIds(UNIVERSITY_BOOTH_IDS_KEY_PREFIX + universityId);
+    }
+
+    private List<Long> getSortedIds(String key) {
+        Set<String> ids = redisTemplate.opsForSet().members(key);
         if (ids == null || ids.isEmpty()) {
             return List.of();
         }
@@ -233,4 +322,150 @@ public class RedisBoothAdapter implements BoothCachePort {
     public void addBoothId(Long boothId) {
         redisTemplate.opsForSet().add(BOOTH_IDS_KEY, boothId.toString());
     }
+
+    @Override
+    public void bulkLoad(List<BoothInfo> booths) {
+        if (booths == null || booths.isEmpty()) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+
+        // 1. 청크 단위 Pipeline: 부스별 HSET 1회 (필드 매핑)
+        writeMetas(booths);
+
+        // 2. 부스 ID 목록 SADD 1회
+        addBoothIds(booths);
+
+        // 3. 카탈로그 전체 무효화 (Pub/Sub 1건)
+        boothCatalogCache.invalidateAll();
+
+        recordBulkLoad(startTime, booths.size());
+    }
+
+    @Override
+    public void bulkLoadUniversityIndex(List<BoothInfo> booths) {
+        if (booths == null || booths.isEmpty()) {
+            return;
+        }
+
+        // 1. 메타 HASH (운영 종료 부스는 bulkLoad 대상이 아니므로 여기서 적재)
+        writeMetas(booths);
+
+        // 2. 대학별 부스 ID 목록: 대학당 SADD 1회 (Pipeline)
+        addUniversityIndex(booths);
+
+        // 3. 카탈로그 전체 무효화 (Pub/Sub 1건)
+        boothCatalogCache.invalidateAll();
+    }
+
+    @Override
+    public void bulkLoadAll(List<BoothInfo> booths) {
+        if (booths == null || booths.isEmpty()) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+
+        // 1. 전체 부스 메타 HASH 1회 (OPEN 부스도 한 번만 기록)
+        writeMetas(booths);
+
+        // 2. 부스 ID 목록은 OPEN 부스만
+        List<BoothInfo> openBooths = booths.stream()
+                .filter(info -> info.status() == BoothStatus.OPEN)
+                .toList();
+        if (!openBooths.isEmpty()) {
+            addBoothIds(openBooths);
+        }
+
+        // 3. 대학별 부스 ID 목록은 전체 부스
+        addUniversityIndex(booths);
+
+        // 4. 카탈로그 전체 무효화 1회 (Pub/Sub 1건)
+        boothCatalogCache.invalidateAll();
+
+        recordBulkLoad(startTime, booths.size());
+    }
+
+    /**
+     * 부스 ID 목록 SADD 1회
+     */
+    private void addBoothIds(List<BoothInfo> booths) {
+        String[] ids = booths.stream().map(info -> info.id().toString()).toArray(String[]::new);
+        redisTemplate.opsForSet().add(BOOTH_IDS_KEY, ids);
+    }
+
+    /**
+     * 대학별 부스 ID 목록: 대학당 SADD 1회 (Pipeline)
+     */
+    private void addUniversityIndex(List<BoothInfo> booths) {
+        Map<Long, List<String>> idsByUniversity = new HashMap<>();
+        for (BoothInfo info : booths) {
+            if (info.universityId() != null) {
+                idsByUniversity.computeIfAbsent(info.universityId(), id -> new ArrayList<>())
+                        .add(info.id().toString());
+            }
+        }
+        if (!idsByUniversity.isEmpty()) {
+            redisTemplate.executePipelined(
+                    (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
+                        idsByUniversity.forEach((universityId, boothIds) -> connection.setCommands().sAdd(
+                                (UNIVERSITY_BOOTH_IDS_KEY_PREFIX + universityId).getBytes(),
+                                boothIds.stream().map(String::getBytes).toArray(byte[][]::new)));
+                        return null;
+                    });
+        }
+    }
+
+    private void recordBulkLoad(long startTime, int boothCount) {
+        long elapsedNanos = System.nanoTime() - startTime;
+        Timer.builder("festin.booth.cache.bulk_load")
+                .description("부스 캐시 일괄 적재 소요 시간")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("festin.booth.cache.bulk_load.booths").increment(boothCount);
+    }
+
+    /**
+     * 청크 단위 Pipeline으로 메타 HASH 저장 (부스별 HSET 1회)
+     */
+    private void writeMetas(List<BoothInfo> booths) {
+        for (int from = 0; from < booths.size(); from += BULK_LOAD_CHUNK_SIZE) {
+            List<BoothInfo> chunk = booths.subList(from, Math.min(from + BULK_LOAD_CHUNK_SIZE, booths.size()));
+            redisTemplate.executePipelined(
+                    (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
+                        for (BoothInfo info : chunk) {
+                            byte[] key = (BOOTH_KEY_PREFIX + info.id() + META_KEY_SUFFIX).getBytes();
+                            connection.hashCommands().hMSet(key, toMetaFields(info));
+                        }
+                        return null;
+                    });
+        }
+    }
+
+    /**
+     * BoothInfo → 메타 HASH 필드 (null 필드 제외)
+     */
+    private Map<byte[], byte[]> toMetaFields(BoothInfo info) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        putField(fields, FIELD_NAME, info.name());
+        putField(fields, FIELD_DESCRIPTION, info.description());
+        putField(fields, FIELD_UNIVERSITY_ID, info.universityId() != null ? info.universityId().toString() : null);
+        putField(fields, FIELD_UNIVERSITY_NAME, info.universityName());
+        putField(fields, FIELD_STATUS, info.status() != null ? info.status().name() : null);
+        putField(fields, FIELD_CAPACITY, String.valueOf(info.capacity()));
+        return fields;
+    }
+
+    private void putField(Map<byte[], byte[]> fields, String field, String value) {
+        if (value != null) {
+            fields.put(field.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Object hGet(String key, String field) {
+        return readCoalescer
+                .<Object>map(coalescer -> coalescer.hGet(key, field))
+                .orElseGet(() -> redisTemplate.opsForHash().get(key, field));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.festin.app.booth.application.port.out;
 
+import com.festin.app.booth.application.port.out.dto.BoothInfo;
 import com.festin.app.booth.domain.model.Booth;
 import com.festin.app.booth.domain.model.BoothStatus;
 
@@ -23,6 +24,8 @@ import java.util.Optional;
  *   - name: 부스 이름
  *   - capacity: 최대 정원
  *   - status: 운영 상태 (OPEN/CLOSED)
+ *   - universityId: 대학 ID
+ * - booth:university:{universityId} (SET) - 대학별 부스 ID 목록
  */
 public interface BoothCachePort {
 
@@ -157,6 +160,7 @@ public interface BoothCachePort {
             Long boothId,
             String name,
             String description,
+            Long universityId,
             String universityName,
             BoothStatus status,
             int capacity
@@ -169,10 +173,55 @@ public interface BoothCachePort {
      */
     java.util.List<Long> getAllBoothIds();
 
+    /**
+     * 대학별 부스 ID 목록 조회
+     *
+     * 운영 상태와 무관하게 대학의 전체 부스 포함 (bulkLoadUniversityIndex로 적재)
+     *
+     * @param universityId 대학 ID
+     * @return 부스 ID 목록 (오름차순, 캐시에 없으면 빈 목록)
+     */
+    java.util.List<Long> getBoothIdsByUniversity(Long universityId);
+
     /**
      * 부스 ID 목록에 부스 추가
      *
      * @param boothId 부스 ID
      */
     void addBoothId(Long boothId);
+
+    /**
+     * 부스 캐시 일괄 적재 (Pipeline)
+     *
+     * 서버 시작/캐시 미스 시 사용:
+     * - 부스별 메타 HASH를 HSET 1회(필드 매핑)로 저장
+     * - 부스 ID 목록은 SADD 1회로 추가
+     * - 청크 단위 Pipeline으로 처리 (부스 N개 → N/청크 크기 왕복)
+     *
+     * @param booths 적재할 부스 정보
+     */
+    void bulkLoad(java.util.List<BoothInfo> booths);
+
+    /**
+     * 대학별 부스 ID 목록 일괄 적재 (Pipeline)
+     *
+     * 대학 필터 조회는 운영 종료 부스도 포함해야 하므로 OPEN 부스만 담는 bulkLoad와 분리:
+     * - 전달된 부스 전체(상태 무관)의 메타 HASH 저장 + 대학당 SADD 1회
+     * - 대학 단위로 빠짐없이 전달해야 함 (일부만 적재하면 나머지 부스가 필터 조회에서 누락)
+     * - 상태 변경(setStatus)은 메타 HASH만 바꾸고 목록은 유지하므로 별도 동기화 불필요
+     *
+     * @param booths 적재할 부스 정보 (대학별 전체 부스)
+     */
+    void bulkLoadUniversityIndex(java.util.List<BoothInfo> booths);
+
+    /**
+     * 서버 시작 시 전체 부스 일괄 적재 (bulkLoad + bulkLoadUniversityIndex를 한 번에)
+     *
+     * - 전체 부스 메타 HASH는 1회만 저장 (OPEN 부스 중복 기록 없음)
+     * - 부스 ID 목록은 OPEN 부스만, 대학별 부스 ID 목록은 전체 부스
+     * - 카탈로그 전체 무효화 1회
+     *
+     * @param booths 적재할 부스 정보 (상태 무관 전체 부스)
+     */
+    void bulkLoadAll(java.util.List<BoothInfo> booths);
 }
@@ -21,6 +21,8 @@ import java.util.Map;
  *
  * 성능 최적화:
  * - Redis Pipeline으로 부스 메타정보 + 대기인원 일괄 조회
+ * - 대학 필터 조회도 대학별 부스 ID 목록(booth:university:{id})으로 동일한 Redis 경로 사용
+ *   (목록은 운영 상태와 무관하게 대학의 전체 부스 → 운영 종료 부스도 응답에 포함)
  * - DB 접근 최소화 (캐시 미스 시에만 DB 조회)
  */
 @Slf4j
@@ -34,20 +36,18 @@ public class GetBoothListService implements GetBoothListUseCase {
 
     @Override
     public BoothListResult getBoothList(Long universityId) {
-        // universityId 필터링이 있으면 DB 조회 (Redis에 universityId 없음)
         if (universityId != null) {
-            return getBoothListFromDb(universityId);
+            // 대학 필터 조회: 대학별 부스 ID 목록 사용
+            List<Long> boothIds = boothCachePort.getBoothIdsByUniversity(universityId);
+
+            // 인덱스 미스: DB 조회 후 해당 대학 목록 적재 (운영 종료 부스 포함)
+            if (boothIds.isEmpty()) {
+                return getBoothListFromDbAndWarmIndex(universityId);
+            }
+            return getBoothListFromRedis(boothIds, universityId);
         }
 
         // 전체 조회: Redis 우선 사용
-        return getBoothListFromRedis();
-    }
-
-    /**
-     * Redis에서 부스 목록 조회 (성능 최적화)
-     */
-    private BoothListResult getBoothListFromRedis() {
-        // 1. Redis에서 부스 ID 목록 조회
         List<Long> boothIds = boothCachePort.getAllBoothIds();
 
         // 캐시 미스: DB에서 조회 후 캐시 워밍
@@ -55,18 +55,30 @@ public class GetBoothListService implements GetBoothListUseCase {
             log.info("부스 캐시 미스 - DB에서 조회 후 캐시 워밍");
             return getBoothListFromDbAndWarmCache();
         }
+        return getBoothListFromRedis(boothIds, null);
+    }
 
-        // 2. Pipeline으로 부스 메타정보 + 대기인원 일괄 조회
+    /**
+     * Redis에서 부스 목록 조회 (성능 최적화)
+     *
+     * @param boothIds 조회할 부스 ID 목록
+     * @param universityId 대학 필터 (메타 정보의 대학 ID와 다르면 제외, null이면 검사 안 함)
+     */
+    private BoothListResult getBoothListFromRedis(List<Long> boothIds, Long universityId) {
+        // Pipeline으로 부스 메타정보 + 대기인원 일괄 조회
         Map<Long, BoothMeta> boothMetas = boothCachePort.getBoothMetas(boothIds);
         Map<Long, Integer> waitingCounts = queueCachePort.getQueueSizes(boothIds);
 
-        // 3. 결과 조합
+        // 결과 조합
         List<BoothListResult.BoothItem> boothItems = new ArrayList<>();
         for (Long boothId : boothIds) {
             BoothMeta meta = boothMetas.get(boothId);
             if (meta == null || meta.status() == null) {
                 continue;  // 불완전한 캐시 데이터 스킵
             }
+            if (universityId != null && meta.universityId() != null && !universityId.equals(meta.universityId())) {
+                continue;  // 인덱스와 메타 정보 불일치 스킵
+            }
 
             int currentWaiting = waitingCounts.getOrDefault(boothId, 0);
             EstimatedWaitTime estimatedWaitTime = EstimatedWaitTime.fromWaitingCount(
@@ -88,10 +100,13 @@ public class GetBoothListService implements GetBoothListUseCase {
     }
 
     /**
-     * DB에서 부스 목록 조회 (universityId 필터링)
+     * DB에서 부스 목록 조회 (universityId 필터링) 후 대학별 부스 ID 목록 적재
+     *
+     * 대학의 전체 부스를 한 번에 적재하므로 이후 필터 조회는 Redis 경로에서도 누락 없음
      */
-    private BoothListResult getBoothListFromDb(Long universityId) {
+    private BoothListResult getBoothListFromDbAndWarmIndex(Long universityId) {
         List<BoothInfo> boothInfoList = boothRepositoryPort.findAllBoothInfoByUniversityId(universityId);
+        boothCachePort.bulkLoadUniversityIndex(boothInfoList);
 
         List<Long> boothIds = boothInfoList.stream().map(BoothInfo::id).toList();
         Map<Long, Integer> waitingCounts = queueCachePort.getQueueSizes(boothIds);
@@ -109,15 +124,8 @@ public class GetBoothListService implements GetBoothListUseCase {
     private BoothListResult getBoothListFromDbAndWarmCache() {
         List<BoothInfo> boothInfoList = boothRepositoryPort.findAllOpenBoothInfo();
 
-        // 캐시 워밍
-        for (BoothInfo info : boothInfoList) {
-            boothCachePort.addBoothId(info.id());
-            boothCachePort.setName(info.id(), info.name());
-            boothCachePort.setDescription(info.id(), info.description());
-            boothCachePort.setUniversityName(info.id(), info.universityName());
-            boothCachePort.setStatus(info.id(), info.status());
-            boothCachePort.setCapacity(info.id(), info.capacity());
-        }
+        // 캐시 워밍 (Pipeline 일괄 적재)
+        boothCachePort.bulkLoad(boothInfoList);
         log.info("부스 캐시 워밍 완료 - {} 개 부스", boothInfoList.size());
 
         List<Long> boothIds = boothInfoList.stream().map(BoothInfo::id).toList();
@@ -5,8 +5,10 @@ import com.festin.app.booth.application.port.in.dto.BoothStatusResult;
 import com.festin.app.booth.application.port.in.dto.BoothStatusResult.TodayStats;
 import com.festin.app.booth.application.port.out.BoothCachePort;
 import com.festin.app.booth.domain.BoothNotFoundException;
+import com.festin.app.waiting.application.port.out.DailyStatsCachePort;
 import com.festin.app.waiting.application.port.out.QueueCachePort;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,8 +20,12 @@ import java.time.LocalDate;
  *
  * 책임:
  * - Redis에서 실시간 정보 조회 (currentPeople, capacity, totalWaiting, boothName)
- * - MySQL에서 오늘 통계 조회 (totalCalled, totalEntered, totalNoShow, totalCompleted)
+ * - Redis 일별 통계 카운터에서 오늘 통계 조회 (totalCalled, totalEntered, totalNoShow, totalCompleted)
  * - 두 데이터 소스를 조합하여 BoothStatusResult 반환
+ *
+ * 일별 통계:
+ * - 상태 전이 시 증감되는 HASH를 HGETALL 1회로 조회 (COUNT 쿼리 4회 대체)
+ * - 카운터가 없으면 (당일 첫 조회, TTL 만료) MySQL 집계 1회로 초기화
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +35,7 @@ public class GetBoothStatusService implements GetBoothStatusUseCase {
     private final BoothCachePort boothCachePort;
     private final QueueCachePort queueCachePort;
     private final WaitingRepositoryPort waitingRepositoryPort;
+    private final DailyStatsCachePort dailyStatsCachePort;
 
     @Override
     public BoothStatusResult getBoothStatus(Long boothId) {
@@ -40,19 +47,26 @@ public class GetBoothStatusService implements GetBoothStatusUseCase {
                 .orElseThrow(BoothNotFoundException::new);
         int totalWaiting = queueCachePort.getQueueSize(boothId);
 
-        // 2. MySQL에서 오늘 통계 조회
+        // 2. Redis 일별 통계 조회 (없으면 MySQL 집계로 초기화)
         LocalDate today = LocalDate.now();
-        int totalCalled = waitingRepositoryPort.countTodayCalledByBoothId(boothId, today);
-        int totalEntered = waitingRepositoryPort.countTodayEnteredByBoothId(boothId, today);
-        int totalNoShow = waitingRepositoryPort.countTodayNoShowByBoothId(boothId, today);
-        int totalCompleted = waitingRepositoryPort.countTodayCompletedByBoothId(boothId, today);
+        DailyStats stats = dailyStatsCachePort.get(boothId, today)
+                .orElseGet(() -> loadDailyStats(boothId, today));
 
         TodayStats todayStats = new TodayStats(
-            totalCalled, totalEntered, totalNoShow, totalCompleted
+            stats.called(), stats.entered(), stats.noShow(), stats.completed()
         );
 
         return new BoothStatusResult(
             boothId, boothName, currentPeople, capacity, totalWaiting, todayStats
         );
     }
+
+    /**
+     * MySQL 집계 1회 → Redis 카운터 초기화
+     */
+    private DailyStats loadDailyStats(Long boothId, LocalDate date) {
+        DailyStats stats = waitingRepositoryPort.sumDailyStatsByBoothId(boothId, date);
+        dailyStatsCachePort.putIfAbsent(boothId, date, stats);
+        return stats;
+    }
 }
@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
@@ -41,6 +43,27 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * 요청 본문 검증 실패 처리 (@Valid)
+     *
+     * 첫 번째 필드 오류 메시지로 400 Bad Request 응답
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getFieldErrors().stream()
+                .findFirst()
+                .map(FieldError::getDefaultMessage)
+                .orElse(ErrorCode.INVALID_REQUEST.getMessage());
+
+        log.warn("Validation failed: {}", message);
+
+        ErrorResponse response = ErrorResponse.of(ErrorCode.INVALID_REQUEST, message);
+
+        return ResponseEntity
+                .status(ErrorCode.INVALID_REQUEST.getStatus())
+                .body(response);
+    }
+
     /**
      * 예상하지 못한 예외 처리
      *
@@ -0,0 +1,212 @@
+package com.festin.app.common.concurrency;
+
+import com.festin.app.common.concurrency.GradientConcurrencyLimiter.Permit;
+import com.festin.app.common.dto.ErrorResponse;
+import com.festin.app.common.exception.ErrorCode;
+import com.festin.app.common.jwt.VerifiedJwtCache;
+import com.festin.app.user.domain.model.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 적응형 동시 처리 제한 필터
+ *
+ * 문제:
+ * - Tomcat 스레드 풀 + Hikari 30개 커넥션이 고정 → 과부하 시 요청이 accept 큐와 커넥션 대기에서 수 초간 대기
+ * - 스파이크 테스트 p99 14초 (load-test/RESULT.md), 대기하다 타임아웃 → 처리한 일도 낭비
+ *
+ * 해결:
+ * - 처리 중 요청 수를 관측 RTT 기반으로 계속 조정한 한도 이내로 유지 (GradientConcurrencyLimiter)
+ * - 한도 초과 요청은 대기 없이 즉시 503 + Retry-After → 받아들인 요청의 p99는 무부하 수준 근처로 유지
+ *
+ * 처리 흐름:
+ * 1. 모든 필터(Security 포함)보다 먼저 실행
+ * 2. 제외 경로(헬스 체크, 메트릭)는 항상 통과
+ * 3. 처리 후 응답 5xx(503 제외) 또는 예외 → 과부하 신호 (한도 감소)
+ *    응답 4xx → RTT 미반영 (인증 실패, 유입 제한 429 등 즉시 끝난 요청이 RTT를 낮춰 한도를 부풀리지 않도록)
+ * 4. 비동기 요청(SSE)은 최초 디스패치 직후 반납 (연결 유지 시간을 RTT로 반영하지 않음)
+ *
+ * 우선 경로(priority-paths, 스태프 호출/입장/완료):
+ * - 경로 + 서명 검증된 STAFF 토큰일 때만 한도와 무관하게 수용 (처리 중 요청 수에는 포함)
+ * - 경로만으로 우회를 허용하면 익명 클라이언트가 URL만 바꿔 부하 차단을 피할 수 있음
+ * - Security보다 먼저 실행되므로 VerifiedJwtCache로 직접 확인 (JWT 인증 필터와 같은 캐시 → 검증은 요청당 1회)
+ * - 구획 분리는 RoleBulkheadFilter에서 처리
+ *
+ * 메트릭:
+ * - festin.concurrency.limit (현재 한도)
+ * - festin.concurrency.inflight (처리 중 요청 수)
+ * - festin.concurrency.rtt (장기 RTT, ms)
+ * - festin.concurrency.rejected (한도 초과로 거절)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(
+        prefix = "festin.concurrency.adaptive",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final GradientConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final VerifiedJwtCache verifiedJwtCache;
+    private final List<PathPattern> excludedPaths;
+    private final List<PathPattern> priorityPaths;
+    private final Counter rejectedCounter;
+
+    public AdaptiveConcurrencyFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            VerifiedJwtCache verifiedJwtCache,
+            @Value("${festin.concurrency.adaptive.initial-limit:50}") int initialLimit,
+            @Value("${festin.concurrency.adaptive.min-limit:10}") int minLimit,
+            @Value("${festin.concurrency.adaptive.max-limit:400}") int maxLimit,
+            @Value("${festin.concurrency.adaptive.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${festin.concurrency.adaptive.smoothing:0.2}") double smoothing,
+            @Value("${festin.concurrency.adaptive.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${festin.concurrency.adaptive.window-ms:500}") long windowMillis,
+            @Value("${festin.concurrency.adaptive.min-samples:20}") int minSamples,
+            @Value("${festin.concurrency.adaptive.excluded-paths:/actuator/**,/api/health}") List<String> excludedPaths,
+            @Value("${festin.concurrency.adaptive.priority-paths:}") List<String> priorityPaths
+    ) {
+        this.objectMapper = objectMapper;
+        this.verifiedJwtCache = verifiedJwtCache;
+        this.limiter = new GradientConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, rttTolerance, smoothing, backoffRatio, windowMillis, minSamples);
+        this.excludedPaths = parse(excludedPaths);
+        this.priorityPaths = parse(priorityPaths);
+
+        Gauge.builder("festin.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .description("적응형 동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("festin.concurrency.inflight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .description("처리 중 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("festin.concurrency.rtt", limiter, GradientConcurrencyLimiter::getLongRttMillis)
+                .description("장기 RTT (ms)")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("festin.concurrency.rejected")
+                .description("동시 처리 한도 초과로 거절된 요청")
+                .register(meterRegistry);
+
+        log.info("[동시 처리 제한] 활성화 - initialLimit: {}, min: {}, max: {}", initialLimit, minLimit, maxLimit);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return matches(excludedPaths, request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Optional<Permit> acquired = isPriority(request)
+                ? Optional.of(limiter.acquire())
+                : limiter.tryAcquire();
+        if (acquired.isEmpty()) {
+            rejectedCounter.increment();
+            reject(response);
+            return;
+        }
+
+        Permit permit = acquired.get();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                permit.onIgnore();
+            } else if (failed || isServerError(response.getStatus())) {
+                permit.onDropped();
+            } else if (isClientError(response.getStatus())) {
+                permit.onIgnore();
+            } else {
+                permit.onSuccess();
+            }
+        }
+    }
+
+    /**
+     * 우선 경로 + 서명 검증된 STAFF 토큰
+     */
+    private boolean isPriority(HttpServletRequest request) {
+        if (!matches(priorityPaths, request)) {
+            return false;
+        }
+
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        try {
+            return Role.STAFF.name().equals(verifiedJwtCache.resolve(header.substring(BEARER_PREFIX.length())).role());
+        } catch (RuntimeException e) {
+            // 검증 실패 토큰은 일반 요청으로 처리 (인증 실패는 JWT 인증 필터에서 401)
+            return false;
+        }
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream()
+                .filter(pattern -> !pattern.isBlank())
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    private static boolean matches(List<PathPattern> patterns, HttpServletRequest request) {
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    /**
+     * 과부하 신호로 볼 응답 (503은 다른 제한에 의한 의도된 거절이므로 제외)
+     */
+    private boolean isServerError(int status) {
+        return status >= 500 && status != ErrorCode.SERVICE_OVERLOADED.getStatus();
+    }
+
+    private boolean isClientError(int status) {
+        return status >= 400 && status < 500;
+    }
+
+    /**
+     * 503 Service Unavailable + Retry-After
+     */
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(ErrorCode.SERVICE_OVERLOADED.getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(ErrorResponse.of(ErrorCode.SERVICE_OVERLOADED)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.festin.app.common.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 역할별 벌크헤드 설정 (festin.bulkhead)
+ *
+ * 요청 분류별 구획:
+ * - max-concurrent: 동시 처리 상한 (구획끼리 공유하지 않음)
+ * - max-wait-ms: 구획이 가득 찼을 때 대기 시간 (0이면 즉시 503)
+ *
+ * DB 커넥션:
+ * - staff-reserved-connections: STAFF/SYSTEM 전용으로 남겨둘 커넥션 수
+ *   → VISITOR/ANONYMOUS는 (풀 크기 - 예약분)까지만 동시에 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "festin.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private Compartment staff = new Compartment(30, 500);
+    private Compartment visitor = new Compartment(120, 0);
+    private Compartment anonymous = new Compartment(50, 0);
+    private Db db = new Db();
+
+    public Compartment compartmentOf(RequestClass requestClass) {
+        return switch (requestClass) {
+            case STAFF -> staff;
+            case VISITOR -> visitor;
+            case ANONYMOUS, SYSTEM -> anonymous;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Compartment {
+        private int maxConcurrent;
+        private long maxWaitMs;
+
+        public Compartment() {
+        }
+
+        public Compartment(int maxConcurrent, long maxWaitMs) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Db {
+        private boolean enabled = true;
+        private int staffReservedConnections = 5;
+        private long acquireTimeoutMs = 1000;
+    }
+}
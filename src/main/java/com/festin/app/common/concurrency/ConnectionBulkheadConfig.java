@@ -0,0 +1,56 @@
+package com.festin.app.common.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 커넥션 벌크헤드 설정
+ *
+ * 기본 DataSource(Hikari)를 ConnectionBulkheadDataSource로 감싸 STAFF 예약분 보장
+ * - 풀 크기: spring.datasource.hikari.maximum-pool-size (미설정 시 Hikari 기본 10)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(
+        prefix = "festin.bulkhead.db",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class ConnectionBulkheadConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionBulkheadPostProcessor(
+            Environment environment,
+            ObjectProvider<BulkheadProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionBulkheadDataSource) {
+                    return bean;
+                }
+
+                int poolSize = environment.getProperty(
+                        "spring.datasource.hikari.maximum-pool-size", Integer.class, HIKARI_DEFAULT_POOL_SIZE);
+                BulkheadProperties.Db db = properties.getObject().getDb();
+                log.info("[벌크헤드] DB 커넥션 예약 - bean: {}, poolSize: {}, staffReserved: {}",
+                        beanName, poolSize, db.getStaffReservedConnections());
+
+                return new ConnectionBulkheadDataSource(dataSource, poolSize, db.getStaffReservedConnections(),
+                        db.getAcquireTimeoutMs(), meterRegistry.getObject());
+            }
+        };
+    }
+}
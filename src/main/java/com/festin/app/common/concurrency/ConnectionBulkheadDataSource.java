@@ -0,0 +1,123 @@
+package com.festin.app.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 커넥션 벌크헤드 (STAFF 예약분 보장)
+ *
+ * 커넥션 풀은 하나이므로, VISITOR/ANONYMOUS 요청이 동시에 쥘 수 있는 커넥션 수를 (풀 크기 - 예약분)으로 제한
+ * - STAFF, SYSTEM(스케줄러/컨슈머): 제한 없음 → 예약분 포함 풀 전체 사용
+ * - VISITOR, ANONYMOUS: 공유분이 모두 사용 중이면 acquire-timeout-ms 대기 후 실패
+ *   (Hikari connection-timeout 30초까지 기다리지 않음)
+ *
+ * 커넥션 close() 시 공유분 반납 (중복 close는 1회만 반납)
+ *
+ * 메트릭:
+ * - festin.bulkhead.db.shared.active (방문자 분류가 사용 중인 커넥션 수)
+ * - festin.bulkhead.db.shared.timeout (공유분 대기 시간 초과)
+ */
+public class ConnectionBulkheadDataSource extends DelegatingDataSource {
+
+    private final int sharedConnections;
+    private final long acquireTimeoutMs;
+    private final Semaphore sharedPermits;
+    private final Counter timeoutCounter;
+
+    public ConnectionBulkheadDataSource(DataSource target, int poolSize, int staffReservedConnections,
+                                        long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        super(target);
+        this.sharedConnections = Math.max(1, poolSize - staffReservedConnections);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.sharedPermits = new Semaphore(sharedConnections);
+
+        Gauge.builder("festin.bulkhead.db.shared.active", sharedPermits,
+                        permits -> sharedConnections - permits.availablePermits())
+                .description("방문자 분류가 사용 중인 DB 커넥션 수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("festin.bulkhead.db.shared.timeout")
+                .description("공유 DB 커넥션 대기 시간 초과")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!isLimited()) {
+            return super.getConnection();
+        }
+        acquireShared();
+        return guard(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!isLimited()) {
+            return super.getConnection(username, password);
+        }
+        acquireShared();
+        return guard(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private boolean isLimited() {
+        RequestClass requestClass = RequestClassContext.current();
+        return requestClass == RequestClass.VISITOR || requestClass == RequestClass.ANONYMOUS;
+    }
+
+    private void acquireShared() throws SQLException {
+        try {
+            if (!sharedPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeoutCounter.increment();
+                throw new SQLTransientConnectionException(
+                        "공유 DB 커넥션 대기 시간 초과 (" + acquireTimeoutMs + "ms, 공유분 " + sharedConnections + "개)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("공유 DB 커넥션 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 커넥션 획득 실패 시 즉시 반납, 성공 시 close()에서 반납하도록 감쌈
+     */
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            sharedPermits.release();
+            throw e;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        sharedPermits.release();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,188 @@
+package com.festin.app.common.concurrency;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 지연 시간 기반 동시 처리 한도 (Gradient 방식)
+ *
+ * 동작:
+ * - 처리 중 요청 수(inFlight)가 한도 이상이면 즉시 거절
+ * - 윈도우(window-ms, 최소 min-samples건)마다 평균 RTT(short)를 장기 RTT(long, 지수 이동 평균)와 비교
+ * - gradient = clamp(tolerance × long / short, 0.5, 1.0)
+ *   - RTT가 평소 수준 → gradient 1.0 → 한도 + √한도 (점진 증가)
+ *   - RTT가 늘어남(대기 발생) → gradient < 1 → 한도 감소
+ * - 처리 실패(5xx/예외)가 있던 윈도우는 한도 × backoff-ratio (AIMD 감소)
+ * - 한도의 절반도 쓰지 않은 윈도우는 증가하지 않음 (부하가 없어 한도를 검증할 수 없음)
+ *
+ * 장기 RTT는 부하가 오래 지속되면 함께 올라가므로, short의 2배를 넘으면 빠르게 낮춰 기준을 회복
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+    private static final int LONG_RTT_WINDOWS = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final long windowNanos;
+    private final int minSamples;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private volatile double longRttNanos;
+
+    // 윈도우 집계 (this 잠금)
+    private long windowStartNanos;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+                                      double smoothing, double backoffRatio, long windowMillis, int minSamples) {
+        this(initialLimit, minLimit, maxLimit, rttTolerance, smoothing, backoffRatio, windowMillis, minSamples,
+                System::nanoTime);
+    }
+
+    /**
+     * 시계 지정 생성자 (테스트에서 RTT와 윈도우 경과를 직접 제어)
+     */
+    GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+                               double smoothing, double backoffRatio, long windowMillis, int minSamples,
+                               LongSupplier nanoClock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.minSamples = minSamples;
+        this.nanoClock = nanoClock;
+        this.windowStartNanos = nanoClock.getAsLong();
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * 처리 허가 요청
+     *
+     * @return 허가 (한도 초과 시 empty)
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nanoClock.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    /**
+     * 한도와 무관하게 처리 허가 (우선 요청)
+     */
+    public Permit acquire() {
+        return new Permit(nanoClock.getAsLong(), inFlight.incrementAndGet());
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getLongRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    private synchronized void record(long rttNanos, int inFlightAtStart, boolean dropped) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        windowDropped |= dropped;
+
+        long now = nanoClock.getAsLong();
+        if (windowSamples < minSamples || now - windowStartNanos < windowNanos) {
+            return;
+        }
+
+        updateLimit((double) windowRttSum / windowSamples, windowMaxInFlight, windowDropped);
+
+        windowStartNanos = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    private void updateLimit(double shortRtt, int maxInFlight, boolean dropped) {
+        double longRtt = longRttNanos == 0
+                ? shortRtt
+                : longRttNanos + (shortRtt - longRttNanos) / LONG_RTT_WINDOWS;
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+        longRttNanos = longRtt;
+
+        double current = limit;
+        double next;
+        if (dropped) {
+            next = current * backoffRatio;
+        } else {
+            if (maxInFlight < current / 2) {
+                return;
+            }
+            double gradient = Math.clamp(rttTolerance * longRtt / shortRtt, MIN_GRADIENT, MAX_GRADIENT);
+            next = current * gradient + Math.sqrt(current);
+        }
+
+        limit = Math.clamp(current * (1 - smoothing) + next * smoothing, minLimit, maxLimit);
+    }
+
+    /**
+     * 처리 허가 (요청 종료 시 onSuccess / onDropped / onIgnore 중 1회 호출)
+     */
+    public class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 정상 처리 - RTT 반영
+         */
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            record(nanoClock.getAsLong() - startNanos, inFlightAtStart, false);
+        }
+
+        /**
+         * 처리 실패 (과부하 신호) - 윈도우 종료 시 한도 감소
+         */
+        public void onDropped() {
+            inFlight.decrementAndGet();
+            record(nanoClock.getAsLong() - startNanos, inFlightAtStart, true);
+        }
+
+        /**
+         * RTT를 반영하지 않고 반납 (비동기 요청 등 처리 시간이 의미 없는 경우)
+         */
+        public void onIgnore() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
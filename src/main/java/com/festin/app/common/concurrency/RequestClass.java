@@ -0,0 +1,32 @@
+package com.festin.app.common.concurrency;
+
+import com.festin.app.common.security.JwtAuthenticationToken;
+import com.festin.app.user.domain.model.Role;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 요청 분류 (벌크헤드 단위)
+ *
+ * - STAFF: 호출/입장/완료 등 대기열을 실제로 진행시키는 요청
+ * - VISITOR: 인증된 방문자 요청 (순번 폴링 대부분)
+ * - ANONYMOUS: 인증 없는 요청 (부스 목록/상세 조회, 로그인)
+ * - SYSTEM: 요청 밖의 작업 (스케줄러, 메시지 컨슈머)
+ */
+public enum RequestClass {
+
+    STAFF,
+    VISITOR,
+    ANONYMOUS,
+    SYSTEM;
+
+    public static RequestClass of(Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken token) {
+            return token.getRole() == Role.STAFF ? STAFF : VISITOR;
+        }
+        return ANONYMOUS;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,27 @@
+package com.festin.app.common.concurrency;
+
+/**
+ * 현재 스레드의 요청 분류 보관 (RoleBulkheadFilter가 요청 처리 동안 설정)
+ *
+ * 요청 스레드가 아니면 SYSTEM (스케줄러, 메시지 컨슈머는 벌크헤드 대상 아님)
+ */
+public final class RequestClassContext {
+
+    private static final ThreadLocal<RequestClass> CURRENT = new ThreadLocal<>();
+
+    private RequestClassContext() {
+    }
+
+    public static RequestClass current() {
+        RequestClass requestClass = CURRENT.get();
+        return requestClass != null ? requestClass : RequestClass.SYSTEM;
+    }
+
+    static void set(RequestClass requestClass) {
+        CURRENT.set(requestClass);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,154 @@
+package com.festin.app.common.concurrency;
+
+import com.festin.app.common.dto.ErrorResponse;
+import com.festin.app.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 역할별 벌크헤드 필터
+ *
+ * 문제:
+ * - 방문자 순번 폴링(/waitings/booth/*, /booths)이 몰리면 스태프의 호출/입장/완료 요청이
+ *   같은 Tomcat 스레드와 Hikari 커넥션 뒤에서 대기
+ * - 정작 대기열을 진행시키는 건 스태프 요청 → 폴링이 늘수록 대기열이 멈춤
+ *
+ * 해결:
+ * - JwtAuthenticationToken의 Role로 요청 분류 (STAFF / VISITOR / ANONYMOUS)
+ * - 분류별 독립 구획(동시 처리 상한) → 방문자 구획이 가득 차도 스태프 구획은 영향 없음
+ * - STAFF는 구획이 가득 차면 max-wait-ms까지 대기 (우선 수용), 나머지는 즉시 503
+ * - DB 커넥션 일부는 STAFF 전용으로 예약 (ConnectionBulkheadDataSource)
+ *
+ * JWT 인증 필터, 유입 제한 필터 다음에 실행 (Role 필요, 유입 제한으로 거절될 요청은 구획을 차지하지 않음)
+ *
+ * 메트릭:
+ * - festin.bulkhead.latency{class} (분류별 처리 시간, p50/p95/p99)
+ * - festin.bulkhead.inflight{class} (분류별 처리 중 요청 수)
+ * - festin.bulkhead.rejected{class} (구획이 가득 차 거절)
+ */
+@Slf4j
+@Component
+public class RoleBulkheadFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final BulkheadProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<RequestClass, Compartment> compartments = new EnumMap<>(RequestClass.class);
+
+    public RoleBulkheadFilter(BulkheadProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        for (RequestClass requestClass : RequestClass.values()) {
+            if (requestClass != RequestClass.SYSTEM) {
+                BulkheadProperties.Compartment config = properties.compartmentOf(requestClass);
+                compartments.put(requestClass, new Compartment(requestClass, config, meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestClass requestClass = RequestClass.of(SecurityContextHolder.getContext().getAuthentication());
+        Compartment compartment = compartments.get(requestClass);
+
+        if (!compartment.tryAcquire()) {
+            compartment.rejected.increment();
+            log.debug("[벌크헤드] 구획 초과 - class: {}, uri: {}", requestClass, request.getRequestURI());
+            reject(response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        RequestClassContext.set(requestClass);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestClassContext.clear();
+            compartment.permits.release();
+            if (!request.isAsyncStarted()) {
+                compartment.latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * 503 Service Unavailable + Retry-After
+     */
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(ErrorCode.SERVICE_OVERLOADED.getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(ErrorResponse.of(ErrorCode.SERVICE_OVERLOADED)));
+    }
+
+    /**
+     * 요청 분류 1개의 구획 (동시 처리 상한 + 메트릭)
+     */
+    private static class Compartment {
+
+        private final int maxConcurrent;
+        private final long maxWaitMs;
+        private final Semaphore permits;
+        private final Timer latency;
+        private final Counter rejected;
+
+        private Compartment(RequestClass requestClass, BulkheadProperties.Compartment config, MeterRegistry meterRegistry) {
+            this.maxConcurrent = config.getMaxConcurrent();
+            this.maxWaitMs = config.getMaxWaitMs();
+            this.permits = new Semaphore(maxConcurrent);
+
+            this.latency = Timer.builder("festin.bulkhead.latency")
+                    .description("요청 분류별 처리 시간")
+                    .tag("class", requestClass.tag())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("festin.bulkhead.rejected")
+                    .description("구획이 가득 차 거절된 요청")
+                    .tag("class", requestClass.tag())
+                    .register(meterRegistry);
+            Gauge.builder("festin.bulkhead.inflight", permits, p -> maxConcurrent - p.availablePermits())
+                    .description("요청 분류별 처리 중 요청 수")
+                    .tag("class", requestClass.tag())
+                    .register(meterRegistry);
+        }
+
+        private boolean tryAcquire() {
+            if (maxWaitMs <= 0) {
+                return permits.tryAcquire();
+            }
+            try {
+                return permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -1,22 +1,50 @@
 package com.festin.app.common.config;
 
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 알림 큐 설정
  *
  * RabbitMQ 큐 및 메시지 컨버터 설정
  * @JsonTypeInfo와 @JsonSubTypes를 통한 다형성 직렬화 지원
+ *
+ * 재시도 큐 (지수 백오프):
+ * - booth-call-notifications.retry.{delay}ms: 컨슈머 없음, 큐 TTL 만료 시 메인 큐로 dead-letter
+ * - 재시도할 때마다 다음 단계 큐로 이동 (기본 1초 → 10초 → 60초)
+ * - 큐 이름에 지연 시간을 포함 (TTL 변경 시 기존 큐와 인자 충돌 없이 새 큐 선언)
+ * - booth-call-notifications.parking-lot: 모든 단계를 소진한 메시지 보관 (수동 확인)
  */
 @Configuration
 public class NotificationQueueConfig {
 
     public static final String NOTIFICATION_QUEUE = "booth-call-notifications";
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "notificationBatchListenerContainerFactory";
+    public static final String PARKING_LOT_QUEUE = NOTIFICATION_QUEUE + ".parking-lot";
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+    /**
+     * 재시도 단계별 큐 이름
+     *
+     * @param delayMillis 단계 지연 시간
+     */
+    public static String retryQueueName(long delayMillis) {
+        return NOTIFICATION_QUEUE + ".retry." + delayMillis + "ms";
+    }
 
     /**
      * 호출 알림 큐
@@ -31,6 +59,28 @@ public class NotificationQueueConfig {
                 .build();
     }
 
+    /**
+     * 재시도 큐 + Parking Lot 큐
+     *
+     * - x-message-ttl: 단계 지연 시간
+     * - x-dead-letter-exchange: "" (기본 exchange) → x-dead-letter-routing-key: 메인 큐
+     */
+    @Bean
+    public Declarables notificationRetryQueues(
+            @Value("${festin.notification.retry.delays-ms:1000,10000,60000}") List<Long> delays
+    ) {
+        List<Declarable> queues = new ArrayList<>();
+        for (Long delay : delays) {
+            queues.add(QueueBuilder.durable(retryQueueName(delay))
+                    .ttl(delay.intValue())
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(NOTIFICATION_QUEUE)
+                    .build());
+        }
+        queues.add(QueueBuilder.durable(PARKING_LOT_QUEUE).build());
+        return new Declarables(queues);
+    }
+
     /**
      * JSON 메시지 컨버터
      *
@@ -42,4 +92,36 @@ public class NotificationQueueConfig {
     public MessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
     }
-}
\ No newline at end of file
+
+    /**
+     * 알림 일괄 소비용 리스너 컨테이너
+     *
+     * - consumerBatchEnabled: 최대 batchSize건 또는 receiveTimeout까지 모아서 List로 전달
+     * - MANUAL ack: Consumer가 delivery tag별로 개별 ack/nack
+     * - prefetch: 배치 2개분 (다음 배치를 미리 수신)
+     * - spring.threads.virtual.enabled=true: 컨슈머 스레드를 가상 스레드로 실행
+     *   (기본 컨테이너는 Spring Boot가 같은 설정으로 처리, 이 팩토리는 직접 생성하므로 명시)
+     */
+    @Bean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory notificationBatchListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            @Value("${festin.notification.consumer.batch.size:100}") int batchSize,
+            @Value("${festin.notification.consumer.batch.receive-timeout-ms:50}") long receiveTimeoutMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMillis);
+        factory.setPrefetchCount(batchSize * 2);
+        if (virtualThreadsEnabled) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("notification-consumer-"));
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,32 @@
+package com.festin.app.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Redis Pub/Sub 설정
+ *
+ * 인스턴스 간 이벤트 전파용 리스너 컨테이너
+ * - 부스 카탈로그 무효화 (booth:catalog:invalidate)
+ * - 대기열 변경 이벤트 (queue:events:{boothId})
+ *
+ * 메시지 처리 스레드:
+ * - 기본 SimpleAsyncTaskExecutor는 메시지마다 새 스레드 → 처리 순서가 뒤바뀔 수 있음
+ * - 대기열 이벤트는 순서대로 적용해야 하므로 단일 스레드로 수신 순서 보장
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("redis-pubsub-dispatcher").daemon().factory()));
+        return container;
+    }
+}
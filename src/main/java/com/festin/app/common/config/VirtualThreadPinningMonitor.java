@@ -0,0 +1,116 @@
+package com.festin.app.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 Pinning 감시
+ *
+ * 문제:
+ * - Java 21에서 synchronized 블록 / 네이티브 호출 중 블로킹하면 가상 스레드가 캐리어 스레드를 점유 (pinning)
+ * - 캐리어 스레드 수(= CPU 코어 수)만큼 pinning이 겹치면 전체 요청 처리가 멈춤
+ * - 우리 코드의 synchronized(GradientConcurrencyLimiter.record, RedisReadCoalescer.submit)는 메모리 갱신만 하고
+ * 블록 안에서 블로킹하지 않지만, 드라이버/클라이언트 라이브러리 내부는 확인 불가
+ *
+ * 해결:
+ * - JFR 스트리밍(RecordingStream)으로 jdk.VirtualThreadPinned 이벤트를 구독
+ * - threshold 이상 pinning된 경우만 기록 (JFR 기본값 20ms)
+ * - 발생 위치는 스택에서 가장 가까운 애플리케이션 프레임(com.festin)으로 요약
+ *
+ * 메트릭:
+ * - festin.virtual-thread.pinned{frame} (pinning 시간, 발생 위치별)
+ *
+ * 활성화: spring.threads.virtual.enabled=true
+ * 비활성화: festin.virtual-thread.pinning-audit.enabled=false
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "festin.virtual-thread.pinning-audit.enabled"},
+        havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.festin.";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${festin.virtual-thread.pinning-audit.threshold-ms:20}") long thresholdMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(threshold)
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+
+        log.info("[가상 스레드] Pinning 감시 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        String frame = applicationFrameOf(event.getStackTrace());
+
+        Timer.builder("festin.virtual-thread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        log.warn("[가상 스레드] Pinning 감지 - duration: {}ms, frame: {}",
+                event.getDuration().toMillis(), frame);
+    }
+
+    /**
+     * 스택에서 가장 가까운 애플리케이션 프레임 (없으면 최상단 프레임)
+     */
+    private String applicationFrameOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return simpleNameOf(type) + "." + frame.getMethod().getName();
+            }
+        }
+
+        RecordedFrame top = frames.getFirst();
+        return simpleNameOf(top.getMethod().getType().getName()) + "." + top.getMethod().getName();
+    }
+
+    private String simpleNameOf(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -35,9 +35,15 @@ public enum ErrorCode {
     BOOTH_CLOSED(409, "BOOTH_CLOSED", "부스가 운영 중이 아닙니다."),
     BOOTH_FULL(409, "BOOTH_FULL", "부스 정원이 초과되었습니다."),
 
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS(429, "TOO_MANY_REQUESTS", "요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
     // 500 Internal Server Error
     QUEUE_OPERATION_ERROR(500, "QUEUE_OPERATION_ERROR", "대기열 처리 중 오류가 발생했습니다."),
-    INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다."),
+
+    // 503 Service Unavailable
+    SERVICE_OVERLOADED(503, "SERVICE_OVERLOADED", "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
 
     private final int status;
     private final String code;
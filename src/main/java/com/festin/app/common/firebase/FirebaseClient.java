@@ -3,6 +3,8 @@ package com.festin.app.common.firebase;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 
+import java.util.List;
+
 /**
  * Firebase Messaging 클라이언트 인터페이스
  *
@@ -20,4 +22,20 @@ public interface FirebaseClient {
      * @throws FirebaseMessagingException FCM 전송 실패
      */
     String send(Message message) throws FirebaseMessagingException;
+
+    /**
+     * FCM 메시지 일괄 전송 (최대 MAX_BATCH_SIZE건)
+     *
+     * 건별 성공/실패는 결과 목록으로 반환 (입력 순서와 동일)
+     *
+     * @param messages FCM 메시지 목록
+     * @return 건별 발송 결과
+     * @throws FirebaseMessagingException 일괄 요청 자체가 실패한 경우
+     */
+    List<FirebaseSendResult> sendEach(List<Message> messages) throws FirebaseMessagingException;
+
+    /**
+     * sendEach 1회당 최대 메시지 수 (Firebase Admin SDK 제한)
+     */
+    int MAX_BATCH_SIZE = 500;
 }
\ No newline at end of file
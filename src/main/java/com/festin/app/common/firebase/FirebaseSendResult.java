@@ -0,0 +1,29 @@
+package com.festin.app.common.firebase;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+
+/**
+ * FCM 일괄 발송 건별 결과
+ *
+ * SDK의 SendResponse는 외부에서 생성할 수 없어 Stub 구현을 위해 별도 타입으로 변환
+ *
+ * @param messageId 메시지 ID (성공 시)
+ * @param exception FCM 오류 (실패 시)
+ */
+public record FirebaseSendResult(
+        String messageId,
+        FirebaseMessagingException exception
+) {
+
+    public static FirebaseSendResult success(String messageId) {
+        return new FirebaseSendResult(messageId, null);
+    }
+
+    public static FirebaseSendResult failure(FirebaseMessagingException exception) {
+        return new FirebaseSendResult(null, exception);
+    }
+
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+}
@@ -2,9 +2,11 @@ package com.festin.app.common.firebase;
 
 import com.google.firebase.messaging.Message;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -12,6 +14,10 @@ import java.util.UUID;
  *
  * firebase.enabled=false일 때 활성화됩니다.
  * 실제 FCM 발송 없이 로그만 출력합니다. (로컬 개발 환경용)
+ *
+ * 부하 테스트용 지연:
+ * - firebase.noop.latency-ms: 요청 1회(send 또는 sendEach)당 FCM 왕복 지연 시뮬레이션
+ * - sendEach는 SDK가 HTTP/2로 동시 전송하므로 건수와 무관하게 1회 지연으로 계산
  */
 @Slf4j
 @Component
@@ -23,12 +29,45 @@ import java.util.UUID;
 )
 public class NoopFirebaseClient implements FirebaseClient {
 
+    private final long latencyMillis;
+
+    public NoopFirebaseClient(@Value("${firebase.noop.latency-ms:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
     @Override
     public String send(Message message) {
-        String mockMessageId = "mock-" + UUID.randomUUID().toString().substring(0, 8);
+        simulateLatency();
+        String mockMessageId = mockMessageId();
 
         log.info("[NOOP] FCM 푸시 알림 발송 (실제 발송 안 함) - messageId: {}", mockMessageId);
 
         return mockMessageId;
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<FirebaseSendResult> sendEach(List<Message> messages) {
+        simulateLatency();
+
+        log.info("[NOOP] FCM 푸시 알림 일괄 발송 (실제 발송 안 함) - count: {}", messages.size());
+
+        return messages.stream()
+                .map(message -> FirebaseSendResult.success(mockMessageId()))
+                .toList();
+    }
+
+    private String mockMessageId() {
+        return "mock-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
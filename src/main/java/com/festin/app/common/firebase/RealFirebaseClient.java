@@ -1,11 +1,14 @@
 package com.festin.app.common.firebase;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 실제 Firebase Messaging 클라이언트
  *
@@ -24,4 +27,14 @@ public class RealFirebaseClient implements FirebaseClient {
     public String send(Message message) throws FirebaseMessagingException {
         return FirebaseMessaging.getInstance().send(message);
     }
+
+    @Override
+    public List<FirebaseSendResult> sendEach(List<Message> messages) throws FirebaseMessagingException {
+        BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+        return response.getResponses().stream()
+                .map(sendResponse -> sendResponse.isSuccessful()
+                        ? FirebaseSendResult.success(sendResponse.getMessageId())
+                        : FirebaseSendResult.failure(sendResponse.getException()))
+                .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.festin.app.common.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT Claims
+ *
+ * 토큰을 1회 파싱한 결과를 보관 (필터에서 claim마다 재파싱하지 않도록)
+ *
+ * @param userId 사용자 ID (sub)
+ * @param email 이메일
+ * @param role 역할 (VISITOR, STAFF)
+ * @param boothId 관리 부스 ID (STAFF 전용, 없으면 null)
+ * @param expiresAt 만료 시각 (exp)
+ */
+public record JwtClaims(
+        Long userId,
+        String email,
+        String role,
+        Long boothId,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -2,6 +2,7 @@ package com.festin.app.common.jwt;
 
 import com.festin.app.user.application.port.out.TokenGeneratorPort;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
@@ -16,16 +17,24 @@ import java.util.Date;
  * TokenGeneratorPort 구현:
  * - Application Layer는 Port를 통해서만 접근
  * - JWT 구현 세부사항은 Infrastructure Layer에 격리
+ *
+ * 검증:
+ * - JwtParser는 불변(thread-safe)이므로 생성 시 1회만 빌드하여 재사용
+ * - parse()로 서명 검증 + claim 추출을 1회에 처리 (JwtClaims)
  */
 @Component
 public class JwtTokenProvider implements TokenGeneratorPort {
 
     private final SecretKey secretKey;
     private final long expiration;
+    private final JwtParser parser;
 
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
         this.expiration = jwtProperties.getExpiration();
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     /**
@@ -62,43 +71,59 @@ public class JwtTokenProvider implements TokenGeneratorPort {
      * JWT 토큰 검증 및 Claims 추출
      */
     public Claims validateAndGetClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * JWT 토큰 검증 후 인증에 필요한 claim을 한 번에 추출
+     *
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료, 형식 오류
+     */
+    public JwtClaims parse(String token) {
+        Claims claims = validateAndGetClaims(token);
+        return new JwtClaims(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                boothIdOf(claims),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
     /**
      * 토큰에서 userId 추출
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = validateAndGetClaims(token);
-        return Long.parseLong(claims.getSubject());
+        return parse(token).userId();
     }
 
     /**
      * 토큰에서 email 추출
      */
     public String getEmailFromToken(String token) {
-        Claims claims = validateAndGetClaims(token);
-        return claims.get("email", String.class);
+        return parse(token).email();
     }
 
     /**
      * 토큰에서 role 추출
      */
     public String getRoleFromToken(String token) {
-        Claims claims = validateAndGetClaims(token);
-        return claims.get("role", String.class);
+        return parse(token).role();
     }
 
     /**
      * 토큰에서 boothId 추출 (STAFF 전용)
      */
     public Long getBoothIdFromToken(String token) {
-        Claims claims = validateAndGetClaims(token);
-        Integer boothId = claims.get("boothId", Integer.class);
-        return boothId != null ? boothId.longValue() : null;
+        return parse(token).boothId();
+    }
+
+    /**
+     * boothId claim (JSON 숫자 크기에 따라 Integer 또는 Long으로 역직렬화됨)
+     */
+    private Long boothIdOf(Claims claims) {
+        Object boothId = claims.get("boothId");
+        return boothId instanceof Number number ? number.longValue() : null;
     }
 }
@@ -0,0 +1,128 @@
+package com.festin.app.common.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증 완료 JWT 캐시
+ *
+ * 문제:
+ * - 대기 순번 폴링처럼 같은 클라이언트가 같은 토큰으로 반복 요청
+ * - 요청마다 HMAC 서명 검증 + JSON 파싱 반복
+ *
+ * 해결:
+ * - 검증에 성공한 토큰의 JwtClaims를 토큰 SHA-256 다이제스트 키로 캐싱
+ * - 원문 토큰은 보관하지 않음 (메모리 덤프 노출 방지 + 키 크기 고정)
+ * - 토큰 exp까지만 유효 (만료 후 조회 시 제거하고 재검증 → 만료 예외)
+ *
+ * 크기 제한 (max-size):
+ * - 가득 차면 만료 항목을 먼저 정리
+ * - 그래도 가득 차 있으면 전체 비움 (최악의 경우에도 캐시 도입 전 비용과 동일)
+ *
+ * 메트릭:
+ * - festin.jwt.cache{result=hit|miss}
+ * - festin.jwt.cache.size
+ *
+ * 비활성화: jwt.cache.enabled=false (매 요청 검증)
+ */
+@Slf4j
+@Component
+public class VerifiedJwtCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final int maxSize;
+    private final Map<String, JwtClaims> cache = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedJwtCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") int maxSize
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+
+        this.hitCounter = Counter.builder("festin.jwt.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("festin.jwt.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("festin.jwt.cache.size", cache, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검증된 Claims 조회 (캐시 미스 시 서명 검증 후 적재)
+     *
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료, 형식 오류
+     */
+    public JwtClaims resolve(String token) {
+        return resolve(token, Instant.now());
+    }
+
+    /**
+     * 기준 시각을 지정한 조회 (테스트에서 exp 경계 검증용)
+     */
+    JwtClaims resolve(String token, Instant now) {
+        if (!enabled) {
+            return jwtTokenProvider.parse(token);
+        }
+
+        String key = digest(token);
+
+        JwtClaims cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hitCounter.increment();
+                return cached;
+            }
+            cache.remove(key, cached);
+        }
+
+        missCounter.increment();
+        JwtClaims claims = jwtTokenProvider.parse(token);
+        if (claims.expiresAt() != null) {
+            put(key, claims, now);
+        }
+        return claims;
+    }
+
+    private void put(String key, JwtClaims claims, Instant now) {
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(entry -> entry.isExpired(now));
+            if (cache.size() >= maxSize) {
+                log.debug("[JWT 캐시] 가득 참 - 전체 비움 (size: {})", cache.size());
+                cache.clear();
+            }
+        }
+        cache.put(key, claims);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
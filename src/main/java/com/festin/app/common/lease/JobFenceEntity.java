@@ -0,0 +1,30 @@
+package com.festin.app.common.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 작업 펜싱 토큰 JPA Entity
+ *
+ * 리스로 보호하는 MySQL 쓰기가 마지막으로 사용한 펜싱 토큰 (리스 이름별 1행)
+ * - 쓰기 트랜잭션에서 행을 잠그고 토큰을 비교 → 더 큰 토큰이 이미 쓴 경우 이전 보유자의 쓰기 거절
+ * - 조회/갱신은 JdbcTemplate으로 직접 수행 (스키마 관리용 Entity)
+ */
+@Entity
+@Table(name = "job_fence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobFenceEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private long token;
+}
@@ -0,0 +1,39 @@
+package com.festin.app.common.lease;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 스케줄 작업 리스 조율
+ *
+ * 여러 인스턴스에서 같은 @Scheduled 작업이 동시에 실행되지 않도록 조율
+ * - runExclusive: 전체 인스턴스 중 하나만 실행
+ * - runPartitioned: 부스 ID 해시 파티션별로 리스를 나눠 여러 인스턴스가 분담
+ *
+ * 구현체:
+ * - RedisJobLeaseScheduler: Redis 리스 (festin.lease.enabled=true, 기본값)
+ * - LocalJobLeaseScheduler: 리스 없이 바로 실행 (festin.lease.enabled=false, 단일 인스턴스/테스트용)
+ */
+public interface JobLeaseScheduler {
+
+    /**
+     * 리스를 획득한 경우에만 작업 실행
+     *
+     * @param jobName 작업 이름 (리스 키)
+     * @param job 작업 (리스 보유 여부를 청크마다 확인)
+     * @return 실행 여부 (다른 인스턴스가 보유 중이면 false)
+     */
+    boolean runExclusive(String jobName, Consumer<Lease> job);
+
+    /**
+     * 파티션별 리스를 획득한 파티션만 작업 실행
+     *
+     * 인스턴스마다 시작 파티션을 다르게 하여 동시에 실행된 인스턴스끼리 파티션을 분담
+     *
+     * @param jobName 작업 이름 (파티션별 리스 키: {jobName}:{index})
+     * @param partitions 파티션 수
+     * @param job 작업
+     * @return 처리한 파티션 수
+     */
+    int runPartitioned(String jobName, int partitions, BiConsumer<Lease, LeasePartition> job);
+}
@@ -0,0 +1,69 @@
+package com.festin.app.common.lease;
+
+/**
+ * 작업 리스
+ *
+ * - fencingToken: 리스 획득마다 증가하는 토큰 (나중에 획득한 리스가 항상 큼)
+ * - isHeld(): 갱신 실패 또는 로컬 만료 시각 경과 시 false
+ *
+ * 작업은 청크마다 isHeld()를 확인하고 false면 즉시 중단
+ * (GC 정지 등으로 갱신이 밀려도 로컬 만료 시각 이후에는 진행하지 않음)
+ *
+ * isHeld() 확인과 쓰기 사이의 정지는 막을 수 없으므로, 쓰기 저장소가 토큰을 비교해 이전 보유자의 쓰기를 거절
+ * - MySQL: job_fence 행을 쓰기 트랜잭션에서 잠그고 비교 (StaleLeaseException)
+ * - 리스 미사용(local) 리스는 토큰 0 → 비교하지 않음
+ */
+public final class Lease {
+
+    private final String name;
+    private final String value;
+    private final long fencingToken;
+
+    private volatile long expiresAtMillis;
+    private volatile boolean lost;
+
+    Lease(String name, String value, long fencingToken, long expiresAtMillis) {
+        this.name = name;
+        this.value = value;
+        this.fencingToken = fencingToken;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * 리스 미사용 환경용 (항상 보유, 펜싱 없음)
+     */
+    public static Lease local(String name) {
+        return new Lease(name, name, 0, Long.MAX_VALUE);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * 펜싱 토큰을 비교해야 하는 리스인지 (리스 미사용 환경은 false)
+     */
+    public boolean isFenced() {
+        return fencingToken > 0;
+    }
+
+    public boolean isHeld() {
+        return !lost && System.currentTimeMillis() < expiresAtMillis;
+    }
+
+    String value() {
+        return value;
+    }
+
+    void renewed(long expiresAtMillis) {
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    void markLost() {
+        this.lost = true;
+    }
+}
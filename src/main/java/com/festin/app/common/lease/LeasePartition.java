@@ -0,0 +1,25 @@
+package com.festin.app.common.lease;
+
+/**
+ * 작업 파티션 (부스 ID 해시 기준)
+ *
+ * 부스 ID를 파티션 수로 나눈 나머지가 index인 부스만 담당
+ * - MySQL의 MOD(booth_id, count) = index 조건과 같은 결과
+ *
+ * @param index 파티션 번호 (0부터)
+ * @param count 전체 파티션 수
+ */
+public record LeasePartition(
+        int index,
+        int count
+) {
+
+    /**
+     * 전체 부스 (파티션 미사용)
+     */
+    public static final LeasePartition ALL = new LeasePartition(0, 1);
+
+    public boolean owns(Long boothId) {
+        return Math.floorMod(boothId, count) == index;
+    }
+}
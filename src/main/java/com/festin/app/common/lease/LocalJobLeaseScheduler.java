@@ -0,0 +1,34 @@
+package com.festin.app.common.lease;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 작업 실행 (리스 없음)
+ *
+ * festin.lease.enabled=false일 때 활성화됩니다.
+ * 단일 인스턴스 환경과 테스트에서 작업을 바로 실행합니다.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "festin.lease",
+        name = "enabled",
+        havingValue = "false"
+)
+public class LocalJobLeaseScheduler implements JobLeaseScheduler {
+
+    @Override
+    public boolean runExclusive(String jobName, Consumer<Lease> job) {
+        job.accept(Lease.local(jobName));
+        return true;
+    }
+
+    @Override
+    public int runPartitioned(String jobName, int partitions, BiConsumer<Lease, LeasePartition> job) {
+        job.accept(Lease.local(jobName), LeasePartition.ALL);
+        return 1;
+    }
+}
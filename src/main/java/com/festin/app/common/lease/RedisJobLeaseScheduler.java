@@ -0,0 +1,263 @@
+package com.festin.app.common.lease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Redis 리스 기반 스케줄 작업 조율
+ *
+ * 문제:
+ * - 컨테이너를 여러 대 띄우면 모든 인스턴스가 같은 주기로 노쇼 처리 / Soft Lock 보정을 실행
+ * - 같은 행과 키를 두고 경합하고, Soft Lock 롤백이 중복될 수 있음
+ *
+ * 리스:
+ * - 획득: SET lease:{name} NX PX ttl + 펜싱 토큰 INCR (Lua Script 1회)
+ * - 갱신: 작업 중 ttl/3 주기로 본인 리스일 때만 PEXPIRE
+ * - 반납: 작업 종료 시 본인 리스일 때만 DEL
+ * - 갱신 실패 또는 로컬 만료 시각 경과 시 Lease.isHeld() = false → 작업이 다음 청크 전에 중단
+ *
+ * 파티션 (runPartitioned):
+ * - 부스 ID 해시 파티션마다 별도 리스 (lease:{name}:{index})
+ * - 인스턴스마다 시작 파티션을 다르게 하여 살아있는 인스턴스끼리 파티션을 나눠 처리
+ * - 인스턴스가 죽으면 리스 만료 후 다른 인스턴스가 해당 파티션을 이어받음
+ *
+ * 메트릭:
+ * - festin.lease.held{job} (현재 보유 중인 리스 수)
+ * - festin.lease.lost{job} (작업 중 리스 상실 횟수)
+ * - festin.lease.acquire{job, result=acquired|busy}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        prefix = "festin.lease",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RedisJobLeaseScheduler implements JobLeaseScheduler {
+
+    private static final String LEASE_KEY_PREFIX = "lease:";
+    private static final String FENCE_KEY_SUFFIX = ":fence";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final String instanceId;
+
+    private final Map<String, AtomicInteger> heldByJob = new ConcurrentHashMap<>();
+
+    private RedisScript<Long> acquireScript;
+    private RedisScript<Long> renewScript;
+    private RedisScript<Long> releaseScript;
+    private ScheduledExecutorService renewExecutor;
+
+    public RedisJobLeaseScheduler(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${festin.lease.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlMillis;
+        this.instanceId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    public void init() {
+        this.acquireScript = loadScript("scripts/lease-acquire.lua");
+        this.renewScript = loadScript("scripts/lease-renew.lua");
+        this.releaseScript = loadScript("scripts/lease-release.lua");
+        this.renewExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("lease-renewer").daemon().factory());
+
+        log.info("[리스] 인스턴스 ID: {}, TTL: {}ms", instanceId, ttlMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (renewExecutor != null) {
+            renewExecutor.shutdownNow();
+        }
+    }
+
+    private RedisScript<Long> loadScript(String path) {
+        try {
+            String scriptContent = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+            DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+            script.setScriptText(scriptContent);
+            script.setResultType(Long.class);
+
+            log.info("Lua script 로드 완료: {}", path);
+            return script;
+        } catch (IOException e) {
+            log.error("Lua script 로드 실패 - path: {}", path, e);
+            throw new RuntimeException("Lua script 로드 실패", e);
+        }
+    }
+
+    @Override
+    public boolean runExclusive(String jobName, Consumer<Lease> job) {
+        return runWithLease(jobName, jobName, job);
+    }
+
+    @Override
+    public int runPartitioned(String jobName, int partitions, BiConsumer<Lease, LeasePartition> job) {
+        int start = Math.floorMod(instanceId.hashCode(), partitions);
+        int processed = 0;
+
+        for (int i = 0; i < partitions; i++) {
+            LeasePartition partition = new LeasePartition((start + i) % partitions, partitions);
+            String leaseName = jobName + ":" + partition.index();
+            if (runWithLease(jobName, leaseName, lease -> job.accept(lease, partition))) {
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 리스 획득 → 갱신 예약 → 작업 → 갱신 취소 → 반납
+     */
+    private boolean runWithLease(String jobName, String leaseName, Consumer<Lease> job) {
+        Optional<Lease> acquired = tryAcquire(leaseName);
+        if (acquired.isEmpty()) {
+            acquireCounter(jobName, "busy").increment();
+            log.debug("[리스] 다른 인스턴스가 보유 중 - lease: {}", leaseName);
+            return false;
+        }
+
+        Lease lease = acquired.get();
+        acquireCounter(jobName, "acquired").increment();
+        AtomicInteger held = held(jobName);
+        held.incrementAndGet();
+
+        long renewMillis = Math.max(1, ttlMillis / 3);
+        ScheduledFuture<?> renewal = renewExecutor.scheduleAtFixedRate(
+                () -> renew(jobName, lease), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            job.accept(lease);
+        } finally {
+            renewal.cancel(false);
+            held.decrementAndGet();
+            release(lease);
+        }
+        return true;
+    }
+
+    private Optional<Lease> tryAcquire(String leaseName) {
+        String leaseKey = LEASE_KEY_PREFIX + leaseName;
+        long requestedAt = System.currentTimeMillis();
+
+        Long token = redisTemplate.execute(
+                acquireScript,
+                List.of(leaseKey, leaseKey + FENCE_KEY_SUFFIX),
+                instanceId,
+                String.valueOf(ttlMillis));
+
+        if (token == null || token == 0) {
+            return Optional.empty();
+        }
+
+        log.debug("[리스] 획득 - lease: {}, token: {}", leaseName, token);
+        return Optional.of(new Lease(leaseName, instanceId + ":" + token, token, requestedAt + ttlMillis));
+    }
+
+    /**
+     * 리스 갱신 (요청 시각 기준으로 로컬 만료 시각 연장)
+     *
+     * Redis 오류 시에는 상실로 판단하지 않고 로컬 만료 시각까지만 작업 허용
+     */
+    private void renew(String jobName, Lease lease) {
+        if (!lease.isHeld()) {
+            return;
+        }
+
+        long requestedAt = System.currentTimeMillis();
+        try {
+            Long renewed = redisTemplate.execute(
+                    renewScript,
+                    List.of(LEASE_KEY_PREFIX + lease.name()),
+                    lease.value(),
+                    String.valueOf(ttlMillis));
+
+            if (renewed != null && renewed == 1) {
+                lease.renewed(requestedAt + ttlMillis);
+                return;
+            }
+
+            lease.markLost();
+            lostCounter(jobName).increment();
+            log.warn("[리스] 상실 - lease: {}, token: {}", lease.name(), lease.fencingToken());
+        } catch (Exception e) {
+            log.error("[리스] 갱신 실패 - lease: {}", lease.name(), e);
+        }
+    }
+
+    private void release(Lease lease) {
+        try {
+            redisTemplate.execute(releaseScript, List.of(LEASE_KEY_PREFIX + lease.name()), lease.value());
+        } catch (Exception e) {
+            // 반납 실패 시 TTL 만료로 해제
+            log.error("[리스] 반납 실패 - lease: {}", lease.name(), e);
+        }
+    }
+
+    private AtomicInteger held(String jobName) {
+        return heldByJob.computeIfAbsent(jobName, name -> {
+            AtomicInteger held = new AtomicInteger();
+            Gauge.builder("festin.lease.held", held, AtomicInteger::get)
+                    .tag("job", name)
+                    .register(meterRegistry);
+            return held;
+        });
+    }
+
+    private Counter acquireCounter(String jobName, String result) {
+        return Counter.builder("festin.lease.acquire")
+                .tag("job", jobName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter lostCounter(String jobName) {
+        return Counter.builder("festin.lease.lost")
+                .tag("job", jobName)
+                .register(meterRegistry);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
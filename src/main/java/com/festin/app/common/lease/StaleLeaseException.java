@@ -0,0 +1,14 @@
+package com.festin.app.common.lease;
+
+/**
+ * 펜싱 토큰 검증 실패
+ *
+ * 리스 만료 후 다른 인스턴스가 더 큰 토큰으로 이미 쓴 상태에서
+ * 이전 보유자의 쓰기가 늦게 도착한 경우 (GC 정지, 네트워크 지연 등)
+ */
+public class StaleLeaseException extends RuntimeException {
+
+    public StaleLeaseException(String leaseName, long token, long latestToken) {
+        super("이전 리스의 쓰기 거절 - lease: " + leaseName + ", token: " + token + ", latest: " + latestToken);
+    }
+}
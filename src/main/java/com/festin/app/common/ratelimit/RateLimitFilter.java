@@ -0,0 +1,171 @@
+package com.festin.app.common.ratelimit;
+
+import com.festin.app.common.dto.ErrorResponse;
+import com.festin.app.common.exception.ErrorCode;
+import com.festin.app.common.ratelimit.RedisTokenBucketLimiter.Decision;
+import com.festin.app.common.ratelimit.RedisTokenBucketLimiter.NamedBucket;
+import com.festin.app.common.security.JwtAuthenticationToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 유입 제한 필터 (Redis 토큰 버킷)
+ *
+ * 문제:
+ * - 스파이크(500 req/s) 시 서버가 모든 요청을 받아 내부에 쌓아둠 → p99 14초, 타임아웃 다수
+ * - 결국 모두 늦게 실패 (대기 등록도, 순번 조회도)
+ *
+ * 해결:
+ * - 처리 가능한 양만 받고 나머지는 즉시 429 + Retry-After (버킷 충전 시간 기준)
+ * - 클라이언트는 Retry-After 후 재시도 → 받아들인 요청은 빠르게 처리
+ *
+ * 처리 흐름:
+ * 1. 요청 메서드 + 경로로 라우트 결정 (festin.rate-limit.routes 순서대로 첫 번째 일치)
+ * 2. 전체 / 라우트 / 라우트+사용자 버킷을 Lua Script 1회로 확인 + 차감
+ * 3. 하나라도 부족하면 429 (Redis 장애 시에는 허용 - 유입 제한 때문에 서비스가 멈추지 않도록)
+ *
+ * JWT 인증 필터 다음에 실행 (사용자별 버킷에 userId 필요)
+ *
+ * 메트릭:
+ * - festin.ratelimit.requests{route, result=allowed|rejected|error}
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String GLOBAL_BUCKET = "global";
+
+    private final RateLimitProperties properties;
+    private final RedisTokenBucketLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final List<CompiledRoute> routes;
+
+    public RateLimitFilter(
+            RateLimitProperties properties,
+            RedisTokenBucketLimiter limiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new CompiledRoute(route, PathPatternParser.defaultInstance.parse(route.getPattern())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CompiledRoute route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String routeName = route.route().getName();
+        Decision decision;
+        try {
+            decision = limiter.tryAcquire(bucketsOf(route.route()));
+        } catch (Exception e) {
+            // Redis 장애 시 허용 (fail-open)
+            count(routeName, "error");
+            log.warn("[유입 제한] 토큰 버킷 확인 실패 (허용) - route: {}, error: {}", routeName, e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!decision.allowed()) {
+            count(routeName, "rejected");
+            reject(response, decision.retryAfterMillis());
+            return;
+        }
+
+        count(routeName, "allowed");
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRoute match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledRoute route : routes) {
+            String method = route.route().getMethod();
+            if ((method == null || method.equalsIgnoreCase(request.getMethod())) && route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private List<NamedBucket> bucketsOf(RateLimitProperties.Route route) {
+        List<NamedBucket> buckets = new ArrayList<>(3);
+        if (properties.getGlobal().isConfigured()) {
+            buckets.add(new NamedBucket(GLOBAL_BUCKET, properties.getGlobal()));
+        }
+        if (route.routeBucket().isConfigured()) {
+            buckets.add(new NamedBucket("route:" + route.getName(), route.routeBucket()));
+        }
+
+        Long userId = currentUserId();
+        if (userId != null && route.userBucket().isConfigured()) {
+            buckets.add(new NamedBucket("route:" + route.getName() + ":user:" + userId, route.userBucket()));
+        }
+        return buckets;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken token) {
+            return (Long) token.getPrincipal();
+        }
+        return null;
+    }
+
+    /**
+     * 429 Too Many Requests + Retry-After (초 단위 올림)
+     */
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(ErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS)));
+    }
+
+    private void count(String route, String result) {
+        Counter.builder("festin.ratelimit.requests")
+                .tag("route", route)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record CompiledRoute(RateLimitProperties.Route route, PathPattern pattern) {
+    }
+}
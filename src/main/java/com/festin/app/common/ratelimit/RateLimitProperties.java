@@ -0,0 +1,70 @@
+package com.festin.app.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 유입 제한 설정 (festin.rate-limit)
+ *
+ * 토큰 버킷:
+ * - capacity: 버킷 크기 (순간 허용 요청 수)
+ * - refill-per-second: 초당 충전 토큰 수 (지속 허용 처리량)
+ *
+ * 버킷 종류 (요청 1건은 해당하는 버킷 모두에서 토큰 1개씩 차감, 하나라도 부족하면 거절):
+ * - global: 라우트에 해당하는 모든 요청
+ * - routes[].capacity: 라우트별
+ * - routes[].per-user-capacity: 라우트 + 사용자별 (인증된 요청만, 미설정 시 생략)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "festin.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Bucket global = new Bucket();
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        private long capacity;
+        private double refillPerSecond;
+
+        public boolean isConfigured() {
+            return capacity > 0 && refillPerSecond > 0;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private String method;
+        private String pattern;
+        private long capacity;
+        private double refillPerSecond;
+        private long perUserCapacity;
+        private double perUserRefillPerSecond;
+
+        public Bucket routeBucket() {
+            return bucket(capacity, refillPerSecond);
+        }
+
+        public Bucket userBucket() {
+            return bucket(perUserCapacity, perUserRefillPerSecond);
+        }
+
+        private static Bucket bucket(long capacity, double refillPerSecond) {
+            Bucket bucket = new Bucket();
+            bucket.setCapacity(capacity);
+            bucket.setRefillPerSecond(refillPerSecond);
+            return bucket;
+        }
+    }
+}
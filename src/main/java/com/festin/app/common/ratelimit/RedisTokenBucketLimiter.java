@@ -0,0 +1,88 @@
+package com.festin.app.common.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷
+ *
+ * 여러 버킷(전체/라우트/사용자)을 Lua Script 1회로 원자적 확인 + 차감
+ * - 인스턴스가 여러 대여도 버킷은 Redis 1곳에서 공유
+ *
+ * Redis 키 형식:
+ * - ratelimit:{버킷 이름} (HASH) - tokens: 남은 토큰, ts: 마지막 충전 시각 (epoch millis)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucketLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private RedisScript<List> tokenBucketScript;
+
+    @PostConstruct
+    public void init() {
+        try {
+            ClassPathResource resource = new ClassPathResource("scripts/token-bucket.lua");
+            DefaultRedisScript<List> script = new DefaultRedisScript<>();
+            script.setScriptText(resource.getContentAsString(StandardCharsets.UTF_8));
+            script.setResultType(List.class);
+            this.tokenBucketScript = script;
+        } catch (IOException e) {
+            throw new IllegalStateException("Lua script 로드 실패: scripts/token-bucket.lua", e);
+        }
+    }
+
+    /**
+     * 모든 버킷에서 토큰 1개씩 차감 시도
+     *
+     * @param buckets 확인할 버킷 목록
+     * @return 허용 여부 + 거절 시 재시도까지 대기 시간
+     */
+    public Decision tryAcquire(List<NamedBucket> buckets) {
+        List<String> keys = new ArrayList<>(buckets.size());
+        Object[] args = new Object[buckets.size() * 2];
+        for (int i = 0; i < buckets.size(); i++) {
+            NamedBucket bucket = buckets.get(i);
+            keys.add(KEY_PREFIX + bucket.name());
+            args[i * 2] = String.valueOf(bucket.bucket().getCapacity());
+            args[i * 2 + 1] = String.valueOf(bucket.bucket().getRefillPerSecond());
+        }
+
+        List result = redisTemplate.execute(tokenBucketScript, keys, args);
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("토큰 버킷 Lua script 반환값 이상: " + result);
+        }
+
+        boolean allowed = ((Number) result.get(0)).intValue() == 1;
+        long retryAfterMillis = ((Number) result.get(1)).longValue();
+        return new Decision(allowed, retryAfterMillis);
+    }
+
+    /**
+     * 이름이 붙은 버킷 (이름 = Redis 키)
+     */
+    public record NamedBucket(String name, RateLimitProperties.Bucket bucket) {
+    }
+
+    /**
+     * 유입 판정 결과
+     *
+     * @param allowed 허용 여부
+     * @param retryAfterMillis 거절 시 토큰 1개가 충전될 때까지 대기 시간
+     */
+    public record Decision(boolean allowed, long retryAfterMillis) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.festin.app.common.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redis 읽기 명령 묶음 처리 (요청 간 micro-batching)
+ *
+ * 문제:
+ * - 방문자 수백 명이 동시에 폴링 → 요청마다 ZRANK / ZCARD / HGET을 개별 전송
+ * - 명령마다 Lettuce write + flush 1회, Redis도 명령마다 읽기/응답 1회
+ * - 같은 부스 폴링이 몰리면 ZCARD queue:booth:7 같은 동일 명령이 동시에 수백 번
+ *
+ * 해결 (DataLoader 방식):
+ * - 여러 요청 스레드의 읽기 명령을 window-micros 동안 (또는 max-batch개까지) 모아 Pipeline 1회로 전송
+ * - 같은 묶음 안의 동일 명령(종류 + 키 + 필드)은 1번만 전송하고 결과 공유
+ *
+ * 정합성:
+ * - 읽기 전용 명령만 대상 (쓰기/Lua Script는 기존대로 즉시 실행)
+ * - 묶음 전송 시점의 값을 반환 → 개별 전송과 같은 수준의 최신성 (최대 window-micros 지연)
+ *
+ * 메트릭:
+ * - festin.redis.coalescer.commands{result=sent|deduplicated}
+ * - festin.redis.coalescer.batch.size (Pipeline 1회당 명령 수)
+ *
+ * 활성화: festin.redis.read-coalescer.enabled=true
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "festin.redis.read-coalescer.enabled", havingValue = "true")
+public class RedisReadCoalescer {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long windowMicros;
+    private final int maxBatch;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService flusher;
+
+    private final Counter sentCounter;
+    private final Counter deduplicatedCounter;
+    private final DistributionSummary batchSize;
+
+    // 현재 모으는 중인 묶음 (lock 잠금)
+    private final Object lock = new Object();
+    private Map<ReadCommand, CompletableFuture<Object>> pending = new LinkedHashMap<>();
+
+    public RedisReadCoalescer(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${festin.redis.read-coalescer.window-micros:200}") long windowMicros,
+            @Value("${festin.redis.read-coalescer.max-batch:128}") int maxBatch,
+            @Value("${festin.redis.read-coalescer.timeout-ms:2000}") long timeoutMillis,
+            @Value("${festin.redis.read-coalescer.flush-threads:2}") int flushThreads
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.windowMicros = windowMicros;
+        this.maxBatch = maxBatch;
+        this.timeoutMillis = timeoutMillis;
+        this.flusher = Executors.newScheduledThreadPool(flushThreads,
+                Thread.ofPlatform().name("redis-read-coalescer-", 0).daemon().factory());
+
+        this.sentCounter = Counter.builder("festin.redis.coalescer.commands")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("festin.redis.coalescer.commands")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("festin.redis.coalescer.batch.size")
+                .description("Pipeline 1회당 명령 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+    }
+
+    /**
+     * ZRANK key member
+     */
+    public Long zRank(String key, String member) {
+        return (Long) read(new ReadCommand(Type.ZRANK, key, member));
+    }
+
+    /**
+     * ZCARD key
+     */
+    public Long zCard(String key) {
+        return (Long) read(new ReadCommand(Type.ZCARD, key, null));
+    }
+
+    /**
+     * ZSCORE key member
+     */
+    public Double zScore(String key, String member) {
+        return (Double) read(new ReadCommand(Type.ZSCORE, key, member));
+    }
+
+    /**
+     * HGET key field
+     */
+    public String hGet(String key, String field) {
+        return (String) read(new ReadCommand(Type.HGET, key, field));
+    }
+
+    /**
+     * GET key
+     */
+    public String get(String key) {
+        return (String) read(new ReadCommand(Type.GET, key, null));
+    }
+
+    private Object read(ReadCommand command) {
+        CompletableFuture<Object> future = submit(command);
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisSystemException("Redis 읽기 대기 중 인터럽트: " + command, e);
+        } catch (ExecutionException e) {
+            throw new RedisSystemException("Redis 읽기 실패: " + command, e.getCause());
+        } catch (TimeoutException e) {
+            throw new RedisSystemException("Redis 읽기 시간 초과: " + command, e);
+        }
+    }
+
+    private CompletableFuture<Object> submit(ReadCommand command) {
+        Map<ReadCommand, CompletableFuture<Object>> full = null;
+        CompletableFuture<Object> future;
+
+        synchronized (lock) {
+            future = pending.get(command);
+            if (future != null) {
+                deduplicatedCounter.increment();
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(command, future);
+            if (pending.size() == 1) {
+                // 묶음의 첫 명령 → window 후 전송 예약
+                Map<ReadCommand, CompletableFuture<Object>> batch = pending;
+                flusher.schedule(() -> flushIfCurrent(batch), windowMicros, TimeUnit.MICROSECONDS);
+            }
+            if (pending.size() >= maxBatch) {
+                full = pending;
+                pending = new LinkedHashMap<>();
+            }
+        }
+
+        if (full != null) {
+            Map<ReadCommand, CompletableFuture<Object>> batch = full;
+            flusher.execute(() -> execute(batch));
+        }
+        return future;
+    }
+
+    /**
+     * window 만료 - 아직 max-batch로 전송되지 않은 묶음이면 전송
+     */
+    private void flushIfCurrent(Map<ReadCommand, CompletableFuture<Object>> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new LinkedHashMap<>();
+        }
+        execute(batch);
+    }
+
+    private void execute(Map<ReadCommand, CompletableFuture<Object>> batch) {
+        List<ReadCommand> commands = new ArrayList<>(batch.keySet());
+        sentCounter.increment(commands.size());
+        batchSize.record(commands.size());
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ReadCommand command : commands) {
+                    byte[] key = command.key().getBytes(StandardCharsets.UTF_8);
+                    byte[] arg = command.arg() != null ? command.arg().getBytes(StandardCharsets.UTF_8) : null;
+                    switch (command.type()) {
+                        case ZRANK -> connection.zSetCommands().zRank(key, arg);
+                        case ZCARD -> connection.zSetCommands().zCard(key);
+                        case ZSCORE -> connection.zSetCommands().zScore(key, arg);
+                        case HGET -> connection.hashCommands().hGet(key, arg);
+                        case GET -> connection.stringCommands().get(key);
+                    }
+                }
+                return null;
+            });
+
+            for (int i = 0; i < commands.size(); i++) {
+                batch.get(commands.get(i)).complete(results.get(i));
+            }
+        } catch (Exception e) {
+            log.warn("[Redis 읽기 묶음] Pipeline 실패 - commands: {}, error: {}", commands.size(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private enum Type {
+        ZRANK, ZCARD, ZSCORE, HGET, GET
+    }
+
+    /**
+     * 읽기 명령 (동일 명령 판별 키)
+     *
+     * @param arg ZRANK/ZSCORE의 member, HGET의 field (없으면 null)
+     */
+    private record ReadCommand(Type type, String key, String arg) {
+    }
+}
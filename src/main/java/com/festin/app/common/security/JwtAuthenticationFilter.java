@@ -1,6 +1,7 @@
 package com.festin.app.common.security;
 
-import com.festin.app.common.jwt.JwtTokenProvider;
+import com.festin.app.common.jwt.JwtClaims;
+import com.festin.app.common.jwt.VerifiedJwtCache;
 import com.festin.app.user.domain.model.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,13 +20,16 @@ import java.io.IOException;
  *
  * Authorization 헤더에서 JWT 토큰을 추출하고 검증합니다.
  * 검증된 사용자 정보를 SecurityContext에 저장합니다.
+ *
+ * 토큰은 요청당 1회만 파싱하며, 같은 토큰의 반복 요청은 VerifiedJwtCache가
+ * 만료 시각(exp)까지 서명 검증 없이 처리합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedJwtCache verifiedJwtCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,10 +41,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (token != null) {
                 // JWT 토큰 검증 및 사용자 정보 추출
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                String roleString = jwtTokenProvider.getRoleFromToken(token);
-                Role role = Role.valueOf(roleString);
+                JwtClaims claims = verifiedJwtCache.resolve(token);
+                Long userId = claims.userId();
+                String email = claims.email();
+                Role role = Role.valueOf(claims.role());
 
                 // JwtAuthenticationToken 생성 및 SecurityContext에 저장
                 JwtAuthenticationToken authentication = new JwtAuthenticationToken(userId, email, role);
@@ -1,5 +1,8 @@
 package com.festin.app.common.security;
 
+import com.festin.app.common.concurrency.RoleBulkheadFilter;
+import com.festin.app.common.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +29,8 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final RateLimitFilter rateLimitFilter;
+    private final RoleBulkheadFilter roleBulkheadFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -43,6 +48,9 @@ public class SecurityConfig {
 
                 // 경로별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 디스패치 (SSE 완료 시) - 최초 요청에서 이미 인가됨, JWT 필터는 재실행되지 않음
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 불필요 - 로그인
                         .requestMatchers("/api/v1/auth/login").permitAll()
 
@@ -68,6 +76,12 @@ public class SecurityConfig {
                 // JWT 인증 필터 추가
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+                // 유입 제한 필터 (사용자별 버킷에 userId 필요 → JWT 인증 필터 다음)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+
+                // 역할별 벌크헤드 (STAFF 요청이 방문자 폴링에 밀리지 않도록 구획 분리)
+                .addFilterAfter(roleBulkheadFilter, RateLimitFilter.class)
+
                 // 인증 실패 시 처리
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
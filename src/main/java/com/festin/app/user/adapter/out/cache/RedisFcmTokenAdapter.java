@@ -6,6 +6,11 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +42,28 @@ public class RedisFcmTokenAdapter implements FcmTokenCachePort {
         return Optional.ofNullable(token);
     }
 
+    @Override
+    public Map<Long, String> getFcmTokens(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = new ArrayList<>(userIds);
+        List<String> keys = ids.stream()
+                .map(userId -> FCM_TOKEN_KEY_PREFIX + userId)
+                .toList();
+        List<String> tokens = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, String> tokenMap = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String token = tokens != null ? tokens.get(i) : null;
+            if (token != null) {
+                tokenMap.put(ids.get(i), token);
+            }
+        }
+        return tokenMap;
+    }
+
     @Override
     public void deleteFcmToken(Long userId) {
         String key = FCM_TOKEN_KEY_PREFIX + userId;
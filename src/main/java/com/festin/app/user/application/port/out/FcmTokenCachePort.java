@@ -1,5 +1,7 @@
 package com.festin.app.user.application.port.out;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -27,6 +29,14 @@ public interface FcmTokenCachePort {
      */
     Optional<String> getFcmToken(Long userId);
 
+    /**
+     * FCM 토큰 일괄 조회 (MGET 1회)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → FCM 토큰 (토큰이 없는 사용자는 제외)
+     */
+    Map<Long, String> getFcmTokens(Collection<Long> userIds);
+
     /**
      * FCM 토큰 삭제
      *
@@ -0,0 +1,324 @@
+package com.festin.app.waiting.adapter.in.web;
+
+import com.festin.app.waiting.adapter.in.web.dto.PositionStreamResponse;
+import com.festin.app.waiting.application.port.in.WatchPositionUseCase;
+import com.festin.app.waiting.application.port.in.WatchPositionUseCase.PositionWatch;
+import com.festin.app.waiting.application.port.in.result.PositionUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 순번 스트림(SSE) 연결 관리
+ *
+ * 책임:
+ * - SseEmitter 생성 + WatchPositionUseCase 구독 연결
+ * - 연결 수 제한: 인스턴스 전체 max-connections 초과 시 거절 (503), 사용자별 max-per-user 초과 시 가장 오래된 연결 종료
+ * - 하트비트: heartbeat-ms마다 SSE 주석 전송 (프록시 유휴 타임아웃 방지 + 끊긴 연결 정리)
+ * - 재연결: Last-Event-ID가 현재 이벤트 ID와 같으면 첫 순번 전송 생략 (그 사이 변경 없음)
+ *
+ * 전송 (연결별 송신 큐):
+ * - 순번 변경은 Pub/Sub 수신 스레드 1개에서 부스 잠금을 잡은 채 전달됨
+ *   → 그 자리에서 SseEmitter.send(소켓 쓰기)를 하면 느린 클라이언트 1명이 모든 부스의 이벤트 적용을 막음
+ * - 이벤트는 연결별 큐(send-queue-size)에 넣기만 하고, 실제 전송은 가상 스레드가 연결별로 순서대로 처리
+ * - 큐가 가득 찬 연결(받지 못하는 클라이언트)은 종료 → 클라이언트가 Last-Event-ID로 재연결하면 스냅샷부터 다시 수신
+ * - 하트비트도 같은 큐로 전송 (스케줄러 스레드 블로킹 방지, 멈춘 연결 정리)
+ *
+ * SSE 이벤트:
+ * - position: 순번 변경 (id = 부스별 대기열 이벤트 ID)
+ * - left: 대기열에서 빠짐 (호출/취소) → 스트림 종료
+ *
+ * 메트릭:
+ * - festin.queue.stream.connections (현재 연결 수)
+ * - festin.queue.stream.rejected (연결 수 초과로 거절)
+ * - festin.queue.stream.evicted (사용자별 제한으로 종료된 이전 연결)
+ * - festin.queue.stream.overflow (송신 큐가 가득 차 종료된 연결)
+ */
+@Slf4j
+@Component
+public class PositionStreamRegistry {
+
+    private static final String POSITION_EVENT = "position";
+    private static final String LEFT_EVENT = "left";
+
+    private final WatchPositionUseCase watchPositionUseCase;
+    private final int maxConnections;
+    private final int maxPerUser;
+    private final long timeoutMillis;
+    private final long reconnectMillis;
+    private final int sendQueueSize;
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-sender-", 0).factory());
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Deque<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+
+    private final Counter rejectedCounter;
+    private final Counter evictedCounter;
+    private final Counter overflowCounter;
+
+    public PositionStreamRegistry(
+            WatchPositionUseCase watchPositionUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${festin.queue.stream.max-connections:10000}") int maxConnections,
+            @Value("${festin.queue.stream.max-per-user:2}") int maxPerUser,
+            @Value("${festin.queue.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${festin.queue.stream.reconnect-ms:3000}") long reconnectMillis,
+            @Value("${festin.queue.stream.send-queue-size:16}") int sendQueueSize
+    ) {
+        this.watchPositionUseCase = watchPositionUseCase;
+        this.maxConnections = maxConnections;
+        this.maxPerUser = maxPerUser;
+        this.timeoutMillis = timeoutMillis;
+        this.reconnectMillis = reconnectMillis;
+        this.sendQueueSize = sendQueueSize;
+
+        Gauge.builder("festin.queue.stream.connections", connections, Set::size)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("festin.queue.stream.rejected")
+                .description("연결 수 초과로 거절된 순번 스트림")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("festin.queue.stream.evicted")
+                .description("사용자별 연결 수 제한으로 종료된 순번 스트림")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("festin.queue.stream.overflow")
+                .description("송신 큐가 가득 차 종료된 순번 스트림")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * 순번 스트림 연결
+     *
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더)
+     * @return SseEmitter (인스턴스 연결 수 초과 시 empty)
+     */
+    public Optional<SseEmitter> open(Long userId, Long boothId, String lastEventId) {
+        if (connections.size() >= maxConnections) {
+            rejectedCounter.increment();
+            log.warn("[순번 스트림] 연결 수 초과 - userId: {}, boothId: {}, connections: {}",
+                    userId, boothId, connections.size());
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter, parseEventId(lastEventId), sendQueueSize);
+        register(connection);
+
+        emitter.onCompletion(() -> close(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> close(connection));
+
+        try {
+            PositionWatch watch = watchPositionUseCase.watch(userId, boothId, update -> enqueue(connection, update));
+            connection.watch = watch;
+            if (connection.closed.get()) {
+                watch.cancel();
+            }
+        } catch (RuntimeException e) {
+            close(connection);
+            throw e;
+        }
+
+        log.debug("[순번 스트림] 연결 - userId: {}, boothId: {}", userId, boothId);
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 하트비트 (SSE 주석, 송신 큐가 막힌 연결 정리)
+     */
+    @Scheduled(fixedRateString = "${festin.queue.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Connection connection : connections) {
+            offer(connection, new Outgoing(SseEmitter.event().comment("ping"), false));
+        }
+    }
+
+    /**
+     * 순번 변경을 송신 큐에 추가 (이벤트 수신 스레드, 블로킹 없음)
+     */
+    private void enqueue(Connection connection, PositionUpdate update) {
+        if (!update.isWaiting()) {
+            offer(connection, new Outgoing(SseEmitter.event()
+                    .id(String.valueOf(update.eventId()))
+                    .name(LEFT_EVENT)
+                    .data(PositionStreamResponse.from(update), MediaType.APPLICATION_JSON), true));
+            return;
+        }
+
+        // 재연결 직후 첫 순번이 클라이언트가 마지막으로 받은 이벤트와 같으면 생략
+        if (connection.skipIfUnchanged(update.eventId())) {
+            return;
+        }
+
+        offer(connection, new Outgoing(SseEmitter.event()
+                .id(String.valueOf(update.eventId()))
+                .name(POSITION_EVENT)
+                .reconnectTime(reconnectMillis)
+                .data(PositionStreamResponse.from(update), MediaType.APPLICATION_JSON), false));
+    }
+
+    private void offer(Connection connection, Outgoing outgoing) {
+        if (connection.closed.get()) {
+            return;
+        }
+        if (!connection.outbox.offer(outgoing)) {
+            overflowCounter.increment();
+            log.warn("[순번 스트림] 송신 큐 초과로 연결 종료 - userId: {}, queued: {}",
+                    connection.userId, connection.outbox.size());
+            close(connection);
+            // 막힌 send가 emitter 잠금을 쥐고 있을 수 있으므로 종료도 송신 스레드에서
+            sender.execute(connection.emitter::complete);
+            return;
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(connection));
+            } catch (RejectedExecutionException e) {
+                close(connection);
+            }
+        }
+    }
+
+    /**
+     * 송신 큐 비우기 (연결별로 동시에 1개만 실행 → 전송 순서 유지)
+     */
+    private void drain(Connection connection) {
+        while (true) {
+            Outgoing outgoing;
+            while ((outgoing = connection.outbox.poll()) != null) {
+                send(connection, outgoing);
+            }
+            connection.draining.set(false);
+
+            // 플래그 해제 직전에 추가된 항목은 여기서 이어서 처리
+            if (connection.outbox.isEmpty() || !connection.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void send(Connection connection, Outgoing outgoing) {
+        if (connection.closed.get()) {
+            connection.outbox.clear();
+            return;
+        }
+        try {
+            connection.emitter.send(outgoing.event());
+            if (outgoing.last()) {
+                connection.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(connection);
+        }
+    }
+
+    private void register(Connection connection) {
+        connections.add(connection);
+        Deque<Connection> userConnections = connectionsByUser.computeIfAbsent(
+                connection.userId, userId -> new ConcurrentLinkedDeque<>());
+        userConnections.addLast(connection);
+
+        // 사용자별 제한 초과 시 가장 오래된 연결 종료 (재연결 전 끊긴 연결이 남아있는 경우)
+        while (userConnections.size() > maxPerUser) {
+            Connection oldest = userConnections.pollFirst();
+            if (oldest == null) {
+                break;
+            }
+            evictedCounter.increment();
+            oldest.emitter.complete();
+            close(oldest);
+        }
+    }
+
+    private void close(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        connections.remove(connection);
+        connectionsByUser.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+
+        PositionWatch watch = connection.watch;
+        if (watch != null) {
+            watch.cancel();
+        }
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 전송할 SSE 이벤트
+     *
+     * @param last 전송 후 스트림 종료 여부 (left 이벤트)
+     */
+    private record Outgoing(SseEmitter.SseEventBuilder event, boolean last) {
+    }
+
+    /**
+     * 순번 스트림 연결 1개
+     */
+    private static class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Long lastEventId;
+        private volatile PositionWatch watch;
+
+        private Connection(Long userId, SseEmitter emitter, Long lastEventId, int sendQueueSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.lastEventId = lastEventId;
+            this.outbox = new ArrayBlockingQueue<>(sendQueueSize);
+        }
+
+        /**
+         * 첫 순번에만 Last-Event-ID 비교 (이후에는 항상 전송)
+         */
+        private boolean skipIfUnchanged(long eventId) {
+            Long last = lastEventId;
+            lastEventId = null;
+            return last != null && last == eventId;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.festin.app.waiting.adapter.in.web;
 
 import com.festin.app.common.security.AuthenticatedUserId;
+import com.festin.app.waiting.adapter.in.web.dto.CallNextBatchResponse;
 import com.festin.app.waiting.adapter.in.web.dto.CallNextRequest;
 import com.festin.app.waiting.adapter.in.web.dto.CallNextResponse;
 import com.festin.app.waiting.adapter.in.web.dto.EnqueueRequest;
@@ -17,10 +18,16 @@ import com.festin.app.waiting.application.port.in.result.CallResult;
 import com.festin.app.waiting.application.port.in.result.EnqueueResult;
 import com.festin.app.waiting.application.port.in.result.MyWaitingListResult;
 import com.festin.app.waiting.application.port.in.result.PositionResult;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 /**
  * 대기 관리 Controller
@@ -29,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/v1/waitings - 대기 등록
  * - GET /api/v1/waitings/my - 내 대기 목록 조회
  * - GET /api/v1/waitings/booth/{boothId} - 순번 조회
+ * - GET /api/v1/waitings/booth/{boothId}/stream - 순번 실시간 구독 (SSE)
  * - DELETE /api/v1/waitings/{boothId} - 대기 취소
  * - POST /api/v1/waitings/call - 다음 사람 호출 (스태프 전용)
  */
@@ -42,6 +50,7 @@ public class WaitingController {
     private final GetPositionUseCase getPositionUseCase;
     private final CancelWaitingUseCase cancelWaitingUseCase;
     private final CallNextUseCase callNextUseCase;
+    private final PositionStreamRegistry positionStreamRegistry;
 
     /**
      * 대기 등록
@@ -102,6 +111,35 @@ public class WaitingController {
         return ResponseEntity.ok(PositionResponse.from(result));
     }
 
+    /**
+     * 순번 실시간 구독 (SSE)
+     *
+     * GET /api/v1/waitings/booth/{boothId}/stream
+     *
+     * 순번 조회 폴링 대체: 순번이 바뀔 때만 position 이벤트 전송, 대기열에서 빠지면 left 이벤트 후 종료
+     *
+     * @param userId 사용자 ID (JWT 토큰에서 추출)
+     * @param boothId 부스 ID (Path Variable)
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID
+     * @return 200 OK - text/event-stream
+     *         503 Service Unavailable - 인스턴스 연결 수 초과 (Retry-After 후 재연결)
+     */
+    @GetMapping(value = "/booth/{boothId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPosition(
+        @AuthenticatedUserId Long userId,
+        @PathVariable Long boothId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return positionStreamRegistry.open(userId, boothId, lastEventId)
+            .map(emitter -> ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter))
+            .orElseGet(() -> ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build());
+    }
+
     /**
      * 대기 취소
      *
@@ -126,17 +164,24 @@ public class WaitingController {
      *
      * POST /api/v1/waitings/call
      *
-     * @param request 호출 요청 (boothId 포함)
-     * @return 200 OK - 호출 결과 (waitingId, userId, position, calledAt)
+     * @param request 호출 요청 (boothId, count 포함)
+     * @return 200 OK - 호출 결과
+     *         400 Bad Request - boothId 누락, count 범위(1~50) 초과
+     *         - count 없음: 단건 (waitingId, userId, position, calledAt)
+     *         - count 있음: 일괄 (calledCount, calls[])
      *
      * TODO: JWT에서 boothId를 추출하여 권한 검증 추가 예정
      */
     @PostMapping("/call")
-    public ResponseEntity<CallNextResponse> callNext(
-        @RequestBody CallNextRequest request
+    public ResponseEntity<?> callNext(
+        @Valid @RequestBody CallNextRequest request
     ) {
-        CallResult result = callNextUseCase.callNext(request.getBoothId());
+        if (request.getCount() == null) {
+            CallResult result = callNextUseCase.callNext(request.getBoothId());
+            return ResponseEntity.ok(CallNextResponse.from(result));
+        }
 
-        return ResponseEntity.ok(CallNextResponse.from(result));
+        List<CallResult> results = callNextUseCase.callNext(request.getBoothId(), request.getCount());
+        return ResponseEntity.ok(CallNextBatchResponse.from(results));
     }
 }
\ No newline at end of file
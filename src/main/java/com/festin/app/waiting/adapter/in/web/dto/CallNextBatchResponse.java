@@ -0,0 +1,24 @@
+package com.festin.app.waiting.adapter.in.web.dto;
+
+import com.festin.app.waiting.application.port.in.result.CallResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 다음 사람 일괄 호출 응답 DTO
+ */
+@Data
+@AllArgsConstructor
+public class CallNextBatchResponse {
+    private Integer calledCount;
+    private List<CallNextResponse> calls;
+
+    public static CallNextBatchResponse from(List<CallResult> results) {
+        return new CallNextBatchResponse(
+                results.size(),
+                results.stream().map(CallNextResponse::from).toList()
+        );
+    }
+}
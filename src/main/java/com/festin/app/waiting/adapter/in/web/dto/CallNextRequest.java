@@ -1,11 +1,28 @@
 package com.festin.app.waiting.adapter.in.web.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 /**
  * 다음 사람 호출 요청 DTO
+ *
+ * count가 없으면 1명 호출 (기존 응답 형식 유지)
+ * count가 있으면 최대 count명 일괄 호출 (1 ~ MAX_COUNT)
  */
 @Data
 public class CallNextRequest {
+
+    /**
+     * 1회 일괄 호출 최대 인원 (Lua Script 1회 + batch INSERT 1회로 처리 가능한 규모)
+     */
+    public static final int MAX_COUNT = 50;
+
+    @NotNull(message = "boothId는 필수입니다.")
     private Long boothId;
-}
\ No newline at end of file
+
+    @Min(value = 1, message = "count는 1 이상이어야 합니다.")
+    @Max(value = MAX_COUNT, message = "count는 " + MAX_COUNT + " 이하여야 합니다.")
+    private Integer count;
+}
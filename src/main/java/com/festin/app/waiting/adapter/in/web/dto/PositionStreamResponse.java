@@ -0,0 +1,26 @@
+package com.festin.app.waiting.adapter.in.web.dto;
+
+import com.festin.app.waiting.application.port.in.result.PositionUpdate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 순번 스트림 이벤트 DTO (SSE data)
+ */
+@Data
+@AllArgsConstructor
+public class PositionStreamResponse {
+    private Long boothId;
+    private Integer position;
+    private Integer totalWaiting;
+    private Integer estimatedWaitTime;
+
+    public static PositionStreamResponse from(PositionUpdate update) {
+        return new PositionStreamResponse(
+            update.boothId(),
+            update.position(),
+            update.totalWaiting(),
+            update.estimatedWaitTime()
+        );
+    }
+}
@@ -0,0 +1,312 @@
+package com.festin.app.waiting.adapter.out.cache;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.data.redis.autoconfigure.DataRedisConnectionDetails;
+import org.springframework.boot.data.redis.autoconfigure.DataRedisProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 대기열 조회 로컬 캐시 (RESP3 Client-side caching)
+ *
+ * 문제:
+ * - 방문자가 순번 조회 API를 계속 폴링 → 같은 queue:booth:{id} 키에 ZRANK + ZCARD 반복
+ *
+ * 해결:
+ * - Lettuce RESP3 연결에 CLIENT TRACKING ON BCAST PREFIX queue:booth: 설정
+ * - 키가 변경되는 즉시 Redis 서버가 invalidate push 메시지 전송 → 해당 부스 항목 제거
+ * - getQueueSize / getPosition 결과를 JVM 메모리에서 응답
+ *
+ * 정합성:
+ * - 부스 단위 항목(BoothEntries)을 invalidate 시 통째로 교체
+ * - 조회 시작 시점의 항목과 저장 시점의 항목이 같을 때만 저장 (조회 중 invalidate 발생 시 버림)
+ * - 트래킹 연결이 끊기면 invalidate 유실 가능 → 전체 비우고 재연결 전까지 캐시 우회
+ *
+ * 용량:
+ * - 전체 항목 수가 maxEntries를 넘으면 신규 저장하지 않음 (Redis 직접 조회)
+ *
+ * 메트릭:
+ * - festin.queue.client_cache.requests{result=hit|miss}
+ * - festin.queue.client_cache.invalidations
+ * - festin.queue.client_cache.entries
+ *
+ * 활성화: festin.queue.client-cache.enabled=true
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "festin.queue.client-cache.enabled", havingValue = "true")
+public class QueueClientSideCache {
+
+    private static final String QUEUE_KEY_PREFIX = "queue:booth:";
+
+    private final MeterRegistry meterRegistry;
+    private final DataRedisConnectionDetails connectionDetails;
+    private final DataRedisProperties redisProperties;
+    private final int maxEntries;
+
+    private final Map<Long, BoothEntries> booths = new ConcurrentHashMap<>();
+    private final AtomicInteger entryCount = new AtomicInteger();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter invalidationCounter;
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> trackingConnection;
+    private volatile boolean tracking;
+
+    public QueueClientSideCache(
+            MeterRegistry meterRegistry,
+            DataRedisConnectionDetails connectionDetails,
+            DataRedisProperties redisProperties,
+            @Value("${festin.queue.client-cache.max-entries:100000}") int maxEntries
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.connectionDetails = connectionDetails;
+        this.redisProperties = redisProperties;
+        this.maxEntries = maxEntries;
+    }
+
+    @PostConstruct
+    public void start() {
+        hitCounter = Counter.builder("festin.queue.client_cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder("festin.queue.client_cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        invalidationCounter = Counter.builder("festin.queue.client_cache.invalidations")
+                .register(meterRegistry);
+        Gauge.builder("festin.queue.client_cache.entries", entryCount, AtomicInteger::get)
+                .register(meterRegistry);
+
+        client = RedisClient.create(redisUri());
+        client.addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+                // 재연결 시 트래킹 상태가 초기화되므로 다시 활성화
+                if (trackingConnection != null) {
+                    enableTracking();
+                }
+            }
+
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+                tracking = false;
+                clear();
+                log.warn("[Client-side cache] 트래킹 연결 끊김 - 캐시 비활성화");
+            }
+        });
+
+        trackingConnection = client.connect();
+        trackingConnection.addListener(this::onPushMessage);
+        enableTracking();
+    }
+
+    /**
+     * 메인 커넥션 팩토리와 같은 접속 정보 (host/port/database/username/password/SSL/timeout)
+     *
+     * spring.data.redis.* 또는 @ServiceConnection이 제공하는 DataRedisConnectionDetails 재사용
+     */
+    private RedisURI redisUri() {
+        DataRedisConnectionDetails.Standalone standalone = connectionDetails.getStandalone();
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(standalone.getHost())
+                .withPort(standalone.getPort())
+                .withDatabase(standalone.getDatabase())
+                .withSsl(redisProperties.getSsl().isEnabled());
+
+        String username = connectionDetails.getUsername();
+        String password = connectionDetails.getPassword();
+        if (password != null && !password.isBlank()) {
+            if (username != null && !username.isBlank()) {
+                uri.withAuthentication(username, password);
+            } else {
+                uri.withPassword(password.toCharArray());
+            }
+        }
+        if (redisProperties.getTimeout() != null) {
+            uri.withTimeout(redisProperties.getTimeout());
+        }
+        return uri.build();
+    }
+
+    @PreDestroy
+    public void stop() {
+        tracking = false;
+        if (trackingConnection != null) {
+            trackingConnection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * 대기 인원 수 조회 (캐시 → Redis)
+     */
+    public int getQueueSize(Long boothId, Supplier<Integer> loader) {
+        if (!tracking) {
+            return loader.get();
+        }
+
+        BoothEntries entries = booths.computeIfAbsent(boothId, id -> new BoothEntries());
+        Integer cached = entries.size;
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        int loaded = loader.get();
+        if (booths.get(boothId) == entries && entries.size == null && reserveEntry()) {
+            entries.size = loaded;
+            entries.count.incrementAndGet();
+        }
+        return loaded;
+    }
+
+    /**
+     * 순번 조회 (캐시 → Redis)
+     *
+     * 대기열에 없는 사용자(empty)는 캐싱하지 않음
+     */
+    public Optional<Integer> getPosition(Long boothId, Long userId, Supplier<Optional<Integer>> loader) {
+        if (!tracking) {
+            return loader.get();
+        }
+
+        BoothEntries entries = booths.computeIfAbsent(boothId, id -> new BoothEntries());
+        Integer cached = entries.positions.get(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        Optional<Integer> loaded = loader.get();
+        if (loaded.isPresent() && booths.get(boothId) == entries && reserveEntry()) {
+            if (entries.positions.putIfAbsent(userId, loaded.get()) == null) {
+                entries.count.incrementAndGet();
+            } else {
+                entryCount.decrementAndGet();
+            }
+        }
+        return loaded;
+    }
+
+    private void enableTracking() {
+        clear();
+        trackingConnection.async()
+                .clientTracking(TrackingArgs.Builder.enabled().bcast().prefixes(QUEUE_KEY_PREFIX))
+                .whenComplete((ok, error) -> {
+                    if (error != null) {
+                        tracking = false;
+                        log.error("[Client-side cache] CLIENT TRACKING 활성화 실패", error);
+                        return;
+                    }
+                    tracking = true;
+                    log.info("[Client-side cache] CLIENT TRACKING 활성화 - prefix: {}", QUEUE_KEY_PREFIX);
+                });
+    }
+
+    /**
+     * invalidate push 메시지 처리
+     *
+     * 형식: ["invalidate", [key1, key2, ...]] (키 목록이 null이면 전체 flush)
+     */
+    private void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+
+        if (!(keys instanceof List<?> keyList)) {
+            clear();
+            invalidationCounter.increment();
+            return;
+        }
+
+        for (Object key : keyList) {
+            String keyString = key instanceof ByteBuffer buffer
+                    ? StringCodec.UTF8.decodeKey(buffer)
+                    : String.valueOf(key);
+            Long boothId = parseBoothId(keyString);
+            if (boothId != null) {
+                invalidate(boothId);
+            }
+        }
+    }
+
+    private void invalidate(Long boothId) {
+        BoothEntries removed = booths.remove(boothId);
+        if (removed != null) {
+            entryCount.addAndGet(-removed.count.get());
+        }
+        invalidationCounter.increment();
+    }
+
+    private void clear() {
+        booths.clear();
+        entryCount.set(0);
+    }
+
+    private boolean reserveEntry() {
+        if (entryCount.incrementAndGet() > maxEntries) {
+            entryCount.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * queue:booth:{boothId} → boothId
+     * (queue:booth:{boothId}:seq 등 부가 키는 무시)
+     */
+    private Long parseBoothId(String key) {
+        if (!key.startsWith(QUEUE_KEY_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(key.substring(QUEUE_KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 부스 단위 캐시 항목
+     *
+     * invalidate 시 인스턴스 자체를 교체하여 조회 중이던 값의 저장을 막음
+     */
+    private static class BoothEntries {
+        private volatile Integer size;
+        private final Map<Long, Integer> positions = new ConcurrentHashMap<>();
+        private final AtomicInteger count = new AtomicInteger();
+    }
+}
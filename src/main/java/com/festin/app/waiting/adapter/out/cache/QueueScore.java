@@ -0,0 +1,77 @@
+package com.festin.app.waiting.adapter.out.cache;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 대기열 Sorted Set score 인코딩
+ *
+ * 문제:
+ * - 기존 score = epoch seconds → 같은 초에 등록한 사용자는 member(userId 문자열) 사전순으로 정렬
+ * - 축제 오픈 스파이크 시 수백 명이 같은 초를 공유하여 FIFO가 깨짐
+ *
+ * 인코딩 (double 가수부 53bit에 무손실 저장):
+ * - 상위 41bit: 기준 시각(2025-01-01T00:00Z) 이후 경과 밀리초 (약 69년)
+ * - 하위 12bit: 같은 밀리초 내 부스별 시퀀스 (밀리초당 4096건)
+ * - score = max(millis << 12, 부스별 마지막 score + 1) → 부스별로 엄격하게 단조 증가
+ *   (시퀀스 발급은 Lua Script 내부에서 원자적으로 처리)
+ *
+ * 하위 호환:
+ * - LEGACY_THRESHOLD 미만의 score는 기존 epoch seconds로 해석
+ * - 배포 전 등록된 항목은 새 score보다 항상 작으므로 먼저 호출됨 (순서 보존)
+ *
+ * 참고:
+ * - LocalDateTime은 기존과 동일하게 UTC 기준으로 변환
+ */
+public final class QueueScore {
+
+    /**
+     * 기준 시각 (2025-01-01T00:00:00Z)
+     */
+    static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+    /**
+     * 시퀀스 비트 수 (하위 12bit)
+     */
+    static final int SEQUENCE_BITS = 12;
+
+    /**
+     * 이 값 미만의 score는 기존 epoch seconds 형식
+     * (epoch seconds는 2286년까지 1e10 미만, 새 형식은 기준 시각 이후 약 41분부터 1e10 이상이므로
+     *  두 범위가 겹치지 않음)
+     */
+    private static final double LEGACY_THRESHOLD = 1e10;
+
+    private QueueScore() {
+    }
+
+    /**
+     * 등록 시각 → 시퀀스 0의 기본 score
+     *
+     * Lua Script가 max(base, lastScore + 1)로 최종 score 결정
+     */
+    public static long base(LocalDateTime registeredAt) {
+        long millis = registeredAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return (millis - EPOCH_MILLIS) << SEQUENCE_BITS;
+    }
+
+    /**
+     * score → 등록 시각 (밀리초 정밀도)
+     */
+    public static LocalDateTime toRegisteredAt(double score) {
+        if (score < LEGACY_THRESHOLD) {
+            return LocalDateTime.ofEpochSecond((long) score, 0, ZoneOffset.UTC);
+        }
+
+        long millis = ((long) score >> SEQUENCE_BITS) + EPOCH_MILLIS;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Redis가 반환한 score 문자열 → 등록 시각
+     */
+    public static LocalDateTime toRegisteredAt(String score) {
+        return toRegisteredAt(Double.parseDouble(score));
+    }
+}
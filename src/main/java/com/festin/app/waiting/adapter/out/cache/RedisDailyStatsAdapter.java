@@ -0,0 +1,176 @@
+package com.festin.app.waiting.adapter.out.cache;
+
+import com.festin.app.waiting.application.port.out.DailyStatsCachePort;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis Daily Stats Adapter
+ *
+ * DailyStatsCachePort 구현체
+ *
+ * Redis 키 구조:
+ * - booth:{boothId}:stats:{yyyy-MM-dd} (HASH, TTL) - 호출일 기준 일별 통계
+ *   - called / entered / noShow / completed
+ *
+ * 증감과 초기화는 Lua Script로 처리 (EXISTS 체크 + HINCRBY/HSET 원자적 실행)
+ * 트랜잭션 안에서 호출된 증감은 커밋 이후에 실행 (롤백 시 반영 안 됨)
+ */
+@Slf4j
+@Component
+public class RedisDailyStatsAdapter implements DailyStatsCachePort {
+
+    private static final String BOOTH_KEY_PREFIX = "booth:";
+    private static final String STATS_KEY_INFIX = ":stats:";
+
+    // HASH fields
+    private static final String FIELD_CALLED = "called";
+    private static final String FIELD_ENTERED = "entered";
+    private static final String FIELD_NO_SHOW = "noShow";
+    private static final String FIELD_COMPLETED = "completed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    private RedisScript<Long> incrementScript;
+    private RedisScript<Long> initScript;
+
+    public RedisDailyStatsAdapter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${festin.booth.daily-stats.ttl-hours:48}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    @PostConstruct
+    public void init() {
+        this.incrementScript = loadScript("scripts/daily-stats-increment.lua");
+        this.initScript = loadScript("scripts/daily-stats-init.lua");
+    }
+
+    private RedisScript<Long> loadScript(String path) {
+        try {
+            String scriptContent = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+            DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+            script.setScriptText(scriptContent);
+            script.setResultType(Long.class);
+
+            log.info("Lua script 로드 완료: {}", path);
+            return script;
+        } catch (IOException e) {
+            log.error("Lua script 로드 실패 - path: {}", path, e);
+            throw new RuntimeException("Lua script 로드 실패", e);
+        }
+    }
+
+    @Override
+    public Optional<DailyStats> get(Long boothId, LocalDate date) {
+        Map<Object, Object> data = redisTemplate.opsForHash().entries(statsKey(boothId, date));
+        if (data.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new DailyStats(
+                getIntValue(data, FIELD_CALLED),
+                getIntValue(data, FIELD_ENTERED),
+                getIntValue(data, FIELD_NO_SHOW),
+                getIntValue(data, FIELD_COMPLETED)
+        ));
+    }
+
+    @Override
+    public void increment(Long boothId, LocalDate date, DailyStats delta) {
+        List<String> args = new ArrayList<>(8);
+        addDelta(args, FIELD_CALLED, delta.called());
+        addDelta(args, FIELD_ENTERED, delta.entered());
+        addDelta(args, FIELD_NO_SHOW, delta.noShow());
+        addDelta(args, FIELD_COMPLETED, delta.completed());
+
+        if (args.isEmpty()) {
+            return;
+        }
+
+        String key = statsKey(boothId, date);
+
+        // 롤백된 상태 전이가 통계에 남지 않도록 트랜잭션 안에서는 커밋 이후에 증감
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        redisTemplate.execute(incrementScript, List.of(key), args.toArray());
+                    } catch (Exception e) {
+                        // 이미 커밋된 요청을 실패시키지 않음 (야간 배치가 보정)
+                        log.error("일별 통계 반영 실패 - key: {}, error: {}", key, e.getMessage(), e);
+                    }
+                }
+            });
+            return;
+        }
+
+        redisTemplate.execute(incrementScript, List.of(key), args.toArray());
+    }
+
+    @Override
+    public void putIfAbsent(Long boothId, LocalDate date, DailyStats stats) {
+        redisTemplate.execute(
+                initScript,
+                List.of(statsKey(boothId, date)),
+                String.valueOf(stats.called()),
+                String.valueOf(stats.entered()),
+                String.valueOf(stats.noShow()),
+                String.valueOf(stats.completed()),
+                String.valueOf(ttl.toSeconds())
+        );
+    }
+
+    @Override
+    public void put(Long boothId, LocalDate date, DailyStats stats) {
+        String key = statsKey(boothId, date);
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_CALLED, String.valueOf(stats.called()));
+        fields.put(FIELD_ENTERED, String.valueOf(stats.entered()));
+        fields.put(FIELD_NO_SHOW, String.valueOf(stats.noShow()));
+        fields.put(FIELD_COMPLETED, String.valueOf(stats.completed()));
+
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+    }
+
+    private String statsKey(Long boothId, LocalDate date) {
+        return BOOTH_KEY_PREFIX + boothId + STATS_KEY_INFIX + date;
+    }
+
+    private void addDelta(List<String> args, String field, int delta) {
+        if (delta != 0) {
+            args.add(field);
+            args.add(String.valueOf(delta));
+        }
+    }
+
+    private int getIntValue(Map<Object, Object> data, String field) {
+        Object value = data.get(field);
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+}
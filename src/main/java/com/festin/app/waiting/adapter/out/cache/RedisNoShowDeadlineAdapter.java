@@ -0,0 +1,114 @@
+package com.festin.app.waiting.adapter.out.cache;
+
+import com.festin.app.waiting.application.port.out.NoShowDeadlinePort;
+import com.festin.app.waiting.application.port.out.dto.NoShowDeadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis No-Show Deadline Adapter
+ *
+ * NoShowDeadlinePort 구현체
+ *
+ * Redis 키 구조:
+ * - noshow:deadlines (Sorted Set) - member: waitingId, score: 기한 (epoch millis)
+ *
+ * 참고:
+ * - calledAt이 서버 로컬 시각(LocalDateTime)으로 저장되므로 시스템 기본 시간대로 변환
+ * - 트랜잭션 안에서 호출된 등록/제거는 커밋 이후에 실행 (롤백된 호출/입장의 기한이 남거나 사라지지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisNoShowDeadlineAdapter implements NoShowDeadlinePort {
+
+    private static final String DEADLINES_KEY = "noshow:deadlines";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void registerAll(List<NoShowDeadline> deadlines) {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (NoShowDeadline deadline : deadlines) {
+            tuples.add(ZSetOperations.TypedTuple.of(
+                    deadline.waitingId().toString(),
+                    (double) toEpochMillis(deadline.deadline())));
+        }
+        afterCommit("등록", () -> redisTemplate.opsForZSet().add(DEADLINES_KEY, tuples));
+    }
+
+    @Override
+    public void remove(Long waitingId) {
+        afterCommit("제거", () -> redisTemplate.opsForZSet().remove(DEADLINES_KEY, waitingId.toString()));
+    }
+
+    @Override
+    public List<NoShowDeadline> findDueUntil(LocalDateTime until, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(DEADLINES_KEY, Double.NEGATIVE_INFINITY, toEpochMillis(until), 0, limit);
+
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        return tuples.stream()
+                .filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+                .map(tuple -> new NoShowDeadline(
+                        Long.parseLong(tuple.getValue()),
+                        toLocalDateTime(tuple.getScore().longValue())))
+                .toList();
+    }
+
+    @Override
+    public boolean claim(Long waitingId) {
+        Long removed = redisTemplate.opsForZSet().remove(DEADLINES_KEY, waitingId.toString());
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에 실행, 밖이면 즉시 실행
+     *
+     * 커밋 이후 실패는 요청을 실패시키지 않음 (노쇼 일괄 배치가 기한 누락분을 보정)
+     */
+    private void afterCommit(String action, Runnable command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            command.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    command.run();
+                } catch (Exception e) {
+                    log.error("노쇼 기한 {} 실패 - error: {}", action, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -2,15 +2,22 @@ package com.festin.app.waiting.adapter.out.cache;
 
 import com.festin.app.waiting.application.port.out.NotificationIdempotencyPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Redis 기반 알림 중복 방지 Adapter
  *
  * Redis의 SETNX 연산을 사용하여 동일한 알림이 중복 발송되지 않도록 합니다.
+ * 일괄 처리는 Pipeline 1회로 SET NX / SET을 묶어서 실행합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -18,6 +25,8 @@ public class RedisNotificationIdempotencyAdapter implements NotificationIdempote
 
     private static final String KEY_PREFIX = "notification:processed:";
     private static final Duration TTL = Duration.ofHours(24); // 24시간 후 자동 삭제
+    private static final String PROCESSING = "PROCESSING";
+    private static final String COMPLETED = "COMPLETED";
 
     private final StringRedisTemplate redisTemplate;
 
@@ -25,13 +34,71 @@ public class RedisNotificationIdempotencyAdapter implements NotificationIdempote
     public boolean tryProcess(String eventId) {
         String key = KEY_PREFIX + eventId;
         Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(key, "PROCESSING", TTL);
+                .setIfAbsent(key, PROCESSING, TTL);
         return Boolean.TRUE.equals(success);
     }
 
     @Override
     public void markProcessed(String eventId) {
         String key = KEY_PREFIX + eventId;
-        redisTemplate.opsForValue().set(key, "COMPLETED", TTL);
+        redisTemplate.opsForValue().set(key, COMPLETED, TTL);
+    }
+
+    @Override
+    public void release(String eventId) {
+        redisTemplate.delete(KEY_PREFIX + eventId);
+    }
+
+    @Override
+    public Set<String> tryProcessAll(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String eventId : eventIds) {
+                connection.stringCommands().set(
+                        (KEY_PREFIX + eventId).getBytes(),
+                        PROCESSING.getBytes(),
+                        Expiration.from(TTL),
+                        RedisStringCommands.SetOption.ifAbsent());
+            }
+            return null;
+        });
+
+        Set<String> acquired = new HashSet<>();
+        for (int i = 0; i < eventIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                acquired.add(eventIds.get(i));
+            }
+        }
+        return acquired;
+    }
+
+    @Override
+    public void markProcessedAll(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String eventId : eventIds) {
+                connection.stringCommands().set(
+                        (KEY_PREFIX + eventId).getBytes(),
+                        COMPLETED.getBytes(),
+                        Expiration.from(TTL),
+                        RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void releaseAll(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.delete(eventIds.stream().map(eventId -> KEY_PREFIX + eventId).toList());
     }
 }
@@ -1,5 +1,6 @@
 package com.festin.app.waiting.adapter.out.cache;
 
+import com.festin.app.common.redis.RedisReadCoalescer;
 import com.festin.app.waiting.application.port.out.QueueCachePort;
 import com.festin.app.waiting.domain.exception.QueueOperationException;
 import jakarta.annotation.PostConstruct;
@@ -13,9 +14,11 @@ import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +31,13 @@ import java.util.Set;
  * QueueCachePort 구현체
  * Redis Sorted Set을 사용한 대기열 관리
  * Redis Set을 사용한 사용자별 활성 부스 목록 관리
+ *
+ * getQueueSize / getPosition은 QueueClientSideCache가 활성화되어 있으면 로컬 캐시 우선 조회
+ * ZRANK / ZCARD / ZSCORE 조회는 RedisReadCoalescer가 활성화되어 있으면 다른 요청과 묶어 Pipeline으로 전송
+ *
+ * 대기열 이벤트:
+ * - enqueue / callNext / remove는 Lua Script 안에서 변경과 함께 이벤트 발행 (RedisQueueEventAdapter)
+ * - 순번 스트림 구독자가 ZRANK 재조회 없이 순번 갱신
  */
 @Slf4j
 @Component
@@ -36,44 +46,95 @@ public class RedisQueueAdapter implements QueueCachePort {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    /**
+     * RESP3 client-side caching (festin.queue.client-cache.enabled=true일 때만 존재)
+     */
+    private final Optional<QueueClientSideCache> clientSideCache;
+
+    /**
+     * 요청 간 읽기 명령 묶음 처리 (festin.redis.read-coalescer.enabled=true일 때만 존재)
+     */
+    private final Optional<RedisReadCoalescer> readCoalescer;
+
     private static final String QUEUE_KEY_PREFIX = "queue:booth:";
+    private static final String QUEUE_SEQ_KEY_SUFFIX = ":seq";
     private static final String USER_ACTIVE_BOOTHS_KEY_PREFIX = "user:";
     private static final String USER_ACTIVE_BOOTHS_KEY_SUFFIX = ":active_booths";
     private static final String SOFT_LOCK_PREFIX = "temp:calling:";
+    private static final String SOFT_LOCK_REGISTRY_KEY = "softlock:registry";
+    private static final String BOOTH_KEY_PREFIX = "booth:";
+    private static final String BOOTH_META_KEY_SUFFIX = ":meta";
+    private static final String BOOTH_CURRENT_KEY_SUFFIX = ":current";
+    private static final String BOOTH_CALL_SEQ_KEY_SUFFIX = ":call_seq";
 
     /**
      * 원자적 enqueue Lua Script
      */
     private RedisScript<List> enqueueAtomicScript;
 
+    /**
+     * 단건 enqueue Lua Script (score 발급 + ZADD)
+     */
+    private RedisScript<List> enqueueScript;
+
+    /**
+     * 원자적 callNext Lua Script
+     */
+    private RedisScript<List> callNextAtomicScript;
+
+    /**
+     * 대기열 이탈 Lua Script (ZRANK + ZREM + 이벤트 발행)
+     */
+    private RedisScript<List> removeScript;
+
     /**
      * Lua Script 초기화
      */
     @PostConstruct
     public void init() {
+        this.enqueueAtomicScript = loadScript("scripts/enqueue-atomic.lua");
+        this.enqueueScript = loadScript("scripts/enqueue.lua");
+        this.callNextAtomicScript = loadScript("scripts/call-next-atomic.lua");
+        this.removeScript = loadScript("scripts/queue-remove.lua");
+    }
+
+    private RedisScript<List> loadScript(String path) {
         try {
-            ClassPathResource resource = new ClassPathResource("scripts/enqueue-atomic.lua");
+            ClassPathResource resource = new ClassPathResource(path);
             String scriptContent = resource.getContentAsString(StandardCharsets.UTF_8);
 
             DefaultRedisScript<List> script = new DefaultRedisScript<>();
             script.setScriptText(scriptContent);
             script.setResultType(List.class);
 
-            this.enqueueAtomicScript = script;
-            log.info("Lua script 로드 완료: enqueue-atomic.lua");
+            log.info("Lua script 로드 완료: {}", path);
+            return script;
         } catch (IOException e) {
-            log.error("Lua script 로드 실패", e);
+            log.error("Lua script 로드 실패 - path: {}", path, e);
             throw new RuntimeException("Lua script 로드 실패", e);
         }
     }
 
     @Override
     public boolean enqueue(Long boothId, Long userId, LocalDateTime registeredAt) {
-        String key = QUEUE_KEY_PREFIX + boothId;
-        double score = registeredAt.toEpochSecond(ZoneOffset.UTC);
+        List<String> keys = List.of(
+                QUEUE_KEY_PREFIX + boothId,
+                QUEUE_KEY_PREFIX + boothId + QUEUE_SEQ_KEY_SUFFIX,
+                RedisQueueEventAdapter.eventSeqKeyOf(boothId)
+        );
+        Object[] args = {
+                userId.toString(),
+                String.valueOf(QueueScore.base(registeredAt)),
+                RedisQueueEventAdapter.channelOf(boothId)
+        };
+
+        List result = redisTemplate.execute(enqueueScript, keys, args);
+        if (result == null || result.isEmpty()) {
+            log.error("Lua script 반환값 이상 - result: {}", result);
+            throw QueueOperationException.scriptExecutionFailed();
+        }
 
-        Boolean added = redisTemplate.opsForZSet().add(key, userId.toString(), score);
-        return Boolean.TRUE.equals(added);
+        return ((Number) result.get(0)).intValue() == 1;
     }
 
     @Override
@@ -88,22 +149,29 @@ public class RedisQueueAdapter implements QueueCachePort {
             return Optional.empty();
         }
 
+        // Lua Script 밖의 변경이므로 순서 없는 재동기화 이벤트 발행
+        redisTemplate.convertAndSend(RedisQueueEventAdapter.channelOf(boothId), RedisQueueEventAdapter.resyncMessage());
+
         Long userId = Long.parseLong(tuple.getValue());
-        LocalDateTime registeredAt = LocalDateTime.ofEpochSecond(
-                tuple.getScore().longValue(),
-                0,
-                ZoneOffset.UTC
-        );
+        LocalDateTime registeredAt = QueueScore.toRegisteredAt(tuple.getScore());
 
         return Optional.of(new QueueItem(userId, registeredAt));
     }
 
     @Override
     public Optional<Integer> getPosition(Long boothId, Long userId) {
+        return clientSideCache
+                .map(cache -> cache.getPosition(boothId, userId, () -> fetchPosition(boothId, userId)))
+                .orElseGet(() -> fetchPosition(boothId, userId));
+    }
+
+    private Optional<Integer> fetchPosition(Long boothId, Long userId) {
         String key = QUEUE_KEY_PREFIX + boothId;
 
         // rank는 0부터 시작하므로 +1
-        Long rank = redisTemplate.opsForZSet().rank(key, userId.toString());
+        Long rank = readCoalescer
+                .map(coalescer -> coalescer.zRank(key, userId.toString()))
+                .orElseGet(() -> redisTemplate.opsForZSet().rank(key, userId.toString()));
 
         if (rank == null) {
             return Optional.empty();
@@ -114,9 +182,17 @@ public class RedisQueueAdapter implements QueueCachePort {
 
     @Override
     public int getQueueSize(Long boothId) {
+        return clientSideCache
+                .map(cache -> cache.getQueueSize(boothId, () -> fetchQueueSize(boothId)))
+                .orElseGet(() -> fetchQueueSize(boothId));
+    }
+
+    private int fetchQueueSize(Long boothId) {
         String key = QUEUE_KEY_PREFIX + boothId;
 
-        Long size = redisTemplate.opsForZSet().size(key);
+        Long size = readCoalescer
+                .map(coalescer -> coalescer.zCard(key))
+                .orElseGet(() -> redisTemplate.opsForZSet().size(key));
         return size != null ? size.intValue() : 0;
     }
 
@@ -146,10 +222,22 @@ public class RedisQueueAdapter implements QueueCachePort {
 
     @Override
     public boolean remove(Long boothId, Long userId) {
-        String key = QUEUE_KEY_PREFIX + boothId;
+        List<String> keys = List.of(
+                QUEUE_KEY_PREFIX + boothId,
+                RedisQueueEventAdapter.eventSeqKeyOf(boothId)
+        );
+        Object[] args = {
+                userId.toString(),
+                RedisQueueEventAdapter.channelOf(boothId)
+        };
 
-        Long removed = redisTemplate.opsForZSet().remove(key, userId.toString());
-        return removed != null && removed > 0;
+        List result = redisTemplate.execute(removeScript, keys, args);
+        if (result == null || result.isEmpty()) {
+            log.error("Lua script 반환값 이상 - result: {}", result);
+            throw QueueOperationException.scriptExecutionFailed();
+        }
+
+        return ((Number) result.get(0)).intValue() == 1;
     }
 
     @Override
@@ -157,14 +245,16 @@ public class RedisQueueAdapter implements QueueCachePort {
         String key = QUEUE_KEY_PREFIX + boothId;
 
         // score(등록 시간)를 조회
-        Double score = redisTemplate.opsForZSet().score(key, userId.toString());
+        Double score = readCoalescer
+                .map(coalescer -> coalescer.zScore(key, userId.toString()))
+                .orElseGet(() -> redisTemplate.opsForZSet().score(key, userId.toString()));
 
         if (score == null) {
             return Optional.empty();
         }
 
-        // Epoch seconds → LocalDateTime 변환
-        return Optional.of(LocalDateTime.ofEpochSecond(score.longValue(), 0, ZoneOffset.UTC));
+        // score → LocalDateTime 변환 (밀리초 정밀도)
+        return Optional.of(QueueScore.toRegisteredAt(score));
     }
 
     @Override
@@ -209,24 +299,25 @@ public class RedisQueueAdapter implements QueueCachePort {
         // Redis 키 준비
         String queueKey = QUEUE_KEY_PREFIX + boothId;
         String activeBoothsKey = USER_ACTIVE_BOOTHS_KEY_PREFIX + userId + USER_ACTIVE_BOOTHS_KEY_SUFFIX;
+        String seqKey = queueKey + QUEUE_SEQ_KEY_SUFFIX;
 
         // KEYS 배열
-        List<String> keys = List.of(queueKey, activeBoothsKey);
+        List<String> keys = List.of(queueKey, activeBoothsKey, seqKey, RedisQueueEventAdapter.eventSeqKeyOf(boothId));
 
         // ARGV 배열
-        long timestamp = registeredAt.toEpochSecond(ZoneOffset.UTC);
         Object[] args = {
                 userId.toString(),
                 boothId.toString(),
-                String.valueOf(timestamp),
-                String.valueOf(maxActiveBooths)
+                String.valueOf(QueueScore.base(registeredAt)),
+                String.valueOf(maxActiveBooths),
+                RedisQueueEventAdapter.channelOf(boothId)
         };
 
         // Lua Script 실행
         List result = redisTemplate.execute(enqueueAtomicScript, keys, args);
 
         // 결과 검증
-        if (result == null || result.size() != 3) {
+        if (result == null || result.size() < 3) {
             log.error("Lua script 반환값 이상 - result: {}", result);
             throw QueueOperationException.scriptExecutionFailed();
         }
@@ -247,36 +338,147 @@ public class RedisQueueAdapter implements QueueCachePort {
             }
         };
 
+        // 실제 저장된 score 기준 등록 시각 (실패 시 null)
+        LocalDateTime storedRegisteredAt = result.size() == 4
+                ? QueueScore.toRegisteredAt(result.get(3).toString())
+                : null;
+
         log.debug("원자적 등록 결과 - userId: {}, boothId: {}, status: {}, position: {}, totalWaiting: {}",
                 userId, boothId, status, position, totalWaiting);
 
-        return new EnqueueAtomicResult(status, position, totalWaiting);
+        return new EnqueueAtomicResult(status, position, totalWaiting, storedRegisteredAt);
+    }
+
+    @Override
+    public CallNextAtomicResult callNextAtomic(Long boothId, int count) {
+        // KEYS 배열
+        List<String> keys = List.of(
+                BOOTH_KEY_PREFIX + boothId + BOOTH_META_KEY_SUFFIX,
+                BOOTH_KEY_PREFIX + boothId + BOOTH_CURRENT_KEY_SUFFIX,
+                QUEUE_KEY_PREFIX + boothId,
+                BOOTH_KEY_PREFIX + boothId + BOOTH_CALL_SEQ_KEY_SUFFIX,
+                SOFT_LOCK_REGISTRY_KEY,
+                RedisQueueEventAdapter.eventSeqKeyOf(boothId)
+        );
+
+        // ARGV 배열
+        Object[] args = {
+                boothId.toString(),
+                SOFT_LOCK_PREFIX + boothId + ":",
+                USER_ACTIVE_BOOTHS_KEY_PREFIX,
+                USER_ACTIVE_BOOTHS_KEY_SUFFIX,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(count),
+                RedisQueueEventAdapter.channelOf(boothId)
+        };
+
+        // Lua Script 실행
+        List result = redisTemplate.execute(callNextAtomicScript, keys, args);
+
+        // 결과 검증
+        if (result == null || result.isEmpty()) {
+            log.error("Lua script 반환값 이상 - result: {}", result);
+            throw QueueOperationException.scriptExecutionFailed();
+        }
+
+        // 상태 코드 변환
+        int statusCode = ((Number) result.get(0)).intValue();
+        CallNextStatus status = switch (statusCode) {
+            case 1 -> CallNextStatus.SUCCESS;
+            case 0 -> CallNextStatus.BOOTH_NOT_FOUND;
+            case 2 -> CallNextStatus.BOOTH_CLOSED;
+            case 3 -> CallNextStatus.BOOTH_FULL;
+            case 4 -> CallNextStatus.QUEUE_EMPTY;
+            default -> {
+                log.error("알 수 없는 상태 코드: {}", statusCode);
+                throw QueueOperationException.unknownScriptResult(statusCode);
+            }
+        };
+
+        if (status != CallNextStatus.SUCCESS) {
+            log.debug("원자적 호출 실패 - boothId: {}, status: {}", boothId, status);
+            return new CallNextAtomicResult(status, List.of(), -1, null);
+        }
+
+        // {1, firstPosition, boothName, userId1, score1, ...}
+        if (result.size() < 5 || (result.size() - 3) % 2 != 0) {
+            log.error("Lua script 반환값 이상 - result: {}", result);
+            throw QueueOperationException.scriptExecutionFailed();
+        }
+
+        int firstCalledPosition = ((Number) result.get(1)).intValue();
+        String boothName = result.get(2).toString();
+
+        // 결과 파싱 (score는 문자열로 반환됨)
+        List<QueueItem> items = new ArrayList<>((result.size() - 3) / 2);
+        for (int i = 3; i < result.size(); i += 2) {
+            Long userId = Long.parseLong(result.get(i).toString());
+            items.add(new QueueItem(userId, QueueScore.toRegisteredAt(result.get(i + 1).toString())));
+        }
+
+        log.debug("원자적 호출 결과 - boothId: {}, requested: {}, called: {}, firstPosition: {}",
+                boothId, count, items.size(), firstCalledPosition);
+
+        return new CallNextAtomicResult(status, items, firstCalledPosition, boothName);
     }
 
     @Override
-    public void createSoftLock(Long boothId, Long userId, LocalDateTime registeredAt) {
+    public void createSoftLock(Long boothId, Long userId, double queueScore) {
         String key = SOFT_LOCK_PREFIX + boothId + ":" + userId;
 
         Map<String, String> data = new HashMap<>();
         data.put("boothId", boothId.toString());
         data.put("userId", userId.toString());
-        data.put("timestamp", String.valueOf(registeredAt.toEpochSecond(ZoneOffset.UTC)));
-        data.put("createdAt", String.valueOf(System.currentTimeMillis()));
+        // Lua Script와 같은 형식 (정수 score는 소수점 없이 저장, 배치가 그대로 ZADD)
+        data.put("timestamp", BigDecimal.valueOf(queueScore).toPlainString());
+        long createdAt = System.currentTimeMillis();
+        data.put("createdAt", String.valueOf(createdAt));
 
         redisTemplate.opsForHash().putAll(key, data);
+        redisTemplate.opsForZSet().add(SOFT_LOCK_REGISTRY_KEY, boothId + ":" + userId, createdAt);
 
-        log.debug("Soft Lock 생성 - key: {}, boothId: {}, userId: {}, timestamp: {}",
-                key, boothId, userId, registeredAt.toEpochSecond(ZoneOffset.UTC));
+        log.debug("Soft Lock 생성 - key: {}, boothId: {}, userId: {}, score: {}",
+                key, boothId, userId, data.get("timestamp"));
     }
 
     @Override
     public void deleteSoftLock(Long boothId, Long userId) {
         String key = SOFT_LOCK_PREFIX + boothId + ":" + userId;
-        redisTemplate.delete(key);
+        deleteSoftLockKeys(List.of(key), List.of(boothId + ":" + userId));
 
         log.debug("Soft Lock 삭제 - key: {}, boothId: {}, userId: {}", key, boothId, userId);
     }
 
+    @Override
+    public void deleteSoftLocks(Long boothId, List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+
+        List<String> members = userIds.stream()
+                .map(userId -> boothId + ":" + userId)
+                .toList();
+        List<String> keys = members.stream()
+                .map(member -> SOFT_LOCK_PREFIX + member)
+                .toList();
+        deleteSoftLockKeys(keys, members);
+
+        log.debug("Soft Lock 일괄 삭제 - boothId: {}, count: {}", boothId, keys.size());
+    }
+
+    /**
+     * Soft Lock HASH 삭제 + 목록(softlock:registry)에서 제거 (Pipeline 1회)
+     */
+    private void deleteSoftLockKeys(List<String> keys, List<String> members) {
+        redisTemplate.executePipelined(
+                (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
+                    connection.keyCommands().del(keys.stream().map(String::getBytes).toArray(byte[][]::new));
+                    connection.zSetCommands().zRem(SOFT_LOCK_REGISTRY_KEY.getBytes(),
+                            members.stream().map(String::getBytes).toArray(byte[][]::new));
+                    return null;
+                });
+    }
+
     @Override
     public Optional<SoftLockData> getSoftLock(Long boothId, Long userId) {
         String key = SOFT_LOCK_PREFIX + boothId + ":" + userId;
@@ -290,10 +492,9 @@ public class RedisQueueAdapter implements QueueCachePort {
         try {
             Long storedBoothId = Long.parseLong((String) data.get("boothId"));
             Long storedUserId = Long.parseLong((String) data.get("userId"));
-            long timestamp = Long.parseLong((String) data.get("timestamp"));
             long createdAtMillis = Long.parseLong((String) data.get("createdAt"));
 
-            LocalDateTime registeredAt = LocalDateTime.ofEpochSecond(timestamp, 0, ZoneOffset.UTC);
+            LocalDateTime registeredAt = QueueScore.toRegisteredAt((String) data.get("timestamp"));
             LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
                     createdAtMillis / 1000,
                     (int) (createdAtMillis % 1000) * 1_000_000,
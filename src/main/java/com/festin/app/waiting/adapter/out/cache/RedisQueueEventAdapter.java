@@ -0,0 +1,181 @@
+package com.festin.app.waiting.adapter.out.cache;
+
+import com.festin.app.waiting.application.port.out.QueueEventPort;
+import com.festin.app.waiting.application.port.out.dto.QueueEvent;
+import com.festin.app.waiting.application.port.out.dto.QueueSnapshot;
+import com.festin.app.waiting.domain.exception.QueueOperationException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis 대기열 이벤트 Adapter
+ *
+ * QueueEventPort 구현체
+ *
+ * 이벤트 발행:
+ * - RedisQueueAdapter의 Lua Script가 대기열 변경과 함께 INCR event_seq + PUBLISH
+ * - 메시지 형식: "{eventId},{J|R|A|S},{position},{count},{userId}"
+ *
+ * 이벤트 구독:
+ * - 패턴 구독 1개(queue:events:*)로 모든 부스 이벤트 수신
+ * - RedisMessageListenerContainer는 단일 스레드로 수신 순서대로 전달 (RedisPubSubConfig)
+ */
+@Slf4j
+@Component
+public class RedisQueueEventAdapter implements QueueEventPort, MessageListener {
+
+    static final String EVENT_CHANNEL_PREFIX = "queue:events:";
+    private static final String QUEUE_KEY_PREFIX = "queue:booth:";
+    private static final String EVENT_SEQ_KEY_SUFFIX = ":event_seq";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final List<Consumer<QueueEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private RedisScript<List> snapshotScript;
+
+    public RedisQueueEventAdapter(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.snapshotScript = loadScript("scripts/queue-snapshot.lua");
+        listenerContainer.addMessageListener(this, new PatternTopic(EVENT_CHANNEL_PREFIX + "*"));
+    }
+
+    /**
+     * 부스별 이벤트 채널
+     */
+    public static String channelOf(Long boothId) {
+        return EVENT_CHANNEL_PREFIX + boothId;
+    }
+
+    /**
+     * 부스별 이벤트 ID 키
+     */
+    public static String eventSeqKeyOf(Long boothId) {
+        return QUEUE_KEY_PREFIX + boothId + EVENT_SEQ_KEY_SUFFIX;
+    }
+
+    /**
+     * 순서 없는 재동기화 메시지 (Lua Script 밖에서 대기열을 변경한 경우)
+     */
+    public static String resyncMessage() {
+        return "0,S,0,0,";
+    }
+
+    @Override
+    public void addListener(Consumer<QueueEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public QueueSnapshot snapshot(Long boothId, Collection<Long> userIds) {
+        List<Long> orderedUserIds = List.copyOf(userIds);
+        List<String> keys = List.of(QUEUE_KEY_PREFIX + boothId, eventSeqKeyOf(boothId));
+        Object[] args = orderedUserIds.stream().map(String::valueOf).toArray();
+
+        List result = redisTemplate.execute(snapshotScript, keys, args);
+        if (result == null || result.size() != orderedUserIds.size() + 2) {
+            log.error("Lua script 반환값 이상 - result: {}", result);
+            throw QueueOperationException.scriptExecutionFailed();
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < orderedUserIds.size(); i++) {
+            int position = ((Number) result.get(i + 2)).intValue();
+            if (position > 0) {
+                positions.put(orderedUserIds.get(i), position);
+            }
+        }
+
+        return new QueueSnapshot(
+                boothId,
+                ((Number) result.get(0)).longValue(),
+                ((Number) result.get(1)).intValue(),
+                positions);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        QueueEvent event;
+        try {
+            event = parse(channel, body);
+        } catch (RuntimeException e) {
+            log.warn("[대기열 이벤트] 형식 오류 - channel: {}, body: {}", channel, body);
+            return;
+        }
+
+        for (Consumer<QueueEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.error("[대기열 이벤트] 리스너 처리 실패 - event: {}", event, e);
+            }
+        }
+    }
+
+    private QueueEvent parse(String channel, String body) {
+        Long boothId = Long.parseLong(channel.substring(EVENT_CHANNEL_PREFIX.length()));
+        String[] fields = body.split(",", -1);
+
+        QueueEvent.Type type = switch (fields[1]) {
+            case "J" -> QueueEvent.Type.JOINED;
+            case "R" -> QueueEvent.Type.REMOVED;
+            case "A" -> QueueEvent.Type.ADVANCED;
+            case "S" -> QueueEvent.Type.RESYNC;
+            default -> throw new IllegalArgumentException("알 수 없는 이벤트 종류: " + fields[1]);
+        };
+
+        return new QueueEvent(
+                boothId,
+                Long.parseLong(fields[0]),
+                type,
+                Integer.parseInt(fields[2]),
+                Integer.parseInt(fields[3]),
+                fields[4].isEmpty() ? null : Long.parseLong(fields[4]));
+    }
+
+    private RedisScript<List> loadScript(String path) {
+        try {
+            ClassPathResource resource = new ClassPathResource(path);
+            String scriptContent = resource.getContentAsString(StandardCharsets.UTF_8);
+
+            DefaultRedisScript<List> script = new DefaultRedisScript<>();
+            script.setScriptText(scriptContent);
+            script.setResultType(List.class);
+
+            log.info("Lua script 로드 완료: {}", path);
+            return script;
+        } catch (IOException e) {
+            log.error("Lua script 로드 실패 - path: {}", path, e);
+            throw new RuntimeException("Lua script 로드 실패", e);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.common.config.NotificationQueueConfig;
+import com.festin.app.common.firebase.FirebaseClient;
+import com.festin.app.common.firebase.FirebaseSendResult;
+import com.festin.app.user.application.port.out.FcmTokenCachePort;
+import com.festin.app.waiting.application.port.out.NotificationIdempotencyPort;
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 푸시 알림 일괄 Consumer
+ *
+ * 문제:
+ * - 단건 Consumer는 메시지마다 SETNX + GET + FCM send + SET (부스 전체 호출 시 N회 왕복 × 4)
+ *
+ * 해결 (최대 N건 배치):
+ * 0. 배치 내 같은 eventId 중복 제거 - 첫 건만 처리하고 나머지는 즉시 ack
+ * 1. 중복 처리 체크 - SET NX Pipeline 1회
+ * 2. FCM 토큰 조회 - MGET 1회
+ * 3. FCM 발송 - FirebaseClient.sendEach (500건 단위)
+ * 4. 처리 완료 기록 - SET Pipeline 1회
+ * 5. delivery tag별 개별 ack/nack
+ *
+ * 오류 처리 (단건 Consumer와 동일한 정책):
+ * - 건별 FCM 오류: 재시도 안 함 (ack), 잘못된 토큰은 캐시에서 삭제
+ * - Redis 장애 등 재시도 가능한 오류: 아직 발송하지 않은 건만 처리 시작 표시 해제 + 재시도 큐로 이동
+ *   (NotificationRetryHandler, 지수 백오프 후 Parking Lot)
+ * - 발송을 마친 뒤의 오류 (완료 기록, ack 실패): 처리 시작 표시를 유지하고 ack
+ *   → 재전달되더라도 "이미 처리됨"으로 걸러져 중복 발송 없음
+ * - 변환 불가 메시지: 재시도해도 실패하므로 바로 Parking Lot으로 이동 (NotificationRetryHandler.park)
+ *
+ * 메트릭:
+ * - festin.notification.consumer.batch (배치당 메시지 수)
+ * - festin.notification.consumer.batch.duration (배치 처리 시간)
+ *
+ * 비활성화: festin.notification.consumer.batch.enabled=false (FcmNotificationConsumer 단건 처리)
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@ConditionalOnProperty(name = "festin.notification.consumer.batch.enabled", havingValue = "true", matchIfMissing = true)
+public class FcmBatchNotificationConsumer {
+
+    private final FcmTokenCachePort fcmTokenCachePort;
+    private final FirebaseClient firebaseClient;
+    private final NotificationIdempotencyPort idempotencyPort;
+    private final MessageConverter messageConverter;
+    private final NotificationRetryHandler retryHandler;
+
+    private final DistributionSummary batchSummary;
+    private final Timer batchTimer;
+
+    public FcmBatchNotificationConsumer(
+            FcmTokenCachePort fcmTokenCachePort,
+            FirebaseClient firebaseClient,
+            NotificationIdempotencyPort idempotencyPort,
+            MessageConverter messageConverter,
+            NotificationRetryHandler retryHandler,
+            MeterRegistry meterRegistry
+    ) {
+        this.fcmTokenCachePort = fcmTokenCachePort;
+        this.firebaseClient = firebaseClient;
+        this.idempotencyPort = idempotencyPort;
+        this.messageConverter = messageConverter;
+        this.retryHandler = retryHandler;
+
+        this.batchSummary = DistributionSummary.builder("festin.notification.consumer.batch")
+                .description("배치당 알림 메시지 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("festin.notification.consumer.batch.duration")
+                .description("알림 배치 처리 시간")
+                .register(meterRegistry);
+    }
+
+    @RabbitListener(
+            queues = NotificationQueueConfig.NOTIFICATION_QUEUE,
+            containerFactory = NotificationQueueConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+            ackMode = "MANUAL")
+    public void handleBatch(List<org.springframework.amqp.core.Message> messages, Channel channel) {
+        long startTime = System.nanoTime();
+        batchSummary.record(messages.size());
+
+        List<Delivery> deliveries = deduplicate(convert(messages, channel), channel);
+        Set<Delivery> pending = new LinkedHashSet<>(deliveries);
+        // 발송 단계를 마친 건 (성공, 건별 FCM 오류, 토큰 없음) - 예외가 나도 재시도하지 않음
+        Set<Delivery> sent = new HashSet<>();
+        List<String> acquiredEventIds = new ArrayList<>();
+
+        try {
+            // 1. 중복 처리 체크
+            Set<String> acquired = idempotencyPort.tryProcessAll(
+                    deliveries.stream().map(delivery -> delivery.command().eventId()).toList());
+            List<Delivery> targets = new ArrayList<>();
+            for (Delivery delivery : deliveries) {
+                if (acquired.contains(delivery.command().eventId())) {
+                    targets.add(delivery);
+                    acquiredEventIds.add(delivery.command().eventId());
+                } else {
+                    log.warn("이미 처리된 이벤트입니다 - eventId: {}", delivery.command().eventId());
+                    ack(channel, delivery, pending);
+                }
+            }
+
+            // 2. FCM 토큰 일괄 조회
+            Map<Long, String> tokens = fcmTokenCachePort.getFcmTokens(
+                    targets.stream().map(Delivery::userId).distinct().toList());
+
+            List<Delivery> sendable = new ArrayList<>();
+            List<String> completed = new ArrayList<>();
+            for (Delivery delivery : targets) {
+                if (tokens.containsKey(delivery.userId())) {
+                    sendable.add(delivery);
+                } else {
+                    log.warn("FCM 토큰이 없는 사용자입니다 - userId: {}", delivery.userId());
+                    completed.add(delivery.command().eventId());
+                    sent.add(delivery);
+                }
+            }
+
+            // 3. FCM 일괄 발송 (500건 단위)
+            for (int from = 0; from < sendable.size(); from += FirebaseClient.MAX_BATCH_SIZE) {
+                List<Delivery> chunk = sendable.subList(from, Math.min(from + FirebaseClient.MAX_BATCH_SIZE, sendable.size()));
+                completed.addAll(send(chunk, tokens));
+                sent.addAll(chunk);
+            }
+
+            // 4. 처리 완료 기록 + ack
+            idempotencyPort.markProcessedAll(completed);
+            for (Delivery delivery : List.copyOf(pending)) {
+                ack(channel, delivery, pending);
+            }
+
+        } catch (Exception e) {
+            log.error("알림 배치 처리 중 예외 발생 - count: {}, 미처리: {}, error: {}",
+                    deliveries.size(), pending.size(), e.getMessage(), e);
+            releaseQuietly(pending.stream()
+                    .filter(delivery -> !sent.contains(delivery))
+                    .map(delivery -> delivery.command().eventId())
+                    .filter(acquiredEventIds::contains)
+                    .toList());
+            for (Delivery delivery : List.copyOf(pending)) {
+                if (sent.contains(delivery)) {
+                    ack(channel, delivery, pending);
+                } else {
+                    retry(channel, delivery, pending);
+                }
+            }
+        } finally {
+            batchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * sendEach 1회 (건별 결과 처리)
+     *
+     * @return 발송 성공한 이벤트 ID
+     */
+    private List<String> send(List<Delivery> chunk, Map<Long, String> tokens) {
+        List<Message> fcmMessages = chunk.stream()
+                .map(delivery -> FcmMessageFactory.build(delivery.command(), tokens.get(delivery.userId())))
+                .toList();
+
+        List<FirebaseSendResult> results;
+        try {
+            results = firebaseClient.sendEach(fcmMessages);
+        } catch (FirebaseMessagingException e) {
+            // FCM 오류는 재시도 안 함 (단건 Consumer와 동일)
+            log.error("FCM 일괄 발송 실패 - count: {}, errorCode: {}, message: {}",
+                    chunk.size(), e.getErrorCode(), e.getMessage(), e);
+            return List.of();
+        }
+
+        List<String> succeeded = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Delivery delivery = chunk.get(i);
+            FirebaseSendResult result = results.get(i);
+
+            if (result.isSuccessful()) {
+                succeeded.add(delivery.command().eventId());
+                log.info("FCM 푸시 알림 발송 성공 - eventId: {}, userId: {}, messageId: {}",
+                        delivery.command().eventId(), delivery.userId(), result.messageId());
+            } else {
+                handleFcmError(delivery, result.exception());
+            }
+        }
+        return succeeded;
+    }
+
+    private void handleFcmError(Delivery delivery, FirebaseMessagingException e) {
+        String errorCode = String.valueOf(e.getErrorCode());
+
+        // 잘못된 토큰인 경우 캐시에서 삭제
+        if ("INVALID_ARGUMENT".equals(errorCode) ||
+                "UNREGISTERED".equals(errorCode) ||
+                "SENDER_ID_MISMATCH".equals(errorCode)) {
+
+            log.warn("유효하지 않은 FCM 토큰 - userId: {}, errorCode: {}, 캐시에서 삭제합니다",
+                    delivery.userId(), errorCode);
+            fcmTokenCachePort.deleteFcmToken(delivery.userId());
+
+        } else {
+            log.error("FCM 푸시 알림 발송 실패 - eventId: {}, userId: {}, errorCode: {}, message: {}",
+                    delivery.command().eventId(), delivery.userId(), errorCode, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * AMQP 메시지 → 알림 명령 (변환 불가 메시지는 재시도 없이 Parking Lot으로 이동)
+     */
+    private List<Delivery> convert(List<org.springframework.amqp.core.Message> messages, Channel channel) {
+        List<Delivery> deliveries = new ArrayList<>(messages.size());
+        for (org.springframework.amqp.core.Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                NotificationCommand command = (NotificationCommand) messageConverter.fromMessage(message);
+                deliveries.add(new Delivery(deliveryTag, message, command, FcmMessageFactory.userIdOf(command)));
+            } catch (Exception e) {
+                log.error("알림 메시지 변환 실패 (Parking Lot 이동) - deliveryTag: {}, error: {}",
+                        deliveryTag, e.getMessage(), e);
+                retryHandler.park(channel, message);
+            }
+        }
+        return deliveries;
+    }
+
+    /**
+     * 배치 내 같은 eventId는 첫 건만 남기고 나머지는 즉시 ack
+     *
+     * 그대로 두면 SET NX 결과가 eventId 단위라 중복된 건 모두 발송 대상이 됨
+     */
+    private List<Delivery> deduplicate(List<Delivery> deliveries, Channel channel) {
+        Map<String, Delivery> unique = new LinkedHashMap<>();
+        for (Delivery delivery : deliveries) {
+            if (unique.putIfAbsent(delivery.command().eventId(), delivery) != null) {
+                log.warn("배치 내 중복 이벤트 (ack) - eventId: {}, deliveryTag: {}",
+                        delivery.command().eventId(), delivery.deliveryTag());
+                basicAck(channel, delivery.deliveryTag());
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private void releaseQuietly(List<String> eventIds) {
+        try {
+            idempotencyPort.releaseAll(eventIds);
+        } catch (Exception e) {
+            log.error("처리 시작 표시 해제 실패 - count: {}", eventIds.size(), e);
+        }
+    }
+
+    private void ack(Channel channel, Delivery delivery, Set<Delivery> pending) {
+        try {
+            channel.basicAck(delivery.deliveryTag(), false);
+            pending.remove(delivery);
+        } catch (IOException e) {
+            log.error("ACK 실패 - deliveryTag: {}", delivery.deliveryTag(), e);
+        }
+    }
+
+    private void retry(Channel channel, Delivery delivery, Set<Delivery> pending) {
+        retryHandler.retryOrPark(channel, delivery.message());
+        pending.remove(delivery);
+    }
+
+    private void basicAck(Channel channel, long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException e) {
+            log.error("ACK 실패 - deliveryTag: {}", deliveryTag, e);
+        }
+    }
+
+    private record Delivery(
+            long deliveryTag,
+            org.springframework.amqp.core.Message message,
+            NotificationCommand command,
+            Long userId
+    ) {
+    }
+}
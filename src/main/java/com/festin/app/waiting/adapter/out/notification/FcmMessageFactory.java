@@ -0,0 +1,79 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.waiting.application.port.out.NotificationPort.CallNotification;
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.WebpushConfig;
+import com.google.firebase.messaging.WebpushNotification;
+
+/**
+ * 알림 명령 → FCM 메시지 변환
+ *
+ * 단건 Consumer(FcmNotificationConsumer)와 일괄 Consumer(FcmBatchNotificationConsumer)가 공유
+ */
+final class FcmMessageFactory {
+
+    private FcmMessageFactory() {
+    }
+
+    static Long userIdOf(NotificationCommand command) {
+        return switch (command) {
+            case CallNotification notification -> notification.userId();
+        };
+    }
+
+    static Message build(NotificationCommand command, String fcmToken) {
+        return switch (command) {
+            case CallNotification notification -> buildCallMessage(notification, fcmToken);
+        };
+    }
+
+    private static Message buildCallMessage(CallNotification notification, String fcmToken) {
+        return Message.builder()
+                .setToken(fcmToken)
+                // Android 설정: 우선순위 높음
+                .setAndroidConfig(AndroidConfig.builder()
+                        .setPriority(AndroidConfig.Priority.HIGH)
+                        .setNotification(AndroidNotification.builder()
+                                .setClickAction("FLUTTER_NOTIFICATION_CLICK") // 필요한 경우 설정
+                                .build())
+                        .build())
+                // APNs (iOS) 설정: content-available=1 (Silent Push / Background Fetch)
+                .setApnsConfig(ApnsConfig.builder()
+                        .setAps(Aps.builder()
+                                .setContentAvailable(true) // 핵심! 백그라운드 처리 깨우기
+                                .setSound("default")
+                                .build())
+                        .putHeader("apns-priority", "10") // 즉시 전송
+                        .build())
+                // WebPush (Chrome 등) 설정
+                .setWebpushConfig(WebpushConfig.builder()
+                        .putHeader("Urgency", "high")
+                        .setNotification(WebpushNotification.builder()
+                                .setTitle("부스 호출 알림")
+                                .setBody(String.format("%s 부스 입장 순서가 되었습니다! 지금 방문해주세요.",
+                                        notification.boothName()))
+                                .setIcon("/icon-192.png")
+                                .setRequireInteraction(true)
+                                .build())
+                        .build())
+                // 공통 Notification (백업)
+                .setNotification(Notification.builder()
+                        .setTitle("부스 호출 알림")
+                        .setBody(String.format("%s 부스 입장 순서가 되었습니다! 지금 방문해주세요.",
+                                notification.boothName()))
+                        .build())
+                .putData("type", "CALL")
+                .putData("title", "부스 호출 알림")
+                .putData("body", String.format("%s 부스 입장 순서가 되었습니다! 지금 방문해주세요.",
+                        notification.boothName()))
+                .putData("boothId", String.valueOf(notification.boothId()))
+                .putData("calledPosition", String.valueOf(notification.calledPosition()))
+                .build();
+    }
+}
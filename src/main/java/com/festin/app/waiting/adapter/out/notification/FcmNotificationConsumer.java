@@ -8,18 +8,12 @@ import com.festin.app.waiting.application.port.out.NotificationPort.CallNotifica
 import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import com.google.firebase.messaging.AndroidConfig;
-import com.google.firebase.messaging.AndroidNotification;
-import com.google.firebase.messaging.ApnsConfig;
-import com.google.firebase.messaging.Aps;
-import com.google.firebase.messaging.WebpushConfig;
-import com.google.firebase.messaging.WebpushNotification;
 import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
@@ -32,44 +26,58 @@ import java.util.Optional;
  *
  * RabbitMQ에서 알림 메시지를 소비하고 FCM으로 실제 푸시 알림을 발송합니다.
  * - ACK/NACK 전략으로 메시지 유실 방지
+ * - 재시도 가능한 오류는 재시도 큐로 이동 (NotificationRetryHandler, 지수 백오프 후 Parking Lot)
  * - 중복 방지 메커니즘으로 동일 알림 중복 발송 방지
+ * - 중복 체크(Redis) 실패도 재시도 큐로 이동, 발송을 마친 뒤의 오류는 재시도하지 않음 (중복 발송 방지)
+ *
+ * festin.notification.consumer.batch.enabled=false일 때 활성화됩니다.
+ * (기본은 FcmBatchNotificationConsumer가 N건씩 일괄 처리)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @Profile("!test")
+@ConditionalOnProperty(name = "festin.notification.consumer.batch.enabled", havingValue = "false")
 public class FcmNotificationConsumer {
 
     private final FcmTokenCachePort fcmTokenCachePort;
     private final FirebaseClient firebaseClient;
     private final NotificationIdempotencyPort idempotencyPort;
+    private final NotificationRetryHandler retryHandler;
 
     @RabbitListener(queues = NotificationQueueConfig.NOTIFICATION_QUEUE, ackMode = "MANUAL")
     public void handleNotification(
             NotificationCommand command,
+            org.springframework.amqp.core.Message amqpMessage,
             Channel channel,
             @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
         logReceived(command);
 
-        // 중복 처리 체크
-        if (!idempotencyPort.tryProcess(command.eventId())) {
-            log.warn("이미 처리된 이벤트입니다 - eventId: {}", command.eventId());
-            ack(channel, deliveryTag);
-            return;
-        }
-
+        // 처리 시작 표시를 얻었는지, FCM 발송 단계를 마쳤는지 (예외 시 해제/재시도 여부 판단)
+        boolean acquired = false;
+        boolean sent = false;
         try {
+            // 중복 처리 체크
+            if (!idempotencyPort.tryProcess(command.eventId())) {
+                log.warn("이미 처리된 이벤트입니다 - eventId: {}", command.eventId());
+                ack(channel, deliveryTag);
+                return;
+            }
+            acquired = true;
+
             processNotification(command);
+            sent = true;
+
             idempotencyPort.markProcessed(command.eventId());
             ack(channel, deliveryTag);
 
         } catch (Exception e) {
-            handleError(command, e, channel, deliveryTag);
+            handleError(command, e, channel, amqpMessage, acquired, sent);
         }
     }
 
     private void processNotification(NotificationCommand command) throws FirebaseMessagingException {
-        Long userId = getUserId(command);
+        Long userId = FcmMessageFactory.userIdOf(command);
         Optional<String> fcmTokenOpt = fcmTokenCachePort.getFcmToken(userId);
 
         if (fcmTokenOpt.isEmpty()) {
@@ -78,81 +86,52 @@ public class FcmNotificationConsumer {
         }
 
         String fcmToken = fcmTokenOpt.get();
-        Message message = buildMessage(command, fcmToken);
+        Message message = FcmMessageFactory.build(command, fcmToken);
         String response = firebaseClient.send(message);
         logSuccess(command, response);
     }
 
-    private Long getUserId(NotificationCommand command) {
-        return switch (command) {
-            case CallNotification notification -> notification.userId();
-        };
-    }
-
-    private Message buildMessage(NotificationCommand command, String fcmToken) {
-        return switch (command) {
-            case CallNotification notification -> buildCallMessage(notification, fcmToken);
-        };
-    }
-
-    private Message buildCallMessage(CallNotification notification, String fcmToken) {
-        return Message.builder()
-                .setToken(fcmToken)
-                // Android 설정: 우선순위 높음
-                .setAndroidConfig(AndroidConfig.builder()
-                        .setPriority(AndroidConfig.Priority.HIGH)
-                        .setNotification(AndroidNotification.builder()
-                                .setClickAction("FLUTTER_NOTIFICATION_CLICK") // 필요한 경우 설정
-                                .build())
-                        .build())
-                // APNs (iOS) 설정: content-available=1 (Silent Push / Background Fetch)
-                .setApnsConfig(ApnsConfig.builder()
-                        .setAps(Aps.builder()
-                                .setContentAvailable(true) // 핵심! 백그라운드 처리 깨우기
-                                .setSound("default")
-                                .build())
-                        .putHeader("apns-priority", "10") // 즉시 전송
-                        .build())
-                // WebPush (Chrome 등) 설정
-                .setWebpushConfig(WebpushConfig.builder()
-                        .putHeader("Urgency", "high")
-                        .setNotification(WebpushNotification.builder()
-                                .setTitle("부스 호출 알림")
-                                .setBody(String.format("%s 부스 입장 순서가 되었습니다! 지금 방문해주세요.",
-                                        notification.boothName()))
-                                .setIcon("/icon-192.png")
-                                .setRequireInteraction(true)
-                                .build())
-                        .build())
-                // 공통 Notification (백업)
-                .setNotification(Notification.builder()
-                        .setTitle("부스 호출 알림")
-                        .setBody(String.format("%s 부스 입장 순서가 되었습니다! 지금 방문해주세요.",
-                                notification.boothName()))
-                        .build())
-                .putData("type", "CALL")
-                .putData("title", "부스 호출 알림")
-                .putData("body", String.format("%s 부스 입장 순서가 되었습니다! 지금 방문해주세요.",
-                        notification.boothName()))
-                .putData("boothId", String.valueOf(notification.boothId()))
-                .putData("calledPosition", String.valueOf(notification.calledPosition()))
-                .build();
-    }
+    private void handleError(
+            NotificationCommand command,
+            Exception e,
+            Channel channel,
+            org.springframework.amqp.core.Message amqpMessage,
+            boolean acquired,
+            boolean sent) {
+        long deliveryTag = amqpMessage.getMessageProperties().getDeliveryTag();
 
-    private void handleError(NotificationCommand command, Exception e, Channel channel, long deliveryTag) {
         if (e instanceof FirebaseMessagingException fme) {
             handleFcmError(command, fme);
             ack(channel, deliveryTag); // FCM 오류는 재시도 안 함
+        } else if (sent) {
+            // 발송 후 완료 기록 실패 - 처리 시작 표시를 유지하고 ack (재시도하면 중복 발송)
+            log.error("발송 완료 기록 실패 (재시도 안 함) - eventId: {}, error: {}",
+                    command.eventId(), e.getMessage(), e);
+            ack(channel, deliveryTag);
         } else {
             log.error("알림 처리 중 예외 발생 - eventId: {}, error: {}",
                     command.eventId(), e.getMessage(), e);
-            nack(channel, deliveryTag); // 재시도 가능한 오류
+            if (acquired) {
+                releaseQuietly(command.eventId()); // 재전달 시 다시 처리되도록 해제
+            }
+            retryHandler.retryOrPark(channel, amqpMessage); // 재시도 가능한 오류 (백오프 후 재전달)
+        }
+    }
+
+    /**
+     * 처리 시작 표시 해제 (Redis 장애로 실패해도 예외를 던지지 않고 재시도 큐 이동은 계속 진행)
+     */
+    private void releaseQuietly(String eventId) {
+        try {
+            idempotencyPort.release(eventId);
+        } catch (Exception e) {
+            log.error("처리 시작 표시 해제 실패 - eventId: {}", eventId, e);
         }
     }
 
     private void handleFcmError(NotificationCommand command, FirebaseMessagingException e) {
         String errorCode = String.valueOf(e.getErrorCode());
-        Long userId = getUserId(command);
+        Long userId = FcmMessageFactory.userIdOf(command);
 
         // 잘못된 토큰인 경우 캐시에서 삭제
         if ("INVALID_ARGUMENT".equals(errorCode) ||
@@ -176,14 +155,6 @@ public class FcmNotificationConsumer {
         }
     }
 
-    private void nack(Channel channel, long deliveryTag) {
-        try {
-            channel.basicNack(deliveryTag, false, true); // requeue = true
-        } catch (IOException e) {
-            log.error("NACK 실패 - deliveryTag: {}", deliveryTag, e);
-        }
-    }
-
     private void logReceived(NotificationCommand command) {
         switch (command) {
             case CallNotification notification ->
@@ -0,0 +1,89 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.waiting.application.port.out.NotificationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 알림 Outbox Adapter
+ *
+ * NotificationPort 구현체로, 알림을 notification_outbox 테이블에 기록합니다.
+ * 실제 RabbitMQ 발행은 NotificationOutboxRelay가 처리합니다.
+ *
+ * 문제:
+ * - 트랜잭션 안에서 바로 발행하면 이후 롤백 시 존재하지 않는 호출의 알림이 나감
+ * - 발행 실패 시 로그만 남고 알림 유실
+ *
+ * 해결:
+ * - Waiting INSERT와 같은 트랜잭션에서 INSERT (커밋된 호출만 알림 대상)
+ * - 요청 처리 경로에서 브로커 왕복 제거
+ * - 커밋 후 NotificationPublishBuffer에 넘겨 즉시 비동기 발행 (버퍼가 없거나 가득 차면 릴레이가 발행)
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class NotificationOutboxAdapter implements NotificationPort {
+
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO notification_outbox (event_id, payload, created_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Optional<NotificationPublishBuffer> publishBuffer;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void send(NotificationCommand command) {
+        sendAll(List.of(command));
+    }
+
+    /**
+     * 알림 일괄 기록 (JDBC batch INSERT 1회)
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendAll(List<? extends NotificationCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(createdAt);
+        List<Object[]> rows = commands.stream()
+                .map(command -> new Object[]{
+                        command.eventId(),
+                        objectMapper.writeValueAsString(command),
+                        now
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, rows);
+
+        // 롤백된 호출의 알림이 나가지 않도록 커밋 이후에만 버퍼에 적재
+        publishBuffer.ifPresent(buffer -> TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        buffer.offerAll(commands, createdAt);
+                    }
+                }));
+
+        log.debug("알림 Outbox 기록 - count: {}", commands.size());
+    }
+}
@@ -0,0 +1,260 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 알림 Outbox 릴레이
+ *
+ * notification_outbox의 미발행 알림을 배치 단위로 RabbitMQ에 발행하고 발행 완료 처리합니다.
+ *
+ * 문제:
+ * - 선점(FOR UPDATE SKIP LOCKED)과 발행을 한 트랜잭션에서 처리하면
+ *   Publisher Confirms 대기(최대 confirm-timeout-ms) 동안 행 잠금과 DB 커넥션을 계속 점유
+ *
+ * 처리 흐름 (배치마다):
+ * 1. 트랜잭션 1 (짧게): SELECT ... FOR UPDATE SKIP LOCKED → claimed_by/claimed_at 기록 후 커밋
+ *    - 다른 인스턴스가 잠근 행, 선점 중인 행은 건너뜀 (선점이 claim-timeout-ms보다 오래되면 재선점)
+ * 2. 트랜잭션 밖: RabbitMQ 일괄 발행 + Publisher Confirms 대기
+ * 3. UPDATE sent_at (본인이 선점한 행만, 단건 UPDATE)
+ * 4. 배치가 가득 찼으면 반복
+ *
+ * 전달 보장 (at-least-once):
+ * - 발행 실패 시 선점 해제 → 다음 주기에 재발행
+ * - 발행 후 완료 처리 전 종료 시 선점 만료 후 재발행 → FcmNotificationConsumer가 eventId로 중복 제거
+ *
+ * 메트릭:
+ * - festin.notification.outbox.published (발행 완료 건수)
+ * - festin.notification.outbox.failures (발행 실패 배치 수)
+ * - festin.notification.outbox.lag{path=relay} (기록 → 발행 완료 지연)
+ *
+ * 비동기 발행 버퍼(NotificationPublishBuffer) 사용 시:
+ * - 대부분은 버퍼가 커밋 직후 발행하므로, 릴레이는 relay-delay-ms보다 오래된 미발행 건만 처리
+ *   (버퍼 가득 참, 버퍼 발행 실패, 프로세스 종료로 남은 건)
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class NotificationOutboxRelay {
+
+    private static final String SELECT_PENDING_FOR_UPDATE_SQL = """
+            SELECT id, payload, created_at
+            FROM notification_outbox
+            WHERE sent_at IS NULL AND created_at < ? AND (claimed_at IS NULL OR claimed_at < ?)
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE notification_outbox
+            SET claimed_by = ?, claimed_at = ?
+            WHERE id IN (%s)
+            """;
+
+    private static final String UPDATE_SENT_SQL = """
+            UPDATE notification_outbox
+            SET sent_at = ?
+            WHERE id IN (%s) AND claimed_by = ?
+            """;
+
+    private static final String RELEASE_CLAIM_SQL = """
+            UPDATE notification_outbox
+            SET claimed_by = NULL, claimed_at = NULL
+            WHERE id IN (%s) AND claimed_by = ? AND sent_at IS NULL
+            """;
+
+    private static final String DELETE_SENT_SQL = """
+            DELETE FROM notification_outbox
+            WHERE sent_at < ?
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RabbitMqNotificationAdapter publisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration relayDelay;
+    private final Duration claimTimeout;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer lagTimer;
+
+    public NotificationOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            RabbitMqNotificationAdapter publisher,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Optional<NotificationPublishBuffer> publishBuffer,
+            @Value("${festin.notification.outbox.batch-size:200}") int batchSize,
+            @Value("${festin.notification.outbox.retention-hours:24}") long retentionHours,
+            @Value("${festin.notification.outbox.relay-delay-ms:2000}") long relayDelayMillis,
+            @Value("${festin.notification.outbox.claim-timeout-ms:30000}") long claimTimeoutMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+        // 버퍼가 없으면 기록 즉시 릴레이 대상
+        this.relayDelay = publishBuffer.isPresent() ? Duration.ofMillis(relayDelayMillis) : Duration.ZERO;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+
+        this.publishedCounter = Counter.builder("festin.notification.outbox.published")
+                .description("Outbox 알림 발행 완료 건수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("festin.notification.outbox.failures")
+                .description("Outbox 알림 발행 실패 배치 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("festin.notification.outbox.lag")
+                .tag("path", "relay")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미발행 알림 릴레이 (기본 200ms 간격)
+     */
+    @Scheduled(fixedDelayString = "${festin.notification.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed >= batchSize);
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("[Outbox 릴레이] 발행 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치 1개 발행 (선점 커밋 → 트랜잭션 밖에서 발행 → 완료 처리)
+     *
+     * @return 발행 건수
+     */
+    private int relayBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxRow> rows = claim(claimToken);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            List<NotificationCommand> commands = rows.stream()
+                    .map(row -> objectMapper.readValue(row.payload(), NotificationCommand.class))
+                    .toList();
+            publisher.publishAll(commands);
+        } catch (RuntimeException e) {
+            update(RELEASE_CLAIM_SQL, rows, claimToken, null);
+            throw e;
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        int marked = update(UPDATE_SENT_SQL, rows, claimToken, sentAt);
+        if (marked < rows.size()) {
+            // 확인 대기가 claim-timeout을 넘겨 다른 경로가 재선점 → 중복 발행은 소비자가 eventId로 제거
+            log.warn("[Outbox 릴레이] 선점 만료 후 발행 완료 - 선점: {}, 완료 처리: {}", rows.size(), marked);
+        }
+        rows.forEach(row -> lagTimer.record(Duration.between(row.createdAt(), sentAt)));
+
+        publishedCounter.increment(rows.size());
+        log.debug("[Outbox 릴레이] 발행 완료 - count: {}", rows.size());
+        return rows.size();
+    }
+
+    /**
+     * 미발행 건 선점 (짧은 트랜잭션 1개, 커밋 후 행 잠금 해제)
+     */
+    private List<OutboxRow> claim(String claimToken) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxRow> claimed = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(
+                    SELECT_PENDING_FOR_UPDATE_SQL,
+                    (rs, rowNum) -> new OutboxRow(
+                            rs.getLong("id"),
+                            rs.getString("payload"),
+                            rs.getTimestamp("created_at").toLocalDateTime()),
+                    Timestamp.valueOf(now.minus(relayDelay)),
+                    Timestamp.valueOf(now.minus(claimTimeout)),
+                    batchSize);
+
+            if (!rows.isEmpty()) {
+                String placeholders = String.join(",", Collections.nCopies(rows.size(), "?"));
+                List<Object> params = new ArrayList<>(rows.size() + 2);
+                params.add(claimToken);
+                params.add(Timestamp.valueOf(now));
+                rows.forEach(row -> params.add(row.id()));
+                jdbcTemplate.update(CLAIM_SQL.formatted(placeholders), params.toArray());
+            }
+            return rows;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * 본인이 선점한 행만 완료 처리 / 선점 해제
+     *
+     * @param sentAt 완료 시각 (선점 해제 시 null)
+     * @return 반영된 행 수
+     */
+    private int update(String sql, List<OutboxRow> rows, String claimToken, LocalDateTime sentAt) {
+        String placeholders = String.join(",", Collections.nCopies(rows.size(), "?"));
+        List<Object> params = new ArrayList<>(rows.size() + 2);
+        if (sentAt != null) {
+            params.add(Timestamp.valueOf(sentAt));
+        }
+        rows.forEach(row -> params.add(row.id()));
+        params.add(claimToken);
+
+        return jdbcTemplate.update(sql.formatted(placeholders), params.toArray());
+    }
+
+    /**
+     * 발행 완료 후 보관 기간이 지난 알림 삭제 (매시 정각)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeSent() {
+        try {
+            Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+            int deleted;
+            int total = 0;
+            do {
+                deleted = jdbcTemplate.update(DELETE_SENT_SQL, threshold, 5_000);
+                total += deleted;
+            } while (deleted > 0);
+
+            if (total > 0) {
+                log.info("[Outbox 릴레이] 발행 완료 알림 정리 - count: {}", total);
+            }
+        } catch (Exception e) {
+            log.error("[Outbox 릴레이] 발행 완료 알림 정리 실패", e);
+        }
+    }
+
+    private record OutboxRow(Long id, String payload, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 비동기 발행 버퍼
+ *
+ * 문제:
+ * - Outbox 릴레이는 주기 폴링 → 커밋 후 발행까지 폴링 간격만큼 지연
+ * - 폴링마다 MySQL SELECT FOR UPDATE 발생
+ *
+ * 해결:
+ * - 커밋 직후 알림을 고정 크기 링 버퍼(ArrayBlockingQueue)에 넣고 바로 반환 (요청 스레드는 대기 없음)
+ * - 전용 발행 스레드가 버퍼를 배치 단위로 비우며 Publisher Confirms 발행 → Outbox 발행 완료 처리
+ *
+ * 배압 (버퍼 가득 참):
+ * - 버퍼에 넣지 않고 Outbox 릴레이에 맡김 (알림은 이미 Outbox에 있으므로 유실 없음)
+ * - 발행 실패한 배치도 동일하게 릴레이가 재발행
+ *
+ * 릴레이와의 중복 발행 방지:
+ * - 발행 전에 릴레이와 같은 방식으로 행 선점 (claimed_by/claimed_at, 단건 UPDATE)
+ * - 릴레이가 이미 선점했거나 발행 완료한 알림은 버퍼에서 제외
+ * - 발행 실패 시 선점 해제 → 릴레이가 재발행
+ *
+ * 메트릭:
+ * - festin.notification.buffer.depth (버퍼 적재 건수)
+ * - festin.notification.buffer.rejected (가득 차서 릴레이로 넘긴 건수)
+ * - festin.notification.buffer.batch (배치당 발행 건수)
+ * - festin.notification.buffer.publish (배치 발행 + 확인 대기 시간)
+ * - festin.notification.outbox.lag{path=buffer} (기록 → 발행 완료 지연)
+ *
+ * 비활성화: festin.notification.buffer.enabled=false (릴레이 폴링만 사용)
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@ConditionalOnProperty(name = "festin.notification.buffer.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationPublishBuffer {
+
+    private static final String CLAIM_BY_EVENT_ID_SQL = """
+            UPDATE notification_outbox
+            SET claimed_by = ?, claimed_at = ?
+            WHERE event_id IN (%s) AND sent_at IS NULL AND (claimed_at IS NULL OR claimed_at < ?)
+            """;
+
+    private static final String SELECT_CLAIMED_EVENT_ID_SQL = """
+            SELECT event_id
+            FROM notification_outbox
+            WHERE event_id IN (%s) AND claimed_by = ?
+            """;
+
+    private static final String UPDATE_SENT_BY_EVENT_ID_SQL = """
+            UPDATE notification_outbox
+            SET sent_at = ?
+            WHERE event_id IN (%s) AND claimed_by = ?
+            """;
+
+    private static final String RELEASE_CLAIM_BY_EVENT_ID_SQL = """
+            UPDATE notification_outbox
+            SET claimed_by = NULL, claimed_at = NULL
+            WHERE event_id IN (%s) AND claimed_by = ? AND sent_at IS NULL
+            """;
+
+    private final RabbitMqNotificationAdapter publisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration claimTimeout;
+    private final BlockingQueue<BufferedNotification> buffer;
+
+    private Counter rejectedCounter;
+    private DistributionSummary batchSummary;
+    private Timer publishTimer;
+    private Timer lagTimer;
+
+    private Thread publisherThread;
+    private volatile boolean running;
+
+    public NotificationPublishBuffer(
+            RabbitMqNotificationAdapter publisher,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${festin.notification.buffer.capacity:8192}") int capacity,
+            @Value("${festin.notification.buffer.batch-size:100}") int batchSize,
+            @Value("${festin.notification.outbox.claim-timeout-ms:30000}") long claimTimeoutMillis
+    ) {
+        this.publisher = publisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("festin.notification.buffer.depth", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("festin.notification.buffer.rejected")
+                .description("버퍼가 가득 차 Outbox 릴레이로 넘긴 알림 수")
+                .register(meterRegistry);
+        batchSummary = DistributionSummary.builder("festin.notification.buffer.batch")
+                .description("배치당 발행 건수")
+                .register(meterRegistry);
+        publishTimer = Timer.builder("festin.notification.buffer.publish")
+                .description("배치 발행 + Publisher Confirms 대기 시간")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("festin.notification.outbox.lag")
+                .tag("path", "buffer")
+                .register(meterRegistry);
+
+        running = true;
+        publisherThread = Thread.ofPlatform().name("notification-publisher").daemon().start(this::runLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 남은 알림은 Outbox에 있으므로 릴레이가 발행
+        running = false;
+        if (publisherThread != null) {
+            publisherThread.interrupt();
+        }
+    }
+
+    /**
+     * 커밋된 알림 적재 (논블로킹)
+     *
+     * @return 버퍼에 넣지 못한 건수 (Outbox 릴레이가 발행)
+     */
+    public int offerAll(List<? extends NotificationCommand> commands, LocalDateTime createdAt) {
+        int rejected = 0;
+        for (NotificationCommand command : commands) {
+            if (!buffer.offer(new BufferedNotification(command, createdAt))) {
+                rejected++;
+            }
+        }
+
+        if (rejected > 0) {
+            rejectedCounter.increment(rejected);
+            log.warn("[알림 버퍼] 가득 참 - Outbox 릴레이로 넘김: {}건", rejected);
+        }
+        return rejected;
+    }
+
+    private void runLoop() {
+        List<BufferedNotification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                BufferedNotification first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                publish(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 발행 실패한 배치는 Outbox에 미발행으로 남아 릴레이가 재발행
+                log.error("[알림 버퍼] 배치 발행 실패 (릴레이가 재발행) - count: {}, error: {}",
+                        batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(List<BufferedNotification> batch) {
+        String claimToken = UUID.randomUUID().toString();
+        List<BufferedNotification> claimed = claim(batch, claimToken);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            publisher.publishAll(claimed.stream().map(BufferedNotification::command).toList());
+        } catch (RuntimeException e) {
+            update(RELEASE_CLAIM_BY_EVENT_ID_SQL, claimed, claimToken, null);
+            throw e;
+        }
+        publishTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        batchSummary.record(claimed.size());
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        update(UPDATE_SENT_BY_EVENT_ID_SQL, claimed, claimToken, sentAt);
+        claimed.forEach(notification -> lagTimer.record(Duration.between(notification.createdAt(), sentAt)));
+    }
+
+    /**
+     * 발행 전 선점 (릴레이가 선점했거나 발행 완료한 알림 제외)
+     *
+     * @return 이번 배치가 선점한 알림
+     */
+    private List<BufferedNotification> claim(List<BufferedNotification> batch, String claimToken) {
+        LocalDateTime now = LocalDateTime.now();
+        String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+
+        List<Object> params = new ArrayList<>(batch.size() + 3);
+        params.add(claimToken);
+        params.add(Timestamp.valueOf(now));
+        batch.forEach(notification -> params.add(notification.command().eventId()));
+        params.add(Timestamp.valueOf(now.minus(claimTimeout)));
+        int updated = jdbcTemplate.update(CLAIM_BY_EVENT_ID_SQL.formatted(placeholders), params.toArray());
+        if (updated == batch.size()) {
+            return batch;
+        }
+        if (updated == 0) {
+            return List.of();
+        }
+
+        List<Object> selectParams = new ArrayList<>(batch.size() + 1);
+        batch.forEach(notification -> selectParams.add(notification.command().eventId()));
+        selectParams.add(claimToken);
+        Set<String> claimedEventIds = new HashSet<>(jdbcTemplate.queryForList(
+                SELECT_CLAIMED_EVENT_ID_SQL.formatted(placeholders), String.class, selectParams.toArray()));
+
+        return batch.stream()
+                .filter(notification -> claimedEventIds.contains(notification.command().eventId()))
+                .toList();
+    }
+
+    /**
+     * 이번 배치가 선점한 알림만 발행 완료 처리 / 선점 해제 (event_id 기준)
+     *
+     * @param sentAt 완료 시각 (선점 해제 시 null)
+     */
+    private void update(String sql, List<BufferedNotification> claimed, String claimToken, LocalDateTime sentAt) {
+        String placeholders = String.join(",", Collections.nCopies(claimed.size(), "?"));
+        List<Object> params = new ArrayList<>(claimed.size() + 2);
+        if (sentAt != null) {
+            params.add(Timestamp.valueOf(sentAt));
+        }
+        claimed.forEach(notification -> params.add(notification.command().eventId()));
+        params.add(claimToken);
+
+        jdbcTemplate.update(sql.formatted(placeholders), params.toArray());
+    }
+
+    private record BufferedNotification(NotificationCommand command, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.common.config.NotificationQueueConfig;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 알림 재시도 처리 (지수 백오프 + Parking Lot)
+ *
+ * 문제:
+ * - basicNack(requeue=true)는 즉시 재전달 → Redis 장애 중에는 같은 메시지가 쉬지 않고 반복
+ * - 컨슈머 CPU를 소모하고 정상 메시지 처리를 막음
+ *
+ * 해결:
+ * - 재시도 가능한 실패 시 x-retry-count 헤더를 증가시켜 다음 단계 재시도 큐로 발행 후 원본 ack
+ * - 발행은 Publisher Confirms로 브로커 확인까지 대기한 뒤 원본 ack (확인 전 ack 시 브로커 장애로 유실)
+ * - 재시도 큐 TTL 만료 시 메인 큐로 dead-letter (대기 중에는 컨슈머 비용 없음)
+ * - 모든 단계를 소진하면 Parking Lot 큐로 이동
+ * - 변환 불가 메시지는 재시도 없이 바로 Parking Lot으로 이동 (원인 확인용으로 보관)
+ * - 재시도 큐 발행 실패(nack, 확인 타임아웃) 시에만 기존처럼 nack(requeue) (메시지 유실 방지)
+ *
+ * 메트릭:
+ * - festin.notification.retry{tier} (단계별 재시도 건수)
+ * - festin.notification.parked (Parking Lot 이동 건수)
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class NotificationRetryHandler {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Long> delays;
+    private final long confirmTimeoutMillis;
+    private final MeterRegistry meterRegistry;
+    private final Counter parkedCounter;
+
+    public NotificationRetryHandler(
+            RabbitTemplate rabbitTemplate,
+            @Value("${festin.notification.retry.delays-ms:1000,10000,60000}") List<Long> delays,
+            @Value("${festin.notification.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.delays = List.copyOf(delays);
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.meterRegistry = meterRegistry;
+        this.parkedCounter = Counter.builder("festin.notification.parked")
+                .description("재시도를 모두 소진하여 Parking Lot으로 이동한 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다음 재시도 단계 큐(또는 Parking Lot)로 이동 후 원본 ack
+     *
+     * @param channel 수신 채널 (브로커 확인 후 원본 ack)
+     * @param message 원본 메시지
+     */
+    public void retryOrPark(Channel channel, Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        long deliveryTag = properties.getDeliveryTag();
+        int retryCount = retryCountOf(properties);
+
+        String targetQueue = retryCount < delays.size()
+                ? NotificationQueueConfig.retryQueueName(delays.get(retryCount))
+                : NotificationQueueConfig.PARKING_LOT_QUEUE;
+
+        properties.setHeader(NotificationQueueConfig.RETRY_COUNT_HEADER, retryCount + 1);
+        if (!publishConfirmed(targetQueue, message)) {
+            log.error("재시도 큐 발행 실패 (즉시 재전달) - deliveryTag: {}, targetQueue: {}", deliveryTag, targetQueue);
+            nack(channel, deliveryTag, true);
+            return;
+        }
+        ack(channel, deliveryTag);
+
+        if (retryCount < delays.size()) {
+            Counter.builder("festin.notification.retry")
+                    .tag("tier", String.valueOf(retryCount + 1))
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("알림 재시도 예약 - retryCount: {}, delay: {}ms", retryCount + 1, delays.get(retryCount));
+        } else {
+            parkedCounter.increment();
+            log.error("알림 재시도 소진 - Parking Lot 이동 (retryCount: {})", retryCount);
+        }
+    }
+
+    /**
+     * 재시도 없이 바로 Parking Lot으로 이동 후 원본 ack (변환 불가 메시지)
+     *
+     * Parking Lot 발행마저 실패하면 재전달해도 같은 결과이므로 requeue 없이 폐기
+     *
+     * @param channel 수신 채널 (브로커 확인 후 원본 ack)
+     * @param message 원본 메시지
+     */
+    public void park(Channel channel, Message message) {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+
+        if (!publishConfirmed(NotificationQueueConfig.PARKING_LOT_QUEUE, message)) {
+            log.error("Parking Lot 발행 실패 (폐기) - deliveryTag: {}", deliveryTag);
+            nack(channel, deliveryTag, false);
+            return;
+        }
+        ack(channel, deliveryTag);
+
+        parkedCounter.increment();
+        log.error("변환 불가 알림 - Parking Lot 이동 (deliveryTag: {})", deliveryTag);
+    }
+
+    /**
+     * 기본 exchange로 발행 후 Publisher Confirms 대기
+     *
+     * @return 브로커가 확인(ack)하면 true, nack 또는 타임아웃이면 false
+     */
+    private boolean publishConfirmed(String targetQueue, Message message) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                operations.send("", targetQueue, message);
+                operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+                return null;
+            });
+            return true;
+        } catch (AmqpException e) {
+            log.error("발행 확인 실패 - targetQueue: {}, error: {}", targetQueue, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private int retryCountOf(MessageProperties properties) {
+        Object header = properties.getHeader(NotificationQueueConfig.RETRY_COUNT_HEADER);
+        if (header instanceof Number number) {
+            return number.intValue();
+        }
+        return 0;
+    }
+
+    private void ack(Channel channel, long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException e) {
+            log.error("ACK 실패 - deliveryTag: {}", deliveryTag, e);
+        }
+    }
+
+    private void nack(Channel channel, long deliveryTag, boolean requeue) {
+        try {
+            channel.basicNack(deliveryTag, false, requeue);
+        } catch (IOException e) {
+            log.error("NACK 실패 - deliveryTag: {}", deliveryTag, e);
+        }
+    }
+}
@@ -1,40 +1,63 @@
 package com.festin.app.waiting.adapter.out.notification;
 
 import com.festin.app.common.config.NotificationQueueConfig;
-import com.festin.app.waiting.application.port.out.NotificationPort;
-import lombok.RequiredArgsConstructor;
+import com.festin.app.waiting.application.port.out.NotificationPort.CallNotification;
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
- * RabbitMQ 알림 Adapter
+ * RabbitMQ 알림 발행기
  *
- * NotificationPort 구현체로, RabbitMQ에 알림 메시지를 발행합니다.
+ * NotificationOutboxRelay가 Outbox에서 읽은 알림을 RabbitMQ에 발행합니다.
  * 실제 FCM 발송은 FcmNotificationConsumer가 처리합니다.
+ *
+ * Publisher Confirms:
+ * - spring.rabbitmq.publisher-confirm-type=simple
+ * - 채널 1개로 N건 연속 발행 후 waitForConfirmsOrDie 1회 (건별 대기 없음)
+ * - nack 또는 타임아웃 시 예외 → 릴레이가 발행 완료 처리하지 않고 다음 주기에 재발행
  */
 @Slf4j
 @Component
 @Profile("!test")
-@RequiredArgsConstructor
-public class RabbitMqNotificationAdapter implements NotificationPort {
+public class RabbitMqNotificationAdapter {
 
     private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMillis;
 
-    @Override
-    public void send(NotificationCommand command) {
-        try {
-            rabbitTemplate.convertAndSend(
-                    NotificationQueueConfig.NOTIFICATION_QUEUE,
-                    command
-            );
-
-            logPublished(command);
+    public RabbitMqNotificationAdapter(
+            RabbitTemplate rabbitTemplate,
+            @Value("${festin.notification.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMillis
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+    }
 
-        } catch (Exception e) {
-            logPublishError(command, e);
+    /**
+     * 알림 일괄 발행 (브로커 확인까지 대기)
+     *
+     * @param commands 알림 명령 목록
+     * @throws org.springframework.amqp.AmqpException nack 또는 확인 타임아웃
+     */
+    public void publishAll(List<? extends NotificationCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
         }
+
+        rabbitTemplate.invoke(operations -> {
+            for (NotificationCommand command : commands) {
+                operations.convertAndSend(NotificationQueueConfig.NOTIFICATION_QUEUE, command);
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return null;
+        });
+
+        commands.forEach(this::logPublished);
     }
 
     private void logPublished(NotificationCommand command) {
@@ -46,15 +69,4 @@ public class RabbitMqNotificationAdapter implements NotificationPort {
                             notification.calledPosition());
         }
     }
-
-    private void logPublishError(NotificationCommand command, Exception e) {
-        switch (command) {
-            case CallNotification notification ->
-                    log.error("RabbitMQ 메시지 발행 실패 - userId: {}, boothId: {}, error: {}",
-                            notification.userId(),
-                            notification.boothId(),
-                            e.getMessage(),
-                            e);
-        }
-    }
-}
\ No newline at end of file
+}
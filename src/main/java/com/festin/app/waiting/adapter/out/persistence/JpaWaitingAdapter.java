@@ -3,6 +3,8 @@ package com.festin.app.waiting.adapter.out.persistence;
 import com.festin.app.booth.adapter.out.persistence.entity.BoothEntity;
 import com.festin.app.booth.adapter.out.persistence.repository.BoothJpaRepository;
 import com.festin.app.booth.domain.BoothNotFoundException;
+import com.festin.app.common.lease.Lease;
+import com.festin.app.common.lease.StaleLeaseException;
 import com.festin.app.user.adapter.out.persistence.entity.UserEntity;
 import com.festin.app.user.adapter.out.persistence.repository.UserJpaRepository;
 import com.festin.app.waiting.adapter.out.persistence.entity.WaitingEntity;
@@ -10,15 +12,36 @@ import com.festin.app.waiting.adapter.out.persistence.mapper.WaitingMapper;
 import com.festin.app.waiting.adapter.out.persistence.repository.WaitingJpaRepository;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
 import com.festin.app.waiting.application.port.out.dto.CalledWaitingInfo;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
+import com.festin.app.waiting.application.port.out.dto.NoShowMarked;
+import com.festin.app.waiting.application.port.out.dto.UserBoothKey;
 import com.festin.app.waiting.domain.model.Waiting;
 import com.festin.app.waiting.domain.model.WaitingStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Waiting JPA Adapter
@@ -39,6 +62,75 @@ public class JpaWaitingAdapter implements WaitingRepositoryPort {
     private final UserJpaRepository userJpaRepository;
     private final BoothJpaRepository boothJpaRepository;
     private final WaitingMapper waitingMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일괄 호출용 INSERT
+     *
+     * IDENTITY 전략에서는 Hibernate JDBC batch가 비활성화되므로 JdbcTemplate으로 직접 batch 처리
+     * - rewriteBatchedStatements=true 설정 시 MySQL 드라이버가 multi-row INSERT 1건으로 재작성
+     */
+    private static final String INSERT_CALLED_SQL = """
+            INSERT INTO waiting (user_id, booth_id, called_position, status, registered_at, called_at,
+                                 notification_sent, notification_retry_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, false, 0, ?, ?)
+            """;
+
+    /**
+     * 일괄 노쇼 대상 조회 (행 잠금)
+     *
+     * MySQL의 UPDATE ... LIMIT은 변경된 ID를 반환할 수 없으므로
+     * 같은 트랜잭션에서 대상 행을 먼저 잠그고 ID 목록으로 UPDATE
+     * - SKIP LOCKED: 다른 인스턴스가 잠근 행은 건너뜀
+     * - (status, called_at) 인덱스로 range 스캔
+     * - MOD(booth_id, ?) = ?: 부스 ID 파티션 필터 (인스턴스별 분담)
+     */
+    private static final String SELECT_TIMEOUT_FOR_UPDATE_SQL = """
+            SELECT id, user_id, booth_id, called_at
+            FROM waiting
+            WHERE status = 'CALLED' AND called_at < ? AND MOD(booth_id, ?) = ?
+            ORDER BY called_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String SELECT_CALLED_FOR_UPDATE_SQL = """
+            SELECT id, user_id, booth_id, called_at
+            FROM waiting
+            WHERE id = ? AND status = 'CALLED'
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_NO_SHOW_SQL = """
+            UPDATE waiting
+            SET status = 'COMPLETED', completion_type = 'NO_SHOW', completed_at = ?, updated_at = ?
+            WHERE id IN (%s)
+            """;
+
+    /**
+     * 리스 펜싱 토큰 검증 (job_fence)
+     *
+     * 노쇼 UPDATE와 같은 트랜잭션에서 리스 이름별 행을 잠그고 비교
+     * - 저장된 토큰 > 내 토큰: 리스 만료 후 다른 인스턴스가 이미 처리 → 거절 (롤백)
+     * - 저장된 토큰 < 내 토큰: 내 토큰으로 갱신 (이후 이전 보유자의 쓰기 거절)
+     * - 행 잠금이 커밋까지 유지되므로 검증과 UPDATE 사이에 더 큰 토큰이 끼어들 수 없음
+     */
+    private static final String INSERT_FENCE_SQL = "INSERT IGNORE INTO job_fence (name, token) VALUES (?, 0)";
+
+    private static final String SELECT_FENCE_FOR_UPDATE_SQL = "SELECT token FROM job_fence WHERE name = ? FOR UPDATE";
+
+    private static final String UPDATE_FENCE_SQL = "UPDATE job_fence SET token = ? WHERE name = ?";
+
+    /**
+     * 사용자/부스 조합 일괄 존재 확인
+     *
+     * (user_id, status) 인덱스로 조회 후 부스 ID는 애플리케이션에서 매칭
+     */
+    private static final String SELECT_USER_BOOTH_BY_STATUS_SQL = """
+            SELECT user_id, booth_id
+            FROM waiting
+            WHERE status = ? AND user_id IN (%s)
+            """;
 
     /**
      * Waiting Aggregate 저장/업데이트
@@ -70,6 +162,66 @@ public class JpaWaitingAdapter implements WaitingRepositoryPort {
         return waitingMapper.toDomain(savedEntity);
     }
 
+    /**
+     * 신규 Waiting 일괄 INSERT
+     *
+     * JPA 영속성 컨텍스트를 거치지 않으므로 CALLED 상태의 신규 Waiting만 대상
+     * (같은 트랜잭션의 JDBC 커넥션을 공유하므로 롤백 시 함께 롤백됨)
+     */
+    @Override
+    public List<Waiting> saveAll(List<Waiting> waitings) {
+        if (waitings.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_CALLED_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Waiting waiting = waitings.get(i);
+                        ps.setLong(1, waiting.getUserId());
+                        ps.setLong(2, waiting.getBoothId());
+                        ps.setInt(3, waiting.getCalledPosition());
+                        ps.setString(4, waiting.getStatus().name());
+                        ps.setTimestamp(5, Timestamp.valueOf(waiting.getRegisteredAt()));
+                        ps.setTimestamp(6, Timestamp.valueOf(waiting.getCalledAt()));
+                        ps.setTimestamp(7, now);
+                        ps.setTimestamp(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return waitings.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Waiting> saved = new ArrayList<>(waitings.size());
+        for (int i = 0; i < waitings.size(); i++) {
+            Waiting waiting = waitings.get(i);
+            Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            saved.add(Waiting.of(
+                    id,
+                    waiting.getUserId(),
+                    waiting.getBoothId(),
+                    waiting.getCalledPosition(),
+                    waiting.getRegisteredAt(),
+                    waiting.getCalledAt(),
+                    waiting.getStatus(),
+                    waiting.getCompletionType(),
+                    waiting.getEnteredAt(),
+                    waiting.getCompletedAt()
+            ));
+        }
+        return saved;
+    }
+
     @Override
     public Optional<Waiting> findById(Long waitingId) {
         return waitingJpaRepository.findById(waitingId)
@@ -84,23 +236,33 @@ public class JpaWaitingAdapter implements WaitingRepositoryPort {
     }
 
     @Override
-    public int countTodayCalledByBoothId(Long boothId, LocalDate date) {
-        return waitingJpaRepository.countTodayCalledByBoothId(boothId, date);
+    public DailyStats sumDailyStatsByBoothId(Long boothId, LocalDate date) {
+        return waitingJpaRepository.sumDailyStatsByBoothId(boothId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                .stream()
+                .findFirst()
+                .map(this::toDailyStats)
+                .orElse(DailyStats.EMPTY);
     }
 
     @Override
-    public int countTodayEnteredByBoothId(Long boothId, LocalDate date) {
-        return waitingJpaRepository.countTodayEnteredByBoothId(boothId, date);
+    public Map<Long, DailyStats> sumDailyStatsGroupByBoothId(LocalDate date) {
+        Map<Long, DailyStats> statsByBoothId = new HashMap<>();
+        waitingJpaRepository.sumDailyStatsGroupByBoothId(date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                .forEach(row -> statsByBoothId.put(row.getBoothId(), toDailyStats(row)));
+        return statsByBoothId;
     }
 
-    @Override
-    public int countTodayNoShowByBoothId(Long boothId, LocalDate date) {
-        return waitingJpaRepository.countTodayNoShowByBoothId(boothId, date);
+    private DailyStats toDailyStats(WaitingJpaRepository.DailyStatsRow row) {
+        return new DailyStats(
+                toInt(row.getCalled()),
+                toInt(row.getEntered()),
+                toInt(row.getNoShow()),
+                toInt(row.getCompleted())
+        );
     }
 
-    @Override
-    public int countTodayCompletedByBoothId(Long boothId, LocalDate date) {
-        return waitingJpaRepository.countTodayCompletedByBoothId(boothId, date);
+    private int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
     }
 
     @Override
@@ -120,16 +282,88 @@ public class JpaWaitingAdapter implements WaitingRepositoryPort {
     }
 
     @Override
-    public List<Waiting> findTimeoutWaitings(LocalDateTime timeoutThreshold) {
-        return waitingJpaRepository.findByStatusAndCalledAtBefore(WaitingStatus.CALLED, timeoutThreshold)
-                .stream()
-                .map(waitingMapper::toDomain)
-                .toList();
+    @Transactional
+    public List<NoShowMarked> markTimeoutAsNoShow(LocalDateTime timeoutThreshold, int partitionIndex, int partitionCount,
+                                                  int limit, Lease lease) {
+        checkFence(lease);
+
+        List<NoShowMarked> targets = jdbcTemplate.query(
+                SELECT_TIMEOUT_FOR_UPDATE_SQL,
+                this::toNoShowMarked,
+                Timestamp.valueOf(timeoutThreshold),
+                partitionCount,
+                partitionIndex,
+                limit
+        );
+
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        updateNoShow(targets);
+        return targets;
+    }
+
+    @Override
+    @Transactional
+    public Optional<NoShowMarked> markAsNoShowIfCalled(Long waitingId) {
+        List<NoShowMarked> targets = jdbcTemplate.query(
+                SELECT_CALLED_FOR_UPDATE_SQL,
+                this::toNoShowMarked,
+                waitingId
+        );
+
+        if (targets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        updateNoShow(targets);
+        return Optional.of(targets.get(0));
+    }
+
+    /**
+     * 펜싱 토큰 검증 (리스 미사용 환경은 건너뜀)
+     */
+    private void checkFence(Lease lease) {
+        if (!lease.isFenced()) {
+            return;
+        }
+
+        jdbcTemplate.update(INSERT_FENCE_SQL, lease.name());
+        Long latest = jdbcTemplate.queryForObject(SELECT_FENCE_FOR_UPDATE_SQL, Long.class, lease.name());
+        if (latest != null && latest > lease.fencingToken()) {
+            throw new StaleLeaseException(lease.name(), lease.fencingToken(), latest);
+        }
+        if (latest == null || latest < lease.fencingToken()) {
+            jdbcTemplate.update(UPDATE_FENCE_SQL, lease.fencingToken(), lease.name());
+        }
+    }
+
+    /**
+     * 잠근 대상 행을 노쇼로 UPDATE 1회
+     */
+    private void updateNoShow(List<NoShowMarked> targets) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String placeholders = String.join(",", Collections.nCopies(targets.size(), "?"));
+        List<Object> params = new ArrayList<>(targets.size() + 2);
+        params.add(now);
+        params.add(now);
+        targets.forEach(target -> params.add(target.waitingId()));
+
+        jdbcTemplate.update(UPDATE_NO_SHOW_SQL.formatted(placeholders), params.toArray());
+    }
+
+    private NoShowMarked toNoShowMarked(ResultSet rs, int rowNum) throws SQLException {
+        return new NoShowMarked(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getLong("booth_id"),
+                rs.getTimestamp("called_at").toLocalDateTime());
     }
 
     @Override
     public List<Waiting> findRecentByStatus(WaitingStatus status, LocalDateTime since) {
-        return waitingJpaRepository.findByStatusAndCalledAtAfter(status, since)
+        return waitingJpaRepository.findByStatusAndCalledAtGreaterThanEqual(status, since)
                 .stream()
                 .map(waitingMapper::toDomain)
                 .toList();
@@ -139,4 +373,33 @@ public class JpaWaitingAdapter implements WaitingRepositoryPort {
     public boolean existsByUserIdAndBoothIdAndStatus(Long userId, Long boothId, WaitingStatus status) {
         return waitingJpaRepository.existsByUserIdAndBoothIdAndStatus(userId, boothId, status);
     }
+
+    @Override
+    public Set<UserBoothKey> findExistingByStatus(Collection<UserBoothKey> keys, WaitingStatus status) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> userIds = keys.stream()
+                .map(UserBoothKey::userId)
+                .distinct()
+                .toList();
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        List<Object> params = new ArrayList<>(userIds.size() + 1);
+        params.add(status.name());
+        params.addAll(userIds);
+
+        Set<UserBoothKey> requested = new HashSet<>(keys);
+        Set<UserBoothKey> existing = new HashSet<>();
+        jdbcTemplate.query(
+                SELECT_USER_BOOTH_BY_STATUS_SQL.formatted(placeholders),
+                (RowCallbackHandler) rs -> {
+                    UserBoothKey key = new UserBoothKey(rs.getLong("user_id"), rs.getLong("booth_id"));
+                    if (requested.contains(key)) {
+                        existing.add(key);
+                    }
+                },
+                params.toArray());
+        return existing;
+    }
 }
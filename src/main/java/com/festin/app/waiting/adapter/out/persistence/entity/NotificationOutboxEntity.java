@@ -0,0 +1,53 @@
+package com.festin.app.waiting.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 Outbox JPA Entity
+ *
+ * 호출(Waiting INSERT)과 같은 트랜잭션에서 기록되는 발행 대기 알림
+ * - 기록/조회/발행 완료 처리는 JdbcTemplate으로 직접 수행 (스키마 관리용 Entity)
+ *
+ * 발행 선점 (claimed_by, claimed_at):
+ * - 발행 전에 짧은 트랜잭션으로 선점 후 커밋 → 브로커 확인 대기 중에는 행 잠금을 잡지 않음
+ * - 선점 시각이 claim-timeout보다 오래되면 (발행 중 종료) 다른 발행 경로가 다시 선점
+ *
+ * 인덱스:
+ * - (sent_at, id): 미발행 건(sent_at IS NULL)을 id 순으로 조회
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_sent_at_id", columnList = "sent_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, unique = true, length = 100)
+    private String eventId;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+}
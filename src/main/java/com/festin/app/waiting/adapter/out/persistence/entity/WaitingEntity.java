@@ -17,9 +17,20 @@ import java.time.LocalDateTime;
  *
  * Domain과 분리된 Infrastructure 계층의 Entity
  * 호출(CALLED) 시점부터 MySQL에 저장
+ *
+ * 인덱스:
+ * - (booth_id, status, called_at): 부스별 호출/활성 목록 (calledAt 정렬까지 인덱스로 처리)
+ * - (status, called_at): 노쇼 타임아웃 대상, 최근 상태별 조회
+ * - (user_id, status): 사용자 활성 대기 조회, Soft Lock 보정 존재 여부 확인
+ * - (called_at, booth_id): 일별 통계 집계 (호출일 범위 + 부스별 그룹)
  */
 @Entity
-@Table(name = "waiting")
+@Table(name = "waiting", indexes = {
+        @Index(name = "idx_waiting_booth_status_called_at", columnList = "booth_id, status, called_at"),
+        @Index(name = "idx_waiting_status_called_at", columnList = "status, called_at"),
+        @Index(name = "idx_waiting_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_waiting_called_at_booth", columnList = "called_at, booth_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class WaitingEntity extends BaseTimeEntity {
@@ -6,7 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -14,6 +13,9 @@ import java.util.List;
  * Waiting JPA Repository
  *
  * Spring Data JPA 인터페이스
+ *
+ * 날짜 조건은 모두 반열린 구간 [start, end)로 표현
+ * - DATE(called_at) 같은 컬럼 함수 대신 범위 비교 → WaitingEntity 인덱스 사용 가능
  */
 public interface WaitingJpaRepository extends JpaRepository<WaitingEntity, Long> {
 
@@ -37,57 +39,63 @@ public interface WaitingJpaRepository extends JpaRepository<WaitingEntity, Long>
        List<WaitingEntity> findByUserIdAndStatus(Long userId, WaitingStatus status);
 
        /**
-        * 오늘 호출된 총 인원 (부스별)
+        * 부스별 일별 통계 집계 (호출일 기준)
         *
-        * @param boothId 부스 ID
-        * @param date    조회 날짜
-        * @return 호출된 총 인원
-        */
-       @Query("SELECT COUNT(w) FROM WaitingEntity w " +
-                     "WHERE w.booth.id = :boothId " +
-                     "AND DATE(w.calledAt) = :date")
-       int countTodayCalledByBoothId(@Param("boothId") Long boothId, @Param("date") LocalDate date);
-
-       /**
-        * 오늘 입장한 총 인원 (부스별, ENTERED 상태)
+        * COUNT 쿼리 4회 대신 조건부 SUM 1회로 집계
+        * 날짜 조건은 반열린 구간 [start, end)로 지정 (called_at 인덱스 사용 가능)
         *
-        * @param boothId 부스 ID
-        * @param date    조회 날짜
-        * @return 입장한 총 인원
+        * @param start 집계 시작 시각 (포함)
+        * @param end   집계 종료 시각 (제외)
+        * @return 부스별 통계
         */
-       @Query("SELECT COUNT(w) FROM WaitingEntity w " +
-                     "WHERE w.booth.id = :boothId " +
-                     "AND w.status = 'ENTERED' " +
-                     "AND DATE(w.calledAt) = :date")
-       int countTodayEnteredByBoothId(@Param("boothId") Long boothId, @Param("date") LocalDate date);
+       @Query("SELECT w.booth.id AS boothId, " +
+                     "COUNT(w) AS called, " +
+                     "SUM(CASE WHEN w.status = 'ENTERED' THEN 1 ELSE 0 END) AS entered, " +
+                     "SUM(CASE WHEN w.status = 'COMPLETED' AND w.completionType = 'NO_SHOW' THEN 1 ELSE 0 END) AS noShow, " +
+                     "SUM(CASE WHEN w.status = 'COMPLETED' AND w.completionType = 'ENTERED' THEN 1 ELSE 0 END) AS completed " +
+                     "FROM WaitingEntity w " +
+                     "WHERE w.calledAt >= :start " +
+                     "AND w.calledAt < :end " +
+                     "GROUP BY w.booth.id")
+       List<DailyStatsRow> sumDailyStatsGroupByBoothId(@Param("start") LocalDateTime start,
+                     @Param("end") LocalDateTime end);
 
        /**
-        * 오늘 노쇼 총 인원 (부스별, COMPLETED + NO_SHOW)
+        * 일별 통계 집계 (단일 부스)
         *
         * @param boothId 부스 ID
-        * @param date    조회 날짜
-        * @return 노쇼 총 인원
+        * @param start   집계 시작 시각 (포함)
+        * @param end     집계 종료 시각 (제외)
+        * @return 부스 통계 (호출 이력이 없으면 빈 목록)
         */
-       @Query("SELECT COUNT(w) FROM WaitingEntity w " +
+       @Query("SELECT w.booth.id AS boothId, " +
+                     "COUNT(w) AS called, " +
+                     "SUM(CASE WHEN w.status = 'ENTERED' THEN 1 ELSE 0 END) AS entered, " +
+                     "SUM(CASE WHEN w.status = 'COMPLETED' AND w.completionType = 'NO_SHOW' THEN 1 ELSE 0 END) AS noShow, " +
+                     "SUM(CASE WHEN w.status = 'COMPLETED' AND w.completionType = 'ENTERED' THEN 1 ELSE 0 END) AS completed " +
+                     "FROM WaitingEntity w " +
                      "WHERE w.booth.id = :boothId " +
-                     "AND w.status = 'COMPLETED' " +
-                     "AND w.completionType = 'NO_SHOW' " +
-                     "AND DATE(w.calledAt) = :date")
-       int countTodayNoShowByBoothId(@Param("boothId") Long boothId, @Param("date") LocalDate date);
+                     "AND w.calledAt >= :start " +
+                     "AND w.calledAt < :end " +
+                     "GROUP BY w.booth.id")
+       List<DailyStatsRow> sumDailyStatsByBoothId(@Param("boothId") Long boothId,
+                     @Param("start") LocalDateTime start,
+                     @Param("end") LocalDateTime end);
 
        /**
-        * 오늘 정상 완료 총 인원 (부스별, COMPLETED + ENTERED)
-        *
-        * @param boothId 부스 ID
-        * @param date    조회 날짜
-        * @return 정상 완료 총 인원
+        * 일별 통계 집계 결과 (Interface Projection)
         */
-       @Query("SELECT COUNT(w) FROM WaitingEntity w " +
-                     "WHERE w.booth.id = :boothId " +
-                     "AND w.status = 'COMPLETED' " +
-                     "AND w.completionType = 'ENTERED' " +
-                     "AND DATE(w.calledAt) = :date")
-       int countTodayCompletedByBoothId(@Param("boothId") Long boothId, @Param("date") LocalDate date);
+       interface DailyStatsRow {
+              Long getBoothId();
+
+              Long getCalled();
+
+              Long getEntered();
+
+              Long getNoShow();
+
+              Long getCompleted();
+       }
 
        /**
         * 부스의 호출된 대기 목록 조회 (User 정보 포함)
@@ -125,25 +133,18 @@ public interface WaitingJpaRepository extends JpaRepository<WaitingEntity, Long>
                      @Param("boothId") Long boothId,
                      @Param("statuses") List<WaitingStatus> statuses);
 
-       /**
-        * 타임아웃된 대기 조회 (노쇼 처리 대상)
-        *
-        * @param status           상태 (CALLED)
-        * @param timeoutThreshold 타임아웃 기준 시각
-        * @return 타임아웃된 대기 목록
-        */
-       List<WaitingEntity> findByStatusAndCalledAtBefore(WaitingStatus status, LocalDateTime timeoutThreshold);
-
        /**
         * 최근 특정 상태의 대기 목록 조회 (배치 보정용)
         *
         * TransactionalEventListener 방식 배치에서 사용
         *
+        * called_at >= since (구간 시작 포함)
+        *
         * @param status 상태 (CALLED)
-        * @param since  조회 시작 시각
+        * @param since  조회 시작 시각 (포함)
         * @return 최근 해당 상태의 대기 목록
         */
-       List<WaitingEntity> findByStatusAndCalledAtAfter(WaitingStatus status, LocalDateTime since);
+       List<WaitingEntity> findByStatusAndCalledAtGreaterThanEqual(WaitingStatus status, LocalDateTime since);
 
        /**
         * 특정 사용자/부스/상태 존재 여부 확인 (배치 보정용)
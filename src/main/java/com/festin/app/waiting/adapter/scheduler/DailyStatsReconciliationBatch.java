@@ -0,0 +1,65 @@
+package com.festin.app.waiting.adapter.scheduler;
+
+import com.festin.app.common.lease.JobLeaseScheduler;
+import com.festin.app.waiting.application.port.out.DailyStatsCachePort;
+import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 일별 통계 카운터 야간 보정 배치
+ *
+ * 오차 원인:
+ * - 카운터 증감은 MySQL 커밋 후(afterCommit) 실행 → 커밋 후 Redis 기록 실패 시 누락 (과소 집계)
+ * - 카운터 초기화(MySQL 집계)와 동시에 발생한 상태 전이는 누락 가능
+ *
+ * 흐름:
+ * 1. 전날 + 당일 호출 건을 부스별로 MySQL 집계 (GROUP BY 1회)
+ * 2. Redis 카운터를 집계 결과로 덮어쓰기
+ *
+ * 다중 인스턴스: 리스를 획득한 인스턴스 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsReconciliationBatch {
+
+    private final WaitingRepositoryPort waitingRepositoryPort;
+    private final DailyStatsCachePort dailyStatsCachePort;
+    private final JobLeaseScheduler jobLeaseScheduler;
+
+    /**
+     * 매일 새벽 실행 (기본 04:00)
+     */
+    @Scheduled(cron = "${festin.booth.daily-stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        jobLeaseScheduler.runExclusive("daily-stats-reconcile", lease -> reconcileRecentDays());
+    }
+
+    private void reconcileRecentDays() {
+        long startTime = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        log.info("[일별 통계 보정] 시작");
+
+        try {
+            int reconciledCount = reconcile(today.minusDays(1)) + reconcile(today);
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("[일별 통계 보정] 완료 - 보정: {}건, 소요시간: {}ms", reconciledCount, duration);
+        } catch (Exception e) {
+            log.error("[일별 통계 보정] 실패", e);
+        }
+    }
+
+    private int reconcile(LocalDate date) {
+        Map<Long, DailyStats> statsByBoothId = waitingRepositoryPort.sumDailyStatsGroupByBoothId(date);
+        statsByBoothId.forEach((boothId, stats) -> dailyStatsCachePort.put(boothId, date, stats));
+        return statsByBoothId.size();
+    }
+}
@@ -0,0 +1,188 @@
+package com.festin.app.waiting.adapter.scheduler;
+
+import com.festin.app.waiting.application.port.out.NoShowDeadlinePort;
+import com.festin.app.waiting.application.port.out.dto.NoShowDeadline;
+import com.festin.app.waiting.application.service.NoShowSchedulerService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노쇼 기한 타이머
+ *
+ * 문제:
+ * - 1분 주기 폴링 → 실제 노쇼 처리가 기한 후 최대 1분 지연, 그동안 부스 정원이 비어 있음
+ *
+ * 해결:
+ * - 호출 시 noshow:deadlines (Sorted Set)에 기한 등록 (CallNextService)
+ * - 주기적으로(기본 2초) 곧 만료될 기한(현재 + horizon)을 읽어 인메모리 해시 타이머 휠에 적재
+ * - 휠이 tick(기본 200ms)마다 만료 항목을 워커 스레드로 넘겨 노쇼 처리
+ * - 적재 시 Redis에서 사라진 기한(입장 확인, 다른 인스턴스 처리)은 휠에서 취소 → 불필요한 ZREM 선점 시도 제거
+ *
+ * 재시작:
+ * - 기한은 Redis에 있으므로 재시작 후 첫 적재에서 지난 기한까지 모두 다시 적재 → 즉시 처리
+ *
+ * 다중 인스턴스 (exactly-once):
+ * - 모든 인스턴스가 같은 기한을 적재하지만, 만료 시 ZREM 선점에 성공한 인스턴스만 처리
+ * - MySQL UPDATE는 CALLED 상태일 때만 반영 (입장 후 만료되어도 무시)
+ * - 선점 후 처리 실패 시 기한 재등록, 프로세스 종료 시에는 1분 주기 폴링이 보정
+ *
+ * 메트릭:
+ * - festin.noshow.timer.scheduled (휠에 적재된 기한 수)
+ * - festin.noshow.timer.lag (기한 대비 실제 처리 지연)
+ *
+ * 비활성화: festin.noshow.timer.enabled=false (1분 주기 폴링만 사용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "festin.noshow.timer.enabled", havingValue = "true", matchIfMissing = true)
+public class NoShowDeadlineScheduler {
+
+    private final NoShowDeadlinePort noShowDeadlinePort;
+    private final NoShowSchedulerService noShowSchedulerService;
+    private final MeterRegistry meterRegistry;
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long horizonMillis;
+    private final int loadLimit;
+    private final int workerCount;
+
+    private NoShowTimerWheel wheel;
+    private ScheduledExecutorService tickExecutor;
+    private ExecutorService workerExecutor;
+    private Timer lagTimer;
+
+    public NoShowDeadlineScheduler(
+            NoShowDeadlinePort noShowDeadlinePort,
+            NoShowSchedulerService noShowSchedulerService,
+            MeterRegistry meterRegistry,
+            @Value("${festin.noshow.timer.tick-ms:200}") long tickMillis,
+            @Value("${festin.noshow.timer.wheel-size:512}") int wheelSize,
+            @Value("${festin.noshow.timer.horizon-ms:10000}") long horizonMillis,
+            @Value("${festin.noshow.timer.load-limit:10000}") int loadLimit,
+            @Value("${festin.noshow.timer.workers:4}") int workerCount
+    ) {
+        this.noShowDeadlinePort = noShowDeadlinePort;
+        this.noShowSchedulerService = noShowSchedulerService;
+        this.meterRegistry = meterRegistry;
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.horizonMillis = horizonMillis;
+        this.loadLimit = loadLimit;
+        this.workerCount = workerCount;
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel = new NoShowTimerWheel(tickMillis, wheelSize, System.currentTimeMillis());
+
+        lagTimer = Timer.builder("festin.noshow.timer.lag")
+                .description("노쇼 기한 대비 처리 지연")
+                .register(meterRegistry);
+        Gauge.builder("festin.noshow.timer.scheduled", wheel, NoShowTimerWheel::size)
+                .register(meterRegistry);
+
+        workerExecutor = Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("noshow-worker-", 0).factory());
+        tickExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("noshow-wheel").factory());
+        tickExecutor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (tickExecutor != null) {
+            tickExecutor.shutdownNow();
+        }
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 곧 만료될 기한 적재 (지난 기한 포함)
+     *
+     * 조회 결과가 load-limit보다 적을 때만 취소 (잘린 결과에 없다고 제거된 기한은 아님)
+     */
+    @Scheduled(fixedDelayString = "${festin.noshow.timer.load-interval-ms:2000}")
+    public void load() {
+        try {
+            Set<Long> loadedBefore = wheel.scheduledIds();
+            LocalDateTime until = LocalDateTime.now().plus(Duration.ofMillis(horizonMillis));
+            List<NoShowDeadline> deadlines = noShowDeadlinePort.findDueUntil(until, loadLimit);
+
+            int added = 0;
+            Set<Long> due = new HashSet<>();
+            for (NoShowDeadline deadline : deadlines) {
+                due.add(deadline.waitingId());
+                if (wheel.schedule(deadline.waitingId(), toEpochMillis(deadline.deadline()))) {
+                    added++;
+                }
+            }
+
+            int cancelled = 0;
+            if (deadlines.size() < loadLimit) {
+                for (Long waitingId : loadedBefore) {
+                    if (!due.contains(waitingId) && wheel.cancel(waitingId)) {
+                        cancelled++;
+                    }
+                }
+            }
+
+            if (added > 0 || cancelled > 0) {
+                log.debug("[노쇼 타이머] 기한 적재 - 신규: {}건, 취소: {}건, 적재 중: {}건", added, cancelled, wheel.size());
+            }
+        } catch (Exception e) {
+            log.error("[노쇼 타이머] 기한 적재 실패", e);
+        }
+    }
+
+    private void tick() {
+        try {
+            for (NoShowTimerWheel.Entry entry : wheel.advance(System.currentTimeMillis())) {
+                workerExecutor.execute(() -> fire(entry));
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 scheduleAtFixedRate가 중단되므로 반드시 잡음
+            log.error("[노쇼 타이머] tick 처리 실패", e);
+        }
+    }
+
+    private void fire(NoShowTimerWheel.Entry entry) {
+        try {
+            lagTimer.record(Math.max(0, System.currentTimeMillis() - entry.deadlineMillis()), TimeUnit.MILLISECONDS);
+            noShowSchedulerService.processDeadline(
+                    new NoShowDeadline(entry.waitingId(), toLocalDateTime(entry.deadlineMillis())));
+        } catch (Exception e) {
+            log.error("[노쇼 타이머] 만료 처리 실패 - waitingId: {}", entry.waitingId(), e);
+        } finally {
+            wheel.release(entry);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
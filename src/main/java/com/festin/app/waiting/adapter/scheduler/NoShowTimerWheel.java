@@ -0,0 +1,177 @@
+package com.festin.app.waiting.adapter.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 노쇼 기한 해시 타이머 휠
+ *
+ * 구조:
+ * - wheelSize개의 버킷 원형 배열, 버킷 1칸 = tickMillis
+ * - 기한 → 절대 tick 번호 → 버킷 (tick & mask) + 남은 회전 수 (rounds)
+ * - 등록 O(1), tick마다 현재 버킷만 확인
+ *
+ * 스레드 모델:
+ * - schedule()은 어느 스레드에서나 호출 가능 (pending 큐에 적재)
+ * - advance()는 tick 스레드 하나에서만 호출 (버킷은 tick 스레드 전용)
+ *
+ * 중복 방지:
+ * - 같은 waitingId는 release() 전까지 한 번만 등록
+ *
+ * 취소:
+ * - cancel()은 항목에 표시만 하고, 해당 버킷 차례에 만료 목록에서 제외 (버킷은 tick 스레드 전용이므로 지연 삭제)
+ */
+final class NoShowTimerWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int mask;
+    private final long startMillis;
+    private final List<Entry>[] buckets;
+
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Entry> scheduled = new ConcurrentHashMap<>();
+
+    /**
+     * 다음에 처리할 tick 번호 (tick 스레드 전용)
+     */
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    NoShowTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.mask = wheelSize - 1;
+        this.startMillis = startMillis;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * 만료 항목
+     */
+    static final class Entry {
+        private final long waitingId;
+        private final long deadlineMillis;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Entry(long waitingId, long deadlineMillis) {
+            this.waitingId = waitingId;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        long waitingId() {
+            return waitingId;
+        }
+
+        long deadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    /**
+     * 기한 등록
+     *
+     * @return false: 이미 등록된 waitingId
+     */
+    boolean schedule(long waitingId, long deadlineMillis) {
+        Entry entry = new Entry(waitingId, deadlineMillis);
+        if (scheduled.putIfAbsent(waitingId, entry) != null) {
+            return false;
+        }
+        pending.add(entry);
+        return true;
+    }
+
+    /**
+     * 만료 처리가 끝난 항목 해제 (같은 waitingId 다시 등록 가능)
+     */
+    void release(Entry entry) {
+        scheduled.remove(entry.waitingId, entry);
+    }
+
+    /**
+     * 아직 만료되지 않은 항목 취소 (이미 만료되어 처리 중인 항목에는 영향 없음)
+     *
+     * @return false: 등록되지 않은 waitingId
+     */
+    boolean cancel(long waitingId) {
+        Entry entry = scheduled.remove(waitingId);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * 등록된 waitingId (처리 중 포함)
+     */
+    Set<Long> scheduledIds() {
+        return Set.copyOf(scheduled.keySet());
+    }
+
+    /**
+     * 등록된 항목 수 (처리 중 포함)
+     */
+    int size() {
+        return scheduled.size();
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고 만료 항목 반환 (tick 스레드 전용)
+     *
+     * 지연된 tick은 한 번에 따라잡음
+     */
+    List<Entry> advance(long nowMillis) {
+        transferPending();
+
+        List<Entry> expired = new ArrayList<>();
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+
+        while (currentTick <= targetTick) {
+            Iterator<Entry> iterator = buckets[(int) (currentTick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.cancelled) {
+                    iterator.remove();
+                } else if (entry.remainingRounds <= 0) {
+                    iterator.remove();
+                    expired.add(entry);
+                } else {
+                    entry.remainingRounds--;
+                }
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * pending 큐 → 버킷 배치
+     *
+     * 기한 tick은 올림 처리 (기한 이전에 만료되지 않음), 이미 지난 기한은 다음 tick에 만료
+     */
+    private void transferPending() {
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            long deadlineTick = Math.max(
+                    Math.floorDiv(entry.deadlineMillis - startMillis + tickMillis - 1, tickMillis),
+                    currentTick);
+            entry.remainingRounds = (deadlineTick - currentTick) / wheelSize;
+            buckets[(int) (deadlineTick & mask)].add(entry);
+        }
+    }
+}
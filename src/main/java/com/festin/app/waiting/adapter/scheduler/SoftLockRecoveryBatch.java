@@ -1,132 +1,329 @@
 package com.festin.app.waiting.adapter.scheduler;
 
-import com.festin.app.waiting.application.port.out.QueueCachePort;
+import com.festin.app.common.lease.JobLeaseScheduler;
+import com.festin.app.common.lease.Lease;
+import com.festin.app.waiting.adapter.out.cache.QueueScore;
+import com.festin.app.waiting.adapter.out.cache.RedisQueueEventAdapter;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.application.port.out.dto.UserBoothKey;
 import com.festin.app.waiting.domain.model.WaitingStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Soft Lock 방식의 배치 보정
  *
  * 장점:
- * - Soft Lock만 스캔 (O(실패 건수))
- * - MySQL 조회 최소화
+ * - Soft Lock 목록(softlock:registry)만 조회 (O(실패 건수), 전체 키 SCAN 없음)
+ * - MySQL 조회 최소화 (청크당 IN 쿼리 1회)
  * - 원래 timestamp 보존 (정확한 순서 복구)
  *
  * 흐름:
- * 1. Redis SCAN temp:calling:*
- * 2. 각 Soft Lock에 대해:
- *    - MySQL 확인 (CALLED 상태 존재?)
+ * 1. ZRANGEBYSCORE softlock:registry -inf (now - grace) LIMIT chunk
+ *    - 유예 시간 이내의 Soft Lock은 MySQL 저장이 진행 중일 수 있으므로 제외
+ * 2. Soft Lock HASH 조회 (Pipeline 1회)
+ * 3. MySQL 확인 (CALLED 상태 존재?) - IN 쿼리 1회
  *    - 존재: Soft Lock만 삭제 (정상 완료)
  *    - 없음: Redis 롤백 (ZADD + SADD) + Soft Lock 삭제
+ * 4. 롤백 + Soft Lock 삭제 + 목록 제거 (Pipeline 1회)
+ *
+ * 다중 인스턴스:
+ * - 리스를 획득한 인스턴스 하나만 실행 (롤백 중복 방지)
+ * - 리스를 잃으면 다음 청크 전에 중단
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SoftLockRecoveryBatch {
 
     private final WaitingRepositoryPort waitingRepositoryPort;
-    private final QueueCachePort queueCachePort;
     private final RedisTemplate<String, String> redisTemplate;
+    private final JobLeaseScheduler jobLeaseScheduler;
+    private final long graceMillis;
+    private final int chunkSize;
 
-    private static final String SOFT_LOCK_PATTERN = "temp:calling:*";
+    private static final String JOB_NAME = "softlock-recovery";
+    private static final String SOFT_LOCK_PREFIX = "temp:calling:";
+    private static final String SOFT_LOCK_PATTERN = SOFT_LOCK_PREFIX + "*";
+    private static final String SOFT_LOCK_REGISTRY_KEY = "softlock:registry";
+    private static final String LEGACY_MIGRATION_MARKER_KEY = "softlock:registry:migrated";
+    private static final int LEGACY_SCAN_COUNT = 100;
     private static final String QUEUE_KEY_PREFIX = "queue:booth:";
     private static final String USER_ACTIVE_BOOTHS_KEY_PREFIX = "user:";
     private static final String USER_ACTIVE_BOOTHS_KEY_SUFFIX = ":active_booths";
 
+    public SoftLockRecoveryBatch(
+            WaitingRepositoryPort waitingRepositoryPort,
+            RedisTemplate<String, String> redisTemplate,
+            JobLeaseScheduler jobLeaseScheduler,
+            @Value("${festin.softlock.recovery.grace-ms:30000}") long graceMillis,
+            @Value("${festin.softlock.recovery.chunk-size:200}") int chunkSize
+    ) {
+        this.waitingRepositoryPort = waitingRepositoryPort;
+        this.redisTemplate = redisTemplate;
+        this.jobLeaseScheduler = jobLeaseScheduler;
+        this.graceMillis = graceMillis;
+        this.chunkSize = chunkSize;
+    }
+
     /**
      * 1분마다 실행
      */
     @Scheduled(fixedRate = 60_000)
     public void recoverSoftLockFailures() {
+        if (!jobLeaseScheduler.runExclusive(JOB_NAME, this::recoverSoftLockFailures)) {
+            log.debug("[Soft Lock 배치] 다른 인스턴스가 실행 중 - 건너뜀");
+        }
+    }
+
+    private void recoverSoftLockFailures(Lease lease) {
         long startTime = System.currentTimeMillis();
         log.info("[Soft Lock 배치] 보정 시작");
 
         try {
-            int scannedCount = 0;
+            int examinedCount = 0;
             int recoveredCount = 0;
+            long threshold = startTime - graceMillis;
 
-            // Soft Lock 스캔
-            ScanOptions options = ScanOptions.scanOptions()
-                    .match(SOFT_LOCK_PATTERN)
-                    .count(100)
-                    .build();
-
-            Cursor<byte[]> cursor = redisTemplate.getConnectionFactory()
-                    .getConnection()
-                    .scan(options);
-
-            while (cursor.hasNext()) {
-                String softLockKey = new String(cursor.next());
-                scannedCount++;
-
-                // Soft Lock 데이터 조회
-                Map<Object, Object> data = redisTemplate.opsForHash().entries(softLockKey);
-                if (data.isEmpty()) {
-                    continue;
+            // 처리한 청크는 목록에서 제거되므로 항상 앞에서부터 조회
+            while (lease.isHeld()) {
+                Set<String> members = redisTemplate.opsForZSet()
+                        .rangeByScore(SOFT_LOCK_REGISTRY_KEY, Double.NEGATIVE_INFINITY, threshold, 0, chunkSize);
+                if (members == null || members.isEmpty()) {
+                    break;
                 }
 
-                Long boothId = Long.parseLong((String) data.get("boothId"));
-                Long userId = Long.parseLong((String) data.get("userId"));
-                long timestamp = Long.parseLong((String) data.get("timestamp"));
-
-                // MySQL 확인: CALLED 상태 존재?
-                boolean savedInMySQL = waitingRepositoryPort.existsByUserIdAndBoothIdAndStatus(
-                        userId,
-                        boothId,
-                        WaitingStatus.CALLED
-                );
-
-                if (savedInMySQL) {
-                    // 정상 완료: Soft Lock만 삭제
-                    redisTemplate.delete(softLockKey);
-                    log.debug("[Soft Lock 배치] 정상 완료 확인 - userId: {}, boothId: {}", userId, boothId);
-
-                } else {
-                    // MySQL 실패: Redis 롤백
-                    rollbackRedis(boothId, userId, timestamp);
-                    redisTemplate.delete(softLockKey);
-
-                    log.warn("[Soft Lock 배치] 복구 완료 (롤백) - userId: {}, boothId: {}, timestamp: {}",
-                            userId, boothId, timestamp);
-                    recoveredCount++;
+                recoveredCount += recoverChunk(new ArrayList<>(members));
+                examinedCount += members.size();
+
+                if (members.size() < chunkSize) {
+                    break;
                 }
             }
 
-            cursor.close();
-
             long duration = System.currentTimeMillis() - startTime;
-            log.info("[Soft Lock 배치] 보정 완료 - 스캔: {}, 복구: {}, 소요: {}ms",
-                    scannedCount, recoveredCount, duration);
+            log.info("[Soft Lock 배치] 보정 완료 - 확인: {}, 복구: {}, 소요: {}ms",
+                    examinedCount, recoveredCount, duration);
 
         } catch (Exception e) {
             log.error("[Soft Lock 배치] 보정 실패", e);
         }
     }
 
+    /**
+     * 청크 단위 보정
+     *
+     * @param members 목록 member ({boothId}:{userId})
+     * @return 롤백한 건수
+     */
+    private int recoverChunk(List<String> members) {
+        // 1. Soft Lock HASH 조회 (Pipeline 1회)
+        List<Object> results = redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    for (String member : members) {
+                        connection.hashCommands().hGetAll((SOFT_LOCK_PREFIX + member).getBytes());
+                    }
+                    return null;
+                });
+
+        List<SoftLock> softLocks = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> data = (Map<Object, Object>) results.get(i);
+            // HASH가 이미 삭제된 경우 목록에서만 제거
+            if (data == null || data.isEmpty()) {
+                softLocks.add(new SoftLock(members.get(i), null, null));
+                continue;
+            }
+
+            UserBoothKey key = new UserBoothKey(
+                    Long.parseLong((String) data.get("userId")),
+                    Long.parseLong((String) data.get("boothId")));
+            // 원래 대기열 score (QueueScore 인코딩, 시퀀스 포함)
+            double score = Double.parseDouble((String) data.get("timestamp"));
+            softLocks.add(new SoftLock(members.get(i), key, score));
+        }
+
+        // 2. MySQL 확인: CALLED 상태 존재? (IN 쿼리 1회)
+        List<UserBoothKey> keys = softLocks.stream()
+                .filter(softLock -> softLock.key() != null)
+                .map(SoftLock::key)
+                .toList();
+        Set<UserBoothKey> savedInMySQL = waitingRepositoryPort.findExistingByStatus(keys, WaitingStatus.CALLED);
+
+        List<SoftLock> rollbacks = softLocks.stream()
+                .filter(softLock -> softLock.key() != null && !savedInMySQL.contains(softLock.key()))
+                .toList();
+
+        // 3. 롤백 + Soft Lock 삭제 + 목록 제거 (Pipeline 1회)
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    for (SoftLock softLock : rollbacks) {
+                        rollbackRedis(connection, softLock);
+                    }
+                    connection.keyCommands().del(members.stream()
+                            .map(member -> (SOFT_LOCK_PREFIX + member).getBytes())
+                            .toArray(byte[][]::new));
+                    connection.zSetCommands().zRem(SOFT_LOCK_REGISTRY_KEY.getBytes(),
+                            members.stream().map(String::getBytes).toArray(byte[][]::new));
+                    // 순번 스트림 재동기화 (원래 위치로 복원되어 뒤 순번이 밀림)
+                    rollbacks.stream()
+                            .map(softLock -> softLock.key().boothId())
+                            .distinct()
+                            .forEach(boothId -> connection.publish(
+                                    RedisQueueEventAdapter.channelOf(boothId).getBytes(),
+                                    RedisQueueEventAdapter.resyncMessage().getBytes()));
+                    return null;
+                });
+
+        for (SoftLock softLock : rollbacks) {
+            log.warn("[Soft Lock 배치] 복구 완료 (롤백) - userId: {}, boothId: {}, registeredAt: {}",
+                    softLock.key().userId(), softLock.key().boothId(), QueueScore.toRegisteredAt(softLock.score()));
+        }
+        log.debug("[Soft Lock 배치] 청크 처리 - 확인: {}, 정상 완료: {}, 롤백: {}",
+                members.size(), savedInMySQL.size(), rollbacks.size());
+
+        return rollbacks.size();
+    }
+
     /**
      * Redis 롤백: 대기열 복원 + 활성 부스 복원
      */
-    private void rollbackRedis(Long boothId, Long userId, long timestamp) {
-        // 대기열 복원 (원래 timestamp로 정확한 위치에 복구)
-        String queueKey = QUEUE_KEY_PREFIX + boothId;
-        redisTemplate.opsForZSet().add(queueKey, userId.toString(), timestamp);
+    private void rollbackRedis(RedisConnection connection, SoftLock softLock) {
+        Long boothId = softLock.key().boothId();
+        Long userId = softLock.key().userId();
+
+        // 대기열 복원 (원래 score로 정확한 위치에 복구 - 같은 밀리초 내 순서까지 보존)
+        connection.zSetCommands().zAdd(
+                (QUEUE_KEY_PREFIX + boothId).getBytes(),
+                softLock.score(),
+                userId.toString().getBytes());
 
         // 활성 부스 복원
-        String activeBoothsKey = USER_ACTIVE_BOOTHS_KEY_PREFIX + userId + USER_ACTIVE_BOOTHS_KEY_SUFFIX;
-        redisTemplate.opsForSet().add(activeBoothsKey, boothId.toString());
+        connection.setCommands().sAdd(
+                (USER_ACTIVE_BOOTHS_KEY_PREFIX + userId + USER_ACTIVE_BOOTHS_KEY_SUFFIX).getBytes(),
+                boothId.toString().getBytes());
+    }
+
+    /**
+     * 목록 도입 이전에 생성된 Soft Lock 등록 (클러스터 전체 1회)
+     *
+     * - 배포 직전에 남은 Soft Lock이 목록에 없어 보정에서 누락되는 것을 방지
+     * - 마커 키(SET NX)를 선점한 인스턴스만 전체 키 SCAN (이후 기동/다른 인스턴스는 건너뜀)
+     * - 등록은 SCAN 페이지 단위 Pipeline (건당 ZADD 왕복 없음)
+     * - 실패 시 마커를 지워 다음 기동에서 재시도
+     *
+     * 목록 도입 배포가 모든 환경에 반영되면 마커 키와 함께 삭제
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerLegacySoftLocks() {
+        // 등록 시점부터 유예 시간 적용 (구버전 인스턴스가 만든 진행 중 Soft Lock 보호)
+        long registeredAt = System.currentTimeMillis();
 
-        log.debug("[Soft Lock 배치] Redis 롤백 완료 - userId: {}, boothId: {}, timestamp: {}",
-                userId, boothId, timestamp);
+        try {
+            Boolean first = redisTemplate.opsForValue()
+                    .setIfAbsent(LEGACY_MIGRATION_MARKER_KEY, String.valueOf(registeredAt));
+            if (!Boolean.TRUE.equals(first)) {
+                log.debug("[Soft Lock 배치] 기존 Soft Lock 목록 등록 완료됨 - 건너뜀");
+                return;
+            }
+        } catch (Exception e) {
+            log.error("[Soft Lock 배치] 기존 Soft Lock 목록 등록 마커 확인 실패", e);
+            return;
+        }
+
+        try {
+            int registered = 0;
+            for (List<String> page : scanLegacySoftLocks()) {
+                registered += registerAll(page, registeredAt);
+            }
+
+            if (registered > 0) {
+                log.info("[Soft Lock 배치] 기존 Soft Lock 목록 등록 - count: {}", registered);
+            }
+        } catch (Exception e) {
+            log.error("[Soft Lock 배치] 기존 Soft Lock 목록 등록 실패", e);
+            try {
+                redisTemplate.delete(LEGACY_MIGRATION_MARKER_KEY);
+            } catch (Exception deleteError) {
+                log.error("[Soft Lock 배치] 기존 Soft Lock 목록 등록 마커 삭제 실패 - key: {}",
+                        LEGACY_MIGRATION_MARKER_KEY, deleteError);
+            }
+        }
+    }
+
+    /**
+     * Soft Lock 키 SCAN (페이지 크기 단위로 member 묶음)
+     *
+     * - execute 콜백 종료 시 커넥션과 커서를 함께 반환
+     */
+    private List<List<String>> scanLegacySoftLocks() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(SOFT_LOCK_PATTERN)
+                .count(LEGACY_SCAN_COUNT)
+                .build();
+
+        return redisTemplate.execute((RedisCallback<List<List<String>>>) connection -> {
+            List<List<String>> pages = new ArrayList<>();
+            List<String> page = new ArrayList<>(LEGACY_SCAN_COUNT);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    page.add(new String(cursor.next()).substring(SOFT_LOCK_PREFIX.length()));
+                    if (page.size() == LEGACY_SCAN_COUNT) {
+                        pages.add(page);
+                        page = new ArrayList<>(LEGACY_SCAN_COUNT);
+                    }
+                }
+            }
+            if (!page.isEmpty()) {
+                pages.add(page);
+            }
+            return pages;
+        });
+    }
+
+    /**
+     * 목록 등록 (Pipeline 1회)
+     *
+     * @return 새로 등록한 건수 (이미 등록된 Soft Lock은 생성 시각 유지)
+     */
+    private int registerAll(List<String> members, long registeredAt) {
+        List<Object> results = redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    for (String member : members) {
+                        connection.zSetCommands().zAdd(
+                                SOFT_LOCK_REGISTRY_KEY.getBytes(),
+                                registeredAt,
+                                member.getBytes(),
+                                RedisZSetCommands.ZAddArgs.ifNotExists());
+                    }
+                    return null;
+                });
+
+        return (int) results.stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    /**
+     * 보정 대상 Soft Lock
+     *
+     * @param member 목록 member ({boothId}:{userId})
+     * @param key 사용자/부스 (HASH가 없으면 null)
+     * @param score 원래 대기열 score
+     */
+    private record SoftLock(String member, UserBoothKey key, Double score) {
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@ package com.festin.app.waiting.application.port.in;
 import com.festin.app.waiting.application.port.in.result.CallResult;
 import com.festin.app.waiting.domain.exception.QueueEmptyException;
 
+import java.util.List;
+
 /**
  * 다음 사람 호출 UseCase
  *
@@ -31,4 +33,19 @@ public interface CallNextUseCase {
      * @throws QueueEmptyException 대기열 비어있음
      */
     CallResult callNext(Long boothId);
+
+    /**
+     * 다음 대기자 일괄 호출
+     *
+     * 정원이 큰 부스에서 스태프가 호출 버튼을 반복해서 누르는 대신 N명을 한 번에 호출
+     * - 실제 호출 인원: min(count, 남은 정원, 대기 인원)
+     * - Redis ZPOPMIN 1회, MySQL batch INSERT 1회, 알림 일괄 발행 1회
+     *
+     * @param boothId 부스 ID
+     * @param count 호출 요청 인원
+     * @return 호출 결과 목록 (호출 순번 오름차순)
+     * @throws com.festin.app.booth.domain.BoothFullException 정원 초과
+     * @throws QueueEmptyException 대기열 비어있음
+     */
+    List<CallResult> callNext(Long boothId, int count);
 }
\ No newline at end of file
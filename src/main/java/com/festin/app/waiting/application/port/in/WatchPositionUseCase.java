@@ -0,0 +1,41 @@
+package com.festin.app.waiting.application.port.in;
+
+import com.festin.app.waiting.application.port.in.result.PositionUpdate;
+
+import java.util.function.Consumer;
+
+/**
+ * 순번 실시간 구독 UseCase
+ *
+ * 비즈니스 요구사항:
+ * - 대기 중인 사용자에게 순번 변경을 즉시 전달 (폴링 대체)
+ * - 순번이 바뀌지 않으면 전달하지 않음
+ *
+ * 처리 흐름:
+ * 1. 구독 시작 시 스냅샷으로 현재 순번 전달
+ * 2. 대기열 이벤트(등록/취소/호출)로 순번을 O(1) 갱신 후 변경 시 전달
+ * 3. 대기열에서 빠지면(호출/취소) position=null 전달 후 종료
+ */
+public interface WatchPositionUseCase {
+
+    /**
+     * 순번 구독 시작 (첫 순번은 반환 전에 listener로 전달)
+     *
+     * @param userId 사용자 ID
+     * @param boothId 부스 ID
+     * @param listener 순번 변경 수신 (이벤트 수신 스레드에서 부스 잠금을 잡은 채 호출되므로 블로킹 금지, I/O는 다른 스레드로 넘길 것)
+     * @return 구독 핸들 (cancel로 해제)
+     */
+    PositionWatch watch(Long userId, Long boothId, Consumer<PositionUpdate> listener);
+
+    /**
+     * 순번 구독 핸들
+     */
+    interface PositionWatch {
+
+        /**
+         * 구독 해제 (여러 번 호출해도 안전)
+         */
+        void cancel();
+    }
+}
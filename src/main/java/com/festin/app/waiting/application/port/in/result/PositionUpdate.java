@@ -0,0 +1,19 @@
+package com.festin.app.waiting.application.port.in.result;
+
+/**
+ * 순번 변경 Result
+ *
+ * WatchPositionUseCase → 순번 스트림으로 전달되는 데이터
+ */
+public record PositionUpdate(
+    Long boothId,
+    long eventId,               // 부스별 대기열 이벤트 ID (재연결 시 Last-Event-ID)
+    Integer position,           // 현재 순번 (대기열에서 빠지면 null)
+    Integer totalWaiting,       // 전체 대기자 수
+    Integer estimatedWaitTime   // 예상 대기 시간 (분)
+) {
+
+    public boolean isWaiting() {
+        return position != null;
+    }
+}
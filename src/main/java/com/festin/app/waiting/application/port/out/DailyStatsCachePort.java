@@ -0,0 +1,66 @@
+package com.festin.app.waiting.application.port.out;
+
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 부스 일별 통계 캐시 Port
+ *
+ * 책임:
+ * - 호출/입장/완료/노쇼 상태 전이 시 부스별·일별 카운터 증감
+ * - 스태프 현황 조회 시 카운터 일괄 조회 (COUNT 쿼리 대체)
+ *
+ * 구현체:
+ * - RedisDailyStatsAdapter
+ *
+ * Redis 키 형식:
+ * - booth:{boothId}:stats:{yyyy-MM-dd} (HASH, TTL) - 호출일 기준 통계
+ *   - called, entered, noShow, completed
+ *
+ * 정합성:
+ * - 카운터가 없는 날짜는 증감하지 않음 (MySQL 집계로 초기화된 이후부터만 증감)
+ * - 야간 배치가 MySQL 집계로 덮어써 누적 오차 보정
+ */
+public interface DailyStatsCachePort {
+
+    /**
+     * 일별 통계 조회 (HGETALL 1회)
+     *
+     * @param boothId 부스 ID
+     * @param date 호출일
+     * @return 일별 통계 (초기화되지 않았으면 Empty)
+     */
+    Optional<DailyStats> get(Long boothId, LocalDate date);
+
+    /**
+     * 일별 통계 증감 (원자적)
+     *
+     * 카운터가 초기화되지 않은 날짜면 무시
+     * 트랜잭션 안에서 호출하면 커밋 이후에 반영 (롤백된 상태 전이는 집계하지 않음)
+     *
+     * @param boothId 부스 ID
+     * @param date 호출일
+     * @param delta 증감분
+     */
+    void increment(Long boothId, LocalDate date, DailyStats delta);
+
+    /**
+     * 일별 통계 초기화 (카운터가 없을 때만)
+     *
+     * @param boothId 부스 ID
+     * @param date 호출일
+     * @param stats MySQL 집계 결과
+     */
+    void putIfAbsent(Long boothId, LocalDate date, DailyStats stats);
+
+    /**
+     * 일별 통계 덮어쓰기 (야간 보정용)
+     *
+     * @param boothId 부스 ID
+     * @param date 호출일
+     * @param stats MySQL 집계 결과
+     */
+    void put(Long boothId, LocalDate date, DailyStats stats);
+}
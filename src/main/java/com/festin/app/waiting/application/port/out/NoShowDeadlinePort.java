@@ -0,0 +1,58 @@
+package com.festin.app.waiting.application.port.out;
+
+import com.festin.app.waiting.application.port.out.dto.NoShowDeadline;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 노쇼 처리 기한 저장소 Port
+ *
+ * 책임:
+ * - 호출 시 노쇼 처리 기한 등록, 입장 시 제거
+ * - 곧 만료될 기한 조회 (타이머 휠 적재용)
+ * - 만료 처리 선점 (여러 인스턴스 중 한 곳만 처리)
+ *
+ * 구현체:
+ * - RedisNoShowDeadlineAdapter
+ *
+ * Redis 키 형식:
+ * - noshow:deadlines (Sorted Set) - member: waitingId, score: 기한 (epoch millis)
+ */
+public interface NoShowDeadlinePort {
+
+    /**
+     * 노쇼 처리 기한 등록
+     *
+     * 트랜잭션 안에서 호출하면 커밋 이후에 반영
+     *
+     * @param deadlines 등록할 기한 목록
+     */
+    void registerAll(List<NoShowDeadline> deadlines);
+
+    /**
+     * 노쇼 처리 기한 제거 (입장 확인 시)
+     *
+     * 트랜잭션 안에서 호출하면 커밋 이후에 반영
+     *
+     * @param waitingId 대기 ID
+     */
+    void remove(Long waitingId);
+
+    /**
+     * 기한이 until 이전인 항목 조회 (이미 지난 기한 포함, 기한 순)
+     *
+     * @param until 조회 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 노쇼 처리 기한 목록
+     */
+    List<NoShowDeadline> findDueUntil(LocalDateTime until, int limit);
+
+    /**
+     * 만료 처리 선점 (ZREM)
+     *
+     * @param waitingId 대기 ID
+     * @return true: 선점 성공 (이 인스턴스가 처리), false: 다른 인스턴스가 처리했거나 제거됨
+     */
+    boolean claim(Long waitingId);
+}
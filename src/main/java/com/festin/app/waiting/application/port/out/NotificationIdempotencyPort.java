@@ -1,5 +1,8 @@
 package com.festin.app.waiting.application.port.out;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * 알림 중복 방지 Port
  *
@@ -21,4 +24,35 @@ public interface NotificationIdempotencyPort {
      * @param eventId 이벤트 ID
      */
     void markProcessed(String eventId);
+
+    /**
+     * 처리 시작 표시 해제 (재시도 가능한 실패 시)
+     *
+     * 해제하지 않으면 재전달된 메시지가 "이미 처리됨"으로 판단되어 알림 유실
+     *
+     * @param eventId 이벤트 ID
+     */
+    void release(String eventId);
+
+    /**
+     * 이벤트 일괄 처리 시작 (Pipeline 1회)
+     *
+     * @param eventIds 이벤트 ID 목록
+     * @return 처음 처리하는 이벤트 ID
+     */
+    Set<String> tryProcessAll(List<String> eventIds);
+
+    /**
+     * 이벤트 일괄 처리 완료 기록 (Pipeline 1회)
+     *
+     * @param eventIds 이벤트 ID 목록
+     */
+    void markProcessedAll(List<String> eventIds);
+
+    /**
+     * 처리 시작 표시 일괄 해제 (재시도 가능한 실패 시)
+     *
+     * @param eventIds 이벤트 ID 목록
+     */
+    void releaseAll(List<String> eventIds);
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.festin.app.waiting.application.port.out;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
+import java.util.List;
+
 /**
  * 알림 발송 Port
  *
@@ -11,7 +13,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
  * - 알림 유실 방지 및 재시도 보장
  *
  * 구현체:
- * - RabbitMqNotificationAdapter
+ * - NotificationOutboxAdapter (호출과 같은 트랜잭션에서 Outbox 기록 → 릴레이가 RabbitMQ 발행)
  *
  * RabbitMQ Queue:
  * - booth-call-notifications (호출 알림)
@@ -25,6 +27,18 @@ public interface NotificationPort {
      */
     void send(NotificationCommand command);
 
+    /**
+     * 알림 일괄 발송
+     *
+     * 일괄 호출 시 사용 - 구현체는 채널 1개로 묶어서 발행 가능
+     * 기본 구현은 건별 send
+     *
+     * @param commands 알림 명령 목록
+     */
+    default void sendAll(List<? extends NotificationCommand> commands) {
+        commands.forEach(this::send);
+    }
+
     /**
      * 알림 명령 인터페이스
      *
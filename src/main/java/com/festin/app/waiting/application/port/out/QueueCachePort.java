@@ -1,6 +1,7 @@
 package com.festin.app.waiting.application.port.out;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -19,7 +20,9 @@ import java.util.Set;
  * Redis 키 형식:
  * - queue:booth:{boothId} (Sorted Set)
  *   - member: userId
- *   - score: 등록 시각 (timestamp)
+ *   - score: 등록 시각(밀리초) + 부스별 시퀀스 (같은 밀리초에도 엄격한 FIFO)
+ * - queue:booth:{boothId}:seq (String)
+ *   - 부스별 마지막 발급 score
  * - user:{userId}:active_booths (Set)
  *   - 사용자가 현재 대기 중인 부스 ID 목록
  */
@@ -31,7 +34,7 @@ public interface QueueCachePort {
      * dequeue 시 사용자 ID와 등록 시각을 함께 반환
      *
      * @param userId 사용자 ID
-     * @param registeredAt 등록 시각 (Redis Sorted Set의 score)
+     * @param registeredAt 등록 시각 (Redis Sorted Set의 score에서 복원, 밀리초 정밀도)
      */
     record QueueItem(
             Long userId,
@@ -88,7 +91,7 @@ public interface QueueCachePort {
      * @param boothIds 부스 ID 목록
      * @return 부스별 대기 인원 수 Map
      */
-    java.util.Map<Long, Integer> getQueueSizes(java.util.List<Long> boothIds);
+    java.util.Map<Long, Integer> getQueueSizes(List<Long> boothIds);
 
     /**
      * 대기열에서 사용자 제거
@@ -161,11 +164,13 @@ public interface QueueCachePort {
      * @param status 등록 상태
      * @param position 순번 (1부터 시작, 실패 시 -1)
      * @param totalWaiting 전체 대기자 수 (실패 시 -1)
+     * @param registeredAt 대기열에 저장된 등록 시각 (ALREADY_ENQUEUED면 기존 등록 시각, 실패 시 null)
      */
     record EnqueueAtomicResult(
             EnqueueStatus status,
             Integer position,
-            Integer totalWaiting
+            Integer totalWaiting,
+            LocalDateTime registeredAt
     ) {
     }
 
@@ -189,12 +194,82 @@ public interface QueueCachePort {
         MAX_BOOTHS_EXCEEDED
     }
 
+    /**
+     * 원자적 호출 (Lua Script)
+     *
+     * Race Condition 방지:
+     * - 부스 상태 체크 → 정원 체크 → dequeue → Soft Lock 생성 → 활성 부스 제거를 단일 원자적 작업으로 처리
+     * - 1회 Redis 호출(EVALSHA)로 처리 (기존 7회 왕복)
+     *
+     * 일괄 호출:
+     * - min(count, capacity - current)명을 ZPOPMIN key n 1회로 가져옴
+     * - 호출 순번은 부스별 시퀀스로 연속 발급
+     *
+     * Redis 키:
+     * - booth:{boothId}:meta, booth:{boothId}:current (읽기)
+     * - queue:booth:{boothId} (ZPOPMIN)
+     * - booth:{boothId}:call_seq (INCRBY)
+     * - temp:calling:{boothId}:{userId} (Soft Lock 생성)
+     * - user:{userId}:active_booths (SREM)
+     *
+     * @param boothId 부스 ID
+     * @param count 호출 요청 인원 (1 이상)
+     * @return 호출 결과 (상태, 대기열 항목 목록, 첫 호출 순번, 부스 이름)
+     */
+    CallNextAtomicResult callNextAtomic(Long boothId, int count);
+
+    /**
+     * 원자적 호출 결과
+     *
+     * @param status 호출 상태
+     * @param items 호출된 대기열 항목 (대기열 순서, 실패 시 빈 목록)
+     * @param firstCalledPosition 첫 번째 항목의 호출 순번 (이후 항목은 +1씩 증가, 실패 시 -1)
+     * @param boothName 부스 이름 (성공 시에만 존재, 알림 발송용)
+     */
+    record CallNextAtomicResult(
+            CallNextStatus status,
+            List<QueueItem> items,
+            int firstCalledPosition,
+            String boothName
+    ) {
+    }
+
+    /**
+     * 원자적 호출 상태
+     */
+    enum CallNextStatus {
+        /**
+         * 성공 (dequeue + Soft Lock 생성 완료)
+         */
+        SUCCESS,
+
+        /**
+         * 부스 정보 없음
+         */
+        BOOTH_NOT_FOUND,
+
+        /**
+         * 운영 중이 아님
+         */
+        BOOTH_CLOSED,
+
+        /**
+         * 정원 초과
+         */
+        BOOTH_FULL,
+
+        /**
+         * 대기열 비어있음
+         */
+        QUEUE_EMPTY
+    }
+
     /**
      * Soft Lock 데이터
      *
      * MySQL save 실패 지점을 마킹하기 위한 데이터
      * - timestamp 보존으로 정확한 위치 복구 가능
-     * - 배치가 Soft Lock을 스캔하여 정합성 보정
+     * - 배치가 Soft Lock 목록(softlock:registry)을 조회하여 정합성 보정
      *
      * @param boothId 부스 ID
      * @param userId 사용자 ID
@@ -215,15 +290,20 @@ public interface QueueCachePort {
      * callNext 실패 지점 마킹:
      * - Redis dequeue 직후 생성
      * - MySQL save 실패 시 Soft Lock 남김
-     * - 배치가 Soft Lock 스캔하여 Redis 롤백
+     * - 배치가 Soft Lock 목록 조회하여 Redis 롤백
      *
-     * Redis 키: temp:calling:{boothId}:{userId}
+     * Redis 키:
+     * - temp:calling:{boothId}:{userId} (HASH)
+     * - softlock:registry (Sorted Set, member: {boothId}:{userId}, score: 생성 시각)
+     *
+     * 복구 배치는 timestamp를 그대로 ZADD하므로 등록 시각이 아닌 실제 대기열 score를 저장
+     * (등록 시각으로 다시 계산하면 같은 밀리초 내 시퀀스가 사라져 순서가 바뀜)
      *
      * @param boothId 부스 ID
      * @param userId 사용자 ID
-     * @param registeredAt 원래 등록 시각 (복구 시 사용)
+     * @param queueScore dequeue 직전의 대기열 score (시퀀스 포함, 복구 시 사용)
      */
-    void createSoftLock(Long boothId, Long userId, LocalDateTime registeredAt);
+    void createSoftLock(Long boothId, Long userId, double queueScore);
 
     /**
      * Soft Lock 삭제
@@ -237,6 +317,17 @@ public interface QueueCachePort {
      */
     void deleteSoftLock(Long boothId, Long userId);
 
+    /**
+     * Soft Lock 일괄 삭제
+     *
+     * 일괄 호출의 MySQL save 성공 시 호출:
+     * - DEL 1회로 여러 Soft Lock 제거
+     *
+     * @param boothId 부스 ID
+     * @param userIds 사용자 ID 목록
+     */
+    void deleteSoftLocks(Long boothId, List<Long> userIds);
+
     /**
      * Soft Lock 조회
      *
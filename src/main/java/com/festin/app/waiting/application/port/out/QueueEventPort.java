@@ -0,0 +1,43 @@
+package com.festin.app.waiting.application.port.out;
+
+import com.festin.app.waiting.application.port.out.dto.QueueEvent;
+import com.festin.app.waiting.application.port.out.dto.QueueSnapshot;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 대기열 이벤트 구독 Port
+ *
+ * 책임:
+ * - 대기열 변경 이벤트를 인스턴스 내 리스너에 전달 (모든 부스)
+ * - 이벤트 ID 기준 순번 스냅샷 조회
+ *
+ * 구현체:
+ * - RedisQueueEventAdapter
+ *
+ * Redis 키/채널 형식:
+ * - queue:booth:{boothId}:event_seq (String) - 부스별 마지막 이벤트 ID
+ * - queue:events:{boothId} (Pub/Sub 채널) - 이벤트 발행 (RedisQueueAdapter의 Lua Script)
+ *
+ * 전달 보장:
+ * - Pub/Sub은 유실 가능 → 이벤트 ID가 건너뛰면 구독자가 스냅샷으로 재동기화
+ */
+public interface QueueEventPort {
+
+    /**
+     * 이벤트 리스너 등록 (수신 순서대로 단일 스레드에서 호출)
+     *
+     * @param listener 이벤트 리스너
+     */
+    void addListener(Consumer<QueueEvent> listener);
+
+    /**
+     * 이벤트 ID + 대기자 수 + 사용자별 순번 원자적 조회
+     *
+     * @param boothId 부스 ID
+     * @param userIds 순번을 조회할 사용자 ID 목록
+     * @return 스냅샷
+     */
+    QueueSnapshot snapshot(Long boothId, Collection<Long> userIds);
+}
@@ -1,13 +1,20 @@
 package com.festin.app.waiting.application.port.out;
 
+import com.festin.app.common.lease.Lease;
 import com.festin.app.waiting.application.port.out.dto.CalledWaitingInfo;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
+import com.festin.app.waiting.application.port.out.dto.NoShowMarked;
+import com.festin.app.waiting.application.port.out.dto.UserBoothKey;
 import com.festin.app.waiting.domain.model.Waiting;
 import com.festin.app.waiting.domain.model.WaitingStatus;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Waiting 영구 저장소 Port
@@ -30,6 +37,18 @@ public interface WaitingRepositoryPort {
      */
     Waiting save(Waiting waiting);
 
+    /**
+     * 신규 Waiting 일괄 저장 (batch INSERT)
+     *
+     * 일괄 호출 시 사용:
+     * - N건을 단일 JDBC batch로 INSERT
+     * - 반환 목록은 입력 순서와 동일 (ID 포함)
+     *
+     * @param waitings 저장할 Waiting 목록 (ID 없음)
+     * @return 저장된 Waiting 목록 (ID 포함)
+     */
+    List<Waiting> saveAll(List<Waiting> waitings);
+
     /**
      * ID로 Waiting 조회
      *
@@ -47,56 +66,58 @@ public interface WaitingRepositoryPort {
     List<Waiting> findActiveWaitingsByUserId(Long userId);
 
     /**
-     * 오늘 호출된 총 인원 (부스별)
+     * 부스 일별 통계 집계 (호출일 기준)
      *
      * @param boothId 부스 ID
-     * @param date 조회 날짜
-     * @return 호출된 총 인원
+     * @param date 호출일
+     * @return 일별 통계 (호출 이력이 없으면 0)
      */
-    int countTodayCalledByBoothId(Long boothId, LocalDate date);
+    DailyStats sumDailyStatsByBoothId(Long boothId, LocalDate date);
 
     /**
-     * 오늘 입장한 총 인원 (부스별, ENTERED 상태)
+     * 전체 부스 일별 통계 집계 (야간 보정용)
      *
-     * @param boothId 부스 ID
-     * @param date 조회 날짜
-     * @return 입장한 총 인원
+     * @param date 호출일
+     * @return 부스 ID별 일별 통계 (호출 이력이 있는 부스만)
      */
-    int countTodayEnteredByBoothId(Long boothId, LocalDate date);
+    Map<Long, DailyStats> sumDailyStatsGroupByBoothId(LocalDate date);
 
     /**
-     * 오늘 노쇼 총 인원 (부스별, COMPLETED + NO_SHOW)
+     * 부스의 호출된 대기 목록 조회 (User 정보 포함)
      *
      * @param boothId 부스 ID
-     * @param date 조회 날짜
-     * @return 노쇼 총 인원
+     * @return 호출된 대기 목록 (User nickname 포함, calledAt 순으로 정렬)
      */
-    int countTodayNoShowByBoothId(Long boothId, LocalDate date);
+    List<CalledWaitingInfo> findCalledByBoothIdWithUserInfo(Long boothId);
 
     /**
-     * 오늘 정상 완료 총 인원 (부스별, COMPLETED + ENTERED)
+     * 타임아웃된 대기 일괄 노쇼 처리 (청크 1개)
      *
-     * @param boothId 부스 ID
-     * @param date 조회 날짜
-     * @return 정상 완료 총 인원
-     */
-    int countTodayCompletedByBoothId(Long boothId, LocalDate date);
-
-    /**
-     * 부스의 호출된 대기 목록 조회 (User 정보 포함)
+     * 엔티티 로딩/merge 없이 집합 단위 UPDATE 1회로 처리
+     * - 다른 인스턴스가 처리 중인 행은 건너뜀 (중복 처리 없음)
+     * - 부스 ID 파티션 단위로 나눠 처리 (boothId % partitionCount == partitionIndex)
+     * - 같은 트랜잭션에서 리스 펜싱 토큰 검증 (이전 보유자의 늦은 쓰기 거절)
      *
-     * @param boothId 부스 ID
-     * @return 호출된 대기 목록 (User nickname 포함, calledAt 순으로 정렬)
+     * @param timeoutThreshold 타임아웃 기준 시각 (calledAt < timeoutThreshold)
+     * @param partitionIndex 파티션 번호
+     * @param partitionCount 전체 파티션 수 (1이면 전체 부스)
+     * @param limit 청크 크기
+     * @param lease 파티션 리스 (펜싱 토큰)
+     * @return 노쇼 처리된 대기 건 (limit 미만이면 남은 대상 없음)
+     * @throws com.festin.app.common.lease.StaleLeaseException 더 큰 펜싱 토큰이 이미 쓴 경우 (롤백)
      */
-    List<CalledWaitingInfo> findCalledByBoothIdWithUserInfo(Long boothId);
+    List<NoShowMarked> markTimeoutAsNoShow(LocalDateTime timeoutThreshold, int partitionIndex, int partitionCount,
+                                           int limit, Lease lease);
 
     /**
-     * 타임아웃된 대기 조회 (노쇼 처리 대상)
+     * 단건 노쇼 처리 (CALLED 상태일 때만)
+     *
+     * 노쇼 기한 타이머 만료 시 사용
      *
-     * @param timeoutThreshold 타임아웃 기준 시각 (예: 현재시각 - 5분)
-     * @return CALLED 상태이면서 calledAt이 timeoutThreshold 이전인 대기 목록
+     * @param waitingId 대기 ID
+     * @return 노쇼 처리된 대기 건 (이미 입장/완료되었으면 Empty)
      */
-    List<Waiting> findTimeoutWaitings(LocalDateTime timeoutThreshold);
+    Optional<NoShowMarked> markAsNoShowIfCalled(Long waitingId);
 
     /**
      * 최근 특정 상태의 대기 목록 조회 (배치 보정용)
@@ -123,4 +144,16 @@ public interface WaitingRepositoryPort {
      */
     boolean existsByUserIdAndBoothIdAndStatus(Long userId, Long boothId, WaitingStatus status);
 
+    /**
+     * 사용자/부스 조합 중 특정 상태로 존재하는 조합 일괄 조회 (배치 보정용)
+     *
+     * Soft Lock 방식 배치에서 사용:
+     * - 청크 단위로 IN 쿼리 1회 (건별 exists 쿼리 대체)
+     *
+     * @param keys 확인할 사용자/부스 조합
+     * @param status 대기 상태
+     * @return 해당 상태로 존재하는 조합
+     */
+    Set<UserBoothKey> findExistingByStatus(Collection<UserBoothKey> keys, WaitingStatus status);
+
 }
@@ -0,0 +1,45 @@
+package com.festin.app.waiting.application.port.out.dto;
+
+/**
+ * 부스 일별 통계 (호출일 기준)
+ *
+ * 상태 전이별 증감분(delta)으로도 사용:
+ * - 호출: called +n
+ * - 입장 확인: entered +1
+ * - 체험 완료: entered -1, completed +1 (ENTERED 상태에서 COMPLETED로 이동)
+ * - 노쇼: noShow +1
+ *
+ * @param called 호출된 인원
+ * @param entered 입장한 인원 (현재 ENTERED 상태)
+ * @param noShow 노쇼 인원 (COMPLETED + NO_SHOW)
+ * @param completed 정상 완료 인원 (COMPLETED + ENTERED)
+ */
+public record DailyStats(
+        int called,
+        int entered,
+        int noShow,
+        int completed
+) {
+
+    public static final DailyStats EMPTY = new DailyStats(0, 0, 0, 0);
+
+    public static DailyStats called(int count) {
+        return new DailyStats(count, 0, 0, 0);
+    }
+
+    public static DailyStats entered() {
+        return new DailyStats(0, 1, 0, 0);
+    }
+
+    public static DailyStats completed() {
+        return new DailyStats(0, -1, 0, 1);
+    }
+
+    public static DailyStats noShow() {
+        return noShow(1);
+    }
+
+    public static DailyStats noShow(int count) {
+        return new DailyStats(0, 0, count, 0);
+    }
+}
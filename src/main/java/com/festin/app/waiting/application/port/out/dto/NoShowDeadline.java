@@ -0,0 +1,15 @@
+package com.festin.app.waiting.application.port.out.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노쇼 처리 기한
+ *
+ * @param waitingId 대기 ID
+ * @param deadline 노쇼 처리 기한 (호출 시각 + 타임아웃)
+ */
+public record NoShowDeadline(
+        Long waitingId,
+        LocalDateTime deadline
+) {
+}
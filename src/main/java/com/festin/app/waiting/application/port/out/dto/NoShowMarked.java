@@ -0,0 +1,21 @@
+package com.festin.app.waiting.application.port.out.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 노쇼 처리된 대기 건
+ *
+ * 후속 처리(일별 통계, 이벤트 발행 등)에 필요한 최소 정보만 포함
+ *
+ * @param waitingId 대기 ID
+ * @param userId 사용자 ID
+ * @param boothId 부스 ID
+ * @param calledAt 호출 시각
+ */
+public record NoShowMarked(
+        Long waitingId,
+        Long userId,
+        Long boothId,
+        LocalDateTime calledAt
+) {
+}
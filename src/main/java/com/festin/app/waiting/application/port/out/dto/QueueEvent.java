@@ -0,0 +1,40 @@
+package com.festin.app.waiting.application.port.out.dto;
+
+/**
+ * 대기열 변경 이벤트
+ *
+ * 대기열을 변경하는 Lua Script가 변경과 함께 발행 (발행 순서 = 변경 순서)
+ *
+ * 순번 갱신 규칙 (구독자는 ZRANK 재조회 없이 O(1)로 갱신):
+ * - JOINED: position 위치에 userId 추가 → position 이상 대기자 +1
+ * - REMOVED: position 위치의 userId 제거 → position 초과 대기자 -1
+ * - ADVANCED: 선두 count명 호출 → count 이하 대기자는 이탈, 나머지 -count
+ * - RESYNC: 순서를 알 수 없는 변경 (Soft Lock 롤백 등) → 스냅샷 재조회
+ *
+ * @param boothId 부스 ID
+ * @param eventId 부스별 이벤트 ID (1부터 연속 증가, RESYNC는 0일 수 있음)
+ * @param type 이벤트 종류
+ * @param position 변경 위치 (1부터 시작)
+ * @param count 변경 인원
+ * @param userId 대상 사용자 ID (ADVANCED, RESYNC는 null)
+ */
+public record QueueEvent(
+        Long boothId,
+        long eventId,
+        Type type,
+        int position,
+        int count,
+        Long userId
+) {
+
+    public enum Type {
+        JOINED,
+        REMOVED,
+        ADVANCED,
+        RESYNC
+    }
+
+    public static QueueEvent resync(Long boothId) {
+        return new QueueEvent(boothId, 0, Type.RESYNC, 0, 0, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.festin.app.waiting.application.port.out.dto;
+
+import java.util.Map;
+
+/**
+ * 대기열 스냅샷 (이벤트 ID 기준 시점)
+ *
+ * eventId까지의 이벤트가 반영된 상태이므로, 이후 eventId 초과 이벤트만 적용
+ *
+ * @param boothId 부스 ID
+ * @param eventId 스냅샷 시점 이벤트 ID
+ * @param totalWaiting 전체 대기자 수
+ * @param positions 사용자별 순번 (대기 중이 아니면 포함하지 않음)
+ */
+public record QueueSnapshot(
+        Long boothId,
+        long eventId,
+        int totalWaiting,
+        Map<Long, Integer> positions
+) {
+}
@@ -0,0 +1,13 @@
+package com.festin.app.waiting.application.port.out.dto;
+
+/**
+ * 사용자/부스 조합 키
+ *
+ * @param userId 사용자 ID
+ * @param boothId 부스 ID
+ */
+public record UserBoothKey(
+        Long userId,
+        Long boothId
+) {
+}
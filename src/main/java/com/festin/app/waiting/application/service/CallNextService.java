@@ -1,29 +1,45 @@
 package com.festin.app.waiting.application.service;
 
-import com.festin.app.booth.application.port.out.BoothCachePort;
+import com.festin.app.booth.domain.BoothClosedException;
+import com.festin.app.booth.domain.BoothFullException;
 import com.festin.app.booth.domain.BoothNotFoundException;
-import com.festin.app.booth.domain.model.Booth;
 import com.festin.app.waiting.application.port.in.CallNextUseCase;
 import com.festin.app.waiting.application.port.in.result.CallResult;
+import com.festin.app.waiting.application.port.out.DailyStatsCachePort;
+import com.festin.app.waiting.application.port.out.NoShowDeadlinePort;
 import com.festin.app.waiting.application.port.out.NotificationPort;
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
 import com.festin.app.waiting.application.port.out.QueueCachePort;
+import com.festin.app.waiting.application.port.out.QueueCachePort.CallNextAtomicResult;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
+import com.festin.app.waiting.application.port.out.dto.NoShowDeadline;
 import com.festin.app.waiting.domain.exception.QueueEmptyException;
 import com.festin.app.waiting.domain.model.CallingSession;
 import com.festin.app.waiting.domain.model.Waiting;
+import com.festin.app.waiting.domain.policy.NoShowPolicy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 다음 사람 호출 Service
  *
  * MySQL-Redis 정합성 보장 (Soft Lock 방식):
- * 1. Redis dequeue (즉시 제거, 원자적)
- * 2. Soft Lock 생성 (temp:calling:{boothId}:{userId}, timestamp 보존)
- * 3. 활성 부스 목록에서 제거
- * 4. MySQL save (@Transactional)
- * 5. 성공 시: Soft Lock 삭제
- * 6. 실패 시: Soft Lock 남김 (배치가 timestamp로 롤백)
+ * 1. Lua Script 1회 호출 (call-next-atomic.lua)
+ *    - 부스 상태/정원 체크 → dequeue → Soft Lock 생성 → 활성 부스 목록에서 제거
+ * 2. MySQL save (@Transactional)
+ * 3. 성공 시: Soft Lock 삭제
+ * 4. 실패 시: Soft Lock 남김 (배치가 timestamp로 롤백)
+ *
+ * 일괄 호출 (count > 1):
+ * - Lua Script 1회로 N명 dequeue, MySQL batch INSERT 1회, 알림 일괄 발행
+ *
+ * 일별 통계: 커밋 후 호출 인원 카운터 증가 (스태프 현황 조회용)
+ * 노쇼 기한: 커밋 후 noshow:deadlines에 등록 (NoShowDeadlineScheduler가 기한 만료 시 처리, 롤백된 호출은 등록 안 됨)
+ * 알림: Waiting INSERT와 같은 트랜잭션에서 Outbox 기록 (커밋된 호출만 발행, 요청 경로에 브로커 왕복 없음)
 
  * 참고: 부스 현재 인원(current)은 입장 확인 시점에 +1
  */
@@ -31,37 +47,89 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CallNextService implements CallNextUseCase {
 
-    private final BoothCachePort boothCachePort;
     private final QueueCachePort queueCachePort;
     private final WaitingRepositoryPort waitingRepositoryPort;
     private final NotificationPort notificationPort;
+    private final DailyStatsCachePort dailyStatsCachePort;
+    private final NoShowDeadlinePort noShowDeadlinePort;
+    private final NoShowPolicy noShowPolicy;
 
     public CallNextService(
-            BoothCachePort boothCachePort,
             QueueCachePort queueCachePort,
             WaitingRepositoryPort waitingRepositoryPort,
-            NotificationPort notificationPort
+            NotificationPort notificationPort,
+            DailyStatsCachePort dailyStatsCachePort,
+            NoShowDeadlinePort noShowDeadlinePort,
+            NoShowPolicy noShowPolicy
     ) {
-        this.boothCachePort = boothCachePort;
         this.queueCachePort = queueCachePort;
         this.waitingRepositoryPort = waitingRepositoryPort;
         this.notificationPort = notificationPort;
+        this.dailyStatsCachePort = dailyStatsCachePort;
+        this.noShowDeadlinePort = noShowDeadlinePort;
+        this.noShowPolicy = noShowPolicy;
     }
 
     @Override
     public CallResult callNext(Long boothId) {
-        Booth booth = boothCachePort.getBooth(boothId).orElseThrow(BoothNotFoundException::new);
-        booth.validateForCalling(boothCachePort.getCurrentCount(boothId));
-
-        CallingSession session = CallingSession.from(boothId, queueCachePort.dequeue(boothId).orElseThrow(QueueEmptyException::new));
-
-        queueCachePort.createSoftLock(session.getBoothId(), session.getUserId(), session.getRegisteredAt());
-        queueCachePort.removeUserActiveBooth(session.getUserId(), session.getBoothId());
+        CallNextAtomicResult called = callNextAtomic(boothId, 1);
+        CallingSession session = CallingSession.listFrom(boothId, called).get(0);
 
         Waiting saved = waitingRepositoryPort.save(session.toWaiting());
         queueCachePort.deleteSoftLock(session.getBoothId(), session.getUserId());
+        dailyStatsCachePort.increment(boothId, saved.getCalledAt().toLocalDate(), DailyStats.called(1));
+        noShowDeadlinePort.registerAll(List.of(toDeadline(saved)));
 
-        notificationPort.send(session.toNotification(saved.getId(), booth.getName()));
+        notificationPort.send(session.toNotification(saved.getId(), called.boothName()));
         return session.toResult(saved.getId());
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<CallResult> callNext(Long boothId, int count) {
+        if (count <= 1) {
+            return List.of(callNext(boothId));
+        }
+
+        CallNextAtomicResult called = callNextAtomic(boothId, count);
+        List<CallingSession> sessions = CallingSession.listFrom(boothId, called);
+
+        // MySQL batch INSERT 1회 (입력 순서대로 ID 반환)
+        List<Waiting> saved = waitingRepositoryPort.saveAll(
+                sessions.stream().map(CallingSession::toWaiting).toList());
+        queueCachePort.deleteSoftLocks(boothId, sessions.stream().map(CallingSession::getUserId).toList());
+        dailyStatsCachePort.increment(boothId, saved.get(0).getCalledAt().toLocalDate(), DailyStats.called(saved.size()));
+        noShowDeadlinePort.registerAll(saved.stream().map(this::toDeadline).toList());
+
+        List<NotificationCommand> notifications = new ArrayList<>(sessions.size());
+        List<CallResult> results = new ArrayList<>(sessions.size());
+        for (int i = 0; i < sessions.size(); i++) {
+            Long waitingId = saved.get(i).getId();
+            notifications.add(sessions.get(i).toNotification(waitingId, called.boothName()));
+            results.add(sessions.get(i).toResult(waitingId));
+        }
+
+        notificationPort.sendAll(notifications);
+        return results;
+    }
+
+    private NoShowDeadline toDeadline(Waiting waiting) {
+        return new NoShowDeadline(waiting.getId(), noShowPolicy.calculateDeadline(waiting.getCalledAt()));
+    }
+
+    /**
+     * Lua Script 1회로 검증 + dequeue + Soft Lock 생성
+     *
+     * 실패 상태는 기존 도메인 예외로 변환
+     */
+    private CallNextAtomicResult callNextAtomic(Long boothId, int count) {
+        CallNextAtomicResult called = queueCachePort.callNextAtomic(boothId, count);
+        switch (called.status()) {
+            case BOOTH_NOT_FOUND -> throw new BoothNotFoundException();
+            case BOOTH_CLOSED -> throw new BoothClosedException();
+            case BOOTH_FULL -> throw new BoothFullException();
+            case QUEUE_EMPTY -> throw new QueueEmptyException();
+            case SUCCESS -> { }
+        }
+        return called;
+    }
+}
@@ -3,7 +3,9 @@ package com.festin.app.waiting.application.service;
 import com.festin.app.booth.application.port.out.BoothCachePort;
 import com.festin.app.waiting.application.port.in.CompleteExperienceUseCase;
 import com.festin.app.waiting.application.port.in.result.CompleteResult;
+import com.festin.app.waiting.application.port.out.DailyStatsCachePort;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
 import com.festin.app.waiting.domain.exception.WaitingNotFoundException;
 import com.festin.app.waiting.domain.model.Waiting;
 import org.springframework.stereotype.Service;
@@ -18,7 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
  * 3. 도메인 로직 실행 (waiting.complete() - 상태 ENTERED → COMPLETED)
  * 4. DB 업데이트
  * 5. Redis current -1 (퇴장 처리)
- * 6. 결과 반환
+ * 6. 일별 통계 증감 (입장 인원 -1, 정상 완료 인원 +1, 커밋 후 반영)
+ * 7. 결과 반환
  */
 @Service
 @Transactional
@@ -26,13 +29,16 @@ public class CompleteExperienceService implements CompleteExperienceUseCase {
 
     private final WaitingRepositoryPort waitingRepositoryPort;
     private final BoothCachePort boothCachePort;
+    private final DailyStatsCachePort dailyStatsCachePort;
 
     public CompleteExperienceService(
             WaitingRepositoryPort waitingRepositoryPort,
-            BoothCachePort boothCachePort
+            BoothCachePort boothCachePort,
+            DailyStatsCachePort dailyStatsCachePort
     ) {
         this.waitingRepositoryPort = waitingRepositoryPort;
         this.boothCachePort = boothCachePort;
+        this.dailyStatsCachePort = dailyStatsCachePort;
     }
 
     @Override
@@ -46,6 +52,7 @@ public class CompleteExperienceService implements CompleteExperienceUseCase {
         waiting.complete();
         Waiting updated = waitingRepositoryPort.save(waiting);
         boothCachePort.decrementCurrentCount(boothId);
+        dailyStatsCachePort.increment(boothId, updated.getCalledAt().toLocalDate(), DailyStats.completed());
 
         return CompleteResult.from(updated);
     }
@@ -3,7 +3,10 @@ package com.festin.app.waiting.application.service;
 import com.festin.app.booth.application.port.out.BoothCachePort;
 import com.festin.app.waiting.application.port.in.ConfirmEntranceUseCase;
 import com.festin.app.waiting.application.port.in.result.EntranceResult;
+import com.festin.app.waiting.application.port.out.DailyStatsCachePort;
+import com.festin.app.waiting.application.port.out.NoShowDeadlinePort;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
 import com.festin.app.waiting.domain.exception.WaitingNotFoundException;
 import com.festin.app.waiting.domain.model.Waiting;
 import org.springframework.stereotype.Service;
@@ -18,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
  * 3. 도메인 로직 실행 (waiting.enter() - 상태 CALLED → ENTERED)
  * 4. DB 업데이트
  * 5. Redis current +1 (실제로 부스에 입장한 시점)
- * 6. 결과 반환
+ * 6. 일별 통계 증감 (입장 인원 +1, 커밋 후 반영)
+ * 7. 노쇼 기한 제거
+ * 8. 결과 반환
  */
 @Service
 @Transactional
@@ -26,13 +31,19 @@ public class ConfirmEntranceService implements ConfirmEntranceUseCase {
 
     private final WaitingRepositoryPort waitingRepositoryPort;
     private final BoothCachePort boothCachePort;
+    private final DailyStatsCachePort dailyStatsCachePort;
+    private final NoShowDeadlinePort noShowDeadlinePort;
 
     public ConfirmEntranceService(
             WaitingRepositoryPort waitingRepositoryPort,
-            BoothCachePort boothCachePort
+            BoothCachePort boothCachePort,
+            DailyStatsCachePort dailyStatsCachePort,
+            NoShowDeadlinePort noShowDeadlinePort
     ) {
         this.waitingRepositoryPort = waitingRepositoryPort;
         this.boothCachePort = boothCachePort;
+        this.dailyStatsCachePort = dailyStatsCachePort;
+        this.noShowDeadlinePort = noShowDeadlinePort;
     }
 
     @Override
@@ -46,6 +57,8 @@ public class ConfirmEntranceService implements ConfirmEntranceUseCase {
         waiting.enter();
         Waiting updated = waitingRepositoryPort.save(waiting);
         boothCachePort.incrementCurrentCount(boothId);
+        dailyStatsCachePort.increment(boothId, updated.getCalledAt().toLocalDate(), DailyStats.entered());
+        noShowDeadlinePort.remove(waitingId);
 
         return EntranceResult.from(updated);
     }
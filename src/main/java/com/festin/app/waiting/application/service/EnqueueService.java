@@ -40,14 +40,13 @@ public class EnqueueService implements EnqueueUseCase {
         Booth booth = boothCachePort.getBooth(command.boothId()).orElseThrow(BoothNotFoundException::new);
         booth.validateForEnqueue();
 
-        LocalDateTime now = LocalDateTime.now();
         QueueCachePort.EnqueueAtomicResult result = queueCachePort.enqueueAtomic(
                 command.boothId(),
                 command.userId(),
-                now,
+                LocalDateTime.now(),
                 maxWaitingPolicy.getMaxWaitingBooths()
         );
 
-        return EnqueueResultFactory.from(result, booth, now, queueCachePort, command.boothId(), command.userId());
+        return EnqueueResultFactory.from(result, booth);
     }
 }
\ No newline at end of file
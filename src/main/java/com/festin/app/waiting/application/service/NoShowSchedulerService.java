@@ -1,32 +1,104 @@
 package com.festin.app.waiting.application.service;
 
+import com.festin.app.common.lease.JobLeaseScheduler;
+import com.festin.app.common.lease.Lease;
+import com.festin.app.common.lease.LeasePartition;
+import com.festin.app.common.lease.StaleLeaseException;
+import com.festin.app.waiting.application.port.out.DailyStatsCachePort;
+import com.festin.app.waiting.application.port.out.NoShowDeadlinePort;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
-import com.festin.app.waiting.domain.model.Waiting;
+import com.festin.app.waiting.application.port.out.dto.DailyStats;
+import com.festin.app.waiting.application.port.out.dto.NoShowDeadline;
+import com.festin.app.waiting.application.port.out.dto.NoShowMarked;
 import com.festin.app.waiting.domain.policy.NoShowPolicy;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * 노쇼 자동 처리 스케줄러
  *
  * 비즈니스 규칙:
  * - NoShowPolicy의 타임아웃 기준으로 자동 노쇼 처리
- * - 1분마다 실행
- * - CALLED 상태인 대기 건 중 타임아웃된 건 조회 및 노쇼 처리
+ * - CALLED 상태인 대기 건 중 타임아웃된 건 노쇼 처리
+ *
+ * 처리 경로:
+ * - 기한 만료 (processDeadline): NoShowDeadlineScheduler 타이머 휠이 기한 후 약 1초 이내 호출
+ * - 1분 주기 폴링 (processNoShow): 타이머가 놓친 건 보정 (기한 등록 실패, 처리 중 종료 등)
+ *
+ * 일괄 처리:
+ * - 엔티티를 한 건씩 로딩/save(merge)하지 않고 청크 단위 UPDATE 1회로 처리
+ * - 청크마다 별도 트랜잭션 (커넥션을 오래 점유하지 않음)
+ * - 처리된 건의 (부스, 호출일)별로 일별 통계 노쇼 인원 증가
+ *
+ * 다중 인스턴스:
+ * - 부스 ID 해시 파티션별 리스를 획득한 인스턴스만 해당 파티션 처리 (JobLeaseScheduler)
+ * - 인스턴스가 늘어나면 파티션을 나눠 처리 (중복 경합 없음)
+ * - 청크 UPDATE마다 펜싱 토큰 검증 → 리스를 잃은 뒤 늦게 도착한 청크는 롤백
+ *
+ * 메트릭:
+ * - festin.noshow.bulk.chunk (청크 처리 시간)
+ * - festin.noshow.bulk.chunk.rows (청크당 처리 건수)
+ * - festin.noshow.processed (누적 노쇼 처리 건수)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NoShowSchedulerService {
 
+    private static final String NO_SHOW_JOB_NAME = "noshow-bulk";
+
     private final WaitingRepositoryPort waitingRepositoryPort;
     private final NoShowPolicy noShowPolicy;
+    private final DailyStatsCachePort dailyStatsCachePort;
+    private final NoShowDeadlinePort noShowDeadlinePort;
+    private final JobLeaseScheduler jobLeaseScheduler;
+    private final int chunkSize;
+    private final int partitions;
+
+    private final Timer chunkTimer;
+    private final DistributionSummary chunkRows;
+    private final Counter processedCounter;
+
+    public NoShowSchedulerService(
+            WaitingRepositoryPort waitingRepositoryPort,
+            NoShowPolicy noShowPolicy,
+            DailyStatsCachePort dailyStatsCachePort,
+            NoShowDeadlinePort noShowDeadlinePort,
+            JobLeaseScheduler jobLeaseScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${festin.noshow.bulk.chunk-size:500}") int chunkSize,
+            @Value("${festin.noshow.bulk.partitions:4}") int partitions
+    ) {
+        this.waitingRepositoryPort = waitingRepositoryPort;
+        this.noShowPolicy = noShowPolicy;
+        this.dailyStatsCachePort = dailyStatsCachePort;
+        this.noShowDeadlinePort = noShowDeadlinePort;
+        this.jobLeaseScheduler = jobLeaseScheduler;
+        this.chunkSize = chunkSize;
+        this.partitions = partitions;
+
+        this.chunkTimer = Timer.builder("festin.noshow.bulk.chunk")
+                .description("노쇼 일괄 처리 청크 소요 시간")
+                .register(meterRegistry);
+        this.chunkRows = DistributionSummary.builder("festin.noshow.bulk.chunk.rows")
+                .description("노쇼 일괄 처리 청크당 건수")
+                .register(meterRegistry);
+        this.processedCounter = Counter.builder("festin.noshow.processed")
+                .description("노쇼 처리 건수")
+                .register(meterRegistry);
+    }
 
     /**
      * 노쇼 자동 처리 (1분마다 실행)
@@ -35,50 +107,116 @@ public class NoShowSchedulerService {
      * 타임아웃 기준: NoShowPolicy의 타임아웃 기준 (호출 시각 기준 5분 경과)
      *
      * 처리 흐름:
-     * 1. 타임아웃된 대기 건 조회 (CALLED 상태 && NoShowPolicy 타임아웃 경과)
-     * 2. 각 대기 건에 대해 노쇼 처리 (markAsNoShow())
-     * 3. MySQL에 저장 (상태: COMPLETED, 완료유형: NO_SHOW)
+     * 1. 부스 ID 파티션별 리스 획득 (다른 인스턴스가 보유 중인 파티션은 건너뜀)
+     * 2. 타임아웃된 대기 건을 청크 단위로 일괄 UPDATE (상태: COMPLETED, 완료유형: NO_SHOW)
+     * 3. 청크가 가득 찼으면 다음 청크 반복 (청크 크기 미만이거나 리스 상실 시 종료)
+     * 4. 청크별 일별 통계 노쇼 인원 증가
      */
     @Scheduled(fixedDelay = 60000)
-    @Transactional
     public void processNoShow() {
+        jobLeaseScheduler.runPartitioned(NO_SHOW_JOB_NAME, partitions, this::processNoShow);
+    }
+
+    private void processNoShow(Lease lease, LeasePartition partition) {
         LocalDateTime timeoutThreshold = calculateTimeoutThreshold();
-        List<Waiting> timeoutWaitings = waitingRepositoryPort.findTimeoutWaitings(timeoutThreshold);
+        int totalCount = 0;
+        int chunkCount = 0;
+
+        while (lease.isHeld()) {
+            long startTime = System.nanoTime();
+            List<NoShowMarked> marked;
+            try {
+                marked = waitingRepositoryPort.markTimeoutAsNoShow(
+                        timeoutThreshold, partition.index(), partition.count(), chunkSize, lease);
+            } catch (StaleLeaseException e) {
+                log.warn("노쇼 일괄 처리 중단 (리스 상실) - partition: {}, 처리 완료: {} 건, {}",
+                        partition.index(), totalCount, e.getMessage());
+                break;
+            } catch (Exception e) {
+                log.error("노쇼 일괄 처리 실패 - partition: {}, chunk: {}, 처리 완료: {} 건, error: {}",
+                        partition.index(), chunkCount + 1, totalCount, e.getMessage(), e);
+                break;
+            }
+
+            chunkTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            chunkRows.record(marked.size());
+            processedCounter.increment(marked.size());
+
+            if (!marked.isEmpty()) {
+                chunkCount++;
+                totalCount += marked.size();
+                incrementDailyStats(marked);
+                log.info("노쇼 처리 청크 완료 - partition: {}, chunk: {}, {} 건",
+                        partition.index(), chunkCount, marked.size());
+            }
+
+            if (marked.size() < chunkSize) {
+                break;
+            }
+        }
 
-        if (timeoutWaitings.isEmpty()) {
+        if (totalCount == 0) {
             log.debug("노쇼 처리 대상 없음");
             return;
         }
 
-        log.info("노쇼 처리 시작: {} 건", timeoutWaitings.size());
-        timeoutWaitings.forEach(this::markAsNoShowSafely);
-        log.info("노쇼 처리 완료: {} 건", timeoutWaitings.size());
+        log.info("노쇼 처리 완료 - partition: {}, token: {}, {} 건 ({} 청크)",
+                partition.index(), lease.fencingToken(), totalCount, chunkCount);
     }
 
     /**
-     * NoShowPolicy 기준으로 타임아웃 임계값 계산
+     * 기한 만료 노쇼 처리 (타이머 휠에서 호출)
+     *
+     * 처리 흐름:
+     * 1. 기한 선점 (ZREM) - 실패 시 다른 인스턴스가 처리했거나 입장 확인으로 제거됨
+     * 2. CALLED 상태일 때만 노쇼 UPDATE
+     * 3. 일별 통계 노쇼 인원 증가
+     * 4. 실패 시 기한 재등록 (다음 적재 주기에 재시도)
+     */
+    public void processDeadline(NoShowDeadline deadline) {
+        if (!noShowDeadlinePort.claim(deadline.waitingId())) {
+            return;
+        }
+
+        try {
+            waitingRepositoryPort.markAsNoShowIfCalled(deadline.waitingId()).ifPresent(marked -> {
+                processedCounter.increment();
+                incrementDailyStats(List.of(marked));
+                log.info("노쇼 처리 완료 (기한 만료) - waitingId: {}, userId: {}, boothId: {}, calledAt: {}",
+                        marked.waitingId(), marked.userId(), marked.boothId(), marked.calledAt());
+            });
+        } catch (Exception e) {
+            noShowDeadlinePort.registerAll(List.of(deadline));
+            log.error("노쇼 처리 실패 (기한 재등록) - waitingId: {}, error: {}",
+                    deadline.waitingId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * NoShowPolicy 기준으로 타임아웃 임계값 계산 (초 단위)
      */
     private LocalDateTime calculateTimeoutThreshold() {
-        int timeoutMinutes = noShowPolicy.getTimeoutSeconds() / 60;
-        return LocalDateTime.now().minusMinutes(timeoutMinutes);
+        return LocalDateTime.now().minusSeconds(noShowPolicy.getTimeoutSeconds());
     }
 
     /**
-     * 노쇼 처리 (예외 안전)
+     * (부스, 호출일)별로 묶어 일별 통계 증가 (예외 안전)
      *
-     * 개별 처리 실패가 전체 배치에 영향을 주지 않도록 try-catch 격리
+     * 통계 실패가 노쇼 처리 결과에 영향을 주지 않도록 격리 (야간 배치가 보정)
      */
-    private void markAsNoShowSafely(Waiting waiting) {
-        try {
-            waiting.markAsNoShow();
-            waitingRepositoryPort.save(waiting);
-
-            log.info("노쇼 처리 완료 - waitingId: {}, userId: {}, boothId: {}, calledAt: {}",
-                    waiting.getId(), waiting.getUserId(), waiting.getBoothId(), waiting.getCalledAt());
+    private void incrementDailyStats(List<NoShowMarked> marked) {
+        Map<Long, Map<LocalDate, Long>> counts = marked.stream()
+                .collect(Collectors.groupingBy(
+                        NoShowMarked::boothId,
+                        Collectors.groupingBy(m -> m.calledAt().toLocalDate(), Collectors.counting())));
 
-        } catch (Exception e) {
-            log.error("노쇼 처리 실패 - waitingId: {}, error: {}",
-                    waiting.getId(), e.getMessage(), e);
-        }
+        counts.forEach((boothId, byDate) -> byDate.forEach((date, count) -> {
+            try {
+                dailyStatsCachePort.increment(boothId, date, DailyStats.noShow(count.intValue()));
+            } catch (Exception e) {
+                log.error("노쇼 통계 반영 실패 - boothId: {}, date: {}, error: {}",
+                        boothId, date, e.getMessage(), e);
+            }
+        }));
     }
-}
\ No newline at end of file
+}
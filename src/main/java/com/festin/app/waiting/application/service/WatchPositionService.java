@@ -0,0 +1,284 @@
+package com.festin.app.waiting.application.service;
+
+import com.festin.app.waiting.application.port.in.WatchPositionUseCase;
+import com.festin.app.waiting.application.port.in.result.PositionUpdate;
+import com.festin.app.waiting.application.port.out.QueueEventPort;
+import com.festin.app.waiting.application.port.out.dto.QueueEvent;
+import com.festin.app.waiting.application.port.out.dto.QueueSnapshot;
+import com.festin.app.waiting.domain.model.EstimatedWaitTime;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 순번 실시간 구독 UseCase 구현
+ *
+ * 문제:
+ * - 클라이언트가 순번 조회 API를 몇 초마다 폴링 → 대기자 1만 명이면 초당 수천 건, 대부분 같은 결과
+ * - 변경마다 구독자별 ZRANK를 다시 실행하면 폴링과 비용이 같음
+ *
+ * 해결:
+ * - 대기열 이벤트(JOINED/REMOVED/ADVANCED)의 변경 위치만으로 구독자 순번을 O(1) 갱신
+ * - 순번이 바뀐 구독자에게만 전달
+ *
+ * 정합성:
+ * - 이벤트는 Lua Script 안에서 발행되므로 부스 단위 순서 보장, 이벤트 ID는 연속 증가
+ * - 구독자별 eventId 이하 이벤트는 무시 (스냅샷에 이미 반영)
+ * - 이벤트 ID가 건너뛰면(Pub/Sub 유실) 부스 스냅샷 1회로 전체 재동기화
+ * - 유실 후 이벤트가 없는 경우 대비 주기적 재동기화
+ *
+ * 메트릭:
+ * - festin.queue.watch.booths (구독자가 있는 부스 수)
+ * - festin.queue.watch.resync{reason=gap|event|periodic} (재동기화 횟수)
+ */
+@Slf4j
+@Service
+public class WatchPositionService implements WatchPositionUseCase {
+
+    private final QueueEventPort queueEventPort;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, BoothWatchers> booths = new ConcurrentHashMap<>();
+
+    public WatchPositionService(QueueEventPort queueEventPort, MeterRegistry meterRegistry) {
+        this.queueEventPort = queueEventPort;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        Gauge.builder("festin.queue.watch.booths", booths, Map::size)
+                .register(meterRegistry);
+        queueEventPort.addListener(this::onEvent);
+    }
+
+    @Override
+    public PositionWatch watch(Long userId, Long boothId, Consumer<PositionUpdate> listener) {
+        Watcher watcher = new Watcher(userId, listener);
+
+        while (true) {
+            BoothWatchers booth = booths.computeIfAbsent(boothId, BoothWatchers::new);
+            booth.lock.lock();
+            try {
+                // 마지막 구독자가 빠지며 제거된 부스 → 새로 생성
+                if (booth.closed) {
+                    continue;
+                }
+
+                // 이벤트 적용과 겹치지 않도록 잠금 안에서 스냅샷 조회
+                QueueSnapshot snapshot = queueEventPort.snapshot(boothId, List.of(userId));
+                if (booth.lastEventId < 0) {
+                    booth.lastEventId = snapshot.eventId();
+                }
+                booth.watchers.add(watcher);
+                watcher.reset(snapshot);
+                deliver(booth.boothId, watcher);
+            } finally {
+                booth.lock.unlock();
+            }
+            return () -> cancel(booth, watcher);
+        }
+    }
+
+    private void cancel(BoothWatchers booth, Watcher watcher) {
+        booth.lock.lock();
+        try {
+            booth.watchers.remove(watcher);
+            if (booth.watchers.isEmpty() && !booth.closed) {
+                booth.closed = true;
+                booths.remove(booth.boothId, booth);
+            }
+        } finally {
+            booth.lock.unlock();
+        }
+    }
+
+    /**
+     * 대기열 이벤트 적용 (Pub/Sub 수신 스레드, 수신 순서대로 호출)
+     */
+    private void onEvent(QueueEvent event) {
+        BoothWatchers booth = booths.get(event.boothId());
+        if (booth == null) {
+            return;
+        }
+
+        booth.lock.lock();
+        try {
+            if (event.type() == QueueEvent.Type.RESYNC) {
+                resync(booth, "event");
+                return;
+            }
+            if (event.eventId() <= booth.lastEventId) {
+                return;
+            }
+            if (event.eventId() > booth.lastEventId + 1) {
+                log.debug("[순번 구독] 이벤트 누락 - boothId: {}, expected: {}, received: {}",
+                        booth.boothId, booth.lastEventId + 1, event.eventId());
+                resync(booth, "gap");
+                return;
+            }
+
+            booth.lastEventId = event.eventId();
+            for (Watcher watcher : List.copyOf(booth.watchers)) {
+                if (watcher.apply(event)) {
+                    deliver(booth.boothId, watcher);
+                }
+            }
+        } finally {
+            booth.lock.unlock();
+        }
+    }
+
+    /**
+     * 주기적 재동기화 (마지막 이벤트가 유실되어 누락을 감지하지 못한 경우 대비)
+     */
+    @Scheduled(fixedDelayString = "${festin.queue.stream.resync-interval-ms:60000}")
+    public void resyncAll() {
+        for (BoothWatchers booth : booths.values()) {
+            booth.lock.lock();
+            try {
+                if (!booth.closed) {
+                    resync(booth, "periodic");
+                }
+            } catch (Exception e) {
+                log.warn("[순번 구독] 재동기화 실패 - boothId: {}, error: {}", booth.boothId, e.getMessage());
+            } finally {
+                booth.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 부스 구독자 전체 스냅샷 재조회 (Lua Script 1회, 잠금 안에서 호출)
+     */
+    private void resync(BoothWatchers booth, String reason) {
+        Counter.builder("festin.queue.watch.resync")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        booth.watchers.forEach(watcher -> userIds.add(watcher.userId));
+        QueueSnapshot snapshot = queueEventPort.snapshot(booth.boothId, userIds);
+
+        booth.lastEventId = snapshot.eventId();
+        for (Watcher watcher : List.copyOf(booth.watchers)) {
+            if (watcher.reset(snapshot)) {
+                deliver(booth.boothId, watcher);
+            }
+        }
+    }
+
+    private void deliver(Long boothId, Watcher watcher) {
+        Integer position = watcher.position > 0 ? watcher.position : null;
+        Integer estimatedWaitTime = position != null
+                ? EstimatedWaitTime.fromPosition(position).minutes()
+                : null;
+
+        try {
+            watcher.listener.accept(new PositionUpdate(
+                    boothId, watcher.eventId, position, watcher.totalWaiting, estimatedWaitTime));
+        } catch (Exception e) {
+            log.warn("[순번 구독] 전달 실패 - boothId: {}, userId: {}, error: {}",
+                    boothId, watcher.userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 부스별 구독자 목록 (부스 단위 잠금으로 이벤트 적용 / 구독 / 재동기화 직렬화)
+     */
+    private static class BoothWatchers {
+
+        private final Long boothId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<Watcher> watchers = new LinkedHashSet<>();
+        private long lastEventId = -1;
+        private boolean closed;
+
+        private BoothWatchers(Long boothId) {
+            this.boothId = boothId;
+        }
+    }
+
+    /**
+     * 구독자별 순번 상태 (position 0 = 대기열에 없음)
+     */
+    private static class Watcher {
+
+        private final Long userId;
+        private final Consumer<PositionUpdate> listener;
+        private long eventId;
+        private int position;
+        private int totalWaiting;
+
+        private Watcher(Long userId, Consumer<PositionUpdate> listener) {
+            this.userId = userId;
+            this.listener = listener;
+        }
+
+        /**
+         * 스냅샷으로 교체
+         *
+         * @return 순번 또는 대기자 수 변경 여부
+         */
+        private boolean reset(QueueSnapshot snapshot) {
+            int before = position;
+            int totalBefore = totalWaiting;
+
+            eventId = snapshot.eventId();
+            position = snapshot.positions().getOrDefault(userId, 0);
+            totalWaiting = snapshot.totalWaiting();
+            return position != before || totalWaiting != totalBefore;
+        }
+
+        /**
+         * 이벤트 적용 (O(1))
+         *
+         * @return 순번 변경 여부 (대기자 수만 바뀐 경우는 전달하지 않음)
+         */
+        private boolean apply(QueueEvent event) {
+            if (event.eventId() <= eventId) {
+                return false;
+            }
+            eventId = event.eventId();
+
+            int before = position;
+            boolean self = userId.equals(event.userId());
+
+            switch (event.type()) {
+                case JOINED -> {
+                    totalWaiting += event.count();
+                    if (self) {
+                        position = event.position();
+                    } else if (position > 0 && position >= event.position()) {
+                        position += event.count();
+                    }
+                }
+                case REMOVED, ADVANCED -> {
+                    totalWaiting = Math.max(0, totalWaiting - event.count());
+                    int lastRemoved = event.position() + event.count() - 1;
+                    if (self || (position >= event.position() && position <= lastRemoved)) {
+                        position = 0;
+                    } else if (position > lastRemoved) {
+                        position -= event.count();
+                    }
+                }
+                case RESYNC -> {
+                    // onEvent에서 스냅샷으로 처리
+                }
+            }
+            return position != before;
+        }
+    }
+}
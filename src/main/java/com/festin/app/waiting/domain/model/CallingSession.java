@@ -5,6 +5,8 @@ import com.festin.app.waiting.application.port.out.NotificationPort;
 import com.festin.app.waiting.application.port.out.QueueCachePort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 호출 세션 (Calling Session) - Value Object
@@ -20,27 +22,52 @@ public class CallingSession {
 
     private final Long boothId;
     private final Long userId;
+    private final int calledPosition;
     private final LocalDateTime registeredAt;
     private final LocalDateTime calledAt;
 
-    private CallingSession(Long boothId, Long userId, LocalDateTime registeredAt, LocalDateTime calledAt) {
+    private CallingSession(Long boothId, Long userId, int calledPosition, LocalDateTime registeredAt, LocalDateTime calledAt) {
         this.boothId = boothId;
         this.userId = userId;
+        this.calledPosition = calledPosition;
         this.registeredAt = registeredAt;
         this.calledAt = calledAt;
     }
 
-    public static CallingSession from(Long boothId, QueueCachePort.QueueItem queueItem) {
+    /**
+     * @param boothId 부스 ID
+     * @param queueItem 대기열에서 꺼낸 항목
+     * @param calledPosition 부스별 호출 순번 (Redis 시퀀스에서 발급)
+     * @param calledAt 호출 시각 (일괄 호출 시 동일 시각 공유)
+     */
+    public static CallingSession from(Long boothId, QueueCachePort.QueueItem queueItem, int calledPosition, LocalDateTime calledAt) {
         return new CallingSession(
                 boothId,
                 queueItem.userId(),
+                calledPosition,
                 queueItem.registeredAt(),
-                LocalDateTime.now()
+                calledAt
         );
     }
 
+    /**
+     * 원자적 호출 결과 → 호출 세션 목록
+     *
+     * 대기열 순서대로 firstCalledPosition부터 연속 순번 부여
+     */
+    public static List<CallingSession> listFrom(Long boothId, QueueCachePort.CallNextAtomicResult called) {
+        LocalDateTime calledAt = LocalDateTime.now();
+        List<QueueCachePort.QueueItem> items = called.items();
+
+        List<CallingSession> sessions = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            sessions.add(from(boothId, items.get(i), called.firstCalledPosition() + i, calledAt));
+        }
+        return sessions;
+    }
+
     public Waiting toWaiting() {
-        return Waiting.ofCalled(userId, boothId, 1, registeredAt, calledAt);
+        return Waiting.ofCalled(userId, boothId, calledPosition, registeredAt, calledAt);
     }
 
     public NotificationPort.CallNotification toNotification(Long waitingId, String boothName) {
@@ -49,12 +76,12 @@ public class CallingSession {
                 userId,
                 boothId,
                 boothName,
-                1
+                calledPosition
         );
     }
 
     public CallResult toResult(Long waitingId) {
-        return new CallResult(waitingId, userId, 1, calledAt);
+        return new CallResult(waitingId, userId, calledPosition, calledAt);
     }
 
     public Long getBoothId() {
@@ -65,6 +92,10 @@ public class CallingSession {
         return userId;
     }
 
+    public int getCalledPosition() {
+        return calledPosition;
+    }
+
     public LocalDateTime getRegisteredAt() {
         return registeredAt;
     }
@@ -5,8 +5,6 @@ import com.festin.app.waiting.application.port.in.result.EnqueueResult;
 import com.festin.app.waiting.application.port.out.QueueCachePort;
 import com.festin.app.waiting.domain.exception.MaxWaitingExceededException;
 
-import java.time.LocalDateTime;
-
 /**
  * EnqueueResult 생성 Factory
  *
@@ -21,57 +19,35 @@ import java.time.LocalDateTime;
  */
 public class EnqueueResultFactory {
 
+    /**
+     * 등록 시각은 Lua Script가 반환한 실제 score 기준
+     * (ALREADY_ENQUEUED도 기존 score를 함께 반환하므로 추가 조회 없음)
+     */
     public static EnqueueResult from(
             QueueCachePort.EnqueueAtomicResult atomicResult,
-            Booth booth,
-            LocalDateTime requestedAt,
-            QueueCachePort queueCachePort,
-            Long boothId,
-            Long userId
+            Booth booth
     ) {
         return switch (atomicResult.status()) {
-            case SUCCESS -> createSuccess(atomicResult, booth, requestedAt);
-            case ALREADY_ENQUEUED -> createAlreadyEnqueued(atomicResult, booth, queueCachePort, boothId, userId);
+            case SUCCESS -> create(atomicResult, booth, false);
+            case ALREADY_ENQUEUED -> create(atomicResult, booth, true);
             case MAX_BOOTHS_EXCEEDED -> throw new MaxWaitingExceededException();
         };
     }
 
-    private static EnqueueResult createSuccess(
-            QueueCachePort.EnqueueAtomicResult atomicResult,
-            Booth booth,
-            LocalDateTime registeredAt
-    ) {
-        EstimatedWaitTime estimatedWaitTime = EstimatedWaitTime.fromPosition(atomicResult.position());
-        return new EnqueueResult(
-                booth.getId(),
-                booth.getName(),
-                atomicResult.position(),
-                atomicResult.totalWaiting(),
-                estimatedWaitTime.minutes(),
-                registeredAt,
-                false
-        );
-    }
-
-    private static EnqueueResult createAlreadyEnqueued(
+    private static EnqueueResult create(
             QueueCachePort.EnqueueAtomicResult atomicResult,
             Booth booth,
-            QueueCachePort queueCachePort,
-            Long boothId,
-            Long userId
+            boolean alreadyEnqueued
     ) {
         EstimatedWaitTime estimatedWaitTime = EstimatedWaitTime.fromPosition(atomicResult.position());
-        LocalDateTime originalRegisteredAt = queueCachePort.getRegisteredAt(boothId, userId)
-                .orElse(LocalDateTime.now());
-
         return new EnqueueResult(
                 booth.getId(),
                 booth.getName(),
                 atomicResult.position(),
                 atomicResult.totalWaiting(),
                 estimatedWaitTime.minutes(),
-                originalRegisteredAt,
-                true
+                atomicResult.registeredAt(),
+                alreadyEnqueued
         );
     }
-}
\ No newline at end of file
+}
@@ -43,6 +43,16 @@ public class NoShowPolicy {
         return calculateRemainingTime(calledAt, currentTime) == 0;
     }
 
+    /**
+     * 노쇼 처리 기한 계산
+     *
+     * @param calledAt 호출 시각
+     * @return 이 시각이 지나도록 입장하지 않으면 노쇼
+     */
+    public LocalDateTime calculateDeadline(LocalDateTime calledAt) {
+        return calledAt.plusSeconds(NO_SHOW_TIMEOUT_SECONDS);
+    }
+
     /**
      * 노쇼 타임아웃 시간 반환 (초)
      *
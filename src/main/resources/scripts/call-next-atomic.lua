@@ -0,0 +1,119 @@
+--[[
+다음 사람 호출 원자적 처리 Lua Script
+
+Race Condition 방지:
+- 부스 상태 체크 → 정원 체크 → dequeue → Soft Lock 생성 → 활성 부스 제거를 단일 원자적 작업으로 처리
+- 기존 방식(HGET × 3 + GET + ZPOPMIN + HSET + SREM)의 7회 왕복을 EVALSHA 1회로 축소
+- 체크와 dequeue 사이에 다른 호출이 끼어들어 정원을 초과하는 문제 방지
+
+일괄 호출:
+- min(count, capacity - current)명을 ZPOPMIN key n 1회로 가져옴
+- 호출 순번은 부스별 시퀀스(INCRBY)로 연속 발급
+
+KEYS:
+- KEYS[1]: booth:{boothId}:meta (HASH - 부스 메타 정보)
+- KEYS[2]: booth:{boothId}:current (String - 현재 인원)
+- KEYS[3]: queue:booth:{boothId} (Sorted Set - 대기열)
+- KEYS[4]: booth:{boothId}:call_seq (String - 호출 순번 시퀀스)
+- KEYS[5]: softlock:registry (Sorted Set - Soft Lock 목록, score: 생성 시각)
+- KEYS[6]: queue:booth:{boothId}:event_seq (String - 부스별 대기열 이벤트 ID)
+
+ARGV:
+- ARGV[1]: boothId (호출할 부스 ID)
+- ARGV[2]: softLockKeyPrefix (temp:calling:{boothId}:)
+- ARGV[3]: activeBoothsKeyPrefix (user:)
+- ARGV[4]: activeBoothsKeySuffix (:active_booths)
+- ARGV[5]: createdAt (Soft Lock 생성 시각의 epoch millis)
+- ARGV[6]: count (호출 요청 인원)
+- ARGV[7]: eventChannel (queue:events:{boothId})
+
+대기열 이벤트 (호출 성공 시):
+- PUBLISH eventChannel "{eventId},A,1,{호출 인원}," (선두 n명 제거 → 나머지 순번 -n)
+
+참고:
+- Soft Lock 키와 활성 부스 키는 dequeue된 userId로 스크립트 내부에서 조립
+- 단일 Redis 인스턴스 기준 (Cluster 환경에서는 hash tag 필요)
+
+Return:
+- {1, firstPosition, boothName, userId1, score1, userId2, score2, ...}: 성공
+- {0}: 부스 정보 없음
+- {2}: 운영 중이 아님
+- {3}: 정원 초과
+- {4}: 대기열 비어있음
+]]
+
+local metaKey = KEYS[1]
+local currentKey = KEYS[2]
+local queueKey = KEYS[3]
+local callSeqKey = KEYS[4]
+local registryKey = KEYS[5]
+local eventSeqKey = KEYS[6]
+
+local boothId = ARGV[1]
+local softLockKeyPrefix = ARGV[2]
+local activeBoothsKeyPrefix = ARGV[3]
+local activeBoothsKeySuffix = ARGV[4]
+local createdAt = ARGV[5]
+local count = tonumber(ARGV[6])
+local eventChannel = ARGV[7]
+
+-- 1. 부스 메타 정보 조회
+local meta = redis.call('HMGET', metaKey, 'status', 'capacity', 'name')
+local status = meta[1]
+local capacity = meta[2]
+local boothName = meta[3]
+
+if not status or not capacity or not boothName then
+    return {0}
+end
+
+-- 2. 운영 상태 체크
+if status ~= 'OPEN' then
+    return {2}
+end
+
+-- 3. 정원 체크 (남은 자리만큼만 호출)
+local current = tonumber(redis.call('GET', currentKey) or '0')
+local available = tonumber(capacity) - current
+if available <= 0 then
+    return {3}
+end
+
+-- 4. 대기열에서 다음 사용자들 가져오기
+local popped = redis.call('ZPOPMIN', queueKey, math.min(count, available))
+if #popped == 0 then
+    return {4}
+end
+
+-- 5. 호출 순번 발급
+local poppedCount = #popped / 2
+local lastPosition = redis.call('INCRBY', callSeqKey, poppedCount)
+local firstPosition = lastPosition - poppedCount + 1
+
+-- 대기열 이벤트 발행 (선두 poppedCount명 제거)
+local eventId = redis.call('INCR', eventSeqKey)
+redis.call('PUBLISH', eventChannel, eventId .. ',A,1,' .. poppedCount .. ',')
+
+local result = {1, firstPosition, boothName}
+
+for i = 1, #popped, 2 do
+    local userId = popped[i]
+    local score = popped[i + 1]
+
+    -- 6. Soft Lock 생성 (MySQL save 실패 시 배치가 score로 롤백)
+    redis.call('HSET', softLockKeyPrefix .. userId,
+            'boothId', boothId,
+            'userId', userId,
+            'timestamp', score,
+            'createdAt', createdAt)
+    redis.call('ZADD', registryKey, createdAt, boothId .. ':' .. userId)
+
+    -- 7. 활성 부스 목록에서 제거
+    redis.call('SREM', activeBoothsKeyPrefix .. userId .. activeBoothsKeySuffix, boothId)
+
+    -- score는 정밀도 보존을 위해 문자열로 반환
+    table.insert(result, userId)
+    table.insert(result, score)
+end
+
+return result
@@ -0,0 +1,30 @@
+--[[
+부스 일별 통계 증감 Lua Script
+
+원자성:
+- 입장 → 완료 전이처럼 여러 필드(entered -1, completed +1)를 함께 증감
+- 카운터가 없으면(초기화 전 또는 TTL 만료) 증감하지 않음
+  → 일부 필드만 있는 불완전한 HASH가 생기는 것을 방지 (조회 시 MySQL 집계로 초기화)
+
+KEYS:
+- KEYS[1]: booth:{boothId}:stats:{yyyy-MM-dd} (HASH - 일별 통계)
+
+ARGV:
+- ARGV[1..n]: field, delta 쌍 (delta가 0인 필드는 생략)
+
+Return:
+- 1: 증감 완료
+- 0: 카운터 없음 (무시)
+]]
+
+local statsKey = KEYS[1]
+
+if redis.call('EXISTS', statsKey) == 0 then
+    return 0
+end
+
+for i = 1, #ARGV, 2 do
+    redis.call('HINCRBY', statsKey, ARGV[i], ARGV[i + 1])
+end
+
+return 1
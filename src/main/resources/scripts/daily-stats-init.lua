@@ -0,0 +1,36 @@
+--[[
+부스 일별 통계 초기화 Lua Script
+
+동시성:
+- 여러 스태프가 동시에 현황을 조회해도 먼저 초기화한 값만 반영
+- 초기화 이후의 증감분이 덮어써지는 것을 방지
+
+KEYS:
+- KEYS[1]: booth:{boothId}:stats:{yyyy-MM-dd} (HASH - 일별 통계)
+
+ARGV:
+- ARGV[1]: called
+- ARGV[2]: entered
+- ARGV[3]: noShow
+- ARGV[4]: completed
+- ARGV[5]: TTL (초)
+
+Return:
+- 1: 초기화 완료
+- 0: 이미 존재
+]]
+
+local statsKey = KEYS[1]
+
+if redis.call('EXISTS', statsKey) == 1 then
+    return 0
+end
+
+redis.call('HSET', statsKey,
+        'called', ARGV[1],
+        'entered', ARGV[2],
+        'noShow', ARGV[3],
+        'completed', ARGV[4])
+redis.call('EXPIRE', statsKey, ARGV[5])
+
+return 1
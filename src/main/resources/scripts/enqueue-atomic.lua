@@ -5,29 +5,43 @@ Race Condition 방지:
 - activeCount 체크 → 중복 체크 → enqueue → addActiveBooth를 단일 원자적 작업으로 처리
 - Redis 단일 스레드 특성으로 원자성 보장
 
+Score (QueueScore 참고):
+- 상위 41bit 밀리초 + 하위 12bit 부스별 시퀀스
+- score = max(baseScore, 마지막 score + 1) → 같은 밀리초에 등록해도 엄격한 FIFO 보장
+
 KEYS:
 - KEYS[1]: queue:booth:{boothId} (Sorted Set - 대기열)
 - KEYS[2]: user:{userId}:active_booths (Set - 활성 부스 목록)
+- KEYS[3]: queue:booth:{boothId}:seq (String - 부스별 마지막 발급 score)
+- KEYS[4]: queue:booth:{boothId}:event_seq (String - 부스별 대기열 이벤트 ID)
 
 ARGV:
 - ARGV[1]: userId (대기 등록할 사용자 ID)
 - ARGV[2]: boothId (대기 등록할 부스 ID)
-- ARGV[3]: timestamp (등록 시각의 epoch seconds)
+- ARGV[3]: baseScore (등록 시각 밀리초 << 12)
 - ARGV[4]: maxActiveBooths (최대 활성 부스 수, 기본 2)
+- ARGV[5]: eventChannel (queue:events:{boothId})
+
+대기열 이벤트 (신규 등록 시):
+- PUBLISH eventChannel "{eventId},J,{position},1,{userId}"
+- 스크립트 안에서 발행하므로 이벤트 순서 = 대기열 변경 순서
 
 Return:
-- {1, position, totalWaiting}: 성공 (신규 등록)
-- {2, position, totalWaiting}: 이미 등록됨 (멱등성)
+- {1, position, totalWaiting, score}: 성공 (신규 등록)
+- {2, position, totalWaiting, score}: 이미 등록됨 (멱등성, 기존 score 반환)
 - {0, -1, -1}: 실패 (최대 활성 부스 수 초과)
 ]]
 
 local queueKey = KEYS[1]
 local activeBoothsKey = KEYS[2]
+local seqKey = KEYS[3]
+local eventSeqKey = KEYS[4]
 
 local userId = ARGV[1]
 local boothId = ARGV[2]
-local timestamp = tonumber(ARGV[3])
+local baseScore = tonumber(ARGV[3])
 local maxActiveBooths = tonumber(ARGV[4])
+local eventChannel = ARGV[5]
 
 -- 1. 중복 등록 체크 (멱등성)
 local existingRank = redis.call('ZRANK', queueKey, userId)
@@ -35,7 +49,8 @@ if existingRank then
     -- 이미 등록되어 있음 - 현재 정보 반환
     local position = existingRank + 1  -- rank는 0부터 시작
     local totalWaiting = redis.call('ZCARD', queueKey)
-    return {2, position, totalWaiting}
+    local existingScore = redis.call('ZSCORE', queueKey, userId)
+    return {2, position, totalWaiting, existingScore}
 end
 
 -- 2. 활성 부스 개수 체크
@@ -45,16 +60,25 @@ if activeCount >= maxActiveBooths then
     return {0, -1, -1}
 end
 
--- 3. 대기열에 추가 (신규 등록)
-redis.call('ZADD', queueKey, timestamp, userId)
+-- 3. score 발급 (부스별 단조 증가)
+local lastScore = tonumber(redis.call('GET', seqKey) or '0')
+local score = string.format('%.0f', math.max(baseScore, lastScore + 1))
+redis.call('SET', seqKey, score)
 
--- 4. 활성 부스 목록에 추가
+-- 4. 대기열에 추가 (신규 등록)
+redis.call('ZADD', queueKey, score, userId)
+
+-- 5. 활성 부스 목록에 추가
 redis.call('SADD', activeBoothsKey, boothId)
 
--- 5. 최종 순번 및 대기자 수 조회
+-- 6. 최종 순번 및 대기자 수 조회
 local finalRank = redis.call('ZRANK', queueKey, userId)
 local position = finalRank + 1
 local totalWaiting = redis.call('ZCARD', queueKey)
 
--- 성공
-return {1, position, totalWaiting}
\ No newline at end of file
+-- 7. 대기열 이벤트 발행 (position 이후 대기자 순번 +1)
+local eventId = redis.call('INCR', eventSeqKey)
+redis.call('PUBLISH', eventChannel, eventId .. ',J,' .. position .. ',1,' .. userId)
+
+-- 성공 (score는 정밀도 보존을 위해 문자열로 반환)
+return {1, position, totalWaiting, score}
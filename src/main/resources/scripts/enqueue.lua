@@ -0,0 +1,44 @@
+--[[
+대기열 추가 Lua Script (단건, 검증 없음)
+
+score 발급과 ZADD를 원자적으로 처리
+- enqueue-atomic.lua와 동일한 score 발급 규칙 (QueueScore 참고)
+
+KEYS:
+- KEYS[1]: queue:booth:{boothId} (Sorted Set - 대기열)
+- KEYS[2]: queue:booth:{boothId}:seq (String - 부스별 마지막 발급 score)
+- KEYS[3]: queue:booth:{boothId}:event_seq (String - 부스별 대기열 이벤트 ID)
+
+ARGV:
+- ARGV[1]: userId (대기 등록할 사용자 ID)
+- ARGV[2]: baseScore (등록 시각 밀리초 << 12)
+- ARGV[3]: eventChannel (queue:events:{boothId})
+
+Return:
+- {added, score}: added는 신규 추가 시 1, 기존 항목 score 갱신 시 0
+]]
+
+local queueKey = KEYS[1]
+local seqKey = KEYS[2]
+local eventSeqKey = KEYS[3]
+
+local userId = ARGV[1]
+local baseScore = tonumber(ARGV[2])
+local eventChannel = ARGV[3]
+
+local lastScore = tonumber(redis.call('GET', seqKey) or '0')
+local score = string.format('%.0f', math.max(baseScore, lastScore + 1))
+redis.call('SET', seqKey, score)
+
+local added = redis.call('ZADD', queueKey, score, userId)
+
+-- 신규 추가 시 대기열 이벤트 발행 (score 갱신은 순서가 바뀌므로 재동기화)
+local eventId = redis.call('INCR', eventSeqKey)
+if added == 1 then
+    local position = redis.call('ZRANK', queueKey, userId) + 1
+    redis.call('PUBLISH', eventChannel, eventId .. ',J,' .. position .. ',1,' .. userId)
+else
+    redis.call('PUBLISH', eventChannel, eventId .. ',S,0,0,')
+end
+
+return {added, score}
@@ -0,0 +1,31 @@
+--[[
+작업 리스 획득 Lua Script
+
+원자성:
+- SET NX PX로 리스 획득 → 성공 시에만 펜싱 토큰 발급 (INCR)
+- 리스 값에 토큰을 포함하여 갱신/반납 시 본인 리스인지 비교
+
+KEYS:
+- KEYS[1]: lease:{name} (String - 리스 보유자, 값: {instanceId}:{token})
+- KEYS[2]: lease:{name}:fence (String - 펜싱 토큰 시퀀스)
+
+ARGV:
+- ARGV[1]: instanceId
+- ARGV[2]: TTL (밀리초)
+
+Return:
+- 펜싱 토큰 (1 이상): 획득 성공
+- 0: 다른 인스턴스가 보유 중
+]]
+
+local leaseKey = KEYS[1]
+local fenceKey = KEYS[2]
+
+if not redis.call('SET', leaseKey, ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return 0
+end
+
+local token = redis.call('INCR', fenceKey)
+redis.call('SET', leaseKey, ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+
+return token
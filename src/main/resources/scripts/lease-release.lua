@@ -0,0 +1,21 @@
+--[[
+작업 리스 반납 Lua Script
+
+- 리스 값이 본인 값({instanceId}:{token})일 때만 DEL
+
+KEYS:
+- KEYS[1]: lease:{name}
+
+ARGV:
+- ARGV[1]: 리스 값 ({instanceId}:{token})
+
+Return:
+- 1: 반납 완료
+- 0: 이미 만료되었거나 다른 인스턴스가 보유 중
+]]
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+return redis.call('DEL', KEYS[1])
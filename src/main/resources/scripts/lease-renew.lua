@@ -0,0 +1,23 @@
+--[[
+작업 리스 갱신 Lua Script
+
+- 리스 값이 본인 값({instanceId}:{token})일 때만 PEXPIRE
+- 만료 후 다른 인스턴스가 획득한 리스를 연장하지 않음
+
+KEYS:
+- KEYS[1]: lease:{name}
+
+ARGV:
+- ARGV[1]: 리스 값 ({instanceId}:{token})
+- ARGV[2]: TTL (밀리초)
+
+Return:
+- 1: 갱신 성공
+- 0: 리스 상실
+]]
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+return redis.call('PEXPIRE', KEYS[1], ARGV[2])
@@ -0,0 +1,39 @@
+--[[
+대기열 이탈 Lua Script (대기 취소)
+
+ZRANK → ZREM → 이벤트 발행을 원자적으로 처리
+- 제거된 순번을 이벤트에 담아 구독 중인 인스턴스가 ZRANK 재조회 없이 순번 갱신
+
+KEYS:
+- KEYS[1]: queue:booth:{boothId} (Sorted Set - 대기열)
+- KEYS[2]: queue:booth:{boothId}:event_seq (String - 부스별 대기열 이벤트 ID)
+
+ARGV:
+- ARGV[1]: userId (제거할 사용자 ID)
+- ARGV[2]: eventChannel (queue:events:{boothId})
+
+대기열 이벤트 (제거 시):
+- PUBLISH eventChannel "{eventId},R,{position},1,{userId}" (position 이후 대기자 순번 -1)
+
+Return:
+- {1}: 제거됨
+- {0}: 대기열에 없음
+]]
+
+local queueKey = KEYS[1]
+local eventSeqKey = KEYS[2]
+
+local userId = ARGV[1]
+local eventChannel = ARGV[2]
+
+local rank = redis.call('ZRANK', queueKey, userId)
+if not rank then
+    return {0}
+end
+
+redis.call('ZREM', queueKey, userId)
+
+local eventId = redis.call('INCR', eventSeqKey)
+redis.call('PUBLISH', eventChannel, eventId .. ',R,' .. (rank + 1) .. ',1,' .. userId)
+
+return {1}
@@ -0,0 +1,31 @@
+--[[
+대기열 스냅샷 Lua Script (순번 스트림 초기화 / 재동기화)
+
+이벤트 ID + 대기자 수 + 사용자별 순번을 원자적으로 조회
+- 스냅샷 이후 이벤트(eventId 초과)만 적용하면 순번이 정확히 유지됨
+
+KEYS:
+- KEYS[1]: queue:booth:{boothId} (Sorted Set - 대기열)
+- KEYS[2]: queue:booth:{boothId}:event_seq (String - 부스별 대기열 이벤트 ID)
+
+ARGV:
+- ARGV[1..n]: userId 목록
+
+Return:
+- {eventId, totalWaiting, position1, position2, ...}: position은 대기 중이 아니면 0
+]]
+
+local queueKey = KEYS[1]
+local eventSeqKey = KEYS[2]
+
+local result = {
+    tonumber(redis.call('GET', eventSeqKey) or '0'),
+    redis.call('ZCARD', queueKey)
+}
+
+for i = 1, #ARGV do
+    local rank = redis.call('ZRANK', queueKey, ARGV[i])
+    table.insert(result, rank and (rank + 1) or 0)
+end
+
+return result
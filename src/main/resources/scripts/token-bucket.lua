@@ -0,0 +1,59 @@
+--[[
+토큰 버킷 유입 제한 Lua Script (여러 버킷 원자적 차감)
+
+모든 버킷에 토큰이 1개 이상 있을 때만 각각 1개씩 차감 (하나라도 부족하면 아무것도 차감하지 않음)
+- 인스턴스 간 시계 차이를 피하기 위해 Redis TIME 기준으로 충전량 계산
+- 버킷이 가득 찰 시간이 지나면 키 만료 (가득 찬 버킷과 동일)
+
+KEYS:
+- KEYS[1..n]: ratelimit:{버킷 이름} (HASH - tokens, ts)
+
+ARGV (버킷마다 2개):
+- ARGV[2i-1]: capacity (버킷 크기)
+- ARGV[2i]: refillPerSecond (초당 충전 토큰 수)
+
+Return:
+- {1, 0}: 허용
+- {0, retryAfterMillis}: 거절 (가장 늦게 충전되는 버킷 기준 대기 시간)
+]]
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local tokens = {}
+local retryAfter = 0
+
+-- 1. 버킷별 충전 후 잔량 계산
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[i * 2 - 1])
+    local rate = tonumber(ARGV[i * 2])
+
+    local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+    local available = tonumber(bucket[1]) or capacity
+    local lastRefill = tonumber(bucket[2]) or now
+
+    available = math.min(capacity, available + math.max(0, now - lastRefill) * rate / 1000)
+    tokens[i] = available
+
+    if available < 1 then
+        local wait = math.ceil((1 - available) * 1000 / rate)
+        if wait > retryAfter then
+            retryAfter = wait
+        end
+    end
+end
+
+if retryAfter > 0 then
+    return {0, retryAfter}
+end
+
+-- 2. 모든 버킷에서 1개씩 차감
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[i * 2 - 1])
+    local rate = tonumber(ARGV[i * 2])
+
+    redis.call('HSET', KEYS[i], 'tokens', tostring(tokens[i] - 1), 'ts', now)
+    redis.call('PEXPIRE', KEYS[i], math.ceil(capacity * 1000 / rate) + 1000)
+end
+
+return {1, 0}
@@ -0,0 +1,95 @@
+package com.festin.app.booth.adapter.in.web;
+
+import com.festin.app.booth.application.port.in.GetBoothListUseCase;
+import com.festin.app.booth.application.port.in.dto.BoothListResult;
+import com.festin.app.booth.domain.model.BoothStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 부스 목록 스냅샷 갱신 테스트 (스냅샷 활성화 상태)
+ *
+ * 테스트 프로필은 스냅샷을 끄므로 갱신/ETag 유지 규칙은 여기서 직접 검증
+ */
+class BoothListSnapshotRefresherTest {
+
+    private GetBoothListUseCase getBoothListUseCase;
+    private BoothListSnapshotRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        getBoothListUseCase = mock(GetBoothListUseCase.class);
+        refresher = new BoothListSnapshotRefresher(getBoothListUseCase, JsonMapper.builder().build(), true);
+    }
+
+    @Test
+    @DisplayName("최초 갱신 전에는 스냅샷이 없어 요청마다 계산")
+    void emptyBeforeFirstRefresh() {
+        assertThat(refresher.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 스냅샷과 ETag 유지")
+    void keepsSnapshotWhenUnchanged() {
+        when(getBoothListUseCase.getBoothList(null)).thenReturn(listWithWaiting(3));
+
+        refresher.refresh();
+        BoothListSnapshot first = refresher.current().orElseThrow();
+        refresher.refresh();
+
+        assertThat(refresher.current()).containsSame(first);
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("내용이 바뀌면 새 ETag로 교체")
+    void replacesSnapshotWhenChanged() {
+        when(getBoothListUseCase.getBoothList(null))
+                .thenReturn(listWithWaiting(3))
+                .thenReturn(listWithWaiting(4));
+
+        refresher.refresh();
+        String before = refresher.current().orElseThrow().etag();
+        refresher.refresh();
+
+        assertThat(refresher.current().orElseThrow().etag()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 이전 스냅샷 유지")
+    void keepsPreviousSnapshotOnFailure() {
+        when(getBoothListUseCase.getBoothList(null))
+                .thenReturn(listWithWaiting(3))
+                .thenThrow(new IllegalStateException("Redis 연결 실패"));
+
+        refresher.refresh();
+        BoothListSnapshot first = refresher.current().orElseThrow();
+        refresher.refresh();
+
+        assertThat(refresher.current()).containsSame(first);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 스냅샷 미사용")
+    void disabledNeverServesSnapshot() {
+        BoothListSnapshotRefresher disabled =
+                new BoothListSnapshotRefresher(getBoothListUseCase, JsonMapper.builder().build(), false);
+
+        disabled.refresh();
+
+        assertThat(disabled.current()).isEmpty();
+    }
+
+    private static BoothListResult listWithWaiting(int currentWaiting) {
+        return new BoothListResult(List.of(new BoothListResult.BoothItem(
+                1L, "치킨 부스", "설명", "서울대학교", BoothStatus.OPEN, 10, currentWaiting, currentWaiting * 2)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.festin.app.common.concurrency;
+
+import com.festin.app.common.jwt.JwtProperties;
+import com.festin.app.common.jwt.JwtTokenProvider;
+import com.festin.app.common.jwt.VerifiedJwtCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시 처리 제한 필터 - 우선 경로 테스트
+ *
+ * 한도 1건을 다른 요청이 차지한 상태에서 우선 경로(/api/v1/waitings/call) 요청 검증
+ * - 서명 검증된 STAFF 토큰만 한도와 무관하게 수용
+ * - 토큰 없음 / VISITOR 토큰 / 변조 토큰은 URL만 맞춰도 일반 요청처럼 503
+ */
+class AdaptiveConcurrencyFilterTest {
+
+    private static final String SECRET = "adaptive-test-secret-key-min-256-bits-aaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String PRIORITY_PATH = "/api/v1/waitings/call";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private JwtTokenProvider jwtTokenProvider;
+    private AdaptiveConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(3_600_000);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        VerifiedJwtCache verifiedJwtCache = new VerifiedJwtCache(jwtTokenProvider, meterRegistry, true, 100);
+
+        filter = new AdaptiveConcurrencyFilter(
+                JsonMapper.builder().build(), meterRegistry, verifiedJwtCache,
+                1, 1, 1, 1.5, 0.2, 0.9, 500, 20,
+                List.of("/actuator/**"), List.of(PRIORITY_PATH));
+
+        holdLimit();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한도 초과 시 토큰 없는 우선 경로 요청 → 503 (URL만으로 우회 불가)")
+    void shedsAnonymousPriorityPath() throws Exception {
+        assertThat(perform(PRIORITY_PATH, null).getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("한도 초과 시 VISITOR 토큰의 우선 경로 요청 → 503")
+    void shedsVisitorPriorityPath() throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(1L, "visitor@festin.com", "VISITOR", null);
+
+        assertThat(perform(PRIORITY_PATH, token).getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("한도 초과 시 서명이 맞지 않는 STAFF 토큰 → 503")
+    void shedsForgedStaffToken() throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(2L, "staff@festin.com", "STAFF", 7L);
+        String forged = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(perform(PRIORITY_PATH, forged).getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("한도 초과여도 서명 검증된 STAFF 토큰의 우선 경로 요청은 수용")
+    void admitsVerifiedStaffOnPriorityPath() throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(2L, "staff@festin.com", "STAFF", 7L);
+
+        assertThat(perform(PRIORITY_PATH, token).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("STAFF 토큰이어도 우선 경로가 아니면 일반 요청처럼 503")
+    void shedsStaffOutsidePriorityPath() throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(2L, "staff@festin.com", "STAFF", 7L);
+
+        assertThat(perform("/api/v1/booths", token).getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("제외 경로는 한도와 무관하게 통과")
+    void skipsExcludedPaths() throws Exception {
+        assertThat(perform("/actuator/health", null).getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * 다른 스레드에서 요청 1건이 한도(1)를 차지한 채 대기
+     */
+    private void holdLimit() throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/waitings/my"), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        entered.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+            return null;
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private MockHttpServletResponse perform(String path, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRequestURI(path);
+        if (token != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+        });
+        return response;
+    }
+}
@@ -0,0 +1,111 @@
+package com.festin.app.common.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DB 커넥션 벌크헤드 테스트
+ *
+ * 풀 3개 중 STAFF 예약 2개 → 방문자/비인증 요청은 동시에 1개까지만 사용
+ */
+class ConnectionBulkheadDataSourceTest {
+
+    private static final int POOL_SIZE = 3;
+    private static final int STAFF_RESERVED = 2;
+    private static final long ACQUIRE_TIMEOUT_MS = 50;
+
+    private DataSource target;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionBulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConnectionBulkheadDataSource(target, POOL_SIZE, STAFF_RESERVED, ACQUIRE_TIMEOUT_MS, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestClassContext.clear();
+    }
+
+    @Test
+    @DisplayName("방문자가 공유분을 모두 쓰면 다음 방문자는 acquire-timeout-ms 후 실패")
+    void limitsVisitorToSharedConnections() throws SQLException {
+        RequestClassContext.set(RequestClass.VISITOR);
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("festin.bulkhead.db.shared.timeout").counter().count()).isEqualTo(1);
+
+        RequestClassContext.set(RequestClass.ANONYMOUS);
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("공유분이 모두 사용 중이어도 STAFF와 SYSTEM(스케줄러/컨슈머)은 예약분 포함 풀 전체 사용")
+    void reservesConnectionsForStaffAndSystem() throws SQLException {
+        RequestClassContext.set(RequestClass.VISITOR);
+        dataSource.getConnection();
+
+        RequestClassContext.set(RequestClass.STAFF);
+        assertThat(dataSource.getConnection()).isNotNull();
+        assertThat(dataSource.getConnection()).isNotNull();
+
+        RequestClassContext.clear();
+        assertThat(RequestClassContext.current()).isEqualTo(RequestClass.SYSTEM);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커넥션 close 시 공유분 반납, 중복 close는 1회만 반납")
+    void releasesSharedPermitOnceOnClose() throws SQLException {
+        RequestClassContext.set(RequestClass.VISITOR);
+        Connection first = dataSource.getConnection();
+        assertThat(sharedActive()).isEqualTo(1);
+
+        first.close();
+        first.close();
+        assertThat(sharedActive()).isZero();
+
+        dataSource.getConnection();
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("실제 풀에서 커넥션 획득에 실패하면 공유분을 즉시 반납")
+    void releasesSharedPermitWhenTargetFails() throws SQLException {
+        when(target.getConnection())
+                .thenThrow(new SQLException("pool exhausted"))
+                .thenAnswer(invocation -> mock(Connection.class));
+        RequestClassContext.set(RequestClass.VISITOR);
+
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool exhausted");
+
+        assertThat(sharedActive()).isZero();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    private double sharedActive() {
+        return meterRegistry.get("festin.bulkhead.db.shared.active").gauge().value();
+    }
+}
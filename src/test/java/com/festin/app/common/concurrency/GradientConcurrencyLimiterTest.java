@@ -0,0 +1,162 @@
+package com.festin.app.common.concurrency;
+
+import com.festin.app.common.concurrency.GradientConcurrencyLimiter.Permit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 시간 기반 동시 처리 한도 테스트
+ *
+ * 시계를 직접 움직여 윈도우 1개 = 요청 묶음 1회로 재현
+ * - 한도 50 (10 ~ 100), tolerance 1.5, smoothing 0.2, backoff 0.9
+ * - 윈도우 100ms, 최소 10건
+ */
+class GradientConcurrencyLimiterTest {
+
+    private static final int INITIAL_LIMIT = 50;
+    private static final int MIN_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+    private static final long BASE_RTT_MILLIS = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+    private GradientConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new GradientConcurrencyLimiter(
+                INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT, 1.5, 0.2, 0.9, 100, 10, clock::get);
+    }
+
+    @Test
+    @DisplayName("한도만큼 처리 중이면 즉시 거절, 반납하면 다시 허가")
+    void rejectsAtLimitAndAllowsAfterRelease() {
+        List<Permit> permits = acquire(INITIAL_LIMIT);
+
+        assertThat(limiter.tryAcquire()).isEmpty();
+        assertThat(limiter.getInFlight()).isEqualTo(INITIAL_LIMIT);
+
+        permits.get(0).onIgnore();
+
+        assertThat(limiter.tryAcquire()).isPresent();
+    }
+
+    @Test
+    @DisplayName("우선 요청은 한도와 무관하게 허가되지만 처리 중 요청 수에는 포함")
+    void priorityPermitCountsTowardInFlight() {
+        acquire(INITIAL_LIMIT - 1);
+
+        Permit priority = limiter.acquire();
+        limiter.acquire();
+
+        assertThat(limiter.getInFlight()).isEqualTo(INITIAL_LIMIT + 1);
+        assertThat(limiter.tryAcquire()).isEmpty();
+
+        priority.onIgnore();
+        assertThat(limiter.getInFlight()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    @DisplayName("한도를 다 쓰는데 RTT가 그대로면 (대기 없음) 윈도우마다 한도 증가")
+    void growsWhileRttStaysFlat() {
+        int previous = limiter.getLimit();
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter.getLimit(), BASE_RTT_MILLIS, false);
+
+            assertThat(limiter.getLimit()).isGreaterThan(previous);
+            previous = limiter.getLimit();
+        }
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않은 윈도우는 한도를 검증할 수 없으므로 증가하지 않음")
+    void doesNotGrowWhenUnderused() {
+        for (int i = 0; i < 5; i++) {
+            runWindow(INITIAL_LIMIT / 2 - 1, BASE_RTT_MILLIS, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(INITIAL_LIMIT);
+        assertThat(limiter.getLongRttMillis()).isEqualTo(BASE_RTT_MILLIS);
+    }
+
+    @Test
+    @DisplayName("RTT가 평소의 수 배로 늘면 (대기 발생) gradient 감소로 한도 감소")
+    void shrinksAsGradientDrops() {
+        runWindow(limiter.getLimit(), BASE_RTT_MILLIS, false);
+        int baseline = limiter.getLimit();
+
+        for (int i = 0; i < 4; i++) {
+            runWindow(limiter.getLimit(), BASE_RTT_MILLIS * 4, false);
+        }
+        int shrunk = limiter.getLimit();
+        assertThat(shrunk).isLessThan(baseline);
+
+        runWindow(limiter.getLimit(), BASE_RTT_MILLIS * 4, false);
+        assertThat(limiter.getLimit()).isLessThan(shrunk);
+    }
+
+    @Test
+    @DisplayName("처리 실패가 있던 윈도우는 한도 × backoff-ratio를 smoothing 비율로 반영")
+    void backsOffOnDrop() {
+        runWindow(limiter.getLimit(), BASE_RTT_MILLIS, true);
+
+        // 50 × 0.8 + (50 × 0.9) × 0.2 = 49
+        assertThat(limiter.getLimit()).isEqualTo(49);
+
+        runWindow(limiter.getLimit(), BASE_RTT_MILLIS, true);
+        assertThat(limiter.getLimit()).isLessThan(49);
+    }
+
+    @Test
+    @DisplayName("실패가 계속되어도 min-limit 아래로 내려가지 않음")
+    void clampsToMinLimit() {
+        for (int i = 0; i < 200; i++) {
+            runWindow(Math.max(MIN_LIMIT, limiter.getLimit()), BASE_RTT_MILLIS, true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(MIN_LIMIT);
+    }
+
+    @Test
+    @DisplayName("RTT가 계속 평소 수준이어도 max-limit 위로 올라가지 않음")
+    void clampsToMaxLimit() {
+        for (int i = 0; i < 200; i++) {
+            runWindow(limiter.getLimit(), BASE_RTT_MILLIS, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(MAX_LIMIT);
+    }
+
+    /**
+     * 윈도우 1개: concurrency건 동시 허가 → rtt 경과 → 모두 반납
+     */
+    private void runWindow(int concurrency, long rttMillis, boolean dropped) {
+        List<Permit> permits = acquire(concurrency);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        for (Permit permit : permits) {
+            if (dropped) {
+                permit.onDropped();
+            } else {
+                permit.onSuccess();
+            }
+        }
+    }
+
+    private List<Permit> acquire(int count) {
+        List<Permit> permits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Optional<Permit> permit = limiter.tryAcquire();
+            assertThat(permit).isPresent();
+            permits.add(permit.get());
+        }
+        return permits;
+    }
+}
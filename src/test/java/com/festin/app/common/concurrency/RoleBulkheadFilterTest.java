@@ -0,0 +1,161 @@
+package com.festin.app.common.concurrency;
+
+import com.festin.app.common.security.JwtAuthenticationToken;
+import com.festin.app.user.domain.model.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 역할별 벌크헤드 필터 테스트
+ *
+ * 테스트 프로필은 벌크헤드를 끄므로 필터를 직접 생성해 검증 (구획마다 동시 처리 1건)
+ * - 방문자 구획이 가득 차면 방문자 요청은 즉시 503 + Retry-After
+ * - 방문자 구획이 가득 차도 스태프 요청은 영향 없음
+ * - 스태프 구획은 가득 차면 max-wait-ms까지 대기 후 수용
+ */
+class RoleBulkheadFilterTest {
+
+    private static final long STAFF_MAX_WAIT_MS = 2_000;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RoleBulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setStaff(new BulkheadProperties.Compartment(1, STAFF_MAX_WAIT_MS));
+        properties.setVisitor(new BulkheadProperties.Compartment(1, 0));
+        properties.setAnonymous(new BulkheadProperties.Compartment(1, 0));
+
+        filter = new RoleBulkheadFilter(properties, JsonMapper.builder().build(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("방문자 구획이 가득 차면 다음 방문자 요청은 대기 없이 503 + Retry-After")
+    void rejectsVisitorWhenCompartmentIsFull() throws Exception {
+        hold(Role.VISITOR);
+
+        MockHttpServletResponse response = perform(Role.VISITOR, new PassingChain());
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("SERVICE_OVERLOADED");
+    }
+
+    @Test
+    @DisplayName("방문자 구획이 가득 차도 스태프 요청은 자기 구획에서 처리되고 요청 분류는 STAFF")
+    void admitsStaffWhileVisitorCompartmentIsFull() throws Exception {
+        hold(Role.VISITOR);
+        PassingChain chain = new PassingChain();
+
+        MockHttpServletResponse response = perform(Role.STAFF, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.requestClass.get()).isEqualTo(RequestClass.STAFF);
+        assertThat(RequestClassContext.current()).isEqualTo(RequestClass.SYSTEM);
+    }
+
+    @Test
+    @DisplayName("인증 없는 요청은 ANONYMOUS 구획 - 방문자 구획과 별도로 제한")
+    void classifiesUnauthenticatedAsAnonymous() throws Exception {
+        hold(null);
+
+        assertThat(perform(null, new PassingChain()).getStatus()).isEqualTo(503);
+        assertThat(perform(Role.VISITOR, new PassingChain()).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("스태프 구획이 가득 차면 max-wait-ms까지 기다렸다가 자리가 나면 수용")
+    void staffWaitsForCompartment() throws Exception {
+        hold(Role.STAFF);
+
+        Future<MockHttpServletResponse> waiting = executor.submit(() -> perform(Role.STAFF, new PassingChain()));
+        Thread.sleep(100);
+        assertThat(waiting.isDone()).isFalse();
+
+        release.countDown();
+
+        assertThat(waiting.get(STAFF_MAX_WAIT_MS, TimeUnit.MILLISECONDS).getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * 다른 스레드에서 요청 1건이 구획을 차지한 채 대기
+     */
+    private void hold(Role role) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        executor.submit(() -> perform(role, (request, response) -> {
+            entered.countDown();
+            release.await();
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private MockHttpServletResponse perform(Role role, BlockingChain chain) throws Exception {
+        if (role != null) {
+            SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(1L, "user@festin.com", role));
+        }
+        try {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/waitings/my"), response, chain);
+            return response;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockingChain extends FilterChain {
+
+        void proceed(ServletRequest request, ServletResponse response) throws InterruptedException;
+
+        @Override
+        default void doFilter(ServletRequest request, ServletResponse response) {
+            try {
+                proceed(request, response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 즉시 통과 + 처리 중 요청 분류 기록
+     */
+    private static class PassingChain implements BlockingChain {
+
+        private final AtomicReference<RequestClass> requestClass = new AtomicReference<>();
+
+        @Override
+        public void proceed(ServletRequest request, ServletResponse response) {
+            requestClass.set(RequestClassContext.current());
+        }
+    }
+}
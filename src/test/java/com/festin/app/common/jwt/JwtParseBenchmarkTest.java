@@ -0,0 +1,102 @@
+package com.festin.app.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 요청당 비용 비교 (마이크로 벤치마크)
+ *
+ * 측정 대상 (토큰 1개 반복 인증, 폴링 시나리오):
+ * 1. 기존: claim마다 파서 생성 + 서명 검증 (3회)
+ * 2. 1회 파싱: 재사용 파서로 서명 검증 1회 (JwtTokenProvider.parse)
+ * 3. 캐시: 다이제스트 조회 (VerifiedJwtCache.resolve)
+ *
+ * JMH 대신 워밍업 후 평균 시간을 측정 (Spring Context 없이 단독 실행)
+ * 캐시 동작 검증은 VerifiedJwtCacheTest
+ */
+class JwtParseBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-min-256-bits-aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private SecretKey secretKey;
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedJwtCache verifiedJwtCache;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(3_600_000);
+
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        verifiedJwtCache = new VerifiedJwtCache(jwtTokenProvider, new SimpleMeterRegistry(), true, 10_000);
+        token = jwtTokenProvider.generateAccessToken(1L, "visitor@festin.com", "VISITOR", null);
+    }
+
+    @Test
+    @Disabled("CI 제외 - 로컬 Build에서만 실행")
+    @DisplayName("요청당 인증 비용: 기존(3회 파싱) vs 1회 파싱 vs 검증 캐시")
+    void compareAuthenticationCost() {
+        JwtClaims expected = jwtTokenProvider.parse(token);
+
+        double legacyNanos = measure(this::legacyParse);
+        double singleParseNanos = measure(jwtTokenProvider::parse);
+        double cachedNanos = measure(verifiedJwtCache::resolve);
+
+        System.out.printf("""
+                [JWT 인증 비용] (ns/op, %d회 평균)
+                  기존 (3회 파싱):  %,10.0f
+                  1회 파싱:         %,10.0f
+                  검증 캐시:        %,10.0f
+                %n""", ITERATIONS, legacyNanos, singleParseNanos, cachedNanos);
+
+        assertThat(verifiedJwtCache.resolve(token)).isEqualTo(expected);
+    }
+
+    /**
+     * 변경 전 필터 동작 재현 (userId, email, role을 각각 파싱)
+     */
+    private JwtClaims legacyParse(String token) {
+        Claims subject = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        Claims email = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        Claims role = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return new JwtClaims(
+                Long.parseLong(subject.getSubject()),
+                email.get("email", String.class),
+                role.get("role", String.class),
+                null,
+                subject.getExpiration().toInstant());
+    }
+
+    private double measure(Function<String, JwtClaims> authenticate) {
+        long blackhole = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            blackhole += authenticate.apply(token).userId();
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += authenticate.apply(token).userId();
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        assertThat(blackhole).isPositive();
+        return (double) elapsed / ITERATIONS;
+    }
+}
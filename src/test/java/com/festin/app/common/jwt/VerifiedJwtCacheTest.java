@@ -0,0 +1,133 @@
+package com.festin.app.common.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서명 검증 완료 JWT 캐시 테스트
+ *
+ * - 같은 토큰 반복 조회는 서명 검증 1회 후 캐시 적중
+ * - exp 시각부터는 캐시된 Claims를 반환하지 않음
+ * - 변조된 토큰은 캐시와 무관하게 거부
+ */
+class VerifiedJwtCacheTest {
+
+    private static final String SECRET = "cache-test-secret-key-min-256-bits-aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedJwtCache verifiedJwtCache;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(3_600_000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        verifiedJwtCache = new VerifiedJwtCache(jwtTokenProvider, meterRegistry, true, 10_000);
+    }
+
+    @Test
+    @DisplayName("같은 토큰 반복 조회 → 첫 조회만 검증하고 이후 캐시 적중")
+    void hitsCacheForRepeatedToken() {
+        String token = jwtTokenProvider.generateAccessToken(1L, "visitor@festin.com", "VISITOR", null);
+
+        JwtClaims first = verifiedJwtCache.resolve(token);
+        JwtClaims second = verifiedJwtCache.resolve(token);
+        JwtClaims third = verifiedJwtCache.resolve(token);
+
+        assertThat(first).isEqualTo(jwtTokenProvider.parse(token));
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("exp 직전까지는 캐시 적중, exp 시각부터는 캐시를 쓰지 않고 다시 검증")
+    void stopsServingCachedClaimsAtExp() {
+        String token = jwtTokenProvider.generateAccessToken(2L, "staff@festin.com", "STAFF", 7L);
+        JwtClaims claims = verifiedJwtCache.resolve(token);
+        Instant exp = claims.expiresAt();
+
+        verifiedJwtCache.resolve(token, exp.minusMillis(1));
+        assertThat(count("hit")).isEqualTo(1);
+
+        verifiedJwtCache.resolve(token, exp);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰 → 만료 예외, 캐시에 적재하지 않음")
+    void rejectsExpiredToken() {
+        Instant issuedAt = Instant.now().minusSeconds(120);
+        String expired = Jwts.builder()
+                .subject("3")
+                .claim("email", "visitor@festin.com")
+                .claim("role", "VISITOR")
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> verifiedJwtCache.resolve(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> verifiedJwtCache.resolve(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(count("hit")).isZero();
+        assertThat(cacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("원본 토큰이 캐시에 있어도 payload를 바꾼 토큰은 서명 검증에서 거부")
+    void rejectsTamperedToken() {
+        String token = jwtTokenProvider.generateAccessToken(4L, "visitor@festin.com", "VISITOR", null);
+        String staffToken = jwtTokenProvider.generateAccessToken(4L, "visitor@festin.com", "STAFF", 1L);
+        verifiedJwtCache.resolve(token);
+
+        // 원본 서명에 STAFF payload를 붙여 역할 변조
+        String[] original = token.split("\\.");
+        String[] forged = staffToken.split("\\.");
+        String tampered = original[0] + "." + forged[1] + "." + original[2];
+
+        assertThatThrownBy(() -> verifiedJwtCache.resolve(tampered)).isInstanceOf(JwtException.class);
+        assertThat(cacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰 → 서명 검증에서 거부")
+    void rejectsTokenSignedWithAnotherKey() {
+        String otherSecret = "another-secret-key-min-256-bits-bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb";
+        String token = Jwts.builder()
+                .subject("5")
+                .claim("role", "STAFF")
+                .expiration(Date.from(Instant.now().plusSeconds(3_600)))
+                .signWith(Keys.hmacShaKeyFor(otherSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> verifiedJwtCache.resolve(token)).isInstanceOf(JwtException.class);
+        assertThat(cacheSize()).isZero();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("festin.jwt.cache").tag("result", result).counter().count();
+    }
+
+    private double cacheSize() {
+        return meterRegistry.get("festin.jwt.cache.size").gauge().value();
+    }
+}
@@ -0,0 +1,85 @@
+package com.festin.app.common.lease;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 펜싱 토큰으로 보호하는 노쇼 일괄 UPDATE 테스트
+ *
+ * 리스 만료 후 다른 인스턴스가 더 큰 토큰으로 처리한 뒤 이전 보유자의 청크가 늦게 도착하는 상황
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class LeaseFencingTest {
+
+    @Autowired
+    private WaitingRepositoryPort waitingRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String leaseName;
+
+    @BeforeEach
+    void setUp() {
+        leaseName = "noshow-bulk-test:" + System.nanoTime();
+    }
+
+    @Test
+    @DisplayName("더 큰 토큰이 쓴 뒤 이전 토큰의 쓰기는 거절")
+    void rejectsWriteWithStaleToken() {
+        markTimeoutAsNoShow(lease(5));
+
+        assertThatThrownBy(() -> markTimeoutAsNoShow(lease(4)))
+                .isInstanceOf(StaleLeaseException.class);
+        assertThat(latestToken()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 다음 청크와 더 큰 토큰의 쓰기는 허용하고 최신 토큰 기록")
+    void acceptsSameOrNewerToken() {
+        markTimeoutAsNoShow(lease(5));
+        markTimeoutAsNoShow(lease(5));
+        markTimeoutAsNoShow(lease(7));
+
+        assertThat(latestToken()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("리스 미사용(local) 리스는 토큰을 비교하지 않음")
+    void skipsFenceForLocalLease() {
+        markTimeoutAsNoShow(lease(5));
+
+        assertThatCode(() -> markTimeoutAsNoShow(Lease.local(leaseName))).doesNotThrowAnyException();
+        assertThat(latestToken()).isEqualTo(5);
+    }
+
+    private void markTimeoutAsNoShow(Lease lease) {
+        // 10년 전 기준 → 처리 대상 없이 펜싱 검증만 수행
+        waitingRepositoryPort.markTimeoutAsNoShow(LocalDateTime.now().minusYears(10), 0, 1, 10, lease);
+    }
+
+    private Lease lease(long token) {
+        return new Lease(leaseName, "test-instance:" + token, token, Long.MAX_VALUE);
+    }
+
+    private long latestToken() {
+        Long token = jdbcTemplate.queryForObject("SELECT token FROM job_fence WHERE name = ?", Long.class, leaseName);
+        return token != null ? token : 0;
+    }
+}
@@ -0,0 +1,143 @@
+package com.festin.app.common.ratelimit;
+
+import com.festin.app.common.ratelimit.RedisTokenBucketLimiter.NamedBucket;
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.fixture.JwtTokenFixture;
+import com.festin.app.fixture.UserFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 유입 제한(토큰 버킷) 테스트
+ *
+ * 테스트 프로필은 유입 제한을 끄므로 여기서 켜고 작은 버킷으로 검증
+ * - waiting-read 라우트: 사용자별 버킷 2개, 초당 0.5개 충전 (토큰 1개 충전 = 2초)
+ * - 버킷 소진 시 429 + Retry-After(초 단위 올림)
+ * - 사용자별 버킷은 다른 사용자에게 영향 없음
+ * - 여러 버킷 중 하나라도 부족하면 어느 버킷도 차감하지 않음
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "festin.rate-limit.enabled=true",
+        "festin.rate-limit.global.capacity=1000",
+        "festin.rate-limit.global.refill-per-second=500",
+        "festin.rate-limit.routes[0].name=waiting-read",
+        "festin.rate-limit.routes[0].method=GET",
+        "festin.rate-limit.routes[0].pattern=/api/v1/waitings/**",
+        "festin.rate-limit.routes[0].capacity=1000",
+        "festin.rate-limit.routes[0].refill-per-second=500",
+        "festin.rate-limit.routes[0].per-user-capacity=2",
+        "festin.rate-limit.routes[0].per-user-refill-per-second=0.5"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class RateLimitFilterTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserFixture userFixture;
+
+    @Autowired
+    private JwtTokenFixture jwtTokenFixture;
+
+    @Autowired
+    private RedisTokenBucketLimiter limiter;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port)
+                .build();
+    }
+
+    @Test
+    @DisplayName("사용자별 버킷 소진 → 429 + Retry-After, 에러 코드 TOO_MANY_REQUESTS")
+    void rejectsWithRetryAfterWhenUserBucketIsEmpty() {
+        String token = jwtTokenFixture.generateDefaultVisitorToken(userFixture.createVisitor("유입제한유저"));
+
+        assertThat(getMyWaitings(token).getStatus().value()).isNotEqualTo(429);
+        assertThat(getMyWaitings(token).getStatus().value()).isNotEqualTo(429);
+
+        client.get()
+                .uri("/api/v1/waitings/my")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2")
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    @DisplayName("한 사용자의 버킷이 비어도 다른 사용자와 제한 대상이 아닌 경로는 허용")
+    void userBucketDoesNotAffectOthers() {
+        String exhausted = jwtTokenFixture.generateDefaultVisitorToken(userFixture.createVisitor("소진유저"));
+        String other = jwtTokenFixture.generateDefaultVisitorToken(userFixture.createVisitor("다른유저"));
+        for (int i = 0; i < 3; i++) {
+            getMyWaitings(exhausted);
+        }
+        assertThat(getMyWaitings(exhausted).getStatus().value()).isEqualTo(429);
+
+        assertThat(getMyWaitings(other).getStatus().value()).isNotEqualTo(429);
+        client.get()
+                .uri("/api/v1/booths")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + exhausted)
+                .exchange()
+                .expectStatus().value(status -> assertThat(status).isNotEqualTo(429));
+    }
+
+    @Test
+    @DisplayName("여러 버킷 중 하나라도 부족하면 거절하고 다른 버킷의 토큰은 차감하지 않음")
+    void deductsNothingWhenAnyBucketIsEmpty() {
+        NamedBucket wide = new NamedBucket("test:wide", bucket(5, 0.01));
+        NamedBucket narrow = new NamedBucket("test:narrow", bucket(1, 0.1));
+
+        assertThat(limiter.tryAcquire(List.of(wide, narrow)).allowed()).isTrue();
+
+        RedisTokenBucketLimiter.Decision rejected = limiter.tryAcquire(List.of(wide, narrow));
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isPositive().isLessThanOrEqualTo(10_000);
+
+        // wide 버킷은 첫 요청의 1개만 차감된 상태 → 단독으로 4번 더 허용
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(List.of(wide)).allowed()).isTrue();
+        }
+    }
+
+    private EntityExchangeResult<byte[]> getMyWaitings(String token) {
+        return client.get()
+                .uri("/api/v1/waitings/my")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectBody()
+                .returnResult();
+    }
+
+    private static RateLimitProperties.Bucket bucket(long capacity, double refillPerSecond) {
+        RateLimitProperties.Bucket bucket = new RateLimitProperties.Bucket();
+        bucket.setCapacity(capacity);
+        bucket.setRefillPerSecond(refillPerSecond);
+        return bucket;
+    }
+}
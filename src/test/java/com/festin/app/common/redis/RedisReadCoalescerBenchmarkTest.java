@@ -0,0 +1,175 @@
+package com.festin.app.common.redis;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 읽기 묶음 처리 벤치마크 (동시 폴링 1,000명)
+ *
+ * 측정 대상 (폴링 1회 = ZRANK + ZCARD, 부스 10개에 폴러 분산):
+ * 1. 개별 전송: RedisTemplate 명령마다 write + flush
+ * 2. 묶음 전송: RedisReadCoalescer (window 200µs, max-batch 128, 동일 명령 1회)
+ *
+ * 지표:
+ * - 폴링 처리량 (polls/s)
+ * - 폴링 1회 지연 p50 / p99
+ * - Redis가 실제 처리한 명령 수 (INFO stats total_commands_processed, Pipeline 포함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class RedisReadCoalescerBenchmarkTest {
+
+    private static final int POLLERS = 1_000;
+    private static final int BOOTHS = 10;
+    private static final int POLLS_PER_POLLER = 50;
+    private static final String QUEUE_KEY_PREFIX = "queue:booth:";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RedisReadCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        // 부스 10개에 사용자 1,000명 분산 등록
+        for (int userId = 1; userId <= POLLERS; userId++) {
+            redisTemplate.opsForZSet().add(QUEUE_KEY_PREFIX + boothOf(userId), String.valueOf(userId), userId);
+        }
+
+        coalescer = new RedisReadCoalescer(redisTemplate, new SimpleMeterRegistry(), 200, 128, 2_000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @Disabled("CI 제외 - 로컬 Build에서만 실행")
+    @DisplayName("동시 폴링 1,000명: 개별 전송 vs 묶음 전송 (처리량, p99, Redis 명령 수)")
+    void compareIndividualAndCoalescedReads() throws InterruptedException {
+        // 워밍업
+        run((key, member) -> {
+            redisTemplate.opsForZSet().rank(key, member);
+            redisTemplate.opsForZSet().size(key);
+        });
+        run((key, member) -> {
+            coalescer.zRank(key, member);
+            coalescer.zCard(key);
+        });
+
+        Result individual = run((key, member) -> {
+            redisTemplate.opsForZSet().rank(key, member);
+            redisTemplate.opsForZSet().size(key);
+        });
+        Result coalesced = run((key, member) -> {
+            coalescer.zRank(key, member);
+            coalescer.zCard(key);
+        });
+
+        System.out.printf("""
+                [Redis 읽기 묶음] 폴러 %d명 × %d회 (ZRANK + ZCARD)
+                - 개별 전송: %,.0f polls/s, p50 %.2fms, p99 %.2fms, Redis 명령 %,d개
+                - 묶음 전송: %,.0f polls/s, p50 %.2fms, p99 %.2fms, Redis 명령 %,d개
+                %n""",
+                POLLERS, POLLS_PER_POLLER,
+                individual.pollsPerSecond(), individual.p50Millis(), individual.p99Millis(), individual.redisCommands(),
+                coalesced.pollsPerSecond(), coalesced.p50Millis(), coalesced.p99Millis(), coalesced.redisCommands());
+
+        // 같은 부스 ZCARD가 묶음 안에서 1회로 합쳐지므로 Redis 명령 수는 반드시 줄어듦
+        assertThat(coalesced.redisCommands()).isLessThan(individual.redisCommands());
+    }
+
+    private Result run(BiConsumer<String, String> poll) throws InterruptedException {
+        long[] latencies = new long[POLLERS * POLLS_PER_POLLER];
+        AtomicInteger index = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(POLLERS);
+
+        long commandsBefore = totalCommandsProcessed();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int userId = 1; userId <= POLLERS; userId++) {
+                String key = QUEUE_KEY_PREFIX + boothOf(userId);
+                String member = String.valueOf(userId);
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < POLLS_PER_POLLER; i++) {
+                            long begin = System.nanoTime();
+                            poll.accept(key, member);
+                            latencies[index.getAndIncrement()] = System.nanoTime() - begin;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsedNanos = System.nanoTime() - begin;
+
+            // INFO 명령 자체 1회 제외
+            long redisCommands = totalCommandsProcessed() - commandsBefore - 1;
+
+            long[] recorded = Arrays.copyOf(latencies, index.get());
+            Arrays.sort(recorded);
+            return new Result(
+                    recorded.length * 1_000_000_000.0 / elapsedNanos,
+                    percentileMillis(recorded, 0.50),
+                    percentileMillis(recorded, 0.99),
+                    redisCommands
+            );
+        }
+    }
+
+    private long totalCommandsProcessed() {
+        try (RedisConnection connection = redisTemplate.getConnectionFactory().getConnection()) {
+            Properties stats = connection.serverCommands().info("stats");
+            return Long.parseLong(stats.getProperty("total_commands_processed").trim());
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int i = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, i)] / 1_000_000.0;
+    }
+
+    private static int boothOf(int userId) {
+        return userId % BOOTHS + 1;
+    }
+
+    private record Result(double pollsPerSecond, double p50Millis, double p99Millis, long redisCommands) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.festin.app.common.redis;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.waiting.application.port.out.QueueCachePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 읽기 묶음 처리 테스트 (read-coalescer 활성화)
+ *
+ * - 같은 묶음 안의 동일 명령은 1번만 전송하고 결과 공유
+ * - 묶음 결과는 RedisTemplate 개별 조회와 동일 (ZRANK / ZCARD / ZSCORE / HGET / GET, 없는 키는 null)
+ * - max-batch 도달 시 window를 기다리지 않고 즉시 전송
+ * - 활성화 시 대기열 어댑터 조회가 묶음 처리를 거쳐도 결과 동일
+ */
+@SpringBootTest(properties = "festin.redis.read-coalescer.enabled=true")
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class RedisReadCoalescerTest {
+
+    private static final String QUEUE_KEY = "queue:booth:1";
+    private static final String META_KEY = "booth:1:meta";
+    private static final String STRING_KEY = "coalescer:test";
+    private static final int CONCURRENT_READERS = 50;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisReadCoalescer registeredCoalescer;
+
+    @Autowired
+    private QueueCachePort queueCachePort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisReadCoalescer coalescer;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        redisTemplate.opsForZSet().add(QUEUE_KEY, "10", 1_000);
+        redisTemplate.opsForZSet().add(QUEUE_KEY, "20", 2_000);
+        redisTemplate.opsForZSet().add(QUEUE_KEY, "30", 3_000);
+        redisTemplate.opsForHash().put(META_KEY, "name", "테스트 부스");
+        redisTemplate.opsForValue().set(STRING_KEY, "value");
+
+        // window를 넉넉히 (50ms) → 동시 요청이 반드시 같은 묶음에 들어가도록
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RedisReadCoalescer(redisTemplate, meterRegistry, 50_000, 128, 2_000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 ZCARD 50건 (같은 키) → 1번만 전송하고 나머지 49건은 결과 공유")
+    void deduplicatesIdenticalCommands() throws Exception {
+        List<Long> results = concurrently(() -> coalescer.zCard(QUEUE_KEY));
+
+        assertThat(results).hasSize(CONCURRENT_READERS).containsOnly(3L);
+        assertThat(count("sent")).isEqualTo(1);
+        assertThat(count("deduplicated")).isEqualTo(CONCURRENT_READERS - 1);
+    }
+
+    @Test
+    @DisplayName("동시 ZRANK (member별로 다른 명령) → 중복 제거 없이 각자 결과")
+    void keepsDistinctCommandsApart() throws Exception {
+        List<Future<Long>> ranks = List.of(
+                executor.submit(() -> coalescer.zRank(QUEUE_KEY, "10")),
+                executor.submit(() -> coalescer.zRank(QUEUE_KEY, "20")),
+                executor.submit(() -> coalescer.zRank(QUEUE_KEY, "30"))
+        );
+
+        assertThat(ranks.get(0).get()).isEqualTo(0L);
+        assertThat(ranks.get(1).get()).isEqualTo(1L);
+        assertThat(ranks.get(2).get()).isEqualTo(2L);
+        assertThat(count("sent")).isEqualTo(3);
+        assertThat(count("deduplicated")).isZero();
+    }
+
+    @Test
+    @DisplayName("명령 종류별 결과가 RedisTemplate 개별 조회와 동일, 없는 키/멤버는 null")
+    void matchesDirectReads() {
+        assertThat(coalescer.zRank(QUEUE_KEY, "20")).isEqualTo(redisTemplate.opsForZSet().rank(QUEUE_KEY, "20"));
+        assertThat(coalescer.zCard(QUEUE_KEY)).isEqualTo(redisTemplate.opsForZSet().size(QUEUE_KEY));
+        assertThat(coalescer.zScore(QUEUE_KEY, "30")).isEqualTo(redisTemplate.opsForZSet().score(QUEUE_KEY, "30"));
+        assertThat(coalescer.hGet(META_KEY, "name")).isEqualTo(redisTemplate.opsForHash().get(META_KEY, "name"));
+        assertThat(coalescer.get(STRING_KEY)).isEqualTo("value");
+
+        assertThat(coalescer.zRank(QUEUE_KEY, "99")).isNull();
+        assertThat(coalescer.zScore(QUEUE_KEY, "99")).isNull();
+        assertThat(coalescer.hGet(META_KEY, "missing")).isNull();
+        assertThat(coalescer.get("coalescer:missing")).isNull();
+        assertThat(coalescer.zCard("queue:booth:missing")).isZero();
+    }
+
+    @Test
+    @DisplayName("max-batch 도달 시 window(10초)를 기다리지 않고 즉시 전송")
+    void flushesWhenBatchIsFull() throws Exception {
+        RedisReadCoalescer smallBatch = new RedisReadCoalescer(
+                redisTemplate, meterRegistry, 10_000_000, 3, 2_000, 2);
+        try {
+            List<Future<Long>> ranks = List.of(
+                    executor.submit(() -> smallBatch.zRank(QUEUE_KEY, "10")),
+                    executor.submit(() -> smallBatch.zRank(QUEUE_KEY, "20")),
+                    executor.submit(() -> smallBatch.zRank(QUEUE_KEY, "30"))
+            );
+
+            // timeout-ms(2초) 안에 응답 = window 만료가 아닌 max-batch로 전송됨
+            for (Future<Long> rank : ranks) {
+                assertThat(rank.get()).isNotNull();
+            }
+            assertThat(meterRegistry.get("festin.redis.coalescer.batch.size").summary().max()).isEqualTo(3);
+        } finally {
+            smallBatch.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("활성화 시 대기열 어댑터의 순번/대기 인원 조회도 묶음 처리를 거쳐 같은 결과")
+    void queueAdapterReadsThroughCoalescer() {
+        assertThat(registeredCoalescer).isNotNull();
+
+        assertThat(queueCachePort.getPosition(1L, 20L)).contains(2);
+        assertThat(queueCachePort.getPosition(1L, 99L)).isEmpty();
+        assertThat(queueCachePort.getQueueSize(1L)).isEqualTo(3);
+    }
+
+    /**
+     * 가상 스레드 CONCURRENT_READERS개가 동시에 출발해 같은 조회 실행
+     */
+    private <T> List<T> concurrently(Supplier<T> read) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_READERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return read.get();
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("festin.redis.coalescer.commands").tag("result", result).counter().count();
+    }
+}
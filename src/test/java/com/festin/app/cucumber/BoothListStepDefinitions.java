@@ -1,5 +1,6 @@
 package com.festin.app.cucumber;
 
+import com.festin.app.booth.adapter.in.initializer.BoothCacheInitializer;
 import com.festin.app.booth.adapter.in.web.dto.BoothListResponse;
 import com.festin.app.fixture.UserFixture;
 import io.cucumber.java.en.And;
@@ -8,6 +9,8 @@ import io.cucumber.java.en.When;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.LocalDateTime;
@@ -34,6 +37,13 @@ public class BoothListStepDefinitions {
     @Autowired
     private TestContext testContext;
 
+    @Autowired
+    private BoothCacheInitializer boothCacheInitializer;
+
+    private String lastEtag;
+    private int conditionalStatus;
+    private String conditionalEtag;
+
     @And("{string}에 {int}명의 대기자가 있다")
     public void waitingUsersExistInBooth(String boothName, int waitingCount) {
         Long boothId = testContext.getBoothMap().get(boothName);
@@ -49,21 +59,73 @@ public class BoothListStepDefinitions {
         }
     }
 
+    @And("서버 재시작으로 부스 캐시가 다시 적재되었다")
+    public void boothCacheReloadedOnStartup() {
+        // Fixture가 넣은 Redis 데이터를 비우고 서버 시작 시 적재 경로로 다시 채움
+        redisTemplate.getConnectionFactory()
+                .getConnection()
+                .serverCommands()
+                .flushDb();
+        boothCacheInitializer.run(null);
+    }
+
+    @And("{string}의 대학별 부스 목록 캐시가 비어 있다")
+    public void universityIndexIsEmpty(String universityName) {
+        Long universityId = testContext.getUniversityMap().get(universityName);
+        redisTemplate.delete("booth:university:" + universityId);
+    }
+
     @When("전체 부스 목록을 조회한다")
     public void getBoothList() {
         WebTestClient webTestClient = WebTestClient.bindToServer()
                 .baseUrl("http://localhost:" + port)
                 .build();
 
-        BoothListResponse response = webTestClient.get()
+        EntityExchangeResult<BoothListResponse> result = webTestClient.get()
                 .uri("/api/v1/booths")
                 .exchange()
                 .expectStatus().isOk()
                 .expectBody(BoothListResponse.class)
-                .returnResult()
-                .getResponseBody();
+                .returnResult();
 
-        testContext.setBoothListResponse(response);
+        lastEtag = result.getResponseHeaders().getETag();
+        testContext.setBoothListResponse(result.getResponseBody());
+    }
+
+    @When("직전 ETag로 전체 부스 목록을 다시 조회한다")
+    public void getBoothListWithIfNoneMatch() {
+        WebTestClient webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port)
+                .build();
+
+        EntityExchangeResult<BoothListResponse> result = webTestClient.get()
+                .uri("/api/v1/booths")
+                .header(HttpHeaders.IF_NONE_MATCH, lastEtag)
+                .exchange()
+                .expectBody(BoothListResponse.class)
+                .returnResult();
+
+        conditionalStatus = result.getStatus().value();
+        conditionalEtag = result.getResponseHeaders().getETag();
+        if (result.getResponseBody() != null) {
+            testContext.setBoothListResponse(result.getResponseBody());
+        }
+    }
+
+    @Then("부스 목록 응답에 ETag가 포함된다")
+    public void responseContainsEtag() {
+        // strong ETag (W/ 접두사 없음)
+        assertThat(lastEtag).isNotBlank().startsWith("\"");
+    }
+
+    @Then("부스 목록 응답 상태 코드는 {int}이다")
+    public void conditionalResponseStatusIs(int expectedStatus) {
+        assertThat(conditionalStatus).isEqualTo(expectedStatus);
+    }
+
+    @And("부스 목록 응답의 ETag가 바뀌었다")
+    public void etagChanged() {
+        assertThat(conditionalEtag).isNotBlank().isNotEqualTo(lastEtag);
     }
 
     @When("{string}의 부스 목록을 조회한다")
@@ -119,4 +181,14 @@ public class BoothListStepDefinitions {
 
         assertThat(booth.estimatedWaitTime()).isEqualTo(expectedTime);
     }
-}
\ No newline at end of file
+
+    @And("{string}의 운영 상태는 {string}이다")
+    public void boothHasStatus(String boothName, String expectedStatus) {
+        BoothListResponse.BoothItem booth = testContext.getBoothListResponse().booths().stream()
+                .filter(b -> b.boothName().equals(boothName))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(booth.status()).isEqualTo(expectedStatus);
+    }
+}
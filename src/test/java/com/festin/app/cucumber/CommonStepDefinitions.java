@@ -1,5 +1,6 @@
 package com.festin.app.cucumber;
 
+import com.festin.app.booth.domain.model.BoothStatus;
 import com.festin.app.fixture.BoothFixture;
 import com.festin.app.fixture.UserFixture;
 import com.festin.app.university.adapter.out.persistence.entity.UniversityEntity;
@@ -61,4 +62,14 @@ public class CommonStepDefinitions {
         Long boothId = boothFixture.createOpenBooth(university, boothName, capacity);
         testContext.getBoothMap().put(boothName, boothId);
     }
+
+    @Given("{string}에 정원 {int}명인 운영 종료 {string} 부스가 존재한다")
+    public void closedBoothWithCapacityExists(String universityName, int capacity, String boothName) {
+        UniversityEntity university = universityRepository.findById(
+                testContext.getUniversityMap().get(universityName)
+        ).orElseThrow();
+
+        Long boothId = boothFixture.createBooth(university, boothName, capacity, BoothStatus.CLOSED);
+        testContext.getBoothMap().put(boothName, boothId);
+    }
 }
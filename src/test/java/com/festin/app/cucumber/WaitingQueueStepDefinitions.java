@@ -16,6 +16,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +60,7 @@ public class WaitingQueueStepDefinitions {
     private Long testUniversityId;
     private Long testBoothId;
     private Long testUserId;
+    private List<Long> batchUserIds = new ArrayList<>();
     private WebTestClient.ResponseSpec lastResponse;
     private Map<String, Object> lastResponseBody;
     private Long lastWaitingId;
@@ -245,6 +248,84 @@ public class WaitingQueueStepDefinitions {
         }
     }
 
+    @Given("부스에 대기 중인 사용자 {int}명이 존재한다")
+    public void boothHasWaitingUsers(int count) {
+        String queueKey = "queue:booth:" + testBoothId;
+        long baseScore = Instant.now().getEpochSecond();
+
+        // 등록 순서대로 score 증가 (먼저 등록한 사용자가 먼저 호출됨)
+        batchUserIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Long userId = userFixture.createVisitor("batch-visitor-" + i);
+            redisTemplate.opsForZSet().add(queueKey, userId.toString(), baseScore + i);
+            redisTemplate.opsForSet().add("user:" + userId + ":active_booths", testBoothId.toString());
+            batchUserIds.add(userId);
+        }
+    }
+
+    @When("스태프가 다음 {int}명을 일괄 호출한다")
+    public void staffCallsNextUsersInBatch(int count) {
+        WebTestClient client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port)
+                .build();
+
+        Map<String, Object> requestBody = Map.of(
+                "boothId", testBoothId,
+                "count", count
+        );
+
+        String staffToken = jwtTokenFixture.generateDefaultStaffToken(99999L);
+
+        lastResponse = client.post()
+                .uri("/api/v1/waitings/call")
+                .header("Authorization", "Bearer " + staffToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange();
+
+        lastResponseBody = lastResponse
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Then("일괄 호출 결과에 {int}명이 등록 순서대로 포함된다")
+    @SuppressWarnings("unchecked")
+    public void batchResponseContainsUsersInOrder(int count) {
+        assertThat(lastResponseBody).containsKeys("calledCount", "calls");
+        assertThat(lastResponseBody.get("calledCount")).isEqualTo(count);
+
+        List<Map<String, Object>> calls = (List<Map<String, Object>>) lastResponseBody.get("calls");
+        assertThat(calls).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(((Number) calls.get(i).get("userId")).longValue()).isEqualTo(batchUserIds.get(i));
+            assertThat(calls.get(i).get("position")).isEqualTo(i + 1);
+            assertThat(calls.get(i).get("waitingId")).isNotNull();
+        }
+    }
+
+    @Then("일괄 호출된 사용자는 모두 대기열에서 제거되었다")
+    public void batchCalledUsersAreRemovedFromQueue() {
+        String queueKey = "queue:booth:" + testBoothId;
+        for (Long userId : batchUserIds) {
+            assertThat(redisTemplate.opsForZSet().rank(queueKey, userId.toString())).isNull();
+            assertThat(redisTemplate.opsForSet()
+                    .isMember("user:" + userId + ":active_booths", testBoothId.toString())).isFalse();
+        }
+    }
+
+    @Then("일괄 호출된 사용자는 모두 대기 기록으로 저장된다")
+    public void batchWaitingsArePersisted() {
+        assertThat(waitingJpaRepository.count()).isEqualTo(batchUserIds.size());
+    }
+
+    @Then("대기열에 {int}명이 그대로 남아 있다")
+    public void queueIsUnchanged(int count) {
+        String queueKey = "queue:booth:" + testBoothId;
+        assertThat(redisTemplate.opsForZSet().size(queueKey)).isEqualTo(count);
+        assertThat(waitingJpaRepository.count()).isZero();
+    }
+
     @Then("호출이 성공한다")
     public void callIsSuccessful() {
         assertThat(lastResponseBody).isNotNull();
@@ -52,6 +52,7 @@ public class BoothFixture {
         redisTemplate.opsForHash().put(metaKey, "name", name);
         redisTemplate.opsForHash().put(metaKey, "capacity", String.valueOf(capacity));
         redisTemplate.opsForHash().put(metaKey, "description", description);
+        redisTemplate.opsForHash().put(metaKey, "universityId", university.getId().toString());
         redisTemplate.opsForHash().put(metaKey, "universityName", university.getName());
 
         // currentPeople 초기화
@@ -60,6 +61,7 @@ public class BoothFixture {
 
         // 부스 ID 목록에 추가
         redisTemplate.opsForSet().add("booth:ids", boothId.toString());
+        redisTemplate.opsForSet().add("booth:university:" + university.getId(), boothId.toString());
 
         return boothId;
     }
@@ -90,6 +92,7 @@ public class BoothFixture {
         redisTemplate.opsForHash().put(metaKey, "name", name);
         redisTemplate.opsForHash().put(metaKey, "capacity", String.valueOf(capacity));
         redisTemplate.opsForHash().put(metaKey, "description", description);
+        redisTemplate.opsForHash().put(metaKey, "universityId", university.getId().toString());
         redisTemplate.opsForHash().put(metaKey, "universityName", university.getName());
 
         // currentPeople 초기화
@@ -98,6 +101,7 @@ public class BoothFixture {
 
         // 부스 ID 목록에 추가
         redisTemplate.opsForSet().add("booth:ids", boothId.toString());
+        redisTemplate.opsForSet().add("booth:university:" + university.getId(), boothId.toString());
 
         return boothId;
     }
@@ -0,0 +1,61 @@
+package com.festin.app.user.adapter.out.cache;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FCM 토큰 일괄 조회 테스트 (MGET 1회)
+ *
+ * - 토큰이 있는 사용자만 결과에 포함 (없는 사용자, 삭제된 토큰은 제외)
+ * - 중복 userId, 빈 목록 처리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class RedisFcmTokenAdapterTest {
+
+    @Autowired
+    private RedisFcmTokenAdapter fcmTokenAdapter;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("토큰이 있는 사용자만 userId → 토큰으로 반환, 없는 사용자와 삭제된 토큰은 제외")
+    void returnsOnlyExistingTokens() {
+        fcmTokenAdapter.saveFcmToken(1L, "token-1");
+        fcmTokenAdapter.saveFcmToken(2L, "token-2");
+        fcmTokenAdapter.saveFcmToken(3L, "token-3");
+        fcmTokenAdapter.deleteFcmToken(3L);
+
+        Map<Long, String> tokens = fcmTokenAdapter.getFcmTokens(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(tokens).containsOnly(Map.entry(1L, "token-1"), Map.entry(2L, "token-2"));
+    }
+
+    @Test
+    @DisplayName("중복 userId는 한 번만 포함, 빈 목록은 빈 결과")
+    void handlesDuplicatesAndEmptyInput() {
+        fcmTokenAdapter.saveFcmToken(1L, "token-1");
+
+        assertThat(fcmTokenAdapter.getFcmTokens(List.of(1L, 1L))).containsOnly(Map.entry(1L, "token-1"));
+        assertThat(fcmTokenAdapter.getFcmTokens(List.of())).isEmpty();
+    }
+}
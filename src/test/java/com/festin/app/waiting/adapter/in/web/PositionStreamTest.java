@@ -0,0 +1,194 @@
+package com.festin.app.waiting.adapter.in.web;
+
+import com.festin.app.config.TestRabbitMQConfig;
+import com.festin.app.config.TestSecurityConfig;
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.fixture.BoothFixture;
+import com.festin.app.fixture.JwtTokenFixture;
+import com.festin.app.fixture.UserFixture;
+import com.festin.app.university.adapter.out.persistence.entity.UniversityEntity;
+import com.festin.app.university.adapter.out.persistence.repository.UniversityJpaRepository;
+import com.festin.app.waiting.application.port.in.CallNextUseCase;
+import com.festin.app.waiting.application.port.in.CancelWaitingUseCase;
+import com.festin.app.waiting.application.port.in.EnqueueUseCase;
+import com.festin.app.waiting.application.port.in.command.EnqueueCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순번 스트림(SSE) 테스트
+ *
+ * 실제 HTTP 연결로 SSE를 구독하고 대기열 이벤트(Pub/Sub)로 순번이 전달되는지 검증
+ * - 연결 직후 스냅샷 순번 전송
+ * - 앞사람 취소 → 폴링 없이 순번 갱신 이벤트 수신
+ * - 호출 → left 이벤트 후 스트림 종료
+ * - 재연결 시 Last-Event-ID가 같으면 첫 순번 생략
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestRabbitMQConfig.class, TestSecurityConfig.class})
+class PositionStreamTest {
+
+    private static final Duration EVENT_TIMEOUT = Duration.ofSeconds(5);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EnqueueUseCase enqueueUseCase;
+
+    @Autowired
+    private CancelWaitingUseCase cancelWaitingUseCase;
+
+    @Autowired
+    private CallNextUseCase callNextUseCase;
+
+    @Autowired
+    private UniversityJpaRepository universityRepository;
+
+    @Autowired
+    private UserFixture userFixture;
+
+    @Autowired
+    private BoothFixture boothFixture;
+
+    @Autowired
+    private JwtTokenFixture jwtTokenFixture;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final List<Disposable> subscriptions = new ArrayList<>();
+
+    private Long testBoothId;
+    private Long firstUserId;
+    private Long secondUserId;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        UniversityEntity university = universityRepository.save(
+                new UniversityEntity("테스트대학교", "STREAM-UNIV-" + System.nanoTime()));
+        testBoothId = boothFixture.createOpenBooth(university, "스트림 부스", 10);
+        firstUserId = userFixture.createVisitorWithFcm("스트림유저1", "fcm-token-stream-1");
+        secondUserId = userFixture.createVisitorWithFcm("스트림유저2", "fcm-token-stream-2");
+
+        enqueueUseCase.enqueue(new EnqueueCommand(firstUserId, testBoothId));
+        enqueueUseCase.enqueue(new EnqueueCommand(secondUserId, testBoothId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.forEach(Disposable::dispose);
+    }
+
+    @Test
+    @DisplayName("연결 직후 현재 순번, 앞사람 취소 시 갱신된 순번, 호출 시 left 이벤트 후 종료")
+    void streamsPositionChangesUntilCalled() throws InterruptedException {
+        Stream stream = open(secondUserId, null);
+
+        ServerSentEvent<Map<String, Object>> initial = stream.next();
+        assertThat(initial.event()).isEqualTo("position");
+        assertThat(initial.data()).containsEntry("position", 2).containsEntry("totalWaiting", 2);
+
+        cancelWaitingUseCase.cancel(firstUserId, testBoothId);
+
+        ServerSentEvent<Map<String, Object>> advanced = stream.next();
+        assertThat(advanced.event()).isEqualTo("position");
+        assertThat(advanced.data()).containsEntry("position", 1).containsEntry("totalWaiting", 1);
+        assertThat(Long.parseLong(advanced.id())).isGreaterThan(Long.parseLong(initial.id()));
+
+        callNextUseCase.callNext(testBoothId);
+
+        ServerSentEvent<Map<String, Object>> left = stream.next();
+        assertThat(left.event()).isEqualTo("left");
+        assertThat(left.data().get("position")).isNull();
+        assertThat(stream.completed.await(EVENT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID가 현재 이벤트와 같으면 첫 순번은 생략하고 다음 변경부터 전송")
+    void skipsUnchangedPositionOnReconnect() throws InterruptedException {
+        Stream first = open(secondUserId, null);
+        ServerSentEvent<Map<String, Object>> initial = first.next();
+        first.subscription.dispose();
+
+        Stream reconnected = open(secondUserId, initial.id());
+        assertThat(reconnected.events.poll(500, TimeUnit.MILLISECONDS)).isNull();
+
+        cancelWaitingUseCase.cancel(firstUserId, testBoothId);
+
+        ServerSentEvent<Map<String, Object>> advanced = reconnected.next();
+        assertThat(advanced.event()).isEqualTo("position");
+        assertThat(advanced.data()).containsEntry("position", 1);
+    }
+
+    /**
+     * SSE 구독 (주석 하트비트는 제외하고 이벤트만 수집)
+     */
+    private Stream open(Long userId, String lastEventId) {
+        WebTestClient client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(Duration.ofSeconds(30))
+                .build();
+
+        Stream stream = new Stream();
+        stream.subscription = client.get()
+                .uri("/api/v1/waitings/booth/{boothId}/stream", testBoothId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Authorization", "Bearer " + jwtTokenFixture.generateDefaultVisitorToken(userId))
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", lastEventId);
+                    }
+                })
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {
+                })
+                .getResponseBody()
+                .filter(event -> event.event() != null)
+                .doOnComplete(stream.completed::countDown)
+                .subscribe(stream.events::add);
+        subscriptions.add(stream.subscription);
+        return stream;
+    }
+
+    private static class Stream {
+
+        private final BlockingQueue<ServerSentEvent<Map<String, Object>>> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private Disposable subscription;
+
+        private ServerSentEvent<Map<String, Object>> next() throws InterruptedException {
+            ServerSentEvent<Map<String, Object>> event = events.poll(EVENT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            assertThat(event).as("%s 안에 SSE 이벤트 수신", EVENT_TIMEOUT).isNotNull();
+            return event;
+        }
+    }
+}
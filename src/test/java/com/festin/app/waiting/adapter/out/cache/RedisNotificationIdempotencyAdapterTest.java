@@ -0,0 +1,81 @@
+package com.festin.app.waiting.adapter.out.cache;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 중복 방지 일괄 처리 테스트 (Pipeline SET NX / SET / DEL)
+ *
+ * - tryProcessAll: 처음 보는 eventId만 선점, 이미 처리 중/완료인 eventId는 제외
+ * - markProcessedAll: PROCESSING → COMPLETED, TTL 유지
+ * - releaseAll: 해제한 eventId는 다시 선점 가능
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class RedisNotificationIdempotencyAdapterTest {
+
+    private static final String KEY_PREFIX = "notification:processed:";
+
+    @Autowired
+    private RedisNotificationIdempotencyAdapter idempotencyAdapter;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("tryProcessAll: 단건 tryProcess로 선점한 eventId는 제외하고 나머지만 선점")
+    void acquiresOnlyNewEventIds() {
+        assertThat(idempotencyAdapter.tryProcess("call:1")).isTrue();
+
+        assertThat(idempotencyAdapter.tryProcessAll(List.of("call:1", "call:2", "call:3")))
+                .containsExactlyInAnyOrder("call:2", "call:3");
+        assertThat(idempotencyAdapter.tryProcessAll(List.of("call:2", "call:3"))).isEmpty();
+
+        assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + "call:2")).isEqualTo("PROCESSING");
+        assertThat(redisTemplate.getExpire(KEY_PREFIX + "call:2")).isPositive();
+    }
+
+    @Test
+    @DisplayName("markProcessedAll: COMPLETED 기록 + TTL 유지, 완료된 eventId는 다시 선점되지 않음")
+    void marksProcessedWithTtl() {
+        idempotencyAdapter.tryProcessAll(List.of("call:1", "call:2"));
+
+        idempotencyAdapter.markProcessedAll(List.of("call:1", "call:2"));
+
+        assertThat(redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + "call:1", KEY_PREFIX + "call:2")))
+                .containsExactly("COMPLETED", "COMPLETED");
+        assertThat(redisTemplate.getExpire(KEY_PREFIX + "call:1")).isPositive();
+        assertThat(idempotencyAdapter.tryProcessAll(List.of("call:1", "call:2"))).isEmpty();
+        assertThat(idempotencyAdapter.tryProcess("call:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("releaseAll: 해제한 eventId만 다시 선점 가능, 빈 목록은 Redis 호출 없음")
+    void releasesForRedelivery() {
+        idempotencyAdapter.tryProcessAll(List.of("call:1", "call:2", "call:3"));
+
+        idempotencyAdapter.releaseAll(List.of("call:1", "call:2"));
+        idempotencyAdapter.releaseAll(List.of());
+
+        assertThat(idempotencyAdapter.tryProcessAll(List.of("call:1", "call:2", "call:3")))
+                .containsExactlyInAnyOrder("call:1", "call:2");
+        assertThat(idempotencyAdapter.tryProcessAll(List.of())).isEmpty();
+    }
+}
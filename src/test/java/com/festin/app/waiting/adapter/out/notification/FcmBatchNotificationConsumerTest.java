@@ -0,0 +1,202 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.common.firebase.FirebaseClient;
+import com.festin.app.common.firebase.FirebaseSendResult;
+import com.festin.app.user.application.port.out.FcmTokenCachePort;
+import com.festin.app.waiting.application.port.out.NotificationIdempotencyPort;
+import com.festin.app.waiting.application.port.out.NotificationPort.CallNotification;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FCM 일괄 Consumer ack/재시도 판정 테스트
+ *
+ * delivery tag별로 ack / 재시도 큐 / Parking Lot 중 어디로 가는지 검증 (Channel, FirebaseClient, Redis 포트 mock)
+ * - 배치 내 같은 eventId → 첫 건만 처리, 나머지 즉시 ack
+ * - 이미 처리된 이벤트, 토큰 없는 사용자, 건별 FCM 오류 → ack (재시도 안 함)
+ * - 발송 전 Redis 장애 → 처리 시작 표시 해제 후 전부 재시도 큐
+ * - 발송 후 Redis 장애 → 발송한 건은 ack, 재시도 안 함
+ */
+class FcmBatchNotificationConsumerTest {
+
+    private FcmTokenCachePort fcmTokenCachePort;
+    private FirebaseClient firebaseClient;
+    private NotificationIdempotencyPort idempotencyPort;
+    private MessageConverter messageConverter;
+    private NotificationRetryHandler retryHandler;
+    private Channel channel;
+    private FcmBatchNotificationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        fcmTokenCachePort = mock(FcmTokenCachePort.class);
+        firebaseClient = mock(FirebaseClient.class);
+        idempotencyPort = mock(NotificationIdempotencyPort.class);
+        messageConverter = mock(MessageConverter.class);
+        retryHandler = mock(NotificationRetryHandler.class);
+        channel = mock(Channel.class);
+
+        consumer = new FcmBatchNotificationConsumer(fcmTokenCachePort, firebaseClient, idempotencyPort,
+                messageConverter, retryHandler, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("배치 내 중복, 이미 처리됨, 토큰 없음, 건별 FCM 오류, 성공, 변환 불가가 섞인 배치의 delivery tag별 처리")
+    void acksEachDeliveryByOutcome() throws Exception {
+        Message first = message(1, "call:1", 1L);
+        Message duplicate = message(2, "call:1", 1L);
+        Message noToken = message(3, "call:2", 2L);
+        Message invalidToken = message(4, "call:3", 3L);
+        Message alreadyProcessed = message(5, "call:4", 4L);
+        Message success = message(6, "call:5", 5L);
+        Message unconvertible = unconvertible(7);
+        FirebaseMessagingException invalidArgument = fcmError(ErrorCode.INVALID_ARGUMENT);
+
+        when(idempotencyPort.tryProcessAll(List.of("call:1", "call:2", "call:3", "call:4", "call:5")))
+                .thenReturn(Set.of("call:1", "call:2", "call:3", "call:5"));
+        when(fcmTokenCachePort.getFcmTokens(anyCollection()))
+                .thenReturn(Map.of(1L, "token-1", 3L, "token-3", 5L, "token-5"));
+        when(firebaseClient.sendEach(anyList())).thenReturn(List.of(
+                FirebaseSendResult.success("message-1"),
+                FirebaseSendResult.failure(invalidArgument),
+                FirebaseSendResult.success("message-5")));
+
+        consumer.handleBatch(
+                List.of(first, duplicate, noToken, invalidToken, alreadyProcessed, success, unconvertible), channel);
+
+        verify(retryHandler).park(channel, unconvertible);
+        for (long tag = 1; tag <= 6; tag++) {
+            verify(channel).basicAck(tag, false);
+        }
+        verify(fcmTokenCachePort).deleteFcmToken(3L);
+        // 토큰 없음은 발송 단계 완료로 기록, FCM 오류 건은 완료 기록 없음
+        verify(idempotencyPort).markProcessedAll(List.of("call:2", "call:1", "call:5"));
+        verify(retryHandler, never()).retryOrPark(any(), any());
+        verify(idempotencyPort, never()).releaseAll(anyList());
+    }
+
+    @Test
+    @DisplayName("sendEach 요청 자체가 FCM 오류 → 완료 기록 없이 ack, 재시도 안 함")
+    void acksWhenSendEachFails() throws Exception {
+        Message message = message(1, "call:1", 1L);
+        FirebaseMessagingException unavailable = fcmError(ErrorCode.UNAVAILABLE);
+        when(idempotencyPort.tryProcessAll(List.of("call:1"))).thenReturn(Set.of("call:1"));
+        when(fcmTokenCachePort.getFcmTokens(anyCollection())).thenReturn(Map.of(1L, "token-1"));
+        when(firebaseClient.sendEach(anyList())).thenThrow(unavailable);
+
+        consumer.handleBatch(List.of(message), channel);
+
+        verify(channel).basicAck(1L, false);
+        verify(idempotencyPort).markProcessedAll(List.of());
+        verify(retryHandler, never()).retryOrPark(any(), any());
+    }
+
+    @Test
+    @DisplayName("발송 전 Redis 장애 (토큰 조회) → 선점한 eventId 해제 후 미발송 건 전부 재시도 큐, 이미 처리된 건은 ack")
+    void retriesUnsentWhenRedisFailsBeforeSend() throws Exception {
+        Message first = message(1, "call:1", 1L);
+        Message second = message(2, "call:2", 2L);
+        Message processed = message(3, "call:3", 3L);
+        when(idempotencyPort.tryProcessAll(anyList())).thenReturn(Set.of("call:1", "call:2"));
+        when(fcmTokenCachePort.getFcmTokens(anyCollection()))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+
+        consumer.handleBatch(List.of(first, second, processed), channel);
+
+        verify(channel).basicAck(3L, false);
+        verify(idempotencyPort).releaseAll(List.of("call:1", "call:2"));
+        verify(retryHandler).retryOrPark(channel, first);
+        verify(retryHandler).retryOrPark(channel, second);
+        verify(firebaseClient, never()).sendEach(anyList());
+    }
+
+    @Test
+    @DisplayName("중복 체크 자체가 Redis 장애 + 해제도 실패 → 예외를 삼키고 전부 재시도 큐")
+    void retriesAllWhenTryProcessAllFails() throws Exception {
+        Message first = message(1, "call:1", 1L);
+        Message second = message(2, "call:2", 2L);
+        when(idempotencyPort.tryProcessAll(anyList())).thenThrow(new RedisConnectionFailureException("redis down"));
+        doThrow(new RedisConnectionFailureException("redis down")).when(idempotencyPort).releaseAll(anyList());
+
+        consumer.handleBatch(List.of(first, second), channel);
+
+        verify(retryHandler).retryOrPark(channel, first);
+        verify(retryHandler).retryOrPark(channel, second);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("발송 후 완료 기록 실패 → 발송한 건은 처리 시작 표시 유지 + ack, 재시도 안 함 (중복 발송 방지)")
+    void acksSentWhenMarkProcessedFails() throws Exception {
+        Message first = message(1, "call:1", 1L);
+        Message second = message(2, "call:2", 2L);
+        when(idempotencyPort.tryProcessAll(anyList())).thenReturn(Set.of("call:1", "call:2"));
+        when(fcmTokenCachePort.getFcmTokens(anyCollection())).thenReturn(Map.of(1L, "token-1", 2L, "token-2"));
+        when(firebaseClient.sendEach(anyList())).thenReturn(List.of(
+                FirebaseSendResult.success("message-1"),
+                FirebaseSendResult.success("message-2")));
+        doThrow(new RedisConnectionFailureException("redis down")).when(idempotencyPort).markProcessedAll(anyList());
+
+        consumer.handleBatch(List.of(first, second), channel);
+
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+        verify(retryHandler, never()).retryOrPark(any(), any());
+        verify(idempotencyPort).releaseAll(List.of());
+    }
+
+    private Message message(long deliveryTag, String eventId, Long userId) {
+        Message message = amqpMessage(deliveryTag);
+        when(messageConverter.fromMessage(message))
+                .thenReturn(new CallNotification(eventId, userId, 10L, "테스트 부스", 1));
+        return message;
+    }
+
+    private Message unconvertible(long deliveryTag) {
+        Message message = amqpMessage(deliveryTag);
+        when(messageConverter.fromMessage(message)).thenThrow(new MessageConversionException("invalid payload"));
+        return message;
+    }
+
+    private static Message amqpMessage(long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        // 같은 내용의 메시지라도 mock 스텁이 구분되도록 delivery tag를 본문에 포함
+        return new Message(String.valueOf(deliveryTag).getBytes(), properties);
+    }
+
+    private static FirebaseMessagingException fcmError(ErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getErrorCode()).thenReturn(errorCode);
+        when(exception.getMessage()).thenReturn(errorCode.name());
+        // 로그에 예외를 남길 때 필요한 값 (SDK 예외는 생성자가 공개되어 있지 않아 mock 사용)
+        when(exception.getStackTrace()).thenReturn(new StackTraceElement[0]);
+        when(exception.getSuppressed()).thenReturn(new Throwable[0]);
+        return exception;
+    }
+}
@@ -0,0 +1,130 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.common.firebase.FirebaseClient;
+import com.festin.app.user.application.port.out.FcmTokenCachePort;
+import com.festin.app.waiting.application.port.out.NotificationIdempotencyPort;
+import com.festin.app.waiting.application.port.out.NotificationPort.CallNotification;
+import com.google.firebase.messaging.Message;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FCM 단건 Consumer 오류 처리 테스트
+ *
+ * - 중복 체크(Redis) 실패 → 리스너 밖으로 예외를 던지지 않고 재시도 큐로 이동
+ * - 처리 시작 표시 해제 실패 → 그래도 재시도 큐로 이동
+ * - 발송 후 완료 기록 실패 → 재시도 없이 ack (중복 발송 방지)
+ */
+class FcmNotificationConsumerTest {
+
+    private static final long DELIVERY_TAG = 7L;
+    private static final String EVENT_ID = "call:1";
+
+    private final CallNotification command = new CallNotification(EVENT_ID, 1L, 10L, "테스트 부스", 3);
+
+    private FcmTokenCachePort fcmTokenCachePort;
+    private FirebaseClient firebaseClient;
+    private NotificationIdempotencyPort idempotencyPort;
+    private NotificationRetryHandler retryHandler;
+    private Channel channel;
+    private org.springframework.amqp.core.Message amqpMessage;
+    private FcmNotificationConsumer consumer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fcmTokenCachePort = mock(FcmTokenCachePort.class);
+        firebaseClient = mock(FirebaseClient.class);
+        idempotencyPort = mock(NotificationIdempotencyPort.class);
+        retryHandler = mock(NotificationRetryHandler.class);
+        channel = mock(Channel.class);
+
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(DELIVERY_TAG);
+        amqpMessage = new org.springframework.amqp.core.Message(new byte[0], properties);
+
+        when(fcmTokenCachePort.getFcmToken(1L)).thenReturn(Optional.of("fcm-token"));
+        when(firebaseClient.send(any(Message.class))).thenReturn("message-id");
+        when(idempotencyPort.tryProcess(EVENT_ID)).thenReturn(true);
+
+        consumer = new FcmNotificationConsumer(fcmTokenCachePort, firebaseClient, idempotencyPort, retryHandler);
+    }
+
+    @Test
+    @DisplayName("정상 처리 → 발송, 완료 기록 후 ack")
+    void sendsAndAcks() throws Exception {
+        handle();
+
+        verify(firebaseClient).send(any(Message.class));
+        verify(idempotencyPort).markProcessed(EVENT_ID);
+        verify(channel).basicAck(DELIVERY_TAG, false);
+        verify(retryHandler, never()).retryOrPark(any(), any());
+    }
+
+    @Test
+    @DisplayName("중복 체크 중 Redis 장애 → 발송하지 않고 재시도 큐로 이동 (해제할 표시 없음)")
+    void retriesWhenTryProcessFails() throws Exception {
+        when(idempotencyPort.tryProcess(EVENT_ID)).thenThrow(new RedisConnectionFailureException("redis down"));
+
+        handle();
+
+        verify(firebaseClient, never()).send(any(Message.class));
+        verify(idempotencyPort, never()).release(any());
+        verify(retryHandler).retryOrPark(channel, amqpMessage);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("발송 전 오류 + 표시 해제도 실패 → 해제 실패를 삼키고 재시도 큐로 이동")
+    void retriesEvenWhenReleaseFails() throws Exception {
+        when(fcmTokenCachePort.getFcmToken(1L)).thenThrow(new RedisConnectionFailureException("redis down"));
+        doThrow(new RedisConnectionFailureException("redis down")).when(idempotencyPort).release(EVENT_ID);
+
+        handle();
+
+        verify(idempotencyPort).release(EVENT_ID);
+        verify(retryHandler).retryOrPark(channel, amqpMessage);
+    }
+
+    @Test
+    @DisplayName("발송 성공 후 완료 기록 실패 → 표시를 유지하고 ack, 재시도 안 함")
+    void acksWithoutRetryWhenMarkProcessedFails() throws Exception {
+        doThrow(new RedisConnectionFailureException("redis down")).when(idempotencyPort).markProcessed(EVENT_ID);
+
+        handle();
+
+        verify(firebaseClient).send(any(Message.class));
+        verify(idempotencyPort, never()).release(any());
+        verify(retryHandler, never()).retryOrPark(any(), any());
+        verify(channel).basicAck(DELIVERY_TAG, false);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 이벤트 → 발송 없이 ack")
+    void acksDuplicate() throws Exception {
+        when(idempotencyPort.tryProcess(EVENT_ID)).thenReturn(false);
+
+        handle();
+
+        verify(firebaseClient, never()).send(any(Message.class));
+        verify(channel).basicAck(DELIVERY_TAG, false);
+    }
+
+    private void handle() {
+        consumer.handleNotification(command, amqpMessage, channel, DELIVERY_TAG);
+    }
+}
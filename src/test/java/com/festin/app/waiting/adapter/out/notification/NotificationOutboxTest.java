@@ -0,0 +1,268 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.waiting.application.port.out.NotificationPort.CallNotification;
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 알림 Outbox 전달 보장 테스트
+ *
+ * Outbox 빈은 @Profile("!test")이므로 여기서 직접 생성 (발행기만 mock, MySQL은 실제)
+ * - 호출 트랜잭션이 롤백되면 Outbox 행도 없음
+ * - 릴레이 선점: 다른 트랜잭션이 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+ * - 발행 실패 → 선점 해제, 다음 주기에 재발행
+ * - 발행 완료 처리는 본인이 선점한 행만 (확인 대기 중 재선점된 행은 그대로)
+ * - 선점이 claim-timeout보다 오래되면 재선점, 최근 선점은 건너뜀
+ * - 보관 기간이 지난 발행 완료 행만 삭제
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class NotificationOutboxTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long CLAIM_TIMEOUT_MS = 30_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NotificationOutboxAdapter outboxAdapter;
+
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    private RabbitMqNotificationAdapter publisher;
+    private NotificationOutboxRelay relay;
+
+    @TestConfiguration
+    static class OutboxAdapterConfig {
+
+        /**
+         * 빈으로 등록해야 @Transactional(MANDATORY) 프록시가 적용됨 (버퍼 없음)
+         */
+        @Bean
+        NotificationOutboxAdapter notificationOutboxAdapter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+            return new NotificationOutboxAdapter(jdbcTemplate, objectMapper, Optional.empty());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+        published.clear();
+
+        publisher = mock(RabbitMqNotificationAdapter.class);
+        doAnswer(invocation -> {
+            List<? extends NotificationCommand> commands = invocation.getArgument(0);
+            commands.forEach(command -> published.add(command.eventId()));
+            return null;
+        }).when(publisher).publishAll(anyList());
+
+        // 버퍼 없음 → relay-delay 0 (기록 즉시 릴레이 대상)
+        relay = new NotificationOutboxRelay(jdbcTemplate, transactionTemplate, publisher, objectMapper,
+                new SimpleMeterRegistry(), Optional.empty(), BATCH_SIZE, 24, 2_000, CLAIM_TIMEOUT_MS);
+    }
+
+    @Test
+    @DisplayName("호출 트랜잭션이 커밋되면 Outbox 행 기록, 롤백되면 행 없음")
+    void writesOnlyWithCommittedTransaction() {
+        transactionTemplate.executeWithoutResult(status -> outboxAdapter.send(notification("call:commit")));
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxAdapter.sendAll(List.of(notification("call:rollback-1"), notification("call:rollback-2")));
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForList("SELECT event_id FROM notification_outbox", String.class))
+                .containsExactly("call:commit");
+    }
+
+    @Test
+    @DisplayName("릴레이: 미발행 건 발행 후 sent_at 기록, 다음 주기에는 다시 발행하지 않음")
+    void relaysPendingRowsOnce() {
+        insert("call:1", null, null, null);
+        insert("call:2", null, null, null);
+
+        relay.relay();
+        relay.relay();
+
+        assertThat(published).containsExactly("call:1", "call:2");
+        assertThat(row("call:1").get("sent_at")).isNotNull();
+        assertThat(row("call:2").get("sent_at")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜀 (FOR UPDATE SKIP LOCKED)")
+    void skipsRowsLockedByAnotherTransaction() throws InterruptedException {
+        insert("call:locked", null, null, null);
+        insert("call:free", null, null, null);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread locker = Thread.ofPlatform().start(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM notification_outbox WHERE event_id = ? FOR UPDATE",
+                    "call:locked");
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // 잠금 대기(innodb_lock_wait_timeout)에 걸리지 않고 바로 반환
+            assertTimeout(Duration.ofSeconds(3), () -> relay.relay());
+        } finally {
+            release.countDown();
+            locker.join();
+        }
+
+        assertThat(published).containsExactly("call:free");
+        assertThat(row("call:locked").get("sent_at")).isNull();
+        assertThat(row("call:locked").get("claimed_by")).isNull();
+
+        relay.relay();
+        assertThat(published).containsExactly("call:free", "call:locked");
+    }
+
+    @Test
+    @DisplayName("발행 실패 → 선점 해제 (claimed_by/claimed_at NULL), 다음 주기에 재발행")
+    void releasesClaimWhenPublishFails() {
+        insert("call:1", null, null, null);
+        doAnswer(invocation -> {
+            throw new AmqpTimeoutException("confirm timeout");
+        }).when(publisher).publishAll(anyList());
+
+        relay.relay();
+
+        Map<String, Object> failed = row("call:1");
+        assertThat(failed.get("sent_at")).isNull();
+        assertThat(failed.get("claimed_by")).isNull();
+        assertThat(failed.get("claimed_at")).isNull();
+
+        doAnswer(invocation -> {
+            List<? extends NotificationCommand> commands = invocation.getArgument(0);
+            commands.forEach(command -> published.add(command.eventId()));
+            return null;
+        }).when(publisher).publishAll(anyList());
+
+        relay.relay();
+
+        assertThat(published).containsExactly("call:1");
+        assertThat(row("call:1").get("sent_at")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("확인 대기 중 다른 경로가 재선점한 행은 발행 완료 처리하지 않음 (본인 선점 행만)")
+    void marksSentOnlyForClaimingToken() {
+        insert("call:kept", null, null, null);
+        insert("call:stolen", null, null, null);
+        doAnswer(invocation -> {
+            List<? extends NotificationCommand> commands = invocation.getArgument(0);
+            commands.forEach(command -> published.add(command.eventId()));
+            // 확인 대기가 claim-timeout을 넘겨 버퍼가 재선점한 상황
+            jdbcTemplate.update("UPDATE notification_outbox SET claimed_by = 'buffer' WHERE event_id = ?",
+                    "call:stolen");
+            return null;
+        }).when(publisher).publishAll(anyList());
+
+        relay.relay();
+
+        assertThat(published).containsExactly("call:kept", "call:stolen");
+        assertThat(row("call:kept").get("sent_at")).isNotNull();
+        Map<String, Object> stolen = row("call:stolen");
+        assertThat(stolen.get("sent_at")).isNull();
+        assertThat(stolen.get("claimed_by")).isEqualTo("buffer");
+    }
+
+    @Test
+    @DisplayName("claim-timeout이 지난 선점은 재선점해 발행, 최근 선점은 건너뜀")
+    void reclaimsExpiredClaims() {
+        LocalDateTime now = LocalDateTime.now();
+        insert("call:expired", null, "crashed", now.minusSeconds(60));
+        insert("call:in-flight", null, "buffer", now);
+
+        relay.relay();
+
+        assertThat(published).containsExactly("call:expired");
+        Map<String, Object> expired = row("call:expired");
+        assertThat(expired.get("sent_at")).isNotNull();
+        assertThat(expired.get("claimed_by")).isNotEqualTo("crashed");
+
+        Map<String, Object> inFlight = row("call:in-flight");
+        assertThat(inFlight.get("sent_at")).isNull();
+        assertThat(inFlight.get("claimed_by")).isEqualTo("buffer");
+    }
+
+    @Test
+    @DisplayName("보관 기간(24시간)이 지난 발행 완료 행만 삭제, 미발행/최근 발행 행은 유지")
+    void purgesOnlyExpiredSentRows() {
+        LocalDateTime now = LocalDateTime.now();
+        insert("call:old-sent", now.minusHours(25), null, null);
+        insert("call:recent-sent", now.minusHours(1), null, null);
+        insert("call:pending", null, null, null);
+
+        relay.purgeSent();
+
+        assertThat(jdbcTemplate.queryForList("SELECT event_id FROM notification_outbox ORDER BY id", String.class))
+                .containsExactly("call:recent-sent", "call:pending");
+    }
+
+    private CallNotification notification(String eventId) {
+        return new CallNotification(eventId, 1L, 10L, "테스트 부스", 1);
+    }
+
+    private void insert(String eventId, LocalDateTime sentAt, String claimedBy, LocalDateTime claimedAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO notification_outbox (event_id, payload, created_at, sent_at, claimed_by, claimed_at)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """,
+                eventId,
+                objectMapper.writeValueAsString(notification(eventId)),
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)),
+                sentAt != null ? Timestamp.valueOf(sentAt) : null,
+                claimedBy,
+                claimedAt != null ? Timestamp.valueOf(claimedAt) : null);
+    }
+
+    private Map<String, Object> row(String eventId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT sent_at, claimed_by, claimed_at FROM notification_outbox WHERE event_id = ?", eventId);
+    }
+}
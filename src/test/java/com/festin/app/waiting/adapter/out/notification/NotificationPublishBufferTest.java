@@ -0,0 +1,258 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.waiting.application.port.out.NotificationPort.CallNotification;
+import com.festin.app.waiting.application.port.out.NotificationPort.NotificationCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 알림 비동기 발행 버퍼 테스트
+ *
+ * 버퍼 빈은 @Profile("!test")이므로 직접 생성 (발행기만 mock, MySQL은 실제)
+ * - 릴레이가 이미 선점했거나 발행 완료한 event_id는 제외하고 선점한 알림만 발행
+ * - 버퍼가 가득 차면 넣지 못한 건수를 rejected로 집계하고 Outbox 릴레이에 맡김
+ * - 발행 실패 → 선점 해제 (릴레이가 재발행)
+ * - Outbox 어댑터는 커밋 이후에만 버퍼에 적재 (롤백된 호출은 버퍼에 들어가지 않음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class NotificationPublishBufferTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NotificationOutboxAdapter outboxAdapter;
+
+    @Autowired
+    private NotificationPublishBuffer mockBuffer;
+
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private RabbitMqNotificationAdapter publisher;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationPublishBuffer buffer;
+
+    @TestConfiguration
+    static class OutboxAdapterConfig {
+
+        /**
+         * 커밋 후 적재 여부만 확인하는 버퍼 mock
+         */
+        @Bean
+        NotificationPublishBuffer notificationPublishBuffer() {
+            return mock(NotificationPublishBuffer.class);
+        }
+
+        /**
+         * 빈으로 등록해야 트랜잭션 동기화(afterCommit)가 실제 트랜잭션과 연결됨
+         */
+        @Bean
+        NotificationOutboxAdapter notificationOutboxAdapter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                                            NotificationPublishBuffer notificationPublishBuffer) {
+            return new NotificationOutboxAdapter(jdbcTemplate, objectMapper, Optional.of(notificationPublishBuffer));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+        published.clear();
+        attempts.set(0);
+        clearInvocations(mockBuffer);
+
+        publisher = mock(RabbitMqNotificationAdapter.class);
+        recordPublished();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("릴레이가 선점 중인 건, 이미 발행된 건은 제외하고 버퍼가 선점한 건만 발행 + 발행 완료 처리")
+    void publishesOnlyClaimedSubset() {
+        LocalDateTime now = LocalDateTime.now();
+        insert("call:free", null, null, null);
+        insert("call:relay", null, "relay", now);
+        insert("call:sent", now, null, null);
+        startBuffer(16);
+
+        buffer.offerAll(List.of(notification("call:free"), notification("call:relay"), notification("call:sent")), now);
+
+        awaitUntil(() -> row("call:free").get("sent_at") != null);
+        assertThat(published).containsExactly("call:free");
+        assertThat(row("call:free").get("claimed_by")).isNotEqualTo("relay");
+
+        Map<String, Object> relayOwned = row("call:relay");
+        assertThat(relayOwned.get("sent_at")).isNull();
+        assertThat(relayOwned.get("claimed_by")).isEqualTo("relay");
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 넣지 못한 건수를 rejected로 집계, 해당 알림은 선점 없이 Outbox에 남음")
+    void rejectsWhenFull() throws InterruptedException {
+        List.of("call:1", "call:2", "call:3", "call:4").forEach(eventId -> insert(eventId, null, null, null));
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            publishing.countDown();
+            release.await(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            List<? extends NotificationCommand> commands = invocation.getArgument(0);
+            commands.forEach(command -> published.add(command.eventId()));
+            return null;
+        }).when(publisher).publishAll(anyList());
+        startBuffer(2);
+
+        // 발행 스레드가 첫 건을 꺼내 발행 중 → 버퍼(2칸)는 비어 있음
+        buffer.offerAll(List.of(notification("call:1")), LocalDateTime.now());
+        assertThat(publishing.await(WAIT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+
+        int rejected = buffer.offerAll(
+                List.of(notification("call:2"), notification("call:3"), notification("call:4")), LocalDateTime.now());
+
+        assertThat(rejected).isEqualTo(1);
+        assertThat(meterRegistry.get("festin.notification.buffer.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        awaitUntil(() -> row("call:3").get("sent_at") != null);
+        assertThat(published).containsExactly("call:1", "call:2", "call:3");
+
+        Map<String, Object> left = row("call:4");
+        assertThat(left.get("sent_at")).isNull();
+        assertThat(left.get("claimed_by")).isNull();
+    }
+
+    @Test
+    @DisplayName("발행 실패 → 선점 해제 (claimed_by/claimed_at NULL), 릴레이가 재발행할 수 있는 상태")
+    void releasesClaimWhenPublishFails() {
+        insert("call:1", null, null, null);
+        doAnswer(invocation -> {
+            attempts.incrementAndGet();
+            throw new AmqpTimeoutException("confirm timeout");
+        }).when(publisher).publishAll(anyList());
+        startBuffer(16);
+
+        buffer.offerAll(List.of(notification("call:1")), LocalDateTime.now());
+
+        awaitUntil(() -> attempts.get() > 0 && row("call:1").get("claimed_by") == null);
+        Map<String, Object> failed = row("call:1");
+        assertThat(failed.get("sent_at")).isNull();
+        assertThat(failed.get("claimed_at")).isNull();
+    }
+
+    @Test
+    @DisplayName("Outbox 어댑터는 커밋 후에만 버퍼에 적재, 롤백된 호출은 버퍼에 들어가지 않음")
+    void offersToBufferOnlyAfterCommit() {
+        List<CallNotification> committed = List.of(notification("call:commit"));
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxAdapter.sendAll(committed);
+            verify(mockBuffer, never()).offerAll(anyList(), any(LocalDateTime.class));
+        });
+        verify(mockBuffer).offerAll(eq(committed), any(LocalDateTime.class));
+
+        clearInvocations(mockBuffer);
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxAdapter.sendAll(List.of(notification("call:rollback")));
+            status.setRollbackOnly();
+        });
+        verify(mockBuffer, never()).offerAll(anyList(), any(LocalDateTime.class));
+    }
+
+    private void startBuffer(int capacity) {
+        buffer = new NotificationPublishBuffer(publisher, jdbcTemplate, meterRegistry, capacity, 100, 30_000);
+        buffer.start();
+    }
+
+    private void recordPublished() {
+        doAnswer(invocation -> {
+            attempts.incrementAndGet();
+            List<? extends NotificationCommand> commands = invocation.getArgument(0);
+            commands.forEach(command -> published.add(command.eventId()));
+            return null;
+        }).when(publisher).publishAll(anyList());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("%dms 안에 조건 충족", WAIT_MILLIS).isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private CallNotification notification(String eventId) {
+        return new CallNotification(eventId, 1L, 10L, "테스트 부스", 1);
+    }
+
+    private void insert(String eventId, LocalDateTime sentAt, String claimedBy, LocalDateTime claimedAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO notification_outbox (event_id, payload, created_at, sent_at, claimed_by, claimed_at)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """,
+                eventId,
+                objectMapper.writeValueAsString(notification(eventId)),
+                Timestamp.valueOf(LocalDateTime.now()),
+                sentAt != null ? Timestamp.valueOf(sentAt) : null,
+                claimedBy,
+                claimedAt != null ? Timestamp.valueOf(claimedAt) : null);
+    }
+
+    private Map<String, Object> row(String eventId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT sent_at, claimed_by, claimed_at FROM notification_outbox WHERE event_id = ?", eventId);
+    }
+}
@@ -0,0 +1,174 @@
+package com.festin.app.waiting.adapter.out.notification;
+
+import com.festin.app.common.config.NotificationQueueConfig;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 재시도 처리 테스트
+ *
+ * 재시도 단계 1초 → 10초 → 60초, Publisher Confirms는 RabbitOperations mock으로 재현
+ * - x-retry-count에 따라 다음 단계 큐로 발행 후 원본 ack
+ * - 모든 단계 소진 → Parking Lot
+ * - 발행 확인 실패 → nack(requeue) (유실 방지)
+ * - 변환 불가 메시지 → 바로 Parking Lot, 확인 실패 시 requeue 없이 폐기
+ * - 재시도 큐 선언: TTL 만료 시 기본 exchange로 메인 큐에 dead-letter
+ */
+class NotificationRetryHandlerTest {
+
+    private static final List<Long> DELAYS = List.of(1_000L, 10_000L, 60_000L);
+    private static final long DELIVERY_TAG = 42L;
+    private static final long CONFIRM_TIMEOUT_MS = 5_000;
+
+    private RabbitOperations operations;
+    private Channel channel;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetryHandler retryHandler;
+
+    @BeforeEach
+    void setUp() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        operations = mock(RabbitOperations.class);
+        channel = mock(Channel.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // invoke 콜백을 같은 스레드에서 실행 (send + waitForConfirmsOrDie가 한 채널에서 실행되는 것과 동일)
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class)))
+                .thenAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0)
+                        .doInRabbit(operations));
+
+        retryHandler = new NotificationRetryHandler(rabbitTemplate, DELAYS, CONFIRM_TIMEOUT_MS, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("첫 실패 (x-retry-count 없음) → 1단계(1초) 재시도 큐, x-retry-count=1, 브로커 확인 후 원본 ack")
+    void routesFirstFailureToFirstTier() throws Exception {
+        Message message = message(null);
+
+        retryHandler.retryOrPark(channel, message);
+
+        Message published = publishedTo(NotificationQueueConfig.retryQueueName(1_000));
+        assertThat(retryCountOf(published)).isEqualTo(1);
+        verify(operations).waitForConfirmsOrDie(CONFIRM_TIMEOUT_MS);
+        verify(channel).basicAck(DELIVERY_TAG, false);
+        assertThat(meterRegistry.get("festin.notification.retry").tag("tier", "1").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("x-retry-count 1, 2 → 각각 10초, 60초 단계 재시도 큐")
+    void routesByRetryCount() throws Exception {
+        retryHandler.retryOrPark(channel, message(1));
+        assertThat(retryCountOf(publishedTo(NotificationQueueConfig.retryQueueName(10_000)))).isEqualTo(2);
+
+        retryHandler.retryOrPark(channel, message(2));
+        assertThat(retryCountOf(publishedTo(NotificationQueueConfig.retryQueueName(60_000)))).isEqualTo(3);
+
+        assertThat(meterRegistry.get("festin.notification.retry").tag("tier", "3").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 단계까지 소진 (x-retry-count=3) → Parking Lot 이동 후 ack")
+    void parksAfterLastTier() throws Exception {
+        retryHandler.retryOrPark(channel, message(3));
+
+        publishedTo(NotificationQueueConfig.PARKING_LOT_QUEUE);
+        verify(channel).basicAck(DELIVERY_TAG, false);
+        assertThat(meterRegistry.get("festin.notification.parked").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 큐 발행 확인 실패 (nack/타임아웃) → 원본 ack 대신 nack(requeue=true)")
+    void requeuesWhenConfirmFails() throws Exception {
+        doThrow(new AmqpTimeoutException("confirm timeout")).when(operations).waitForConfirmsOrDie(anyLong());
+
+        retryHandler.retryOrPark(channel, message(0));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertThat(meterRegistry.find("festin.notification.retry").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("변환 불가 메시지 → 재시도 단계 없이 바로 Parking Lot 이동 후 ack")
+    void parksUnconvertibleMessage() throws Exception {
+        retryHandler.park(channel, message(null));
+
+        publishedTo(NotificationQueueConfig.PARKING_LOT_QUEUE);
+        verify(channel).basicAck(DELIVERY_TAG, false);
+        assertThat(meterRegistry.get("festin.notification.parked").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변환 불가 메시지의 Parking Lot 발행 확인 실패 → requeue 없이 nack (재전달해도 같은 결과)")
+    void dropsUnconvertibleMessageWhenConfirmFails() throws Exception {
+        doThrow(new AmqpTimeoutException("confirm timeout")).when(operations).waitForConfirmsOrDie(anyLong());
+
+        retryHandler.park(channel, message(null));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("재시도 큐 선언: 단계별 TTL + 기본 exchange로 메인 큐에 dead-letter, Parking Lot은 TTL 없음")
+    void declaresRetryQueuesThatDeadLetterToMainQueue() {
+        List<Queue> queues = new NotificationQueueConfig().notificationRetryQueues(DELAYS)
+                .getDeclarablesByType(Queue.class);
+
+        assertThat(queues).extracting(Queue::getName).containsExactly(
+                NotificationQueueConfig.retryQueueName(1_000),
+                NotificationQueueConfig.retryQueueName(10_000),
+                NotificationQueueConfig.retryQueueName(60_000),
+                NotificationQueueConfig.PARKING_LOT_QUEUE);
+
+        for (int i = 0; i < DELAYS.size(); i++) {
+            assertThat(queues.get(i).getArguments())
+                    .containsEntry("x-message-ttl", DELAYS.get(i).intValue())
+                    .containsEntry("x-dead-letter-exchange", "")
+                    .containsEntry("x-dead-letter-routing-key", NotificationQueueConfig.NOTIFICATION_QUEUE);
+        }
+        assertThat(queues.get(3).getArguments()).doesNotContainKey("x-message-ttl");
+    }
+
+    private Message publishedTo(String queue) {
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(operations).send(eq(""), eq(queue), captor.capture());
+        return captor.getValue();
+    }
+
+    private static Message message(Integer retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(DELIVERY_TAG);
+        if (retryCount != null) {
+            properties.setHeader(NotificationQueueConfig.RETRY_COUNT_HEADER, retryCount);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+
+    private static int retryCountOf(Message message) {
+        return message.getMessageProperties().<Number>getHeader(NotificationQueueConfig.RETRY_COUNT_HEADER).intValue();
+    }
+}
@@ -0,0 +1,150 @@
+package com.festin.app.waiting.adapter.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 노쇼 기한 타이머 휠 테스트
+ *
+ * tick 100ms, 버킷 8개 (1회전 = 800ms), 시작 시각 0
+ */
+class NoShowTimerWheelTest {
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 8;
+
+    private NoShowTimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new NoShowTimerWheel(TICK_MILLIS, WHEEL_SIZE, 0);
+    }
+
+    @Test
+    @DisplayName("버킷 크기는 2의 거듭제곱만 허용")
+    void rejectsNonPowerOfTwoWheelSize() {
+        assertThatThrownBy(() -> new NoShowTimerWheel(TICK_MILLIS, 6, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("기한 tick은 올림 - 기한 이전에는 만료되지 않음")
+    void expiresAtCeilingTick() {
+        wheel.schedule(1L, 250);
+
+        assertThat(wheel.advance(299)).isEmpty();
+        assertThat(waitingIds(wheel.advance(300))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("tick 경계의 기한은 해당 tick에 만료")
+    void expiresOnExactTickBoundary() {
+        wheel.schedule(1L, 300);
+
+        assertThat(wheel.advance(299)).isEmpty();
+        assertThat(waitingIds(wheel.advance(300))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 기한은 다음 tick에 만료")
+    void expiresPastDeadlineOnNextTick() {
+        wheel.advance(1_000);
+
+        wheel.schedule(1L, 500);
+
+        assertThat(wheel.advance(1_099)).isEmpty();
+        assertThat(waitingIds(wheel.advance(1_100))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("1회전보다 먼 기한은 같은 버킷을 지나쳐도 회전 수가 남으면 만료되지 않음")
+    void wrapsAroundWheel() {
+        // tick 21 → 버킷 5, 남은 회전 2 (tick 5, 13에서 차감)
+        wheel.schedule(1L, 2_050);
+
+        assertThat(wheel.advance(500)).isEmpty();
+        assertThat(wheel.advance(1_300)).isEmpty();
+        assertThat(wheel.advance(2_099)).isEmpty();
+        assertThat(waitingIds(wheel.advance(2_100))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("지연된 tick은 한 번에 따라잡아 만료 항목 모두 반환")
+    void catchesUpDelayedTicks() {
+        wheel.schedule(1L, 100);
+        wheel.schedule(2L, 700);
+        wheel.schedule(3L, 1_500);
+        wheel.schedule(4L, 1_600);
+
+        assertThat(waitingIds(wheel.advance(1_500))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(waitingIds(wheel.advance(1_600))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("같은 waitingId는 해제 전까지 한 번만 등록")
+    void schedulesOncePerWaitingIdUntilReleased() {
+        assertThat(wheel.schedule(1L, 200)).isTrue();
+        assertThat(wheel.schedule(1L, 300)).isFalse();
+
+        List<NoShowTimerWheel.Entry> expired = wheel.advance(300);
+        assertThat(waitingIds(expired)).containsExactly(1L);
+        assertThat(wheel.schedule(1L, 500)).isFalse();
+
+        wheel.release(expired.get(0));
+
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.schedule(1L, 500)).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않고 다시 등록 가능")
+    void cancelledEntryDoesNotExpire() {
+        wheel.schedule(1L, 200);
+        wheel.schedule(2L, 200);
+        wheel.advance(100);
+
+        assertThat(wheel.cancel(1L)).isTrue();
+        assertThat(wheel.cancel(1L)).isFalse();
+        assertThat(wheel.scheduledIds()).containsExactly(2L);
+
+        assertThat(waitingIds(wheel.advance(1_000))).containsExactly(2L);
+
+        assertThat(wheel.schedule(1L, 1_200)).isTrue();
+        assertThat(waitingIds(wheel.advance(1_200))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("등록 대기(pending) 중인 항목도 취소")
+    void cancelsPendingEntry() {
+        wheel.schedule(1L, 200);
+
+        wheel.cancel(1L);
+
+        assertThat(wheel.advance(1_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 후 취소된 항목의 해제는 새로 등록된 같은 waitingId에 영향 없음")
+    void releaseOfCancelledEntryKeepsNewEntry() {
+        wheel.schedule(1L, 200);
+        NoShowTimerWheel.Entry expired = wheel.advance(200).get(0);
+
+        wheel.cancel(1L);
+        wheel.schedule(1L, 900);
+        wheel.release(expired);
+
+        assertThat(wheel.scheduledIds()).containsExactly(1L);
+        assertThat(waitingIds(wheel.advance(900))).containsExactly(1L);
+    }
+
+    private static List<Long> waitingIds(List<NoShowTimerWheel.Entry> entries) {
+        return entries.stream().map(NoShowTimerWheel.Entry::waitingId).toList();
+    }
+}
@@ -5,6 +5,7 @@ import com.festin.app.fixture.BoothFixture;
 import com.festin.app.fixture.UserFixture;
 import com.festin.app.university.adapter.out.persistence.entity.UniversityEntity;
 import com.festin.app.university.adapter.out.persistence.repository.UniversityJpaRepository;
+import com.festin.app.waiting.adapter.out.cache.QueueScore;
 import com.festin.app.waiting.application.port.in.CallNextUseCase;
 import com.festin.app.waiting.application.port.out.QueueCachePort;
 import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
@@ -23,7 +24,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -181,7 +181,7 @@ class CallNextConsistencyTest {
         String queueKey = "queue:booth:" + boothId;
         String activeBoothsKey = "user:" + userId + ":active_booths";
 
-        double score = registeredAt.toEpochSecond(ZoneOffset.UTC);
+        double score = QueueScore.base(registeredAt);
         redisTemplate.opsForZSet().add(queueKey, userId.toString(), score);
         redisTemplate.opsForSet().add(activeBoothsKey, boothId.toString());
     }
@@ -0,0 +1,233 @@
+package com.festin.app.waiting.consistency;
+
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.fixture.BoothFixture;
+import com.festin.app.fixture.UserFixture;
+import com.festin.app.university.adapter.out.persistence.entity.UniversityEntity;
+import com.festin.app.university.adapter.out.persistence.repository.UniversityJpaRepository;
+import com.festin.app.waiting.adapter.out.cache.QueueScore;
+import com.festin.app.waiting.adapter.scheduler.SoftLockRecoveryBatch;
+import com.festin.app.waiting.application.port.in.CallNextUseCase;
+import com.festin.app.waiting.application.port.out.QueueCachePort;
+import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.domain.model.Waiting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Soft Lock 목록 기반 배치 보정 테스트 (리스 활성화)
+ *
+ * 테스트 프로필은 리스를 끄므로 여기서 Redis 리스를 켜고 실제 보정 경로 검증
+ * - MySQL 저장 실패 → 원래 score로 대기열 복원
+ * - MySQL 저장 완료 → Soft Lock만 정리
+ * - 유예 시간 이내의 Soft Lock은 건드리지 않음
+ * - 다른 인스턴스가 리스를 보유하면 건너뜀
+ * - 목록 도입 이전 Soft Lock 등록은 마커를 선점한 한 번만 실행
+ */
+@SpringBootTest(properties = {
+        "festin.lease.enabled=true",
+        "festin.softlock.recovery.grace-ms=60000"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class SoftLockRecoveryBatchTest {
+
+    private static final String SOFT_LOCK_REGISTRY_KEY = "softlock:registry";
+    private static final String LEGACY_MIGRATION_MARKER_KEY = "softlock:registry:migrated";
+    private static final Duration GRACE = Duration.ofMillis(60_000);
+
+    @Autowired
+    private SoftLockRecoveryBatch softLockRecoveryBatch;
+
+    @Autowired
+    private CallNextUseCase callNextUseCase;
+
+    @Autowired
+    private UniversityJpaRepository universityRepository;
+
+    @Autowired
+    private UserFixture userFixture;
+
+    @Autowired
+    private BoothFixture boothFixture;
+
+    @Autowired
+    private QueueCachePort queueCachePort;
+
+    @Autowired
+    private WaitingRepositoryPort waitingRepositoryPort;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long testBoothId;
+    private Long testUserId;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        Mockito.reset(waitingRepositoryPort);
+
+        UniversityEntity university = universityRepository.save(
+                new UniversityEntity("테스트대학교", "SOFTLOCK-UNIV-" + System.nanoTime()));
+        testBoothId = boothFixture.createOpenBooth(university, "보정 부스", 10);
+        testUserId = userFixture.createVisitorWithFcm("보정유저", "fcm-token-softlock");
+    }
+
+    @Test
+    @DisplayName("MySQL 저장 실패 후 유예 시간이 지난 Soft Lock → 원래 score로 대기열과 활성 부스 복원")
+    void rollsBackFailedCallToOriginalPosition() {
+        long originalScore = addUserToQueue(testBoothId, testUserId, LocalDateTime.now().minusMinutes(3));
+        failCallNextOnSave();
+        ageSoftLock(testBoothId, testUserId);
+
+        softLockRecoveryBatch.recoverSoftLockFailures();
+
+        assertThat(redisTemplate.opsForZSet().score(queueKey(testBoothId), testUserId.toString()))
+                .isEqualTo((double) originalScore);
+        assertThat(queueCachePort.getUserActiveBoothCount(testUserId)).isEqualTo(1);
+        assertThat(queueCachePort.getSoftLock(testBoothId, testUserId)).isEmpty();
+        assertThat(redisTemplate.opsForZSet().size(SOFT_LOCK_REGISTRY_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("MySQL에 CALLED로 저장된 호출의 남은 Soft Lock → 대기열 복원 없이 Soft Lock만 정리")
+    void clearsSoftLockOfSavedCall() {
+        long originalScore = addUserToQueue(testBoothId, testUserId, LocalDateTime.now().minusMinutes(3));
+        callNextUseCase.callNext(testBoothId);
+        // Soft Lock 삭제 직전에 프로세스가 종료된 상황 재현
+        redisTemplate.opsForHash().put(softLockKey(testBoothId, testUserId), "userId", testUserId.toString());
+        redisTemplate.opsForHash().put(softLockKey(testBoothId, testUserId), "boothId", testBoothId.toString());
+        redisTemplate.opsForHash().put(softLockKey(testBoothId, testUserId), "timestamp",
+                String.valueOf(originalScore));
+        ageSoftLock(testBoothId, testUserId);
+
+        softLockRecoveryBatch.recoverSoftLockFailures();
+
+        assertThat(queueCachePort.getQueueSize(testBoothId)).isZero();
+        assertThat(queueCachePort.getUserActiveBoothCount(testUserId)).isZero();
+        assertThat(queueCachePort.getSoftLock(testBoothId, testUserId)).isEmpty();
+        assertThat(redisTemplate.opsForZSet().size(SOFT_LOCK_REGISTRY_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("유예 시간 이내의 Soft Lock은 MySQL 저장이 진행 중일 수 있으므로 보정하지 않음")
+    void skipsSoftLockWithinGracePeriod() {
+        addUserToQueue(testBoothId, testUserId, LocalDateTime.now().minusMinutes(3));
+        failCallNextOnSave();
+
+        softLockRecoveryBatch.recoverSoftLockFailures();
+
+        assertThat(queueCachePort.getQueueSize(testBoothId)).isZero();
+        assertThat(queueCachePort.getSoftLock(testBoothId, testUserId)).isPresent();
+        assertThat(redisTemplate.opsForZSet().size(SOFT_LOCK_REGISTRY_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리스를 보유하면 보정을 건너뜀")
+    void skipsWhileAnotherInstanceHoldsLease() {
+        addUserToQueue(testBoothId, testUserId, LocalDateTime.now().minusMinutes(3));
+        failCallNextOnSave();
+        ageSoftLock(testBoothId, testUserId);
+        redisTemplate.opsForValue().set("lease:softlock-recovery", "other-instance:1", Duration.ofSeconds(30));
+
+        softLockRecoveryBatch.recoverSoftLockFailures();
+
+        assertThat(queueCachePort.getQueueSize(testBoothId)).isZero();
+        assertThat(queueCachePort.getSoftLock(testBoothId, testUserId)).isPresent();
+
+        redisTemplate.delete("lease:softlock-recovery");
+        softLockRecoveryBatch.recoverSoftLockFailures();
+
+        assertThat(queueCachePort.getQueueSize(testBoothId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록 도입 이전 Soft Lock 등록: 마커를 선점한 첫 기동만 SCAN 후 등록, 이후 기동은 건너뜀")
+    void registersLegacySoftLocksOnlyOnce() {
+        redisTemplate.opsForHash().put(softLockKey(testBoothId, testUserId), "userId", testUserId.toString());
+        redisTemplate.opsForZSet().add(SOFT_LOCK_REGISTRY_KEY, testBoothId + ":0", 1);
+
+        softLockRecoveryBatch.registerLegacySoftLocks();
+
+        assertThat(redisTemplate.opsForZSet().score(SOFT_LOCK_REGISTRY_KEY, testBoothId + ":" + testUserId))
+                .isNotNull();
+        // 이미 등록된 Soft Lock은 생성 시각 유지
+        assertThat(redisTemplate.opsForZSet().score(SOFT_LOCK_REGISTRY_KEY, testBoothId + ":0")).isEqualTo(1);
+        assertThat(redisTemplate.hasKey(LEGACY_MIGRATION_MARKER_KEY)).isTrue();
+
+        Long otherUserId = testUserId + 1;
+        redisTemplate.opsForHash().put(softLockKey(testBoothId, otherUserId), "userId", otherUserId.toString());
+
+        softLockRecoveryBatch.registerLegacySoftLocks();
+
+        assertThat(redisTemplate.opsForZSet().score(SOFT_LOCK_REGISTRY_KEY, testBoothId + ":" + otherUserId))
+                .isNull();
+    }
+
+    /**
+     * MySQL save 실패 주입 후 호출 → Soft Lock만 남은 상태
+     */
+    private void failCallNextOnSave() {
+        doThrow(new RuntimeException("MySQL connection timeout"))
+                .when(waitingRepositoryPort).save(any(Waiting.class));
+
+        assertThatThrownBy(() -> callNextUseCase.callNext(testBoothId))
+                .hasMessageContaining("MySQL connection timeout");
+        assertThat(queueCachePort.getQueueSize(testBoothId)).isZero();
+    }
+
+    /**
+     * 목록의 생성 시각을 유예 시간 이전으로 변경
+     */
+    private void ageSoftLock(Long boothId, Long userId) {
+        long createdAt = System.currentTimeMillis() - GRACE.toMillis() * 2;
+        redisTemplate.opsForZSet().add(SOFT_LOCK_REGISTRY_KEY, boothId + ":" + userId, createdAt);
+    }
+
+    private long addUserToQueue(Long boothId, Long userId, LocalDateTime registeredAt) {
+        long score = QueueScore.base(registeredAt);
+        redisTemplate.opsForZSet().add(queueKey(boothId), userId.toString(), score);
+        redisTemplate.opsForSet().add("user:" + userId + ":active_booths", boothId.toString());
+        return score;
+    }
+
+    private static String queueKey(Long boothId) {
+        return "queue:booth:" + boothId;
+    }
+
+    private static String softLockKey(Long boothId, Long userId) {
+        return "temp:calling:" + boothId + ":" + userId;
+    }
+
+    /**
+     * WaitingRepositoryPort를 Spy로 감싸 save()만 선택적으로 실패 주입
+     */
+    @TestConfiguration
+    static class FailureInjectionConfig {
+
+        @Bean
+        @Primary
+        public WaitingRepositoryPort spyWaitingRepository(WaitingRepositoryPort realRepository) {
+            return Mockito.spy(realRepository);
+        }
+    }
+}
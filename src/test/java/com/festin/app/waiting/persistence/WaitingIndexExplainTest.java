@@ -0,0 +1,473 @@
+package com.festin.app.waiting.persistence;
+
+import com.festin.app.common.lease.Lease;
+import com.festin.app.config.TestcontainersConfiguration;
+import com.festin.app.waiting.application.port.out.WaitingRepositoryPort;
+import com.festin.app.waiting.application.port.out.dto.UserBoothKey;
+import com.festin.app.waiting.domain.model.WaitingStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * waiting 테이블 인덱스 사용 검증 (EXPLAIN)
+ *
+ * 목적:
+ * - WaitingEntity에 선언한 복합 인덱스를 WaitingRepositoryPort 쿼리가 실제로 사용하는지 확인
+ * - 날짜 조건이 반열린 구간 [start, end)로 작성되어 range 스캔이 가능한지 확인
+ *
+ * 검증 방식:
+ * - SQL을 테스트에 복사하지 않고, 포트 메서드를 실제로 호출해 드라이버로 전달된 SQL과 바인딩 값을 캡처
+ * - 캡처한 SQL 그대로 EXPLAIN → 어댑터/JPQL이 바뀌면 테스트도 바뀐 SQL을 검증
+ *
+ * 데이터:
+ * - 100만 건 (사용자 10,000명 × 부스 200개, 호출 시각 30일 분산)
+ * - 상태 분포: CALLED 2%, ENTERED 3%, COMPLETED 95% (노쇼 10%)
+ * - 시드 데이터가 이미 있으면 재사용 (반복 실행 가능), 부족하면 정리 후 다시 생성
+ *
+ * 실행:
+ * - 시드에 수십 초가 걸리므로 기본 테스트에서는 제외
+ * - FESTIN_EXPLAIN_TEST=true ./gradlew test --tests "*WaitingIndexExplainTest"
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "FESTIN_EXPLAIN_TEST", matches = "true")
+class WaitingIndexExplainTest {
+
+    private static final int WAITING_COUNT = 1_000_000;
+    private static final int USER_COUNT = 10_000;
+    private static final int BOOTH_COUNT = 200;
+
+    private static final String SEED_DOMAIN = "explain.festin.test";
+    private static final String SEED_EMAIL_PATTERN = "explain-%@festin.test";
+    private static final LocalDateTime SEED_START = LocalDateTime.of(2025, 5, 1, 0, 0);
+
+    /**
+     * 0 ~ 9 숫자 테이블 (교차 조인으로 연속 번호 생성)
+     */
+    private static final String DIGITS = "(SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 " +
+            "UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 " +
+            "UNION ALL SELECT 8 UNION ALL SELECT 9)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WaitingRepositoryPort waitingRepositoryPort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long firstUserId;
+    private long firstBoothId;
+
+    @BeforeAll
+    void seed() {
+        Long universityId = findSeedUniversityId();
+        if (universityId != null && countSeedWaitings(universityId) >= WAITING_COUNT) {
+            loadSeedIds(universityId);
+            return;
+        }
+
+        cleanUp(universityId);
+        universityId = insertSeedUniversity();
+        insertSeedUsers();
+        insertSeedBooths(universityId);
+        loadSeedIds(universityId);
+        insertSeedWaitings();
+
+        jdbcTemplate.execute("ANALYZE TABLE waiting");
+    }
+
+    @Test
+    @DisplayName("사용자 활성 대기 조회 - (user_id, status)")
+    void findActiveWaitingsByUserId() {
+        assertIssuedStatementsUseIndex(() -> waitingRepositoryPort.findActiveWaitingsByUserId(firstUserId));
+    }
+
+    @Test
+    @DisplayName("부스 활성 목록 - (booth_id, status, called_at)")
+    void findCalledByBoothIdWithUserInfo() {
+        assertIssuedStatementsUseIndex(() -> waitingRepositoryPort.findCalledByBoothIdWithUserInfo(firstBoothId));
+    }
+
+    @Test
+    @DisplayName("노쇼 타임아웃 일괄 처리 - (status, called_at) 잠금 조회 + PK UPDATE")
+    void markTimeoutAsNoShow() {
+        List<CapturedStatement> statements = assertIssuedStatementsUseIndex(
+                () -> waitingRepositoryPort.markTimeoutAsNoShow(
+                        SEED_START.plusDays(15), 0, 4, 500, Lease.local("explain-noshow")));
+
+        assertThat(statements)
+                .as("잠금 조회와 UPDATE가 모두 실행되어야 함")
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("노쇼 타이머 만료 처리 - PK 잠금 조회 + PK UPDATE")
+    void markAsNoShowIfCalled() {
+        Long calledId = jdbcTemplate.queryForObject(
+                "SELECT id FROM waiting WHERE booth_id = ? AND status = 'CALLED' LIMIT 1",
+                Long.class, firstBoothId);
+
+        assertIssuedStatementsUseIndex(() -> waitingRepositoryPort.markAsNoShowIfCalled(calledId));
+    }
+
+    @Test
+    @DisplayName("최근 상태별 조회 - (status, called_at), called_at >= ?")
+    void findRecentByStatus() {
+        assertIssuedStatementsUseIndex(
+                () -> waitingRepositoryPort.findRecentByStatus(WaitingStatus.CALLED, SEED_START.plusDays(29)));
+    }
+
+    @Test
+    @DisplayName("Soft Lock 보정 존재 여부 - (user_id, status)")
+    void existsByUserIdAndBoothIdAndStatus() {
+        assertIssuedStatementsUseIndex(() -> waitingRepositoryPort.existsByUserIdAndBoothIdAndStatus(
+                firstUserId, firstBoothId, WaitingStatus.CALLED));
+    }
+
+    @Test
+    @DisplayName("Soft Lock 보정 일괄 존재 여부 - (user_id, status)")
+    void findExistingByStatus() {
+        List<UserBoothKey> keys = List.of(
+                new UserBoothKey(firstUserId, firstBoothId),
+                new UserBoothKey(firstUserId + 1, firstBoothId + 1));
+
+        assertIssuedStatementsUseIndex(() -> waitingRepositoryPort.findExistingByStatus(keys, WaitingStatus.CALLED));
+    }
+
+    @Test
+    @DisplayName("전체 부스 일별 통계 - (called_at, booth_id), [start, end)")
+    void sumDailyStatsGroupByBoothId() {
+        assertIssuedStatementsUseIndex(
+                () -> waitingRepositoryPort.sumDailyStatsGroupByBoothId(SEED_START.plusDays(10).toLocalDate()));
+    }
+
+    @Test
+    @DisplayName("부스 일별 통계 - [start, end)")
+    void sumDailyStatsByBoothId() {
+        assertIssuedStatementsUseIndex(
+                () -> waitingRepositoryPort.sumDailyStatsByBoothId(firstBoothId, SEED_START.plusDays(10).toLocalDate()));
+    }
+
+    /**
+     * 포트 호출이 실제로 실행한 waiting 테이블 SQL을 캡처해 EXPLAIN
+     * - JPQL이 생성한 SQL, JdbcTemplate SQL 모두 드라이버로 전달된 그대로 검증
+     * - 쓰기 쿼리(노쇼 UPDATE)도 검증하므로 트랜잭션은 항상 롤백 (시드 데이터 유지)
+     *
+     * @return 캡처된 waiting 테이블 SQL
+     */
+    private List<CapturedStatement> assertIssuedStatementsUseIndex(Runnable portCall) {
+        List<CapturedStatement> statements = capture(portCall);
+
+        assertThat(statements)
+                .as("waiting 테이블 SQL이 실행되지 않음")
+                .isNotEmpty();
+        statements.forEach(this::assertUsesIndex);
+        return statements;
+    }
+
+    private List<CapturedStatement> capture(Runnable portCall) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<CapturedStatement> statements;
+        StatementCaptureDataSource.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                portCall.run();
+                status.setRollbackOnly();
+            });
+        } finally {
+            statements = StatementCaptureDataSource.stop();
+        }
+        return statements.stream()
+                .filter(statement -> statement.waitingAlias() != null)
+                .toList();
+    }
+
+    /**
+     * EXPLAIN 결과에서 waiting 테이블이 인덱스를 사용하는지 검증
+     * - key: 사용된 인덱스 (null이면 인덱스 미사용)
+     * - type: ALL이면 풀 스캔
+     */
+    private void assertUsesIndex(CapturedStatement statement) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN " + statement.sql(), statement.params().toArray());
+
+        Map<String, Object> waitingRow = plan.stream()
+                .filter(row -> statement.waitingAlias().equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(
+                        "EXPLAIN 결과에 waiting 테이블 없음 - sql: " + statement.sql() + ", plan: " + plan));
+
+        assertThat(waitingRow.get("key"))
+                .as("인덱스 미사용 - sql: %s, plan: %s", statement.sql(), plan)
+                .isNotNull();
+        assertThat(waitingRow.get("type"))
+                .as("풀 스캔 - sql: %s, plan: %s", statement.sql(), plan)
+                .isNotEqualTo("ALL");
+    }
+
+    private Long findSeedUniversityId() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM university WHERE domain = ?", Long.class, SEED_DOMAIN);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private long countSeedWaitings(Long universityId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM waiting w JOIN booth b ON b.id = w.booth_id WHERE b.university_id = ?",
+                Long.class, universityId);
+        return count != null ? count : 0;
+    }
+
+    private void cleanUp(Long universityId) {
+        jdbcTemplate.update(
+                "DELETE w FROM waiting w JOIN users u ON u.id = w.user_id WHERE u.email LIKE ?",
+                SEED_EMAIL_PATTERN);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", SEED_EMAIL_PATTERN);
+
+        if (universityId != null) {
+            jdbcTemplate.update(
+                    "DELETE w FROM waiting w JOIN booth b ON b.id = w.booth_id WHERE b.university_id = ?",
+                    universityId);
+            jdbcTemplate.update("DELETE FROM booth WHERE university_id = ?", universityId);
+            jdbcTemplate.update("DELETE FROM university WHERE id = ?", universityId);
+        }
+    }
+
+    private Long insertSeedUniversity() {
+        jdbcTemplate.update(
+                "INSERT INTO university (name, domain, created_at, updated_at) VALUES (?, ?, NOW(), NOW())",
+                "EXPLAIN 테스트 대학교", SEED_DOMAIN);
+        return findSeedUniversityId();
+    }
+
+    /**
+     * 사용자 10,000명 (INSERT ... SELECT 1회, 연속 ID)
+     */
+    private void insertSeedUsers() {
+        jdbcTemplate.update(
+                "INSERT INTO users (email, nickname, role, notification_enabled, created_at, updated_at) " +
+                        "SELECT CONCAT('explain-', s.n, '@festin.test'), CONCAT('explain', s.n), 'VISITOR', TRUE, NOW(), NOW() " +
+                        "FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 AS n " +
+                        "FROM " + DIGITS + " a CROSS JOIN " + DIGITS + " b CROSS JOIN " + DIGITS + " c " +
+                        "CROSS JOIN " + DIGITS + " e) s ORDER BY s.n");
+    }
+
+    /**
+     * 부스 200개 (INSERT ... SELECT 1회, 연속 ID)
+     */
+    private void insertSeedBooths(Long universityId) {
+        jdbcTemplate.update(
+                "INSERT INTO booth (university_id, name, capacity, status, created_at, updated_at) " +
+                        "SELECT ?, CONCAT('explain-booth-', s.n), 10, 'OPEN', NOW(), NOW() " +
+                        "FROM (SELECT a.d + b.d * 10 + c.d * 100 AS n " +
+                        "FROM " + DIGITS + " a CROSS JOIN " + DIGITS + " b CROSS JOIN " + DIGITS + " c) s " +
+                        "WHERE s.n < ? ORDER BY s.n",
+                universityId, BOOTH_COUNT);
+    }
+
+    private void loadSeedIds(Long universityId) {
+        Map<String, Object> users = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS first_id, MAX(id) AS last_id, COUNT(*) AS cnt FROM users WHERE email LIKE ?",
+                SEED_EMAIL_PATTERN);
+        Map<String, Object> booths = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS first_id, MAX(id) AS last_id, COUNT(*) AS cnt FROM booth WHERE university_id = ?",
+                universityId);
+
+        firstUserId = assertContiguous(users, USER_COUNT);
+        firstBoothId = assertContiguous(booths, BOOTH_COUNT);
+    }
+
+    /**
+     * 시드 ID가 연속 구간인지 확인 (first_id + n % count로 FK를 계산하기 위함)
+     */
+    private long assertContiguous(Map<String, Object> range, int expectedCount) {
+        long firstId = ((Number) range.get("first_id")).longValue();
+        long lastId = ((Number) range.get("last_id")).longValue();
+        long count = ((Number) range.get("cnt")).longValue();
+
+        assertThat(count).isEqualTo(expectedCount);
+        assertThat(lastId - firstId + 1).isEqualTo(expectedCount);
+        return firstId;
+    }
+
+    /**
+     * 대기 100만 건 (10만 건 × 10회 INSERT ... SELECT)
+     */
+    private void insertSeedWaitings() {
+        String sql = "INSERT INTO waiting (user_id, booth_id, called_position, status, completion_type, " +
+                "registered_at, called_at, notification_sent, notification_retry_count, created_at, updated_at) " +
+                "SELECT ? + s.n % " + USER_COUNT + ", ? + s.n % " + BOOTH_COUNT + ", s.n DIV " + BOOTH_COUNT + " + 1, " +
+                "CASE WHEN s.n % 100 < 2 THEN 'CALLED' WHEN s.n % 100 < 5 THEN 'ENTERED' ELSE 'COMPLETED' END, " +
+                "CASE WHEN s.n % 100 < 5 THEN NULL WHEN s.n % 100 < 15 THEN 'NO_SHOW' ELSE 'ENTERED' END, " +
+                "TIMESTAMPADD(SECOND, s.n * 2592 DIV 1000 - 600, ?), " +
+                "TIMESTAMPADD(SECOND, s.n * 2592 DIV 1000, ?), " +
+                "TRUE, 0, NOW(), NOW() " +
+                "FROM (SELECT ? + a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 AS n " +
+                "FROM " + DIGITS + " a CROSS JOIN " + DIGITS + " b CROSS JOIN " + DIGITS + " c " +
+                "CROSS JOIN " + DIGITS + " e CROSS JOIN " + DIGITS + " f) s";
+
+        Timestamp start = Timestamp.valueOf(SEED_START);
+        for (int chunk = 0; chunk < WAITING_COUNT / 100_000; chunk++) {
+            jdbcTemplate.update(sql, firstUserId, firstBoothId, start, start, chunk * 100_000);
+        }
+    }
+
+    /**
+     * 기본 DataSource를 StatementCaptureDataSource로 감쌈
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCaptureDataSource) {
+                        return bean;
+                    }
+                    return new StatementCaptureDataSource(dataSource);
+                }
+            };
+        }
+    }
+
+    /**
+     * 캡처 중인 스레드에서 실행된 PreparedStatement의 SQL과 바인딩 값 기록
+     */
+    static class StatementCaptureDataSource extends DelegatingDataSource {
+
+        private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+        StatementCaptureDataSource(DataSource target) {
+            super(target);
+        }
+
+        static void start() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static List<CapturedStatement> stop() {
+            List<CapturedStatement> statements = CAPTURED.get();
+            CAPTURED.remove();
+            return statements != null ? statements : List.of();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement
+                                && "prepareStatement".equals(method.getName())) {
+                            return capturing(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            params.put(index, "setNull".equals(name) ? null : args[1]);
+                        } else if ("clearParameters".equals(name)) {
+                            params.clear();
+                        } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                            record(sql, params);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static void record(String sql, Map<Integer, Object> params) {
+            List<CapturedStatement> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(new CapturedStatement(sql, new ArrayList<>(params.values())));
+            }
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    /**
+     * 실행된 SQL과 바인딩 값 (파라미터 순서대로)
+     */
+    record CapturedStatement(String sql, List<Object> params) {
+
+        private static final Pattern WAITING_TABLE = Pattern.compile(
+                "(?i)\\b(?:from|join|update)\\s+waiting\\b(?:\\s+(?:as\\s+)?(\\w+))?");
+        private static final Set<String> KEYWORDS = Set.of(
+                "where", "set", "join", "inner", "left", "right", "order", "group", "limit", "for", "on");
+
+        /**
+         * EXPLAIN 결과의 table 컬럼에 나오는 waiting 테이블 이름 (별칭 우선, waiting 테이블 SQL이 아니면 null)
+         */
+        String waitingAlias() {
+            Matcher matcher = WAITING_TABLE.matcher(sql);
+            if (!matcher.find()) {
+                return null;
+            }
+            String alias = matcher.group(1);
+            return alias == null || KEYWORDS.contains(alias.toLowerCase()) ? "waiting" : alias;
+        }
+    }
+}
@@ -24,6 +24,31 @@ Feature: 부스 목록 조회
     And 부스 목록에 "치킨 부스"가 포함된다
     And 부스 목록에 "떡볶이 부스"가 포함된다
 
+  Scenario: 대학별 부스 목록에 운영 종료 부스 포함
+    Given 애플리케이션이 실행중이다
+    And 테스트용 대학교 "서울대학교"가 존재한다
+    And "서울대학교"에 정원 50명인 "치킨 부스" 부스가 존재한다
+    And "서울대학교"에 정원 50명인 운영 종료 "떡볶이 부스" 부스가 존재한다
+    And 서버 재시작으로 부스 캐시가 다시 적재되었다
+    When "서울대학교"의 부스 목록을 조회한다
+    Then 응답에 2개의 부스가 포함된다
+    And "떡볶이 부스"의 운영 상태는 "CLOSED"이다
+    When 전체 부스 목록을 조회한다
+    Then 응답에 1개의 부스가 포함된다
+    And 부스 목록에 "치킨 부스"가 포함된다
+
+  Scenario: 대학별 부스 목록 캐시 미스 후에도 운영 종료 부스 포함
+    Given 애플리케이션이 실행중이다
+    And 테스트용 대학교 "서울대학교"가 존재한다
+    And "서울대학교"에 정원 50명인 "치킨 부스" 부스가 존재한다
+    And "서울대학교"에 정원 50명인 운영 종료 "떡볶이 부스" 부스가 존재한다
+    And "서울대학교"의 대학별 부스 목록 캐시가 비어 있다
+    When "서울대학교"의 부스 목록을 조회한다
+    Then 응답에 2개의 부스가 포함된다
+    When "서울대학교"의 부스 목록을 조회한다
+    Then 응답에 2개의 부스가 포함된다
+    And "떡볶이 부스"의 운영 상태는 "CLOSED"이다
+
   Scenario: 대기 인원 및 예상 시간이 포함된 부스 조회
     Given 애플리케이션이 실행중이다
     And 테스트용 대학교 "서울대학교"가 존재한다
@@ -31,4 +56,25 @@ Feature: 부스 목록 조회
     And "치킨 부스"에 5명의 대기자가 있다
     When 전체 부스 목록을 조회한다
     Then "치킨 부스"의 대기 인원은 5명이다
-    And "치킨 부스"의 예상 대기 시간은 10분이다
\ No newline at end of file
+    And "치킨 부스"의 예상 대기 시간은 10분이다
+
+  Scenario: 변경 없는 부스 목록은 304로 응답
+    Given 애플리케이션이 실행중이다
+    And 테스트용 대학교 "서울대학교"가 존재한다
+    And "서울대학교"에 정원 10명인 "치킨 부스" 부스가 존재한다
+    When 전체 부스 목록을 조회한다
+    Then 부스 목록 응답에 ETag가 포함된다
+    When 직전 ETag로 전체 부스 목록을 다시 조회한다
+    Then 부스 목록 응답 상태 코드는 304이다
+
+  Scenario: 부스 목록이 바뀌면 새 ETag와 함께 200으로 응답
+    Given 애플리케이션이 실행중이다
+    And 테스트용 대학교 "서울대학교"가 존재한다
+    And "서울대학교"에 정원 10명인 "치킨 부스" 부스가 존재한다
+    When 전체 부스 목록을 조회한다
+    Then 부스 목록 응답에 ETag가 포함된다
+    Given "치킨 부스"에 2명의 대기자가 있다
+    When 직전 ETag로 전체 부스 목록을 다시 조회한다
+    Then 부스 목록 응답 상태 코드는 200이다
+    And 부스 목록 응답의 ETag가 바뀌었다
+    And "치킨 부스"의 대기 인원은 2명이다
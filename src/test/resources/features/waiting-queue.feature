@@ -40,6 +40,26 @@ Feature: Waiting Queue API
     And 사용자 활성 부스 목록에서 제거되었다
     And 푸시 알림이 발송되었다
 
+  Scenario: Successfully call next waiting users in batch
+    Given 부스에 대기 중인 사용자 3명이 존재한다
+    When 스태프가 다음 3명을 일괄 호출한다
+    Then 응답 상태 코드는 200이다
+    And 일괄 호출 결과에 3명이 등록 순서대로 포함된다
+    And 일괄 호출된 사용자는 모두 대기열에서 제거되었다
+    And 일괄 호출된 사용자는 모두 대기 기록으로 저장된다
+
+  Scenario: Reject batch call with invalid count
+    Given 부스에 대기 중인 사용자 3명이 존재한다
+    When 스태프가 다음 0명을 일괄 호출한다
+    Then 응답 상태 코드는 400이다
+    And 대기열에 3명이 그대로 남아 있다
+
+  Scenario: Reject batch call above the maximum count
+    Given 부스에 대기 중인 사용자 3명이 존재한다
+    When 스태프가 다음 51명을 일괄 호출한다
+    Then 응답 상태 코드는 400이다
+    And 대기열에 3명이 그대로 남아 있다
+
   Scenario: Successfully confirm entrance after call
     Given 부스에 대기 중인 사용자가 존재한다
     And 스태프가 사용자를 호출했다